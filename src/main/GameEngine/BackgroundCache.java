@@ -0,0 +1,201 @@
+package GameEngine;
+
+import java.util.Arrays;
+
+/**
+ * Holds the background of a frame: the raster the {@link RenderData#isStatic() static}
+ * render data (drawn below everything else) was rasterized to, so it can be copied
+ * at the start of each frame instead of being rasterized again.
+ *
+ * The background is kept along with the render data it was rasterized from,
+ * and the layout of the raster it was rasterized to (the camera and settings).
+ * It's discarded when the layout changes, and is only used while the static render data
+ * is the same (render data is immutable, so it's compared by instance).
+ *
+ * @version 18/10/2026
+ * @see Renderer
+ */
+final class BackgroundCache
+{
+	private boolean hasBackground;
+	private RenderData<?>[] data;
+	private int dataCount;
+	private char[][] raster;
+	private int[][] foregroundRaster;
+	private boolean isUsingColour;
+	private int[] pixels;
+	private boolean isTextual;
+	private char backgroundChar;
+	private int cellSize;
+	private int originX;
+	private int originY;
+	private int width;
+	private int height;
+
+	/**
+	 * Initializes an empty background cache
+	 */
+	BackgroundCache()
+	{
+		this.hasBackground = false;
+		this.data = new RenderData<?>[0];
+		this.dataCount = 0;
+	}
+
+	/**
+	 * Sets the layout of the raster the frames are rasterized to,
+	 * discarding the background if it was rasterized to a different layout
+	 * @param isTextual if the raster is textual
+	 * @param backgroundChar the character empty space is drawn with (when textual)
+	 * @param cellSize the size of each side of the cells of the raster
+	 * @param originX the x coordinate of the first cell's first unit
+	 * @param originY the y coordinate of the first cell's first unit
+	 * @param width the width of the raster, in cells
+	 * @param height the height of the raster, in cells
+	 */
+	void setLayout(boolean isTextual, char backgroundChar, int cellSize, int originX, int originY, int width, int height)
+	{
+		if (this.isTextual == isTextual && (!isTextual || this.backgroundChar == backgroundChar) &&
+			this.cellSize == cellSize && this.originX == originX && this.originY == originY &&
+			this.width == width && this.height == height)
+			return;
+
+		invalidate();
+		this.isTextual = isTextual;
+		this.backgroundChar = backgroundChar;
+		this.cellSize = cellSize;
+		this.originX = originX;
+		this.originY = originY;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Discards the background
+	 */
+	void invalidate()
+	{
+		this.hasBackground = false;
+		Arrays.fill(this.data, null);
+		this.dataCount = 0;
+	}
+
+	/**
+	 * Checks if the background was rasterized from the same static render data
+	 * @param renderDataArr the sorted array of render data
+	 * @param count the ammount of static render data at the start of the array
+	 * @return if the background can be used
+	 */
+	boolean holds(RenderData<?>[] renderDataArr, int count)
+	{
+		if (!this.hasBackground || this.dataCount != count)
+			return false;
+
+		for (int i = 0; i < count; i++)
+			if (this.data[i] != renderDataArr[i]) // render data is immutable
+				return false;
+		return true;
+	}
+
+	/**
+	 * Keeps a textual raster as the background
+	 * @param renderDataArr the sorted array of render data
+	 * @param count the ammount of static render data the background was rasterized from
+	 * @param raster the characters of the raster
+	 * @param foregroundRaster the foreground attributes of the raster
+	 * @param isUsingColour if the raster was drawn with colour
+	 * @pre the raster has the {@link BackgroundCache#setLayout(boolean,char,int,int,int,int,int) layout} set
+	 */
+	void keep(RenderData<?>[] renderDataArr, int count, char[][] raster, int[][] foregroundRaster, boolean isUsingColour)
+	{
+		keepData(renderDataArr, count);
+		if (this.raster == null || this.raster.length != this.height || this.raster[0].length != this.width)
+		{
+			this.raster = new char[this.height][this.width];
+			this.foregroundRaster = new int[this.height][this.width];
+		}
+		for (int i = 0; i < this.height; i++)
+		{
+			System.arraycopy(raster[i], 0, this.raster[i], 0, this.width);
+			System.arraycopy(foregroundRaster[i], 0, this.foregroundRaster[i], 0, this.width);
+		}
+		this.isUsingColour = isUsingColour;
+	}
+
+	/**
+	 * Keeps a graphical raster as the background
+	 * @param renderDataArr the sorted array of render data
+	 * @param count the ammount of static render data the background was rasterized from
+	 * @param raster the graphical raster
+	 * @pre the raster has the {@link BackgroundCache#setLayout(boolean,char,int,int,int,int,int) layout} set
+	 */
+	void keep(RenderData<?>[] renderDataArr, int count, GraphicWindow raster)
+	{
+		keepData(renderDataArr, count);
+		if (this.pixels == null || this.pixels.length != raster.pixelCount())
+			this.pixels = new int[raster.pixelCount()];
+		raster.copyPixelsTo(this.pixels);
+	}
+
+	/**
+	 * Keeps the static render data the background was rasterized from
+	 * @param renderDataArr the sorted array of render data
+	 * @param count the ammount of static render data at the start of the array
+	 */
+	private void keepData(RenderData<?>[] renderDataArr, int count)
+	{
+		if (this.data.length < count)
+			this.data = new RenderData<?>[count];
+		Arrays.fill(this.data, null);
+		System.arraycopy(renderDataArr, 0, this.data, 0, count);
+		this.dataCount = count;
+		this.hasBackground = true;
+	}
+
+	/**
+	 * Copies a region of the background to a textual raster
+	 * @param raster the characters of the raster
+	 * @param foregroundRaster the foreground attributes of the raster
+	 * @param left the first column of the region
+	 * @param right the last column of the region (inclusive)
+	 * @param top the first row of the region
+	 * @param bottom the last row of the region (inclusive)
+	 * @return if the background was drawn with colour
+	 * @pre the background is {@link BackgroundCache#holds(RenderData[],int) held}, and was kept from a textual raster
+	 */
+	boolean restore(char[][] raster, int[][] foregroundRaster, int left, int right, int top, int bottom)
+	{
+		int length = right - left + 1;
+		for (int row = top; row <= bottom; row++)
+		{
+			System.arraycopy(this.raster[row], left, raster[row], left, length);
+			System.arraycopy(this.foregroundRaster[row], left, foregroundRaster[row], left, length);
+		}
+		return this.isUsingColour;
+	}
+
+	/**
+	 * Copies a region of the background to a graphical raster
+	 * @param raster the graphical raster
+	 * @param left the first column of the region
+	 * @param right the last column of the region (inclusive)
+	 * @param top the first row of the region
+	 * @param bottom the last row of the region (inclusive)
+	 * @pre the background is {@link BackgroundCache#holds(RenderData[],int) held}, and was kept from a graphical raster
+	 */
+	void restore(GraphicWindow raster, int left, int right, int top, int bottom)
+	{
+		for (int row = top; row <= bottom; row++)
+			raster.setSpan(this.pixels, left, right, row);
+	}
+
+	/**
+	 * Copies the whole background to a graphical raster
+	 * @param raster the graphical raster
+	 * @pre the background is {@link BackgroundCache#holds(RenderData[],int) held}, and was kept from a graphical raster
+	 */
+	void restore(GraphicWindow raster)
+	{
+		raster.setPixels(this.pixels);
+	}
+}
@@ -0,0 +1,121 @@
+package GameEngine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Rasterizes a frame in horizontal bands, in parallel, on the common fork-join pool.
+ *
+ * Each band is rasterized by it's own {@link Renderer renderer}, sharing the frame's raster,
+ * clipped to the band. Every band rasterizes the whole sorted render data that overlaps it
+ * (by it's footprint), so the layers are drawn in the same order as when rasterized sequentially,
+ * and the frame is the same.
+ *
+ * The band renderers are kept from frame to frame, while the ammount of bands is the same.
+ *
+ * @version 18/10/2026
+ * @see Renderer
+ */
+final class BandRasterizer
+{
+	/**
+	 * Rasterizes a range of bands, splitting it in half until a single band is left
+	 */
+	private class BandAction extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private RenderData<?>[] renderDataArr;
+		private int first;
+		private int[] footprints;
+		private int bandFrom;
+		private int bandTo;
+
+		/**
+		 * Initializes the action
+		 * @param renderDataArr the sorted array of RenderData to rasterize
+		 * @param first the index of the first RenderData to rasterize
+		 * @param footprints the footprints of the RenderData
+		 * @param bandFrom the first band to rasterize
+		 * @param bandTo the band after the last band to rasterize
+		 */
+		public BandAction(RenderData<?>[] renderDataArr, int first, int[] footprints, int bandFrom, int bandTo)
+		{
+			this.renderDataArr = renderDataArr;
+			this.first = first;
+			this.footprints = footprints;
+			this.bandFrom = bandFrom;
+			this.bandTo = bandTo;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (this.bandTo - this.bandFrom == 1)
+			{
+				BandRasterizer.this.bands[this.bandFrom].rasterizeBand(this.renderDataArr, this.first, this.footprints);
+				return;
+			}
+
+			int middle = (this.bandFrom + this.bandTo) / 2;
+			invokeAll(new BandAction(this.renderDataArr, this.first, this.footprints, this.bandFrom, middle),
+				new BandAction(this.renderDataArr, this.first, this.footprints, middle, this.bandTo));
+		}
+	}
+
+	private Supplier<Renderer> bandFactory;
+	private Renderer[] bands;
+
+	/**
+	 * Initializes a band rasterizer
+	 * @param bandFactory creates the renderers that rasterize each band
+	 */
+	BandRasterizer(Supplier<Renderer> bandFactory)
+	{
+		this.bandFactory = bandFactory;
+		this.bands = new Renderer[0];
+	}
+
+	/**
+	 * Rasterizes a sorted array of RenderData to a frame, in bands, in parallel
+	 * @param frame the renderer whose frame to rasterize
+	 * @param height the height of the frame's raster
+	 * @param bandCount the ammount of bands to split the raster in
+	 * @param renderDataArr the sorted array of RenderData to rasterize
+	 * @param first the index of the first RenderData to rasterize
+	 * @param footprints the footprints of the RenderData
+	 * @return if any band was drawn with colour
+	 * @pre 0 < bandCount <= height
+	 */
+	boolean rasterize(Renderer frame, int height, int bandCount, RenderData<?>[] renderDataArr, int first, int[] footprints)
+	{
+		if (this.bands.length != bandCount)
+		{
+			this.bands = new Renderer[bandCount];
+			for (int i = 0; i < bandCount; i++)
+				this.bands[i] = this.bandFactory.get();
+		}
+
+		for (int i = 0; i < bandCount; i++)
+			this.bands[i].shareFrame(frame, bandTop(i, bandCount, height), bandTop(i + 1, bandCount, height) - 1);
+		ForkJoinPool.commonPool().invoke(new BandAction(renderDataArr, first, footprints, 0, bandCount));
+
+		boolean isUsingColour = false;
+		for (int i = 0; i < bandCount; i++)
+			isUsingColour |= this.bands[i].isFrameUsingColour();
+		return isUsingColour;
+	}
+
+	/**
+	 * The first row of a band
+	 * (the bands are as even as possible, and the band after the last starts after the raster)
+	 * @param band the index of the band
+	 * @param bandCount the ammount of bands
+	 * @param height the height of the raster
+	 * @return the first row (in the raster) of the band
+	 */
+	static int bandTop(int band, int bandCount, int height)
+	{
+		return band * height / bandCount;
+	}
+}
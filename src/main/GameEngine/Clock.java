@@ -1,32 +1,56 @@
 package GameEngine;
 
 import java.util.ArrayList;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * A clock which may be started to periodically
  * call all it's listeners.
  * (Blocks the current thread, works synchronously)
- * 
+ *
+ * Ticks are scheduled against deadlines measured with {@link System#nanoTime()},
+ * so the time spent waiting never drifts from the tick rate.
+ * Waiting is done by parking the thread, spinning through the last stretch
+ * (by default the final millisecond) for accuracy.
+ *
+ * By default each tick reports the time measured since the last tick.
+ * In fixed timestep mode, the elapsed time is accumulated and spent in ticks
+ * of exactly one period each, catching up (up to a limit) when the listeners
+ * fall behind.
+ *
  * @author Diogo Fonseca a79858
  * @version 18/05/2024
  */
 public class Clock
 {
+	private static final long NANOS_PER_SECOND = 1000000000L;
+	private static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+	private static final long DEFAULT_SPIN_WAIT_NANOS = 1000000L;
+
 	private ArrayList<IClockListener> listeners;
-	private float ticksPerSecond;
-	private boolean isRunning;
-	private long currTickMs;
-	private long lastDeltaMs;
+	private long periodNanos;
+	private volatile boolean isRunning;
+	private boolean isFixedTimestep;
+	private int maxCatchUpTicks;
+	private long spinWaitNanos;
+	private long currTickNanos;
+	private long lastDeltaNanos;
+	private long accumulatorNanos;
 
 	/**
 	 * Instantiates a clock
 	 * @param ticksPerSecond the maximum ammount of ticks per second
+	 * @pre ticksPerSecond > 0
 	 */
 	public Clock(float ticksPerSecond)
 	{
-		this.ticksPerSecond = ticksPerSecond;
+		this.periodNanos = Math.max(1, Math.round(NANOS_PER_SECOND / (double)ticksPerSecond));
 		this.isRunning = false;
-		this.currTickMs = System.currentTimeMillis();
+		this.isFixedTimestep = false;
+		this.maxCatchUpTicks = DEFAULT_MAX_CATCH_UP_TICKS;
+		this.spinWaitNanos = DEFAULT_SPIN_WAIT_NANOS;
+		this.currTickNanos = System.nanoTime();
+		this.accumulatorNanos = 0;
 		this.listeners = new ArrayList<IClockListener>();
 	}
 
@@ -36,49 +60,95 @@ public class Clock
 	 */
 	public void start()
 	{
-		this.currTickMs = System.currentTimeMillis();
+		this.currTickNanos = System.nanoTime();
+		this.accumulatorNanos = this.periodNanos; // first tick is immediate
 		this.isRunning = true;
-		startTicking();
+		if (this.isFixedTimestep)
+			startFixedTicking();
+		else
+			startTicking();
 	}
 
 	/**
-	 * Starts ticking.
+	 * Starts ticking, each tick reporting the time measured since the last.
 	 */
 	private void startTicking()
 	{
+		long nextTickNanos = this.currTickNanos;
 		while(this.isRunning)
 		{
 			tick();
-			sleep();
+			nextTickNanos += this.periodNanos;
+
+			// too far behind to catch up, start counting from now
+			if (System.nanoTime() - nextTickNanos > this.maxCatchUpTicks * this.periodNanos)
+				nextTickNanos = System.nanoTime();
+			waitUntil(nextTickNanos);
 		}
 	}
 
 	/**
-	 * Sleeps for the remaining time
+	 * Starts ticking with a fixed timestep.
 	 */
-	private void sleep()
+	private void startFixedTicking()
 	{
-		long maxDeltaMs = Math.round((1f / this.ticksPerSecond) * 1000f);
-		long sleepTime = maxDeltaMs - this.lastDeltaMs;
-		if (sleepTime > 0)
-			sleep(sleepTime);
+		while(this.isRunning)
+		{
+			long now = System.nanoTime();
+			advance(now - this.currTickNanos);
+			this.currTickNanos = now;
+			waitUntil(now + this.periodNanos - this.accumulatorNanos);
+		}
 	}
 
 	/**
-	 * Sleeps for an ammount of time
-	 * @param sleepTime the ammount of time to sleep in milliseconds
+	 * Advances the clock by an ammount of time, ticking once for every
+	 * full period accumulated, with a delta of exactly one period.
+	 * If more than the maximum ticks to catch up are due, the remaining
+	 * full periods are dropped.
+	 * @param elapsedNanos the time elapsed, in nanoseconds
+	 * @return the ammount of ticks
 	 */
-	private void sleep(long sleepTime)
+	public int advance(long elapsedNanos)
 	{
-		try
+		this.accumulatorNanos += elapsedNanos;
+		int ticks = 0;
+		while (this.accumulatorNanos >= this.periodNanos)
 		{
-			Thread.sleep(sleepTime);
-			this.currTickMs += sleepTime;
+			if (ticks == this.maxCatchUpTicks)
+			{
+				this.accumulatorNanos %= this.periodNanos;
+				break;
+			}
+
+			this.lastDeltaNanos = this.periodNanos;
+			tick(this.periodNanos);
+			this.accumulatorNanos -= this.periodNanos;
+			ticks++;
 		}
-		catch (InterruptedException e)
+		return ticks;
+	}
+
+	/**
+	 * Waits until a deadline, parking the thread and spinning
+	 * through the last stretch
+	 * @param deadlineNanos the deadline, as given by {@link System#nanoTime()}
+	 */
+	private void waitUntil(long deadlineNanos)
+	{
+		long remaining;
+		while (this.isRunning && (remaining = deadlineNanos - System.nanoTime()) > this.spinWaitNanos)
 		{
-			Logger.log(Logger.Level.WARN, "Clock sleep was interrupted.");
+			LockSupport.parkNanos(remaining - this.spinWaitNanos);
+			if (Thread.interrupted())
+			{
+				Logger.log(Logger.Level.WARN, "Clock sleep was interrupted.");
+				return;
+			}
 		}
+
+		while (this.isRunning && deadlineNanos - System.nanoTime() > 0)
+			Thread.onSpinWait();
 	}
 
 	/**
@@ -86,31 +156,31 @@ public class Clock
 	 */
 	public void tick()
 	{
-		tick(getDeltaT());
+		tick(getDeltaNanos());
 	}
 
 	/**
 	 * Calls the tick event with a set deltaT
-	 * @param timeElapsedMs the time elapsed since the last tick
+	 * @param timeElapsedNanos the time elapsed since the last tick, in nanoseconds
 	 */
-	public void tick(long timeElapsedMs)
+	public void tick(long timeElapsedNanos)
 	{
-		for (IClockListener listener : listeners)
-			listener.tick(timeElapsedMs);
+		for (int i = 0; i < this.listeners.size(); i++)
+			this.listeners.get(i).tick(timeElapsedNanos);
 	}
 
 	/**
-	 * Time elapsed since the last call of this method.
-	 * @return the time elapsed since the last call of this method.
-	 * @pos updates currTickMs
-	 * @pos updates lastDeltaMs
+	 * Time elapsed since the last call of this method, in nanoseconds.
+	 * @return the time elapsed since the last call of this method, in nanoseconds.
+	 * @pos updates currTickNanos
+	 * @pos updates lastDeltaNanos
 	 */
-	public long getDeltaT()
+	public long getDeltaNanos()
 	{
-		long lastTickMs = this.currTickMs;
-		this.currTickMs = System.currentTimeMillis();
-		this.lastDeltaMs = this.currTickMs - lastTickMs;
-		return this.lastDeltaMs;
+		long lastTickNanos = this.currTickNanos;
+		this.currTickNanos = System.nanoTime();
+		this.lastDeltaNanos = this.currTickNanos - lastTickNanos;
+		return this.lastDeltaNanos;
 	}
 
 	/**
@@ -129,4 +199,43 @@ public class Clock
 	{
 		listeners.add(listener);
 	}
+
+	/**
+	 * Sets if the clock should tick with a fixed timestep
+	 * @param isFixedTimestep if the clock should tick with a fixed timestep
+	 * @pre clock is not running
+	 */
+	public void setFixedTimestep(boolean isFixedTimestep) { this.isFixedTimestep = isFixedTimestep; }
+
+	/**
+	 * If the clock ticks with a fixed timestep
+	 * @return if the clock ticks with a fixed timestep
+	 */
+	public boolean isFixedTimestep() { return this.isFixedTimestep; }
+
+	/**
+	 * Sets the maximum ammount of ticks to run at once when catching up
+	 * @param maxCatchUpTicks the maximum ammount of ticks to run at once
+	 * @pre maxCatchUpTicks > 0
+	 */
+	public void setMaxCatchUpTicks(int maxCatchUpTicks) { this.maxCatchUpTicks = maxCatchUpTicks; }
+
+	/**
+	 * Sets how long before each tick the clock stops parking and starts spinning
+	 * @param spinWaitNanos the time to spin before each tick, in nanoseconds (0 to never spin)
+	 * @pre spinWaitNanos >= 0
+	 */
+	public void setSpinWait(long spinWaitNanos) { this.spinWaitNanos = spinWaitNanos; }
+
+	/**
+	 * The time between ticks, in nanoseconds
+	 * @return the time between ticks, in nanoseconds
+	 */
+	public long periodNanos() { return this.periodNanos; }
+
+	/**
+	 * The time reported on the last tick, in nanoseconds
+	 * @return the time reported on the last tick, in nanoseconds
+	 */
+	public long lastDeltaNanos() { return this.lastDeltaNanos; }
 }
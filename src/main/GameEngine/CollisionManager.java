@@ -1,6 +1,9 @@
 package GameEngine;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+
+import Geometry.*;
 
 /**
  * Class responsible for detecting collisions and calling
@@ -14,6 +17,288 @@ import java.util.ArrayList;
  */
 public class CollisionManager
 {
+	/**
+	 * A uniform grid of cells, used as a broad phase for collision detection.
+	 * Each collider is placed in every cell its bounds overlap, so only colliders
+	 * sharing a cell are candidates for a collision.
+	 * Colliders spanning too many cells are considered oversized and are
+	 * paired with every other collider instead.
+	 *
+	 * The cells are hashed into a table, and the colliders are counting sorted into it:
+	 * the colliders of the bucket h are entries[cellStart[h]] to entries[cellStart[h + 1] - 1].
+	 * Different cells can share a bucket, which only adds candidates (never loses any).
+	 * The arrays are kept from tick to tick, and only grow when they're too small.
+	*/
+	private static class UniformGrid
+	{
+		private static final int MAX_CELLS_PER_COLLIDER = 64;
+		private double cellSize;
+		private int numColliders;
+		private int[] cellBounds;
+		private boolean[] isOversized;
+		private int[] oversized;
+		private int numOversized;
+		private int numEntries;
+		private int tableMask;
+		private int[] cellStart;
+		private int[] entries;
+		private long[] pairs;
+
+		/**
+		 * Initializes an empty grid
+		 */
+		public UniformGrid()
+		{
+			this.cellBounds = new int[0];
+			this.isOversized = new boolean[0];
+			this.oversized = new int[0];
+			this.cellStart = new int[1];
+			this.entries = new int[0];
+			this.pairs = new long[16];
+		}
+
+		/**
+		 * Empties the grid, to insert the colliders of a new tick
+		 * @param cellSize the size of each cell
+		 * @param numColliders the ammount of colliders that are going to be inserted
+		 * @pre cellSize > 0
+		 */
+		public void reset(double cellSize, int numColliders)
+		{
+			this.cellSize = cellSize;
+			this.numColliders = numColliders;
+			this.numOversized = 0;
+			this.numEntries = 0;
+			if (this.isOversized.length < numColliders)
+			{
+				this.cellBounds = new int[numColliders * 4];
+				this.isOversized = new boolean[numColliders];
+				this.oversized = new int[numColliders];
+			}
+		}
+
+		/**
+		 * Finds the cells a collider's bounds overlap.
+		 * The bounds are widened by the calculation error margin so that
+		 * colliders that only touch still share a cell (inclusive intersection).
+		 * @param index the index of the collider
+		 * @param bounds the bounds of the collider
+		 * @pre 0 <= index < the ammount of colliders the grid was reset with
+		 */
+		public void insert(int index, BoundingBox bounds)
+		{
+			int minX = cell(bounds.minPoint().X() - MathUtil.CALC_ERROR_MARGIN);
+			int minY = cell(bounds.minPoint().Y() - MathUtil.CALC_ERROR_MARGIN);
+			int maxX = cell(bounds.maxPoint().X() + MathUtil.CALC_ERROR_MARGIN);
+			int maxY = cell(bounds.maxPoint().Y() + MathUtil.CALC_ERROR_MARGIN);
+
+			long numCells = (long)(maxX - minX + 1) * (maxY - minY + 1);
+			this.isOversized[index] = numCells > MAX_CELLS_PER_COLLIDER;
+			if (this.isOversized[index])
+			{
+				this.oversized[this.numOversized++] = index;
+				return;
+			}
+
+			this.cellBounds[index * 4] = minX;
+			this.cellBounds[index * 4 + 1] = minY;
+			this.cellBounds[index * 4 + 2] = maxX;
+			this.cellBounds[index * 4 + 3] = maxY;
+			this.numEntries += (int)numCells;
+		}
+
+		/**
+		 * The cell coordinate of a world coordinate
+		 * @param coordinate the world coordinate
+		 * @return the cell coordinate
+		 */
+		private int cell(double coordinate)
+		{
+			return (int)Math.floor(coordinate / this.cellSize);
+		}
+
+		/**
+		 * The bucket of a cell in the table
+		 * @param x the x coordinate of the cell
+		 * @param y the y coordinate of the cell
+		 * @return the bucket of the cell
+		 */
+		private int bucket(int x, int y)
+		{
+			return ((x * 92837111) ^ (y * 689287499)) & this.tableMask;
+		}
+
+		/**
+		 * Counting sorts the inserted colliders into the buckets of their cells
+		 */
+		private void sortIntoBuckets()
+		{
+			int tableSize = Integer.highestOneBit(Math.max(this.numEntries, 1) * 2);
+			this.tableMask = tableSize - 1;
+			if (this.cellStart.length < tableSize + 1)
+				this.cellStart = new int[tableSize + 1];
+			if (this.entries.length < this.numEntries)
+				this.entries = new int[this.numEntries];
+			Arrays.fill(this.cellStart, 0, tableSize + 1, 0);
+
+			for (int i = 0; i < this.numColliders; i++)
+				if (!this.isOversized[i])
+					for (int x = this.cellBounds[i * 4]; x <= this.cellBounds[i * 4 + 2]; x++)
+						for (int y = this.cellBounds[i * 4 + 1]; y <= this.cellBounds[i * 4 + 3]; y++)
+							this.cellStart[bucket(x, y)]++;
+
+			// each bucket starts pointing at it's end, and is moved back to it's start as it's filled
+			for (int h = 1; h <= tableSize; h++)
+				this.cellStart[h] += this.cellStart[h - 1];
+
+			for (int i = 0; i < this.numColliders; i++)
+				if (!this.isOversized[i])
+					for (int x = this.cellBounds[i * 4]; x <= this.cellBounds[i * 4 + 2]; x++)
+						for (int y = this.cellBounds[i * 4 + 1]; y <= this.cellBounds[i * 4 + 3]; y++)
+							this.entries[--this.cellStart[bucket(x, y)]] = i;
+		}
+
+		/**
+		 * Finds all the pairs of colliders that might collide, without repetitions.
+		 * Each pair is encoded as (i << 32 | j) with i < j, sorted in ascending order,
+		 * so they are visited in the same order as the brute force method would.
+		 * The pairs are read with {@link #pair(int)}, until the grid is reset.
+		 * @return the ammount of candidate pairs of colliders
+		 */
+		public int candidatePairs()
+		{
+			sortIntoBuckets();
+			int n = 0;
+
+			for (int h = 0; h <= this.tableMask; h++)
+			{
+				for (int a = this.cellStart[h]; a < this.cellStart[h + 1]; a++)
+				{
+					for (int b = a + 1; b < this.cellStart[h + 1]; b++)
+					{
+						// a collider can be in several cells of the same bucket
+						if (this.entries[a] == this.entries[b])
+							continue;
+						if (n == this.pairs.length)
+							this.pairs = Arrays.copyOf(this.pairs, n * 2);
+						this.pairs[n++] = encode(this.entries[a], this.entries[b]);
+					}
+				}
+			}
+
+			for (int k = 0; k < this.numOversized; k++)
+			{
+				int i = this.oversized[k];
+				for (int j = 0; j < this.numColliders; j++)
+				{
+					if (i == j)
+						continue;
+					if (n == this.pairs.length)
+						this.pairs = Arrays.copyOf(this.pairs, n * 2);
+					this.pairs[n++] = encode(i, j);
+				}
+			}
+
+			Arrays.sort(this.pairs, 0, n);
+			int unique = 0;
+			for (int k = 0; k < n; k++)
+				if (unique == 0 || this.pairs[unique - 1] != this.pairs[k])
+					this.pairs[unique++] = this.pairs[k];
+			return unique;
+		}
+
+		/**
+		 * A candidate pair found by {@link #candidatePairs()}
+		 * @param k the index of the pair
+		 * @return the encoded pair
+		 * @pre 0 <= k < the ammount of candidate pairs
+		 */
+		public long pair(int k)
+		{
+			return this.pairs[k];
+		}
+
+		/**
+		 * Encodes a pair of indexes, with the lowest index first
+		 * @param a the first index
+		 * @param b the second index
+		 * @return the encoded pair
+		 */
+		private static long encode(int a, int b)
+		{
+			return a < b ? ((long)a << 32) | b : ((long)b << 32) | a;
+		}
+	}
+
+	private static UniformGrid grid = null;
+
+	/**
+	 * Detects collisions in a scene using the given broad phase method.
+	 * calls the {@link ICollider#onCollision(GameObject) onCollision} event in case of collision
+	 *
+	 * @param scene the scene to check collisions in
+	 * @param method the method used to find the colliders that might collide
+	 * @param cellSize the size of a cell (only used by {@link GameEngineFlags.CollisionDetection#UNIFORM_GRID UNIFORM_GRID})
+	 * @pre cellSize > 0
+	 */
+	public static void detectCollisions(Scene scene, GameEngineFlags.CollisionDetection method, double cellSize)
+	{
+		switch (method)
+		{
+			case BRUTE_FORCE:
+				detectCollisions(scene);
+				break;
+			case UNIFORM_GRID:
+				detectGridCollisions(scene, cellSize);
+				break;
+		}
+	}
+
+	/**
+	 * Gets the uniform grid, kept from tick to tick so it's arrays are reused
+	 * (the {@link EngineContext context's} grid, if one is running on the current thread)
+	 * @return the uniform grid
+	 */
+	private static UniformGrid grid()
+	{
+		EngineContext context = EngineContext.current();
+		if (context != null)
+			return context.getInstance(UniformGrid.class, UniformGrid::new);
+
+		if (grid == null)
+			grid = new UniformGrid();
+
+		return grid;
+	}
+
+	/**
+	 * Detects collisions in a scene, testing only the colliders that
+	 * share a cell of a uniform grid.
+	 * Produces the same collisions, in the same order, as {@link CollisionManager#detectCollisions(Scene)}.
+	 *
+	 * @param scene the scene to check collisions in
+	 * @param cellSize the size of a cell of the grid
+	 * @pre cellSize > 0
+	 */
+	private static void detectGridCollisions(Scene scene, double cellSize)
+	{
+		ICollider[] colliders = scene.collidersArr();
+		UniformGrid grid = grid();
+		grid.reset(cellSize, colliders.length);
+		for (int i = 0; i < colliders.length; i++)
+			grid.insert(i, colliders[i].getCollider().getBoundingBox());
+
+		int numPairs = grid.candidatePairs();
+		for (int k = 0; k < numPairs; k++)
+		{
+			long pair = grid.pair(k);
+			ICollider collider = colliders[(int)(pair >>> 32)];
+			ICollider other = colliders[(int)pair];
+			if (collides(collider, other))
+				invokeCollision(collider, other);
+		}
+	}
+
 	/**
 	 * Detects collisions in a scene.
 	 * calls the {@link ICollider#onCollision(GameObject) onCollision} event in case of collision
@@ -64,11 +349,17 @@ public class CollisionManager
 		if (other == collider)
 			return false;
 
+		// shapes that collide always have overlapping bounds, so the rest only runs for the ones that do
+		IGeometricShape<?> shape = collider.getCollider();
+		IGeometricShape<?> otherShape = other.getCollider();
+		if (!shape.getBoundingBox().intersectsInclusive(otherShape.getBoundingBox()))
+			return false;
+
 		boolean result = false;
-		if (collider.getCollider().intersectsInclusive(other.getCollider()))
+		if (shape.intersectsInclusive(otherShape))
 			result = true;
 		else if ((collider.isDeepCollision() || other.isDeepCollision()))
-			if (collider.getCollider().contains(other.getCollider()) || other.getCollider().contains(collider.getCollider()))
+			if (shape.contains(otherShape) || otherShape.contains(shape))
 				result = true;
 		return result;
 	}
@@ -96,7 +387,7 @@ public class CollisionManager
 	 */
 	public static boolean collidesAny(ICollider collider, Scene scene)
 	{
-		for (ICollider other : scene.colliders())
+		for (ICollider other : scene.collidersArr())
 			if (collides(collider, other))
 				return true;
 		return false;
@@ -112,7 +403,7 @@ public class CollisionManager
 	public static GameObject[] getCollisions(ICollider collider, Scene scene)
 	{
 		ArrayList<GameObject> collisions = new ArrayList<GameObject>();
-		for (ICollider other : scene.colliders())
+		for (ICollider other : scene.collidersArr())
 			if (collides(collider, other))
 				collisions.add((GameObject)other);
 
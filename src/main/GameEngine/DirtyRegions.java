@@ -0,0 +1,313 @@
+package GameEngine;
+
+import java.util.Arrays;
+
+import Geometry.*;
+
+/**
+ * Tracks the regions of the raster that changed between consecutive frames of a scene.
+ *
+ * {@link RenderData Render data} is immutable, so render data that is the same instance as in the
+ * kept frame is unchanged. The footprint (bounding box in the raster) of each render data is kept,
+ * and only the footprints of the render data that was added or removed since the kept frame
+ * (a changed object replaces it's render data) are dirty, along with the cells the
+ * textual overlay was drawn on. Dirty regions that overlap are merged.
+ *
+ * Regions are kept as {@link Renderer#REGION_SIZE ints} in flat arrays,
+ * and the index each render data had in the kept frame is kept on the render data,
+ * so tracking a frame allocates nothing once the arrays are big enough.
+ *
+ * @version 18/10/2026
+ * @see Renderer
+ */
+final class DirtyRegions
+{
+	private static final double MAX_DIRTY_FRACTION = 0.5; // fraction of the raster above which the whole frame is redrawn
+	private static final int FOOTPRINT_MARGIN = 2; // units around a shape's bounding box it may be rasterized on (rounding)
+
+	private boolean isKept;
+	private long keptFrame;
+	private int keptCount;
+	private int[] keptFootprints;
+	private boolean[] isKeptMatched;
+	private int[] footprints;
+	private int[] regions;
+	private int count;
+	private int[] overlayRegion;
+	private int cellSize;
+	private int originX;
+	private int originY;
+	private int width;
+	private int height;
+
+	/**
+	 * Initializes the tracking, with no frame kept
+	 */
+	DirtyRegions()
+	{
+		this.isKept = false;
+		this.keptFrame = 0;
+		this.keptCount = 0;
+		this.keptFootprints = new int[0];
+		this.isKeptMatched = new boolean[0];
+		this.footprints = new int[0];
+		this.regions = new int[0];
+		this.count = 0;
+		this.overlayRegion = new int[] { 0, -1, 0, -1 };
+		this.cellSize = 1;
+	}
+
+	/**
+	 * Sets the layout of the raster the frames are rasterized to, discarding the kept frame
+	 * @param cellSize the size of each side of the cells of the raster
+	 * @param originX the x coordinate of the first cell's first unit
+	 * @param originY the y coordinate of the first cell's first unit
+	 * @param width the width of the raster, in cells
+	 * @param height the height of the raster, in cells
+	 */
+	void setLayout(int cellSize, int originX, int originY, int width, int height)
+	{
+		discard();
+		this.cellSize = cellSize;
+		this.originX = originX;
+		this.originY = originY;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * If the raster holds a kept frame, that the next frame can be compared to
+	 * @return if a frame is kept
+	 */
+	boolean isKept() { return this.isKept; }
+
+	/**
+	 * Discards the kept frame (when the raster is drawn on outside of a tracked frame)
+	 */
+	void discard()
+	{
+		this.isKept = false;
+	}
+
+	/**
+	 * Sets the region the textual overlay was drawn on,
+	 * which is redrawn on the next frame
+	 * @param left the first column of the region
+	 * @param right the last column of the region (inclusive)
+	 * @param top the first row of the region
+	 * @param bottom the last row of the region (inclusive)
+	 */
+	void setOverlayRegion(int left, int right, int top, int bottom)
+	{
+		this.overlayRegion[Renderer.LEFT] = left;
+		this.overlayRegion[Renderer.RIGHT] = right;
+		this.overlayRegion[Renderer.TOP] = top;
+		this.overlayRegion[Renderer.BOTTOM] = bottom;
+	}
+
+	/**
+	 * The footprints of the render data of the frame,
+	 * in the same order as the render data
+	 * @return the footprints of the render data
+	 * @pre the footprints were {@link DirtyRegions#computeFootprints(RenderData[]) computed}
+	 * or {@link DirtyRegions#collect(RenderData[]) collected} for the frame
+	 */
+	int[] footprints() { return this.footprints; }
+
+	/**
+	 * The ammount of dirty regions collected
+	 * @return the ammount of dirty regions
+	 */
+	int count() { return this.count; }
+
+	/**
+	 * Copies a dirty region
+	 * @param index the index of the region
+	 * @param dest the array to copy the region to
+	 * @pre 0 <= index < {@link DirtyRegions#count() count}
+	 */
+	void copyRegion(int index, int[] dest)
+	{
+		System.arraycopy(this.regions, index * Renderer.REGION_SIZE, dest, 0, Renderer.REGION_SIZE);
+	}
+
+	/**
+	 * Computes the footprint of every render data of the frame
+	 * @param renderDataArr the array of render data
+	 */
+	void computeFootprints(RenderData<?>[] renderDataArr)
+	{
+		ensureFootprints(renderDataArr.length);
+		for (int i = 0; i < renderDataArr.length; i++)
+			footprintOf(renderDataArr[i], this.footprints, i * Renderer.REGION_SIZE);
+	}
+
+	/**
+	 * Collects the regions of the raster that changed since the kept frame:
+	 * the footprints of the render data that was added or removed, and the region
+	 * the textual overlay was drawn on.
+	 * Also collects the footprints of the render data.
+	 * @param renderDataArr the sorted array of render data of the frame
+	 * @return if only the regions collected must be redrawn, false if the whole frame must be
+	 * @pre a frame {@link DirtyRegions#isKept() is kept}
+	 */
+	boolean collect(RenderData<?>[] renderDataArr)
+	{
+		this.count = 0;
+		ensureFootprints(renderDataArr.length);
+		Arrays.fill(this.isKeptMatched, 0, this.keptCount, false);
+
+		int lastKept = -1;
+		for (int i = 0; i < renderDataArr.length; i++)
+		{
+			int at = i * Renderer.REGION_SIZE;
+			int kept = renderDataArr[i].keptIndex(this, this.keptFrame);
+			if (kept < 0)
+			{
+				footprintOf(renderDataArr[i], this.footprints, at);
+				add(this.footprints, at);
+				continue;
+			}
+
+			if (kept < lastKept) // drawn in a different order
+				return false;
+			lastKept = kept;
+			this.isKeptMatched[kept] = true;
+			System.arraycopy(this.keptFootprints, kept * Renderer.REGION_SIZE, this.footprints, at, Renderer.REGION_SIZE);
+		}
+
+		for (int i = 0; i < this.keptCount; i++)
+			if (!this.isKeptMatched[i])
+				add(this.keptFootprints, i * Renderer.REGION_SIZE);
+		add(this.overlayRegion, 0);
+		merge();
+
+		long dirtyArea = 0;
+		for (int i = 0; i < this.count; i++)
+			dirtyArea += (long)regionWidth(this.regions, i * Renderer.REGION_SIZE) * regionHeight(this.regions, i * Renderer.REGION_SIZE);
+		return dirtyArea <= MAX_DIRTY_FRACTION * this.width * this.height;
+	}
+
+	/**
+	 * Keeps the render data of the frame and their footprints, to compare the next frame to
+	 * @param renderDataArr the sorted array of render data of the frame
+	 * @pre the footprints were {@link DirtyRegions#computeFootprints(RenderData[]) computed}
+	 * or {@link DirtyRegions#collect(RenderData[]) collected} for the frame
+	 */
+	void keep(RenderData<?>[] renderDataArr)
+	{
+		int[] swap = this.keptFootprints;
+		this.keptFootprints = this.footprints;
+		this.footprints = swap;
+
+		this.keptFrame++;
+		for (int i = 0; i < renderDataArr.length; i++)
+			renderDataArr[i].keep(this, this.keptFrame, i);
+		this.keptCount = renderDataArr.length;
+		if (this.isKeptMatched.length < this.keptCount)
+			this.isKeptMatched = new boolean[this.keptCount];
+
+		this.overlayRegion[Renderer.RIGHT] = -1;
+		this.isKept = true;
+	}
+
+	/**
+	 * Makes sure there is room for the footprints of the render data of a frame
+	 * @param renderDataCount the ammount of render data of the frame
+	 */
+	private void ensureFootprints(int renderDataCount)
+	{
+		if (this.footprints.length < renderDataCount * Renderer.REGION_SIZE)
+			this.footprints = new int[renderDataCount * Renderer.REGION_SIZE];
+	}
+
+	/**
+	 * Adds a region to the dirty regions (if it's not empty)
+	 * @param src the array the region is in
+	 * @param at the index of the region in the array
+	 */
+	private void add(int[] src, int at)
+	{
+		if (src[at + Renderer.LEFT] > src[at + Renderer.RIGHT] || src[at + Renderer.TOP] > src[at + Renderer.BOTTOM])
+			return;
+		if (this.regions.length < (this.count + 1) * Renderer.REGION_SIZE)
+			this.regions = Arrays.copyOf(this.regions, Math.max(Renderer.REGION_SIZE, this.regions.length * 2));
+		System.arraycopy(src, at, this.regions, this.count * Renderer.REGION_SIZE, Renderer.REGION_SIZE);
+		this.count++;
+	}
+
+	/**
+	 * Merges the dirty regions that overlap, into the region bounding both
+	 * (so no cell is redrawn twice)
+	 */
+	private void merge()
+	{
+		int[] regions = this.regions;
+		for (int i = 0; i < this.count; i++)
+		{
+			int a = i * Renderer.REGION_SIZE;
+			for (int j = i + 1; j < this.count; j++)
+			{
+				int b = j * Renderer.REGION_SIZE;
+				if (!Renderer.regionsIntersect(regions, a, regions, b))
+					continue;
+
+				regions[a + Renderer.LEFT] = Math.min(regions[a + Renderer.LEFT], regions[b + Renderer.LEFT]);
+				regions[a + Renderer.RIGHT] = Math.max(regions[a + Renderer.RIGHT], regions[b + Renderer.RIGHT]);
+				regions[a + Renderer.TOP] = Math.min(regions[a + Renderer.TOP], regions[b + Renderer.TOP]);
+				regions[a + Renderer.BOTTOM] = Math.max(regions[a + Renderer.BOTTOM], regions[b + Renderer.BOTTOM]);
+				this.count--;
+				System.arraycopy(regions, this.count * Renderer.REGION_SIZE, regions, b, Renderer.REGION_SIZE);
+				j = i; // the merged region may now overlap the ones already checked
+			}
+		}
+	}
+
+	/**
+	 * Computes the footprint of a render data: the region of the raster it may be rasterized on
+	 * (it's bounding box, with a margin for rounding)
+	 * @param rData the render data
+	 * @param dest the array to write the footprint to
+	 * @param at the index to write the footprint at
+	 */
+	private void footprintOf(RenderData<?> rData, int[] dest, int at)
+	{
+		BoundingBox box = rData.getShape().getBoundingBox();
+		int left = cellOf((long)Math.floor(box.minPoint().X()) - FOOTPRINT_MARGIN, this.originX);
+		int right = cellOf((long)Math.ceil(box.maxPoint().X()) + FOOTPRINT_MARGIN, this.originX);
+		int bottom = cellOf((long)Math.floor(box.minPoint().Y()) - FOOTPRINT_MARGIN, this.originY);
+		int top = cellOf((long)Math.ceil(box.maxPoint().Y()) + FOOTPRINT_MARGIN, this.originY);
+
+		dest[at + Renderer.LEFT] = Math.max(0, left);
+		dest[at + Renderer.RIGHT] = Math.min(this.width - 1, right);
+		dest[at + Renderer.TOP] = Math.max(0, (this.height - 1) - top);
+		dest[at + Renderer.BOTTOM] = Math.min(this.height - 1, (this.height - 1) - bottom);
+	}
+
+	/**
+	 * The cell a unit belongs to
+	 * @param coord the coordinate of the unit
+	 * @param origin the coordinate of the first cell's first unit
+	 * @return the index of the cell
+	 */
+	private int cellOf(long coord, int origin)
+	{
+		return (int)Math.floorDiv(coord - origin, (long)this.cellSize);
+	}
+
+	/**
+	 * The width of a region
+	 * @param regions the array the region is in
+	 * @param at the index of the region
+	 * @return the width of the region
+	 */
+	private static int regionWidth(int[] regions, int at) { return regions[at + Renderer.RIGHT] - regions[at + Renderer.LEFT] + 1; }
+
+	/**
+	 * The height of a region
+	 * @param regions the array the region is in
+	 * @param at the index of the region
+	 * @return the height of the region
+	 */
+	private static int regionHeight(int[] regions, int at) { return regions[at + Renderer.BOTTOM] - regions[at + Renderer.TOP] + 1; }
+}
@@ -0,0 +1,215 @@
+package GameEngine;
+
+import Geometry.*;
+
+/**
+ * Fills polygons with an edge table and an active edge list.
+ *
+ * The edges of the polygon (given by it's vertices, rounded, as the sides are drawn)
+ * are sorted by their first row, and become active on it, stepping their x by their
+ * inverse slope on every row, until their last row. Every row, the pixels whose centre
+ * is between each pair of active edges are filled (each edge covers it's rows from the
+ * lowest, inclusive, to the highest, exclusive, so vertices are only crossed once).
+ *
+ * The spans are pulled one row at a time, so the fill knows nothing of the raster
+ * it's drawn on, and the tables are reused from polygon to polygon.
+ *
+ * @version 18/10/2026
+ * @see Renderer
+ * @see PackedPolygon
+ */
+final class EdgeTableFill
+{
+	private int[] edgeRowFrom;
+	private int[] edgeRowTo;
+	private double[] edgeX;
+	private double[] edgeSlope;
+	private int[] edgeOrder;
+	private int[] activeEdges;
+	private double[] crossings;
+	private int edges;
+	private int next;
+	private int active;
+	private int row;
+	private int lastRow;
+	private int spanCount;
+
+	/**
+	 * Initializes an edge table fill, with no polygon to fill
+	 */
+	EdgeTableFill()
+	{
+		this.edgeRowFrom = new int[0];
+		this.edgeRowTo = new int[0];
+		this.edgeX = new double[0];
+		this.edgeSlope = new double[0];
+		this.edgeOrder = new int[0];
+		this.activeEdges = new int[0];
+		this.crossings = new double[0];
+		this.row = 0;
+		this.lastRow = 0;
+		this.spanCount = 0;
+	}
+
+	/**
+	 * Starts filling a polygon.
+	 * The rows are then pulled with {@link EdgeTableFill#nextRow() nextRow}.
+	 * @param poly the polygon to fill
+	 */
+	void start(PackedPolygon poly)
+	{
+		this.edges = buildEdgeTable(poly);
+		this.next = 0;
+		this.active = 0;
+		this.spanCount = 0;
+		if (this.edges == 0)
+		{
+			this.row = 0;
+			this.lastRow = 0;
+			return;
+		}
+
+		this.lastRow = this.edgeRowTo[this.edgeOrder[0]];
+		for (int i = 1; i < this.edges; i++)
+			this.lastRow = Math.max(this.lastRow, this.edgeRowTo[this.edgeOrder[i]]);
+		this.row = this.edgeRowFrom[this.edgeOrder[0]] - 1;
+	}
+
+	/**
+	 * Advances to the next row of the polygon, computing it's spans
+	 * @return if there was a next row (false once the polygon is filled)
+	 */
+	boolean nextRow()
+	{
+		if (this.row + 1 >= this.lastRow)
+		{
+			this.spanCount = 0;
+			return false;
+		}
+		this.row++;
+
+		while (this.next < this.edges && this.edgeRowFrom[this.edgeOrder[this.next]] <= this.row)
+			this.activeEdges[this.active++] = this.edgeOrder[this.next++];
+
+		int count = 0;
+		for (int i = 0; i < this.active;)
+		{
+			int edge = this.activeEdges[i];
+			if (this.edgeRowTo[edge] <= this.row)
+			{
+				this.activeEdges[i] = this.activeEdges[--this.active];
+				continue;
+			}
+
+			this.crossings[count++] = this.edgeX[edge];
+			this.edgeX[edge] += this.edgeSlope[edge];
+			i++;
+		}
+
+		sortCrossings(count);
+		this.spanCount = count / 2;
+		return true;
+	}
+
+	/**
+	 * The current row
+	 * @return the y coordinate of the current row
+	 */
+	int row() { return this.row; }
+
+	/**
+	 * The ammount of spans of the current row
+	 * @return the ammount of spans of the current row
+	 */
+	int spanCount() { return this.spanCount; }
+
+	/**
+	 * The first pixel of a span of the current row
+	 * @param span the index of the span
+	 * @return the x coordinate of the first pixel of the span
+	 * @pre 0 <= span < {@link EdgeTableFill#spanCount() spanCount}
+	 */
+	int spanFrom(int span)
+	{
+		return (int)Math.ceil(this.crossings[2 * span] - MathUtil.CALC_ERROR_MARGIN);
+	}
+
+	/**
+	 * The last pixel of a span of the current row
+	 * @param span the index of the span
+	 * @return the x coordinate of the last pixel of the span (inclusive)
+	 * @pre 0 <= span < {@link EdgeTableFill#spanCount() spanCount}
+	 */
+	int spanTo(int span)
+	{
+		return (int)Math.floor(this.crossings[2 * span + 1] + MathUtil.CALC_ERROR_MARGIN);
+	}
+
+	/**
+	 * Builds the edge table of a polygon, skipping it's horizontal edges
+	 * @param poly the polygon
+	 * @return the ammount of edges in the table
+	 */
+	private int buildEdgeTable(PackedPolygon poly)
+	{
+		int n = poly.getNumSides();
+		if (this.edgeX.length < n)
+		{
+			this.edgeRowFrom = new int[n];
+			this.edgeRowTo = new int[n];
+			this.edgeX = new double[n];
+			this.edgeSlope = new double[n];
+			this.edgeOrder = new int[n];
+			this.activeEdges = new int[n];
+			this.crossings = new double[n];
+		}
+
+		int count = 0;
+		for (int i = 0; i < n; i++)
+		{
+			long x0 = Math.round(poly.x(i));
+			long y0 = Math.round(poly.y(i));
+			long x1 = Math.round(poly.x((i + 1) % n));
+			long y1 = Math.round(poly.y((i + 1) % n));
+			if (y0 == y1)
+				continue;
+
+			this.edgeRowFrom[count] = (int)Math.min(y0, y1);
+			this.edgeRowTo[count] = (int)Math.max(y0, y1);
+			this.edgeSlope[count] = (x1 - x0) / (double)(y1 - y0);
+			this.edgeX[count] = y0 < y1 ? x0 : x1;
+			int rowFrom = this.edgeRowFrom[count];
+
+			// insert sorted by first row
+			int j = count;
+			while (j > 0 && this.edgeRowFrom[this.edgeOrder[j - 1]] > rowFrom)
+			{
+				this.edgeOrder[j] = this.edgeOrder[j - 1];
+				j--;
+			}
+			this.edgeOrder[j] = count;
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Sorts the first crossings of a row
+	 * (insertion sort, since there are few and they're mostly in order from the last row)
+	 * @param count the ammount of crossings to sort
+	 */
+	private void sortCrossings(int count)
+	{
+		for (int i = 1; i < count; i++)
+		{
+			double x = this.crossings[i];
+			int j = i - 1;
+			while (j >= 0 && this.crossings[j] > x)
+			{
+				this.crossings[j + 1] = this.crossings[j];
+				j--;
+			}
+			this.crossings[j + 1] = x;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package GameEngine;
+
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * An isolated set of the engine's singletons.
+ *
+ * While a context is {@link EngineContext#run(Callable) running} on a thread,
+ * the getInstance methods of the singletons ({@link GameEngine}, {@link Renderer},
+ * {@link InputManager}, and any other singleton that asks for
+ * {@link EngineContext#getInstance(Class,Supplier) it's instance} in the context)
+ * return the context's own instances, instead of the process-wide ones.
+ * This way several games can run at the same time, each in it's own context,
+ * without sharing any state.
+ * The {@link CollisionManager collision manager} keeps it's grid in the context too,
+ * and each context has it's own {@link Scene scenes}.
+ *
+ * @version 18/10/2026
+ *
+ * @inv a context should only be ran by one thread at a time
+ * (besides the threads it starts for itself, like the {@link RenderThread render thread})
+ * @see GameEngine
+ */
+public class EngineContext
+{
+	private static final ThreadLocal<EngineContext> CURRENT = new ThreadLocal<EngineContext>();
+	private HashMap<Class<?>, Object> instances;
+
+	/**
+	 * Instantiates an empty EngineContext,
+	 * it's singletons are instantiated as they are first asked for
+	 */
+	public EngineContext()
+	{
+		this.instances = new HashMap<Class<?>, Object>();
+	}
+
+	/**
+	 * The context running on the current thread
+	 * @return the context running on the current thread, null if none is
+	 */
+	public static EngineContext current()
+	{
+		return CURRENT.get();
+	}
+
+	/**
+	 * Gets the context's instance of a singleton, instantiating it if it doesn't exist yet
+	 * @param <T> the type of the singleton
+	 * @param type the class of the singleton
+	 * @param factory the method to instantiate the singleton
+	 * @return the context's instance of the singleton
+	 */
+	public synchronized <T> T getInstance(Class<T> type, Supplier<T> factory)
+	{
+		Object instance = this.instances.get(type);
+		if (instance == null)
+		{
+			instance = factory.get();
+			this.instances.put(type, instance);
+		}
+		return type.cast(instance);
+	}
+
+	/**
+	 * Replaces the context's instance of a singleton
+	 * @param <T> the type of the singleton
+	 * @param type the class of the singleton
+	 * @param instance the new instance of the singleton
+	 */
+	public synchronized <T> void setInstance(Class<T> type, T instance)
+	{
+		this.instances.put(type, instance);
+	}
+
+	/**
+	 * Runs a task within the context, on the current thread.
+	 * The context that was running before (if any) is restored afterwards.
+	 * @param <T> the type of the task's result
+	 * @param task the task to run
+	 * @return the task's result
+	 * @throws Exception if the task threw an exception
+	 */
+	public <T> T run(Callable<T> task) throws Exception
+	{
+		EngineContext previous = CURRENT.get();
+		CURRENT.set(this);
+		try
+		{
+			return task.call();
+		}
+		finally
+		{
+			if (previous == null)
+				CURRENT.remove();
+			else
+				CURRENT.set(previous);
+		}
+	}
+
+	/**
+	 * Runs a task within a context, on the current thread,
+	 * or outside of any context if it's null (as when the task was created outside of one).
+	 * The context that was running before (if any) is restored afterwards.
+	 * @param context the context to run the task in (can be null)
+	 * @param task the task to run
+	 */
+	public static void run(EngineContext context, Runnable task)
+	{
+		EngineContext previous = CURRENT.get();
+		if (context == null)
+			CURRENT.remove();
+		else
+			CURRENT.set(context);
+		try
+		{
+			task.run();
+		}
+		finally
+		{
+			if (previous == null)
+				CURRENT.remove();
+			else
+				CURRENT.set(previous);
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package GameEngine;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The output of the {@link Renderer renderer}'s textual frames.
+ *
+ * Frames are encoded (as UTF-8) straight into a reusable direct buffer as they are appended,
+ * and written to a channel all at once when {@link FrameSink#flush() flushed}.
+ * The buffer only grows when a frame doesn't fit, so no memory is allocated per frame.
+ * Any channel can be used, such as a file, a pipe or an in-memory capture.
+ *
+ * By default frames are written to {@link FrameSink#systemOut() the standard output}.
+ *
+ * @version 18/10/2026
+ *
+ * @see Renderer
+ */
+public class FrameSink
+{
+	private static final int DEFAULT_CAPACITY = 8192;
+	private WritableByteChannel channel;
+	private boolean isSystemOut;
+	private PrintStream systemOut;
+	private ByteBuffer buffer;
+
+	/**
+	 * Instantiates a FrameSink that writes to a channel
+	 * @param channel the channel to write the frames to
+	 */
+	public FrameSink(WritableByteChannel channel)
+	{
+		this.channel = channel;
+		this.isSystemOut = false;
+		this.systemOut = null;
+		this.buffer = ByteBuffer.allocateDirect(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Instantiates a FrameSink that writes to {@link System#out},
+	 * following it if it's replaced
+	 * @return the FrameSink
+	 */
+	public static FrameSink systemOut()
+	{
+		FrameSink sink = new FrameSink(null);
+		sink.isSystemOut = true;
+		return sink;
+	}
+
+	/**
+	 * Makes sure a frame of a certain size fits without growing
+	 * @param bytes the ammount of bytes that must fit
+	 */
+	public void reserve(int bytes)
+	{
+		if (this.buffer.remaining() < bytes)
+			grow(this.buffer.position() + bytes);
+	}
+
+	/**
+	 * Grows the buffer, keeping it's contents
+	 * @param minCapacity the minimum capacity of the new buffer
+	 */
+	private void grow(int minCapacity)
+	{
+		ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(minCapacity, this.buffer.capacity() * 2));
+		this.buffer.flip();
+		grown.put(this.buffer);
+		this.buffer = grown;
+	}
+
+	/**
+	 * Appends a character
+	 * @param c the character to append
+	 * @return the FrameSink instance
+	 */
+	public FrameSink append(char c)
+	{
+		if (this.buffer.remaining() < 3)
+			grow(this.buffer.capacity() + 3);
+
+		if (c < 0x80)
+		{
+			this.buffer.put((byte)c);
+		}
+		else if (c < 0x800)
+		{
+			this.buffer.put((byte)(0xC0 | (c >> 6)));
+			this.buffer.put((byte)(0x80 | (c & 0x3F)));
+		}
+		else if (Character.isSurrogate(c))
+		{
+			this.buffer.put((byte)'?'); // a single cell can't hold a pair
+		}
+		else
+		{
+			this.buffer.put((byte)(0xE0 | (c >> 12)));
+			this.buffer.put((byte)(0x80 | ((c >> 6) & 0x3F)));
+			this.buffer.put((byte)(0x80 | (c & 0x3F)));
+		}
+		return this;
+	}
+
+	/**
+	 * Appends an array of characters
+	 * @param chars the characters to append
+	 * @return the FrameSink instance
+	 */
+	public FrameSink append(char[] chars)
+	{
+		for (int i = 0; i < chars.length; i++)
+			append(chars[i]);
+		return this;
+	}
+
+	/**
+	 * Appends a string
+	 * @param str the string to append
+	 * @return the FrameSink instance
+	 */
+	public FrameSink append(String str)
+	{
+		for (int i = 0; i < str.length(); i++)
+			append(str.charAt(i));
+		return this;
+	}
+
+	/**
+	 * Appends the string representation of an object
+	 * @param obj the object to append
+	 * @return the FrameSink instance
+	 */
+	public FrameSink append(Object obj)
+	{
+		return append(String.valueOf(obj));
+	}
+
+	/**
+	 * Appends a non negative integer, in decimal
+	 * @param value the integer to append
+	 * @return the FrameSink instance
+	 * @pre value >= 0
+	 */
+	public FrameSink append(int value)
+	{
+		if (value >= 10)
+			append(value / 10);
+		return append((char)('0' + value % 10));
+	}
+
+	/**
+	 * The ammount of bytes appended since the last flush
+	 * @return the ammount of bytes appended since the last flush
+	 */
+	public int length()
+	{
+		return this.buffer.position();
+	}
+
+	/**
+	 * Discards everything appended since the last flush
+	 */
+	public void clear()
+	{
+		this.buffer.clear();
+	}
+
+	/**
+	 * Writes everything appended since the last flush to the channel, at once.
+	 * If the frame could not be written it's discarded.
+	 */
+	public void flush()
+	{
+		this.buffer.flip();
+		try
+		{
+			WritableByteChannel out = channel();
+			while (this.buffer.hasRemaining())
+				out.write(this.buffer);
+			if (this.isSystemOut)
+				this.systemOut.flush();
+		}
+		catch (IOException e)
+		{
+			Logger.log(Logger.Level.ERROR, "Could not write frame.\n" + e);
+		}
+		finally
+		{
+			this.buffer.clear();
+		}
+	}
+
+	/**
+	 * The channel to write to
+	 * @return the channel to write to
+	 */
+	private WritableByteChannel channel()
+	{
+		if (this.isSystemOut && this.systemOut != System.out)
+		{
+			this.systemOut = System.out;
+			this.channel = Channels.newChannel(this.systemOut);
+		}
+		return this.channel;
+	}
+}
@@ -21,7 +21,7 @@ import Geometry.Rectangle;
  * 2. update
  * 3. collision checking
  * 4. late update
- * 5. rendering (if provided a camera)
+ * 5. rendering (if provided a camera, every {@link GameEngineFlags#renderInterval() render interval} updates)
  *
  * When the cycle stops, the stop method is called for every game object. (only once)
  * 
@@ -40,12 +40,16 @@ public class GameEngine implements IInputListener, IClockListener
 	private final String STOP_CMD_STR = "stop";
 	private final String DEBUG_CMD_STR = "debug";
 	private final char BG_CHAR = ' ';
+	private static final long NANOS_PER_MS = 1000000L;
 	private static GameEngine instance = null;
 	private GameEngineFlags flags;
 	private Scene currScene;
 	private boolean isRunning;
 	private Rectangle camera;
 	private Clock clock;
+	private long pendingNanos;
+	private int updatesSinceRender;
+	private RenderThread renderThread;
 
 	/**
 	 * private constructor for singleton
@@ -56,10 +60,15 @@ public class GameEngine implements IInputListener, IClockListener
 
 	/**
 	 * Gets the game engine instance
+	 * (the {@link EngineContext context's} instance, if one is running on the current thread)
 	 * @return the game engine instance
 	 */
 	public static GameEngine getInstance()
 	{
+		EngineContext context = EngineContext.current();
+		if (context != null)
+			return context.getInstance(GameEngine.class, GameEngine::new);
+
 		if (instance == null)
 			instance = new GameEngine();
 
@@ -79,11 +88,15 @@ public class GameEngine implements IInputListener, IClockListener
 	 */
 	public void init(GameEngineFlags flags, Scene scene, Rectangle camera)
 	{
+		stopRenderThread();
 		this.flags = new GameEngineFlags(flags);
 		this.currScene = scene;
 		this.isRunning = false;
 		this.clock = new Clock(flags.maxUpdatesPerSecond());
+		this.clock.setFixedTimestep(flags.isFixedTimestep());
+		this.clock.setMaxCatchUpTicks(flags.maxCatchUpUpdates());
 		this.clock.addListener(this);
+		this.pendingNanos = 0;
 		this.camera = camera;
 		Renderer.getInstance().setTextual(flags.isTextual());
 		if (this.camera != null)
@@ -127,12 +140,16 @@ public class GameEngine implements IInputListener, IClockListener
 		this.isRunning = true;
 		currScene.setActive(true);
 
-		for (GameObject obj : currScene)
+		for (GameObject obj : currScene.objectsArr())
 			obj.start();
 
-		CollisionManager.detectCollisions(this.currScene);
-		if (this.camera != null)
-			Renderer.getInstance().render(this.currScene, this.camera, this.BG_CHAR);
+		detectCollisions();
+		if (this.camera != null && this.flags.renderMethod() == GameEngineFlags.RenderMethod.THREADED)
+		{
+			this.renderThread = new RenderThread(Renderer.getInstance(), this.camera, this.BG_CHAR);
+			this.renderThread.start();
+		}
+		renderFrame();
 
 		InputManager.getInstance().init(this.currScene);
 		if (Renderer.getInstance().getGraphicWindow() != null)
@@ -150,6 +167,7 @@ public class GameEngine implements IInputListener, IClockListener
 	 * the game objects within the current scene
 	 *
 	 * Does not throw exception if the engine is not running.
+	 * Only announces it's stopping if it is rendering.
 	 *
 	 * @pre engine must be running
 	 */
@@ -158,14 +176,16 @@ public class GameEngine implements IInputListener, IClockListener
 		if (!this.isRunning)
 			return;
 
-		System.out.println("Stopping...");
+		stopRenderThread();
+		if (this.camera != null)
+			System.out.println("Stopping...");
 
 		this.clock.stop();
 
 		this.isRunning = false;
 		currScene.setActive(false);
 
-		for (GameObject obj : currScene)
+		for (GameObject obj : currScene.objectsArr())
 			obj.stop();
 
 		Renderer.getInstance().closeGraphicWindow();
@@ -260,12 +280,27 @@ public class GameEngine implements IInputListener, IClockListener
 	/**
 	 * Runs a game engine cycle.
 	 * same as {@link GameEngine#step(long)} but gets the time elapsed since last update
+	 * (carrying the sub-millisecond remainder to the next step, the same way as {@link GameEngine#tick(long)})
 	 *
 	 * @see GameEngine#step(long)
 	 */
 	public void step()
 	{
-		step(this.clock.getDeltaT());
+		step(consumeMillis(this.clock.getDeltaNanos()));
+	}
+
+	/**
+	 * Adds elapsed time to the time still pending an update, taking the whole milliseconds out of it
+	 * (the sub-millisecond remainder is carried, so no time is lost between updates)
+	 * @param deltaTimeNanos the elapsed time in ns
+	 * @return the whole milliseconds pending an update
+	 */
+	private long consumeMillis(long deltaTimeNanos)
+	{
+		this.pendingNanos += deltaTimeNanos;
+		long deltaTimeMs = this.pendingNanos / NANOS_PER_MS;
+		this.pendingNanos -= deltaTimeMs * NANOS_PER_MS;
+		return deltaTimeMs;
 	}
 
 	/**
@@ -291,9 +326,9 @@ public class GameEngine implements IInputListener, IClockListener
 	}
 
 	@Override
-	public void tick(long deltaTimeMs)
+	public void tick(long deltaTimeNanos)
 	{
-		update(deltaTimeMs);
+		update(consumeMillis(deltaTimeNanos));
 	}
 
 	/**
@@ -305,28 +340,65 @@ public class GameEngine implements IInputListener, IClockListener
 	 * 2. update
 	 * 3. collision checking
 	 * 4. late update
-	 * 5. rendering (if provided a camera)
+	 * 5. rendering (if provided a camera, every {@link GameEngineFlags#renderInterval() render interval} updates)
 	 *
 	 * @param deltaT the elapsed time since the last update in ms.
 	 */
 	private void update(long deltaT)
 	{
-		for (GameObject obj : currScene)
+		for (GameObject obj : currScene.objectsArr())
 			obj.earlyUpdate();
 
-		for (GameObject obj : currScene)
+		for (GameObject obj : currScene.objectsArr())
 			obj.update((int)deltaT);
 
-		CollisionManager.detectCollisions(this.currScene);
+		detectCollisions();
 
-		for (GameObject obj : currScene)
+		for (GameObject obj : currScene.objectsArr())
 			obj.lateUpdate();
 
+		if (++this.updatesSinceRender >= this.flags.renderInterval())
+			renderFrame();
+	}
 
-		if (this.camera != null)
+	/**
+	 * Renders the current scene (if provided a camera),
+	 * on the render thread if rendering is threaded
+	 */
+	private void renderFrame()
+	{
+		this.updatesSinceRender = 0;
+		if (this.camera == null)
+			return;
+
+		if (this.renderThread != null)
+			this.renderThread.submit(this.currScene);
+		else
 			Renderer.getInstance().render(this.currScene, this.camera, this.BG_CHAR);
 	}
 
+	/**
+	 * Stops the render thread (if rendering is threaded),
+	 * after it renders the last frame submitted
+	 */
+	private void stopRenderThread()
+	{
+		if (this.renderThread == null)
+			return;
+
+		this.renderThread.stop();
+		this.renderThread = null;
+	}
+
+	/**
+	 * Detects the collisions in the current scene, with the
+	 * collision detection method set in the flags
+	 */
+	private void detectCollisions()
+	{
+		CollisionManager.detectCollisions(this.currScene, this.flags.collisionDetection(), this.flags.collisionCellSize());
+	}
+
 	/**
 	 * Checks if the engine is running
 	 * @return if the engine is running
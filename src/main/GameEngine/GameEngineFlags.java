@@ -30,13 +30,55 @@ public class GameEngineFlags
 		 */
 		CODE,
 	}
+
+	/**
+	 * The method the {@link CollisionManager collision manager} is going to use
+	 * for finding the pairs of colliders that might collide (broad phase)
+	*/
+	public enum CollisionDetection {
+		/**
+		 * Tests every collider against every other collider.
+		 */
+		BRUTE_FORCE,
+		/**
+		 * Places the colliders in a uniform grid, only testing colliders
+		 * that share a cell.
+		 */
+		UNIFORM_GRID,
+	}
+	/**
+	 * The method the game engine is going to use for rendering
+	*/
+	public enum RenderMethod {
+		/**
+		 * Renders at the end of the update, on the engine's thread.
+		 */
+		SYNCHRONOUS,
+		/**
+		 * Renders on a dedicated thread, from a snapshot taken at the end of the update.
+		 * If the engine updates faster than frames are drawn, only the latest snapshot is drawn.
+		 */
+		THREADED,
+	}
 	private static final UpdateMethod DEFAULT_UPDATE_METHOD = UpdateMethod.STEP;
 	private static final boolean DEFAULT_IS_TEXTUAL = true;
 	private static final float DEFAULT_MAX_UPDATES_SECOND = 1;
+	private static final CollisionDetection DEFAULT_COLLISION_DETECTION = CollisionDetection.BRUTE_FORCE;
+	private static final double DEFAULT_COLLISION_CELL_SIZE = 1;
+	private static final boolean DEFAULT_IS_FIXED_TIMESTEP = false;
+	private static final RenderMethod DEFAULT_RENDER_METHOD = RenderMethod.SYNCHRONOUS;
+	private static final int DEFAULT_RENDER_INTERVAL = 1;
+	private static final int DEFAULT_MAX_CATCH_UP_UPDATES = 5;
 
 	private UpdateMethod updateMethod;
 	private boolean isTextual;
 	private float maxUpdatesPerSecond;
+	private CollisionDetection collisionDetection;
+	private double collisionCellSize;
+	private boolean isFixedTimestep;
+	private int maxCatchUpUpdates;
+	private RenderMethod renderMethod;
+	private int renderInterval;
 
 	/**
 	 * Initalizes GameEngineFlags with default values
@@ -46,6 +88,12 @@ public class GameEngineFlags
 		this.isTextual = DEFAULT_IS_TEXTUAL;
 		this.updateMethod = DEFAULT_UPDATE_METHOD;
 		this.maxUpdatesPerSecond = DEFAULT_MAX_UPDATES_SECOND;
+		this.collisionDetection = DEFAULT_COLLISION_DETECTION;
+		this.collisionCellSize = DEFAULT_COLLISION_CELL_SIZE;
+		this.isFixedTimestep = DEFAULT_IS_FIXED_TIMESTEP;
+		this.maxCatchUpUpdates = DEFAULT_MAX_CATCH_UP_UPDATES;
+		this.renderMethod = DEFAULT_RENDER_METHOD;
+		this.renderInterval = DEFAULT_RENDER_INTERVAL;
 	}
 
 	/**
@@ -57,6 +105,12 @@ public class GameEngineFlags
 		this.updateMethod = that.updateMethod();
 		this.isTextual = that.isTextual();
 		this.maxUpdatesPerSecond = that.maxUpdatesPerSecond();
+		this.collisionDetection = that.collisionDetection();
+		this.collisionCellSize = that.collisionCellSize();
+		this.isFixedTimestep = that.isFixedTimestep();
+		this.maxCatchUpUpdates = that.maxCatchUpUpdates();
+		this.renderMethod = that.renderMethod();
+		this.renderInterval = that.renderInterval();
 	}
 
 	/**
@@ -94,4 +148,83 @@ public class GameEngineFlags
 	 * @return the maxium updates per second
 	 */
 	public float maxUpdatesPerSecond() { return this.maxUpdatesPerSecond; }
+
+	/**
+	 * The method used to find the colliders that might collide
+	 * @return the method used to find the colliders that might collide
+	 */
+	public CollisionDetection collisionDetection() { return this.collisionDetection; }
+
+	/**
+	 * Sets the method used to find the colliders that might collide
+	 * @param method the method used to find the colliders that might collide
+	 */
+	public void setCollisionDetection(CollisionDetection method) { this.collisionDetection = method; }
+
+	/**
+	 * The size of a cell of the uniform grid used for collision detection
+	 * @return the size of a cell of the collision grid
+	 */
+	public double collisionCellSize() { return this.collisionCellSize; }
+
+	/**
+	 * Sets the size of a cell of the uniform grid used for collision detection.
+	 * Should be close to the size of the most common collider (a unit).
+	 * @param cellSize the size of a cell of the collision grid
+	 * @pre cellSize > 0
+	 */
+	public void setCollisionCellSize(double cellSize) { this.collisionCellSize = cellSize; }
+
+	/**
+	 * If the engine should update with a fixed timestep when in AUTO update method.
+	 * Every update is then given exactly 1 / maxUpdatesPerSecond of time.
+	 * @return if the engine should update with a fixed timestep
+	 */
+	public boolean isFixedTimestep() { return this.isFixedTimestep; }
+
+	/**
+	 * Sets if the engine should update with a fixed timestep when in AUTO update method
+	 * @param arg if the engine should update with a fixed timestep
+	 */
+	public void setFixedTimestep(boolean arg) { this.isFixedTimestep = arg; }
+
+	/**
+	 * The maximum ammount of updates to run at once when the engine falls behind
+	 * @return the maximum ammount of updates to run at once
+	 */
+	public int maxCatchUpUpdates() { return this.maxCatchUpUpdates; }
+
+	/**
+	 * Sets the maximum ammount of updates to run at once when the engine falls behind.
+	 * Any time past that is dropped.
+	 * @param maxCatchUpUpdates the maximum ammount of updates to run at once
+	 * @pre maxCatchUpUpdates > 0
+	 */
+	public void setMaxCatchUpUpdates(int maxCatchUpUpdates) { this.maxCatchUpUpdates = maxCatchUpUpdates; }
+
+	/**
+	 * The method in which the engine should render
+	 * @return the method in which the engine should render
+	 */
+	public RenderMethod renderMethod() { return this.renderMethod; }
+
+	/**
+	 * Sets the method in which the engine should render
+	 * @param method the method in which the engine should render
+	 */
+	public void setRenderMethod(RenderMethod method) { this.renderMethod = method; }
+
+	/**
+	 * Every how many updates a frame is rendered
+	 * @return every how many updates a frame is rendered
+	 */
+	public int renderInterval() { return this.renderInterval; }
+
+	/**
+	 * Sets every how many updates a frame is rendered (1 renders every update).
+	 * The first frame, when the engine starts, is always rendered.
+	 * @param interval every how many updates a frame is rendered
+	 * @pre interval > 0
+	 */
+	public void setRenderInterval(int interval) { this.renderInterval = interval; }
 }
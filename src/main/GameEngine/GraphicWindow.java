@@ -3,11 +3,19 @@ package GameEngine;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowEvent;
+import java.awt.image.BufferStrategy;
 
 /**
  * Represents the window in which to render the game in.
  * Contains a raster to draw on.
  * Contains an overlay.
+ *
+ * The window can be passive, showing the raster as a Swing component that is repainted
+ * by the event queue, or active, {@link GraphicWindow#present() presenting} each frame
+ * itself through a {@link BufferStrategy buffer strategy} on a {@link Canvas canvas}.
+ * When active, the raster and the overlay are drawn into the back buffer and shown
+ * at once, from the thread that presents the frame. The overlay's components are only
+ * drawn, so they can't be interacted with.
  * 
  * @author Diogo Fonseca a79858
  * @version 16/05/2024
@@ -18,26 +26,41 @@ public class GraphicWindow extends JFrame
 	private Raster raster;
 	private JLayeredPane layeredPane;
 	private JPanel overlay;
-	
+	private boolean isActive;
+	private Canvas canvas;
+	private BufferStrategy bufferStrategy;
+	private CellRendererPane overlayPane;
+
+	/**
+	 * Instantiates a new passive window.
+	 * same as {@link GraphicWindow#GraphicWindow(int,int,String,Color,boolean,int)}
+	 */
+	public GraphicWindow(int width, int height, String title, Color bgColor)
+	{
+		this(width, height, title, bgColor, false, 1);
+	}
+
 	/**
 	 * Instantiates a new window.
 	 * @param width the width of the inner raster
 	 * @param height the height of the inner raster
 	 * @param title the title of the window
 	 * @param color the background color
+	 * @param isActive if the window presents it's frames through a buffer strategy
+	 * @param cellSize the ammount of screen pixels each side of a pixel of the raster takes
 	 */
-	public GraphicWindow(int width, int height, String title, Color bgColor)
+	public GraphicWindow(int width, int height, String title, Color bgColor, boolean isActive, int cellSize)
 	{
 		super(title);
 		setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 		setLayout(new BorderLayout());
 
-		this.layeredPane = new JLayeredPane();
-		add(this.layeredPane);
-
-		this.raster = new Raster(width, height, bgColor);
-		this.layeredPane.setPreferredSize(this.raster.getPreferredSize());
-		this.layeredPane.add(this.raster, JLayeredPane.DEFAULT_LAYER);
+		this.isActive = isActive;
+		this.raster = new Raster(width, height, bgColor, cellSize);
+		if (isActive)
+			setupCanvas();
+		else
+			setupLayeredPane();
 
 		// add(raster);
 		pack();
@@ -46,9 +69,55 @@ public class GraphicWindow extends JFrame
 		setFocusable(true);
 		requestFocus();
 
+		if (isActive)
+			this.bufferStrategy = createBufferStrategy(this.canvas);
 		this.overlay = null;
 	}
 
+	/**
+	 * Sets up the layered pane, in which the raster and overlay are painted by Swing
+	 */
+	private void setupLayeredPane()
+	{
+		this.layeredPane = new JLayeredPane();
+		add(this.layeredPane);
+		this.layeredPane.setPreferredSize(this.raster.getPreferredSize());
+		this.layeredPane.add(this.raster, JLayeredPane.DEFAULT_LAYER);
+	}
+
+	/**
+	 * Sets up the canvas, in which the raster and overlay are drawn when presenting
+	 */
+	private void setupCanvas()
+	{
+		this.canvas = new Canvas();
+		this.canvas.setPreferredSize(this.raster.getPreferredSize());
+		this.canvas.setIgnoreRepaint(true);
+		this.canvas.setFocusable(false);
+		add(this.canvas);
+		setIgnoreRepaint(true);
+		this.overlayPane = new CellRendererPane();
+	}
+
+	/**
+	 * Creates the buffer strategy of a canvas, triple buffered if possible
+	 * @param canvas the canvas (must be displayable)
+	 * @return the buffer strategy
+	 */
+	private static BufferStrategy createBufferStrategy(Canvas canvas)
+	{
+		try
+		{
+			canvas.createBufferStrategy(3, new BufferCapabilities(
+				new ImageCapabilities(true), new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED));
+		}
+		catch (AWTException e)
+		{
+			canvas.createBufferStrategy(2);
+		}
+		return canvas.getBufferStrategy();
+	}
+
 	/**
 	 * Sets the icon for the window
 	 * @param filename the name of the file to set as an icon for the window
@@ -77,11 +146,119 @@ public class GraphicWindow extends JFrame
 		raster.draw(x, y, drawColor);
 	}
 
+	/**
+	 * Sets a span of pixels of a row to a color
+	 * @param xFrom the x coordinate of the first pixel of the span
+	 * @param xTo the x coordinate of the last pixel of the span (inclusive)
+	 * @param y the y coordinate of the row
+	 * @param drawColor the color to assign to the pixels
+	 */
+	public void drawSpan(int xFrom, int xTo, int y, Color drawColor)
+	{
+		raster.drawSpan(xFrom, xTo, y, drawColor);
+	}
+
+	/**
+	 * Copies every pixel of the raster to an array
+	 * @param dest the array to copy the pixels to
+	 * @see Raster#copyPixelsTo(int[])
+	 */
+	public void copyPixelsTo(int[] dest)
+	{
+		raster.copyPixelsTo(dest);
+	}
+
+	/**
+	 * Sets every pixel of the raster from an array
+	 * @param src the array to copy the pixels from
+	 * @see Raster#setPixels(int[])
+	 */
+	public void setPixels(int[] src)
+	{
+		raster.setPixels(src);
+	}
+
+	/**
+	 * Sets a span of pixels of a row from an array
+	 * @param src the array to copy the pixels from
+	 * @param xFrom the x coordinate of the first pixel of the span
+	 * @param xTo the x coordinate of the last pixel of the span (inclusive)
+	 * @param y the y coordinate of the row
+	 * @see Raster#setSpan(int[],int,int,int)
+	 */
+	public void setSpan(int[] src, int xFrom, int xTo, int y)
+	{
+		raster.setSpan(src, xFrom, xTo, y);
+	}
+
+	/**
+	 * Sets a span of pixels of a row to the background color
+	 * @param xFrom the x coordinate of the first pixel of the span
+	 * @param xTo the x coordinate of the last pixel of the span (inclusive)
+	 * @param y the y coordinate of the row
+	 */
+	public void clearSpan(int xFrom, int xTo, int y)
+	{
+		raster.clearSpan(xFrom, xTo, y);
+	}
+
+	/**
+	 * The ammount of pixels of the raster
+	 * @return the ammount of pixels of the raster
+	 */
+	public int pixelCount() { return raster.pixelCount(); }
+
+	/**
+	 * Presents the frame drawn on the raster (and the overlay).
+	 * When active, it's drawn to the back buffer and shown on the current thread,
+	 * otherwise it's repainted by the event queue.
+	 */
+	public void present()
+	{
+		if (!this.isActive)
+		{
+			repaint();
+			return;
+		}
+
+		do
+		{
+			do
+			{
+				Graphics graphics = this.bufferStrategy.getDrawGraphics();
+				try
+				{
+					this.raster.drawImage(graphics);
+					if (this.overlay != null)
+						this.overlayPane.paintComponent(graphics, this.overlay, getContentPane(),
+							0, 0, this.overlay.getWidth(), this.overlay.getHeight());
+				}
+				finally
+				{
+					graphics.dispose();
+				}
+			}
+			while (this.bufferStrategy.contentsRestored());
+			this.bufferStrategy.show();
+		}
+		while (this.bufferStrategy.contentsLost());
+		Toolkit.getDefaultToolkit().sync();
+	}
+
+	/**
+	 * If the window presents it's frames through a buffer strategy
+	 * @return if the window presents it's frames through a buffer strategy
+	 */
+	public boolean isActive() { return this.isActive; }
+
 	/**
 	 * Disposes the frame, closing the window.
 	 */
 	public void close()
 	{
+		if (this.bufferStrategy != null)
+			this.bufferStrategy.dispose();
+		this.bufferStrategy = null;
 		dispatchEvent(new WindowEvent(this, WindowEvent.WINDOW_CLOSING));
 		this.raster = null;
 	}
@@ -95,18 +272,21 @@ public class GraphicWindow extends JFrame
 		if (this.overlay != null && this.overlay.equals(panel))
 			return;
 
-		if (this.overlay != null)
+		if (this.overlay != null && !this.isActive)
 			this.layeredPane.remove(this.overlay);
 
 
 		this.overlay = panel;
-		this.layeredPane.add(panel, JLayeredPane.POPUP_LAYER);
+		if (!this.isActive)
+			this.layeredPane.add(panel, JLayeredPane.POPUP_LAYER);
 	}
 
 	@Override
 	public void paint(Graphics g)
 	{
 		super.paint(g);
+		if (this.isActive)
+			return;
 
 		// weird hack to overflow the EventQueue
 		// in order to force it to flush and by
@@ -12,9 +12,9 @@ package GameEngine;
 public interface IClockListener
 {
 	/**
-	 * Tick event, providing the time elapsed since the last tick in ms
+	 * Tick event, providing the time elapsed since the last tick in nanoseconds
 	 * Should only be called by the {@link Clock clock}
-	 * @param timeElapsedMs the time elapsed since the alst tick in ms
+	 * @param timeElapsedNanos the time elapsed since the last tick in nanoseconds
 	 */
-	public void tick(long timeElapsedMs);
+	public void tick(long timeElapsedNanos);
 }
@@ -0,0 +1,28 @@
+package GameEngine;
+
+/**
+ * Represents a {@link GameObject game object} that listens for the other
+ * game objects being added to or removed from it's {@link Scene scene}
+ *
+ * @version 18/10/2026
+ *
+ * @inv onObjectAdded is called after every other game object is added to the scene
+ * @inv onObjectRemoved is called before every other game object is removed from the scene
+ * @see Scene
+ */
+public interface ISceneListener
+{
+	/**
+	 * Event called when another game object is added to the scene.
+	 * Should only be called by the {@link Scene}
+	 * @param object the game object added
+	 */
+	public void onObjectAdded(GameObject object);
+
+	/**
+	 * Event called when another game object is removed from the scene.
+	 * Should only be called by the {@link Scene}
+	 * @param object the game object removed
+	 */
+	public void onObjectRemoved(GameObject object);
+}
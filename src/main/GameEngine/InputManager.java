@@ -31,10 +31,15 @@ public class InputManager implements KeyListener
 
 	/**
 	 * Gets the input manager instance
+	 * (the {@link EngineContext context's} instance, if one is running on the current thread)
 	 * @return the input manager instance
 	 */
 	public static InputManager getInstance()
 	{
+		EngineContext context = EngineContext.current();
+		if (context != null)
+			return context.getInstance(InputManager.class, InputManager::new);
+
 		if (instance == null)
 			instance = new InputManager();
 		return instance;
@@ -62,7 +67,7 @@ public class InputManager implements KeyListener
 			GameEngine.getInstance().priorityInput(input);
 			if (GameEngine.getInstance().isRunning())
 			{
-				for (IInputListener listener : this.scene.inputListeners())
+				for (IInputListener listener : this.scene.inputListenersArr())
 					listener.onInputReceived(input);
 				GameEngine.getInstance().onInputReceived(input);
 			}
@@ -73,7 +78,7 @@ public class InputManager implements KeyListener
 	@Override
 	public void keyPressed(KeyEvent event)
 	{
-		for (IInputListener listener : scene.inputListeners())
+		for (IInputListener listener : scene.inputListenersArr())
 			listener.onKeyPressed(event);
 		GameEngine.getInstance().onKeyPressed(event);
 	}
@@ -81,7 +86,7 @@ public class InputManager implements KeyListener
 	@Override
 	public void keyReleased(KeyEvent event)
 	{
-		for (IInputListener listener : scene.inputListeners())
+		for (IInputListener listener : scene.inputListenersArr())
 			listener.onKeyReleased(event);
 		GameEngine.getInstance().onKeyReleased(event);
 	}
@@ -89,7 +94,7 @@ public class InputManager implements KeyListener
 	@Override
 	public void keyTyped(KeyEvent event)
 	{
-		for (IInputListener listener : scene.inputListeners())
+		for (IInputListener listener : scene.inputListenersArr())
 			listener.onKeyTyped(event);
 		GameEngine.getInstance().onKeyTyped(event);
 	}
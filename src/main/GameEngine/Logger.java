@@ -2,6 +2,8 @@ package GameEngine;
 
 /**
  * Logger class for the game engine
+ * Each {@link EngineContext engine context} has it's own level of logging
+ * (starting with logging stopped), separate from the process-wide one.
  * 
  * @author Diogo Fonseca a79858
  * @version 06/05/2024
@@ -20,7 +22,28 @@ public class Logger
 		FATAL,
 	};
 
-	private static Level logLevel;
+	/**
+	 * The level of logging of a context (or of the whole process)
+	 */
+	private static class Settings
+	{
+		private volatile Level logLevel;
+	}
+
+	private static final Settings processSettings = new Settings();
+
+	/**
+	 * The settings of the context running on the current thread,
+	 * or the process-wide settings if none is
+	 * @return the current settings
+	 */
+	private static Settings settings()
+	{
+		EngineContext context = EngineContext.current();
+		if (context == null)
+			return processSettings;
+		return context.getInstance(Settings.class, Settings::new);
+	}
 
 	/**
 	 * Starts logging any logs above the specified level
@@ -28,7 +51,7 @@ public class Logger
 	 */
 	public static void startLogging(Level level)
 	{
-		logLevel = level;
+		settings().logLevel = level;
 	}
 
 	/**
@@ -36,7 +59,7 @@ public class Logger
 	 */
 	public static void stopLogging()
 	{
-		logLevel = null;
+		settings().logLevel = null;
 	}
 
 	/**
@@ -47,6 +70,7 @@ public class Logger
 	 */
 	public static void log(Level level, String message)
 	{
+		Level logLevel = settings().logLevel;
 		if (logLevel == null)
 			return;
 		if (level.ordinal() < logLevel.ordinal())
@@ -3,9 +3,17 @@ package GameEngine;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
 
 /**
  * Represents a graphical raster, in which each pixel can be drawn on.
+ *
+ * Pixels are written straight into the image's pixel array,
+ * and whole spans of a row are filled at once.
+ *
+ * Each pixel of the raster may represent a square cell of several screen pixels,
+ * in which case the raster is upscaled (nearest neighbour) when drawn.
  * 
  * @author Diogo Fonseca a79858
  * @version 16/05/2024
@@ -13,20 +21,40 @@ import java.awt.image.BufferedImage;
  */
 public class Raster extends JPanel
 {
+	private static final int RGB_MASK = 0xFFFFFF;
 	private BufferedImage img;
+	private int[] pixels;
+	private int width;
+	private int height;
 	private Color bgColor;
 	private Dimension preferredSize;
+	private int cellSize;
+
+	/**
+	 * Instantiates a new raster, with a pixel for each screen pixel
+	 * same as {@link Raster#Raster(int,int,Color,int)}
+	 */
+	public Raster(int width, int height, Color bgColor)
+	{
+		this(width, height, bgColor, 1);
+	}
 
 	/**
 	 * Instantiates a new raster 
-	 * @param width the width of the raster
-	 * @param height the height of the raster
+	 * @param width the width of the raster on screen
+	 * @param height the height of the raster on screen
 	 * @param bgColor the backgrond color of the raster
+	 * @param cellSize the ammount of screen pixels each side of a pixel of the raster takes
+	 * @pre cellSize > 0
 	 */
-	public Raster(int width, int height, Color bgColor)
+	public Raster(int width, int height, Color bgColor, int cellSize)
 	{
 		super();
-		img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		this.cellSize = cellSize;
+		this.width = (width + cellSize - 1) / cellSize;
+		this.height = (height + cellSize - 1) / cellSize;
+		img = new BufferedImage(this.width, this.height, BufferedImage.TYPE_INT_RGB);
+		this.pixels = ((DataBufferInt)img.getRaster().getDataBuffer()).getData();
 		this.preferredSize = new Dimension(width, height);
 		this.bgColor = bgColor;
 		setBounds(0, 0, width, height);
@@ -38,9 +66,7 @@ public class Raster extends JPanel
 	 */
 	public void reset()
 	{
-		for (int y = 0; y < img.getHeight(); y++)
-			for (int x = 0; x < img.getWidth(); x++)
-				img.setRGB(x, y, this.bgColor.getRGB());
+		Arrays.fill(this.pixels, this.bgColor.getRGB() & RGB_MASK);
 	}
 
 	/**
@@ -52,9 +78,116 @@ public class Raster extends JPanel
 	 */
 	public void draw(int x, int y, Color drawColor)
 	{
-		if (x < 0 || x >= img.getWidth() || y < 0 || y >= img.getHeight())
+		if (x < 0 || x >= this.width || y < 0 || y >= this.height)
 			return;
-		img.setRGB(x, y, drawColor.getRGB());
+		this.pixels[y * this.width + x] = drawColor.getRGB() & RGB_MASK;
+	}
+
+	/**
+	 * Sets a color to a span of pixels of a row
+	 * Only the pixels of the span inside the raster are set
+	 * @param xFrom the x coordinate of the first pixel of the span
+	 * @param xTo the x coordinate of the last pixel of the span (inclusive)
+	 * @param y the y coordinate of the row
+	 * @param drawColor the color to set the pixels to
+	 */
+	public void drawSpan(int xFrom, int xTo, int y, Color drawColor)
+	{
+		if (y < 0 || y >= this.height)
+			return;
+		xFrom = Math.max(0, xFrom);
+		xTo = Math.min(this.width - 1, xTo);
+		if (xFrom > xTo)
+			return;
+
+		int row = y * this.width;
+		Arrays.fill(this.pixels, row + xFrom, row + xTo + 1, drawColor.getRGB() & RGB_MASK);
+	}
+
+	/**
+	 * Copies every pixel of the raster to an array
+	 * @param dest the array to copy the pixels to (as RGB ints, row by row)
+	 * @pre dest.length >= width * height
+	 */
+	public void copyPixelsTo(int[] dest)
+	{
+		System.arraycopy(this.pixels, 0, dest, 0, this.pixels.length);
+	}
+
+	/**
+	 * Sets every pixel of the raster from an array
+	 * @param src the array to copy the pixels from (as RGB ints, row by row)
+	 * @pre src.length >= width * height
+	 */
+	public void setPixels(int[] src)
+	{
+		System.arraycopy(src, 0, this.pixels, 0, this.pixels.length);
+	}
+
+	/**
+	 * Sets a span of pixels of a row from an array
+	 * @param src the array to copy the pixels from (as RGB ints, row by row, as big as the raster)
+	 * @param xFrom the x coordinate of the first pixel of the span
+	 * @param xTo the x coordinate of the last pixel of the span (inclusive)
+	 * @param y the y coordinate of the row
+	 * @pre the span is inside the raster
+	 */
+	public void setSpan(int[] src, int xFrom, int xTo, int y)
+	{
+		int at = y * this.width + xFrom;
+		System.arraycopy(src, at, this.pixels, at, xTo - xFrom + 1);
+	}
+
+	/**
+	 * Sets a span of pixels of a row to the background color
+	 * @param xFrom the x coordinate of the first pixel of the span
+	 * @param xTo the x coordinate of the last pixel of the span (inclusive)
+	 * @param y the y coordinate of the row
+	 */
+	public void clearSpan(int xFrom, int xTo, int y)
+	{
+		drawSpan(xFrom, xTo, y, this.bgColor);
+	}
+
+	/**
+	 * The ammount of pixels of the raster
+	 * @return the ammount of pixels of the raster
+	 */
+	public int pixelCount() { return this.pixels.length; }
+
+	/**
+	 * Gets the color of a pixel
+	 * @param x the x coordinate of the pixel
+	 * @param y the y coordinate of the pixel
+	 * @return the color of the pixel, as an RGB int
+	 * @pre 0 <= x < width && 0 <= y < height
+	 */
+	public int getPixel(int x, int y)
+	{
+		return this.pixels[y * this.width + x];
+	}
+
+	/**
+	 * The image the raster draws on
+	 * @return the image the raster draws on
+	 */
+	public BufferedImage getImage() { return this.img; }
+
+	/**
+	 * Draws the raster, upscaled to it's size on screen
+	 * @param graphics the graphics to draw the raster with
+	 */
+	public void drawImage(Graphics graphics)
+	{
+		if (this.cellSize == 1)
+		{
+			graphics.drawImage(img, 0, 0, null);
+			return;
+		}
+
+		Graphics2D g2d = (Graphics2D) graphics;
+		g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		g2d.drawImage(img, 0, 0, this.width * this.cellSize, this.height * this.cellSize, null);
 	}
 
 	@Override
@@ -64,9 +197,7 @@ public class Raster extends JPanel
 	public void paint(Graphics graphics)
 	{
 		super.paint(graphics);
-
-		Graphics2D g2d = (Graphics2D) graphics;
-		g2d.drawImage(img, 0, 0, this);
+		drawImage(graphics);
 	}
 }
 
@@ -8,6 +8,10 @@ import Geometry.*;
  * Holds the data necessary for a {@link GameObject GameObject} to be rendered.
  *
  * The class can be sorted by layer
+ * (static data first within a layer, so the renderer can cache it)
+ *
+ * Static data is expected to never change, so the {@link Renderer renderer}
+ * may rasterize it only once, into a cached background.
  * 
  * @author Diogo Fonseca a79858
  * @version 08/05/2024
@@ -24,6 +28,10 @@ public class RenderData<T extends IGeometricShape<?>> implements Comparable<Rend
 	private Character character;
 	private TerminalColour.Foreground terminalColour;
 	private Color graphicalColor;
+	private boolean isStatic;
+	private DirtyRegions keptBy;
+	private long keptFrame;
+	private int keptIndex;
 
 	// public RenderData(T shape, boolean isFilled, int layer, Color color)
 	// {
@@ -42,8 +50,9 @@ public class RenderData<T extends IGeometricShape<?>> implements Comparable<Rend
 	 * @param layer the layer to render the shape in
 	 * @param character the character to render the shape with
 	 * @param graphicalColor the colour to render the shape with (can be null)
+	 * @param isStatic if the render data never changes (and may be cached)
 	 */
-	public RenderData(T shape, boolean isFilled, int layer, Character character, TerminalColour.Foreground terminalColour, Color graphicalColor)
+	public RenderData(T shape, boolean isFilled, int layer, Character character, TerminalColour.Foreground terminalColour, Color graphicalColor, boolean isStatic)
 	{
 		this.shape = shape;
 		this.isFilled = isFilled;
@@ -51,6 +60,16 @@ public class RenderData<T extends IGeometricShape<?>> implements Comparable<Rend
 		this.character = character;
 		this.terminalColour = terminalColour;
 		this.graphicalColor = graphicalColor;
+		this.isStatic = isStatic;
+	}
+
+	/**
+	 * Initializes a RenderData
+	 * Same as {@link RenderData#RenderData(T,boolean,int,Character,TerminalColour.Foreground,Color,boolean)} but not static
+	 */
+	public RenderData(T shape, boolean isFilled, int layer, Character character, TerminalColour.Foreground terminalColour, Color graphicalColor)
+	{
+		this(shape, isFilled, layer, character, terminalColour, graphicalColor, false);
 	}
 
 	/**
@@ -99,9 +118,44 @@ public class RenderData<T extends IGeometricShape<?>> implements Comparable<Rend
 	 */
 	public Color getGraphicalColor() { return this.graphicalColor; }
 
+	/**
+	 * If the render data never changes (and may be cached)
+	 * @return if the render data never changes
+	 */
+	public boolean isStatic() { return this.isStatic; }
+
+	/**
+	 * Records the index the render data had in a frame kept by a {@link DirtyRegions tracker},
+	 * so the next frame can be compared to it without a lookup table
+	 * @param tracker the tracker that kept the frame
+	 * @param frame the number of the kept frame
+	 * @param index the index the render data had in the kept frame
+	 */
+	void keep(DirtyRegions tracker, long frame, int index)
+	{
+		this.keptBy = tracker;
+		this.keptFrame = frame;
+		this.keptIndex = index;
+	}
+
+	/**
+	 * The index the render data had in a frame kept by a {@link DirtyRegions tracker}
+	 * @param tracker the tracker that kept the frame
+	 * @param frame the number of the kept frame
+	 * @return the index the render data had in the kept frame, or -1 if it wasn't in it
+	 */
+	int keptIndex(DirtyRegions tracker, long frame)
+	{
+		if (this.keptBy != tracker || this.keptFrame != frame)
+			return -1;
+		return this.keptIndex;
+	}
+
 	@Override
 	public int compareTo(RenderData<T> that)
 	{
-		return this.layer - that.layer;
+		if (this.layer != that.layer)
+			return this.layer - that.layer;
+		return Boolean.compare(that.isStatic, this.isStatic);
 	}
 }
@@ -0,0 +1,99 @@
+package GameEngine;
+
+import javax.swing.JPanel;
+
+/**
+ * A copy of everything needed to render a {@link Scene scene} at a moment,
+ * so it can be rendered while the scene keeps changing.
+ *
+ * The {@link RenderData render data} and the shapes they hold are immutable,
+ * so only the arrays are copied. The textual overlay is copied, since overlays
+ * draw over their raster.
+ * The buffers are reused between captures.
+ *
+ * @version 18/10/2026
+ *
+ * @see RenderThread
+ * @see Renderer
+ */
+public class RenderSnapshot
+{
+	private RenderData<?>[] renderData;
+	private boolean hasOverlay;
+	private char[][] overlayRaster;
+	private JPanel overlayPanel;
+
+	/**
+	 * Instantiates an empty RenderSnapshot
+	 */
+	public RenderSnapshot()
+	{
+		this.renderData = new RenderData<?>[0];
+		this.hasOverlay = false;
+		this.overlayRaster = null;
+		this.overlayPanel = null;
+	}
+
+	/**
+	 * Captures the current state of a scene, overwriting the last capture
+	 * @param scene the scene to capture
+	 */
+	public void capture(Scene scene)
+	{
+		RenderData<?>[] sceneData = scene.renderablesArr();
+		if (this.renderData.length != sceneData.length)
+			this.renderData = new RenderData<?>[sceneData.length];
+		System.arraycopy(sceneData, 0, this.renderData, 0, sceneData.length);
+
+		IOverlay overlay = scene.getOverlay();
+		this.hasOverlay = overlay != null;
+		this.overlayPanel = this.hasOverlay ? overlay.getPanel() : null;
+		copyOverlayRaster(this.hasOverlay ? overlay.getOverlay() : null);
+	}
+
+	/**
+	 * Copies the raster of an overlay, reusing the last copy's rows when possible
+	 * @param raster the raster to copy (can be null)
+	 */
+	private void copyOverlayRaster(char[][] raster)
+	{
+		if (raster == null)
+		{
+			this.overlayRaster = null;
+			return;
+		}
+
+		if (this.overlayRaster == null || this.overlayRaster.length != raster.length)
+			this.overlayRaster = new char[raster.length][];
+		for (int i = 0; i < raster.length; i++)
+		{
+			if (this.overlayRaster[i] == null || this.overlayRaster[i].length != raster[i].length)
+				this.overlayRaster[i] = new char[raster[i].length];
+			System.arraycopy(raster[i], 0, this.overlayRaster[i], 0, raster[i].length);
+		}
+	}
+
+	/**
+	 * The render data of the captured scene
+	 * @return the render data of the captured scene
+	 */
+	public RenderData<?>[] renderData() { return this.renderData; }
+
+	/**
+	 * If the captured scene had an overlay
+	 * @return if the captured scene had an overlay
+	 */
+	public boolean hasOverlay() { return this.hasOverlay; }
+
+	/**
+	 * The copy of the textual overlay of the captured scene
+	 * @return the textual overlay of the captured scene (can be null)
+	 */
+	public char[][] overlayRaster() { return this.overlayRaster; }
+
+	/**
+	 * The graphical overlay of the captured scene
+	 * @return the graphical overlay of the captured scene (can be null)
+	 */
+	public JPanel overlayPanel() { return this.overlayPanel; }
+}
@@ -0,0 +1,159 @@
+package GameEngine;
+
+import Geometry.Rectangle;
+
+/**
+ * Renders frames on a dedicated thread, so the engine doesn't wait for them to be drawn.
+ *
+ * The engine {@link RenderThread#submit(Scene) submits} a snapshot of the scene after updating,
+ * and the thread renders the latest snapshot submitted. If the engine submits faster
+ * than frames can be drawn, the snapshots that weren't drawn yet are replaced (dropped).
+ * Only two snapshots exist, which are swapped between the engine and the thread.
+ *
+ * @version 18/10/2026
+ *
+ * @inv the latest snapshot submitted is always rendered (unless the thread is stopped before starting)
+ * @see GameEngine
+ * @see RenderSnapshot
+ */
+public class RenderThread
+{
+	private static final String THREAD_NAME = "GameEngine Render Thread";
+	private Renderer renderer;
+	private Rectangle camera;
+	private char backgroundChar;
+	private RenderSnapshot pending;
+	private RenderSnapshot rendering;
+	private boolean hasPending;
+	private boolean isRunning;
+	private long framesRendered;
+	private long framesDropped;
+	private Thread thread;
+
+	/**
+	 * Instantiates a RenderThread
+	 * @param renderer the renderer to render the frames with
+	 * @param camera the section of space to be rendered
+	 * @param backgroundChar the background character
+	 */
+	public RenderThread(Renderer renderer, Rectangle camera, char backgroundChar)
+	{
+		this.renderer = renderer;
+		this.camera = camera;
+		this.backgroundChar = backgroundChar;
+		this.pending = new RenderSnapshot();
+		this.rendering = new RenderSnapshot();
+		this.hasPending = false;
+		this.isRunning = false;
+		this.framesRendered = 0;
+		this.framesDropped = 0;
+		this.thread = null;
+	}
+
+	/**
+	 * Starts the thread, which waits for snapshots to render.
+	 * The thread runs in the {@link EngineContext engine context} it was started from (if any),
+	 * so the singletons it uses are the same ones as the engine's
+	 */
+	public void start()
+	{
+		this.isRunning = true;
+		EngineContext context = EngineContext.current();
+		this.thread = new Thread(() -> EngineContext.run(context, this::run), THREAD_NAME);
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Submits a snapshot of a scene to be rendered,
+	 * replacing the last one if it wasn't rendered yet
+	 * @param scene the scene to render
+	 */
+	public synchronized void submit(Scene scene)
+	{
+		if (this.hasPending)
+			this.framesDropped++;
+		this.pending.capture(scene);
+		this.hasPending = true;
+		notifyAll();
+	}
+
+	/**
+	 * Renders the snapshots as they are submitted,
+	 * until stopped and there is nothing left to render
+	 */
+	private void run()
+	{
+		while (true)
+		{
+			synchronized (this)
+			{
+				while (!this.hasPending && this.isRunning)
+				{
+					try
+					{
+						wait();
+					}
+					catch (InterruptedException e)
+					{
+						Logger.log(Logger.Level.WARN, "Render thread was interrupted.");
+						return;
+					}
+				}
+
+				if (!this.hasPending)
+					return;
+
+				RenderSnapshot swap = this.rendering;
+				this.rendering = this.pending;
+				this.pending = swap;
+				this.hasPending = false;
+			}
+
+			this.renderer.render(this.rendering, this.camera, this.backgroundChar);
+
+			synchronized (this)
+			{
+				this.framesRendered++;
+			}
+		}
+	}
+
+	/**
+	 * Stops the thread, after rendering the last snapshot submitted.
+	 * Waits for the thread to finish.
+	 */
+	public void stop()
+	{
+		synchronized (this)
+		{
+			this.isRunning = false;
+			notifyAll();
+		}
+
+		if (this.thread == null || this.thread == Thread.currentThread())
+			return;
+
+		try
+		{
+			this.thread.join();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			Logger.log(Logger.Level.WARN, "Interrupted while waiting for the render thread to stop.");
+		}
+	}
+
+	/**
+	 * The ammount of frames rendered
+	 * @return the ammount of frames rendered
+	 */
+	public synchronized long framesRendered() { return this.framesRendered; }
+
+	/**
+	 * The ammount of snapshots replaced before being rendered
+	 * @return the ammount of snapshots replaced before being rendered
+	 */
+	public synchronized long framesDropped() { return this.framesDropped; }
+}
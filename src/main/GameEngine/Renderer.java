@@ -23,6 +23,40 @@ import Geometry.*;
  *
  * {@link IOverlay Overlays} are rendered differently, being overlayed on top of the
  * raster after all the rasterization was completed.
+ *
+ * When rendering textually, every frame can be printed in full (scrolling the terminal),
+ * or {@link TextualOutput#DIFFERENTIAL differentially}, only reprinting the cells that changed
+ * since the last frame, in place.
+ *
+ * The colours of the textual raster are kept as one int per cell (an attribute) for the foreground
+ * and another for the background, so drawing never builds escape codes. The escape codes are only
+ * written when printing, and only when the attribute changes from the last cell printed.
+ * The scene can be rasterized at a {@link Renderer#setCellSize(int) lower resolution}, in which
+ * each pixel (or character) of the raster is a square cell of the camera, coloured if it's centre
+ * is inside a shape. When rendering graphically, the raster is then upscaled to the window.
+ * Textual overlays are not scaled.
+ *
+ * Textual frames are encoded straight to bytes by a {@link FrameSink frame sink},
+ * and written with a single write per frame.
+ * Besides the basic {@link TerminalColour terminal colours}, the terminal can be drawn with
+ * {@link ColourMode#PALETTE_256 256 colours} or {@link ColourMode#TRUECOLOUR true colour},
+ * using the graphical colours.
+ *
+ * {@link RenderData#isStatic() Static} render data (drawn below everything else) is rasterized
+ * only once into a cached background, which is copied at the start of each frame.
+ * The background is rasterized again when the static render data changes (such as when
+ * static objects are added to or removed from the scene), or when the camera or settings change.
+ *
+ * Consecutive frames of a scene (with the same camera) only redraw the regions that changed.
+ * {@link RenderData Render data} is immutable, so render data that is the same instance as in the
+ * last frame is unchanged. The footprint (bounding box in the raster) of each render data is kept,
+ * and only the footprints of the render data that was added or removed since the last frame
+ * (a changed object replaces it's render data) are cleared and redrawn, along with the cells the
+ * textual overlay was drawn on.
+ *
+ * Large rasters can be {@link Renderer#setRasterBands(int) split in horizontal bands}, rasterized
+ * in parallel on a fork-join pool. Each band rasterizes the whole sorted render data (that overlaps it),
+ * clipped to the band, so the frame is the same as when rasterized sequentially.
  * 
  * @author Diogo Fonseca a79858
  * @version 09/05/2024
@@ -37,6 +71,84 @@ import Geometry.*;
  */
 public class Renderer
 {
+	/**
+	 * How textual frames are printed to the terminal
+	*/
+	public static enum TextualOutput
+	{
+		/**
+		 * Prints every frame in full, after the previous one.
+		 */
+		FULL,
+
+		/**
+		 * Prints only the cells that changed since the previous frame, over it,
+		 * by positioning the cursor with ANSI escape codes.
+		 * Repaints the whole frame when too many cells changed.
+		 */
+		DIFFERENTIAL,
+	}
+
+	/**
+	 * Which colours are used when rendering textually
+	*/
+	public static enum ColourMode
+	{
+		/**
+		 * Only the basic {@link TerminalColour terminal colours}.
+		 */
+		BASIC,
+
+		/**
+		 * The graphical colours, approximated to the 256 colour palette
+		 * (the terminal colours are used for what has no graphical colour).
+		 */
+		PALETTE_256,
+
+		/**
+		 * The graphical colours, as 24 bit colours
+		 * (the terminal colours are used for what has no graphical colour).
+		 */
+		TRUECOLOUR,
+	}
+
+	/**
+	 * How graphical frames are shown on the window
+	*/
+	public static enum GraphicalOutput
+	{
+		/**
+		 * The window is repainted by Swing's event queue.
+		 */
+		PASSIVE,
+
+		/**
+		 * The frame is drawn to a back buffer and shown by the renderer's thread,
+		 * through a buffer strategy (overlays are drawn, but can't be interacted with).
+		 */
+		ACTIVE,
+	}
+
+	/**
+	 * How filled polygons are rasterized
+	*/
+	public static enum PolygonFill
+	{
+		/**
+		 * An edge table, stepping the x of each active edge from row to row.
+		 * Fills the polygon the sides are drawn as (with it's vertices rounded),
+		 * so the fill always meets the sides.
+		 */
+		EDGE_TABLE,
+
+		/**
+		 * Intersects a scanline with every side, on every row.
+		 * Fills the exact polygon, which may leave gaps to the sides
+		 * (these are drawn with their vertices rounded).
+		 */
+		SCANLINE,
+	}
+
 	/**
 	 * Helper class for the Scanline algorithm, representing an x coordinate and a segment it belongs to
 	 * Can be ordered by x value
@@ -80,6 +192,33 @@ public class Renderer
 	private static final TerminalColour.Background DEFAULT_TEXTUAL_BACKGROUND_COLOUR = null;
 	private static final Color DEFAULT_GRAPHICAL_COLOR = Color.black;
 	private static final boolean DEFAULT_IS_TEXTUAL = true;
+	private static final TextualOutput DEFAULT_TEXTUAL_OUTPUT = TextualOutput.FULL;
+	private static final double DEFAULT_REPAINT_THRESHOLD = 0.5;
+	private static final int MAX_RUN_GAP = 8; // unchanged cells cheaper to reprint than to skip with the cursor
+	private static final String CURSOR_HOME = "\u001B[H";
+	private static final String CLEAR_SCREEN = "\u001B[2J";
+	private static final ColourMode DEFAULT_COLOUR_MODE = ColourMode.BASIC;
+	private static final GraphicalOutput DEFAULT_GRAPHICAL_OUTPUT = GraphicalOutput.PASSIVE;
+	private static final PolygonFill DEFAULT_POLYGON_FILL = PolygonFill.EDGE_TABLE;
+	private static final boolean DEFAULT_IS_CACHING_BACKGROUND = true;
+	private static final boolean DEFAULT_IS_TRACKING_DIRTY_REGIONS = true;
+	// regions of the raster, as 4 ints: the first and last column, and the first and last row (inclusive)
+	static final int LEFT = 0;
+	static final int RIGHT = 1;
+	static final int TOP = 2;
+	static final int BOTTOM = 3;
+	static final int REGION_SIZE = 4;
+	private static final int DEFAULT_RASTER_BANDS = 1;
+
+	// attributes: the kind of colour on the highest byte, the colour on the lower 3
+	private static final int NO_COLOUR = 0;
+	private static final int BASIC_COLOUR = 1 << 24;
+	private static final int PALETTE_COLOUR = 2 << 24;
+	private static final int RGB_COLOUR = 3 << 24;
+	private static final int COLOUR_MASK = 0xFFFFFF;
+	private static final TerminalColour.Foreground[] FOREGROUNDS = TerminalColour.Foreground.values();
+	private static final TerminalColour.Background[] BACKGROUNDS = TerminalColour.Background.values();
+	private static final int[] PALETTE_LEVELS = { 0, 95, 135, 175, 215, 255 };
 
 	private static Renderer instance = null;
 	private BoundingBox camera;
@@ -88,16 +227,45 @@ public class Renderer
 	private Color graphicalBgColor;
 	private char drawChar;
 	private Color graphicalDrawColor;
-	private TerminalColour.Foreground terminalDrawColour;
 	private char[][] raster;
 	private boolean isFrameUsingColour;
-	private String[][] colourRaster;
+	private int[][] foregroundRaster;
+	private int[][] backgroundRaster;
+	private int drawAttribute;
+	private int backgroundAttribute;
+	private ColourMode colourMode;
+	private int printedForeground;
+	private int printedBackground;
 	private boolean isTextual;
 	private GraphicWindow graphicalRaster;
 	private String graphicalWindowTitle;
+	private TextualOutput textualOutput;
+	private double repaintThreshold;
+	private char[][] lastRaster;
+	private int[][] lastForegroundRaster;
+	private int[][] lastBackgroundRaster;
+	private FrameSink frameSink;
+	private GraphicalOutput graphicalOutput;
 
 	private int width;
 	private int height;
+	private int screenWidth;
+	private int screenHeight;
+	private int cellSize;
+	private int originX;
+	private int originY;
+	private double[] crossings;
+	private PolygonFill polygonFill;
+	private EdgeTableFill edgeTable;
+
+	private boolean isCachingBackground;
+	private BackgroundCache background;
+
+	private boolean isTrackingDirtyRegions;
+	private DirtyRegions dirtyRegions;
+	private int[] clip;
+	private int rasterBands;
+	private BandRasterizer bandRasterizer;
 
 	/**
 	 * Singleton Renderer initialization
@@ -108,14 +276,36 @@ public class Renderer
 		this.terminalBgColour = DEFAULT_TEXTUAL_BACKGROUND_COLOUR;
 		this.graphicalBgColor = DEFAULT_GRAPHICAL_COLOR;
 		this.isTextual = DEFAULT_IS_TEXTUAL;
+		this.textualOutput = DEFAULT_TEXTUAL_OUTPUT;
+		this.repaintThreshold = DEFAULT_REPAINT_THRESHOLD;
+		this.lastRaster = null;
+		this.colourMode = DEFAULT_COLOUR_MODE;
+		this.frameSink = FrameSink.systemOut();
+		this.graphicalOutput = DEFAULT_GRAPHICAL_OUTPUT;
+		this.cellSize = 1;
+		this.crossings = new double[0];
+		this.polygonFill = DEFAULT_POLYGON_FILL;
+		this.edgeTable = new EdgeTableFill();
+		this.isCachingBackground = DEFAULT_IS_CACHING_BACKGROUND;
+		this.background = new BackgroundCache();
+		this.isTrackingDirtyRegions = DEFAULT_IS_TRACKING_DIRTY_REGIONS;
+		this.dirtyRegions = new DirtyRegions();
+		this.clip = new int[REGION_SIZE];
+		this.rasterBands = DEFAULT_RASTER_BANDS;
+		this.bandRasterizer = new BandRasterizer(Renderer::new);
 	}
 
 	/**
 	 * Gets the Renderer instance
+	 * (the {@link EngineContext context's} instance, if one is running on the current thread)
 	 * @return the renderer instance
 	 */
 	public static Renderer getInstance()
 	{
+		EngineContext context = EngineContext.current();
+		if (context != null)
+			return context.getInstance(Renderer.class, Renderer::new);
+
 		if (instance == null)
 			instance = new Renderer();
 
@@ -127,6 +317,14 @@ public class Renderer
 	 */
 	public static void resetInstance()
 	{
+		EngineContext context = EngineContext.current();
+		if (context != null)
+		{
+			getInstance().closeGraphicWindow();
+			context.setInstance(Renderer.class, new Renderer());
+			return;
+		}
+
 		if (instance == null)
 			return;
 
@@ -142,6 +340,7 @@ public class Renderer
 	public void setTextual(boolean value)
 	{
 		this.isTextual = value;
+		invalidateBackground();
 	}
 
 	/**
@@ -155,13 +354,20 @@ public class Renderer
 	{
 		this.isFrameUsingColour = false;
 		this.camera = new BoundingBox(camera);
-		this.height = (int)Math.floor(this.camera.maxPoint().Y()) - (int)Math.ceil(this.camera.minPoint().Y()) + 1;
-		this.width = (int)Math.floor(this.camera.maxPoint().X()) - (int)Math.ceil(this.camera.minPoint().X()) + 1;
+		this.originX = (int)Math.ceil(this.camera.minPoint().X());
+		this.originY = (int)Math.ceil(this.camera.minPoint().Y());
+		this.screenHeight = (int)Math.floor(this.camera.maxPoint().Y()) - this.originY + 1;
+		this.screenWidth = (int)Math.floor(this.camera.maxPoint().X()) - this.originX + 1;
+		this.height = (this.screenHeight + this.cellSize - 1) / this.cellSize;
+		this.width = (this.screenWidth + this.cellSize - 1) / this.cellSize;
+		resetClip();
 
 		if (this.isTextual)
 			initTextual(backgroundChar);
 		else
 			initGraphical(this.graphicalBgColor);
+		this.background.setLayout(this.isTextual, backgroundChar, this.cellSize, this.originX, this.originY, this.width, this.height);
+		this.dirtyRegions.setLayout(this.cellSize, this.originX, this.originY, this.width, this.height);
 	}
 
 	/**
@@ -183,7 +389,8 @@ public class Renderer
 	{
 		if (this.graphicalRaster == null)
 		{
-			this.graphicalRaster = new GraphicWindow(this.width, this.height, this.graphicalWindowTitle, bgColor);
+			this.graphicalRaster = new GraphicWindow(this.screenWidth, this.screenHeight, this.graphicalWindowTitle, bgColor,
+				this.graphicalOutput == GraphicalOutput.ACTIVE, this.cellSize);
 			return;
 		}
 
@@ -198,6 +405,7 @@ public class Renderer
 	public void setTerminalBackgroundColour(TerminalColour.Background colour)
 	{
 		this.terminalBgColour = colour;
+		invalidateBackground();
 	}
 
 	/**
@@ -207,6 +415,129 @@ public class Renderer
 	public void setGraphicalBackgroundColor(Color color)
 	{
 		this.graphicalBgColor = color;
+		invalidateBackground();
+	}
+
+	/**
+	 * Sets how textual frames are printed to the terminal.
+	 * The next frame is always printed in full.
+	 * @param output how textual frames are printed
+	 */
+	public void setTextualOutput(TextualOutput output)
+	{
+		this.textualOutput = output;
+		this.lastRaster = null;
+	}
+
+	/**
+	 * Sets the fraction of cells that must change for a
+	 * {@link TextualOutput#DIFFERENTIAL differential} frame to be repainted in full
+	 * @param threshold the fraction of cells that must change to repaint the whole frame
+	 * @pre 0 <= threshold <= 1
+	 */
+	public void setRepaintThreshold(double threshold)
+	{
+		this.repaintThreshold = threshold;
+	}
+
+	/**
+	 * Sets how graphical frames are shown on the window
+	 * @param output how graphical frames are shown
+	 * @pre the graphical window was not created yet
+	 */
+	public void setGraphicalOutput(GraphicalOutput output)
+	{
+		this.graphicalOutput = output;
+	}
+
+	/**
+	 * Sets the size of the cells the scene is rasterized in.
+	 * Each cell is a square of cellSize by cellSize units of the camera,
+	 * drawn as a single pixel (or character), which is then upscaled on the graphical window.
+	 * A cell size of 1 rasterizes every unit of the camera.
+	 * @param cellSize the size of each side of the cells
+	 * @pre cellSize > 0
+	 * @pre the graphical window was not created yet
+	 */
+	public void setCellSize(int cellSize)
+	{
+		this.cellSize = cellSize;
+		invalidateBackground();
+	}
+
+	/**
+	 * Sets how filled polygons are rasterized
+	 * @param fill how filled polygons are rasterized
+	 */
+	public void setPolygonFill(PolygonFill fill)
+	{
+		this.polygonFill = fill;
+		invalidateBackground();
+	}
+
+	/**
+	 * Sets where textual frames are written to
+	 * (by default, to {@link FrameSink#systemOut() the standard output})
+	 * @param sink where textual frames are written to
+	 */
+	public void setFrameSink(FrameSink sink)
+	{
+		this.frameSink = sink;
+	}
+
+	/**
+	 * Sets which colours are used when rendering textually
+	 * @param mode which colours are used when rendering textually
+	 */
+	public void setColourMode(ColourMode mode)
+	{
+		this.colourMode = mode;
+		invalidateBackground();
+	}
+
+	/**
+	 * Sets if {@link RenderData#isStatic() static} render data is rasterized only once,
+	 * into a cached background
+	 * @param isCachingBackground if static render data should be cached
+	 */
+	public void setBackgroundCaching(boolean isCachingBackground)
+	{
+		this.isCachingBackground = isCachingBackground;
+		invalidateBackground();
+	}
+
+	/**
+	 * Sets if consecutive frames of a scene only redraw the regions that changed
+	 * @param isTrackingDirtyRegions if only the regions that changed should be redrawn
+	 */
+	public void setDirtyTracking(boolean isTrackingDirtyRegions)
+	{
+		this.isTrackingDirtyRegions = isTrackingDirtyRegions;
+		invalidateBackground();
+	}
+
+	/**
+	 * Sets the ammount of horizontal bands the raster is split in when rasterizing a scene,
+	 * each band being rasterized in parallel (a single band rasterizes sequentially).
+	 * Off by default (a single band): splitting only pays off on rasters large enough
+	 * to outweigh handing the bands to the fork-join pool every frame.
+	 * @param bands the ammount of bands
+	 * @pre bands > 0
+	 */
+	public void setRasterBands(int bands)
+	{
+		this.rasterBands = bands;
+	}
+
+	/**
+	 * Discards the cached background, so it's rasterized again on the next frame.
+	 * The next frame is also redrawn in full.
+	 * (the background is already rasterized again when the static render data changes)
+	 */
+	public void invalidateBackground()
+	{
+		this.background.invalidate();
+		this.dirtyRegions.discard();
 	}
 
 	/**
@@ -234,14 +565,103 @@ public class Renderer
 	}
 
 	/**
-	 * Generates the empty colour raster (with the background colour, in case there is one)
-	 * @param cam the location to render
+	 * Generates the empty colour rasters (with the background colour, in case there is one),
+	 * reusing the last ones if they have the same size
 	 */
 	private void generateColourRaster()
 	{
-		colourRaster = new String[this.height][this.width];
+		this.backgroundAttribute = this.terminalBgColour == null ? NO_COLOUR : BASIC_COLOUR | this.terminalBgColour.ordinal();
+		if (this.foregroundRaster == null || this.foregroundRaster.length != this.height || this.foregroundRaster[0].length != this.width)
+		{
+			this.foregroundRaster = new int[this.height][this.width];
+			this.backgroundRaster = new int[this.height][this.width];
+		}
+
 		for (int i = 0; i < this.height; i++) // iterate over y
-			colourRaster[i] = new String[this.width];
+		{
+			Arrays.fill(this.foregroundRaster[i], NO_COLOUR);
+			Arrays.fill(this.backgroundRaster[i], this.backgroundAttribute);
+		}
+	}
+
+	/**
+	 * Sets the colours to draw with
+	 * @param terminalColour the terminal colour to draw with (can be null)
+	 * @param graphicalColor the graphical colour to draw with (can be null)
+	 */
+	private void setDrawColour(TerminalColour.Foreground terminalColour, Color graphicalColor)
+	{
+		this.graphicalDrawColor = graphicalColor;
+		this.drawAttribute = attributeOf(terminalColour, graphicalColor);
+	}
+
+	/**
+	 * The attribute of a colour, according to the {@link ColourMode colour mode}
+	 * @param terminalColour the terminal colour (can be null)
+	 * @param graphicalColor the graphical colour (can be null)
+	 * @return the attribute of the colour
+	 */
+	private int attributeOf(TerminalColour.Foreground terminalColour, Color graphicalColor)
+	{
+		if (graphicalColor != null && this.colourMode == ColourMode.TRUECOLOUR)
+			return RGB_COLOUR | (graphicalColor.getRGB() & COLOUR_MASK);
+		if (graphicalColor != null && this.colourMode == ColourMode.PALETTE_256)
+			return PALETTE_COLOUR | paletteIndex(graphicalColor);
+		if (terminalColour != null)
+			return BASIC_COLOUR | terminalColour.ordinal();
+		return NO_COLOUR;
+	}
+
+	/**
+	 * The closest colour of the 256 colour palette to a colour
+	 * (from the 6x6x6 colour cube or the grey ramp)
+	 * @param color the colour
+	 * @return the index of the closest colour on the palette
+	 */
+	private static int paletteIndex(Color color)
+	{
+		int r = paletteLevel(color.getRed());
+		int g = paletteLevel(color.getGreen());
+		int b = paletteLevel(color.getBlue());
+		int cubeIndex = 16 + 36 * r + 6 * g + b;
+		int cubeDistance = distance(color, PALETTE_LEVELS[r], PALETTE_LEVELS[g], PALETTE_LEVELS[b]);
+
+		int average = (color.getRed() + color.getGreen() + color.getBlue()) / 3;
+		int grey = Math.min(23, Math.max(0, (average - 3) / 10));
+		int greyLevel = 8 + grey * 10;
+		if (distance(color, greyLevel, greyLevel, greyLevel) < cubeDistance)
+			return 232 + grey;
+		return cubeIndex;
+	}
+
+	/**
+	 * The closest level of the colour cube to a colour component
+	 * @param component the colour component (0 to 255)
+	 * @return the index of the closest level (0 to 5)
+	 */
+	private static int paletteLevel(int component)
+	{
+		if (component < 48)
+			return 0;
+		if (component < 115)
+			return 1;
+		return (component - 35) / 40;
+	}
+
+	/**
+	 * The squared distance between two colours
+	 * @param color the first colour
+	 * @param r the red component of the second colour
+	 * @param g the green component of the second colour
+	 * @param b the blue component of the second colour
+	 * @return the squared distance between the colours
+	 */
+	private static int distance(Color color, int r, int g, int b)
+	{
+		int dr = color.getRed() - r;
+		int dg = color.getGreen() - g;
+		int db = color.getBlue() - b;
+		return dr * dr + dg * dg + db * db;
 	}
 
 	/**
@@ -274,6 +694,8 @@ public class Renderer
 	 */
 	private void drawGraphical(int x, int y)
 	{
+		if (!isInsideClip(x, y))
+			return;
 		if (this.graphicalDrawColor == null)
 			this.graphicalDrawColor = DEFAULT_GRAPHICAL_COLOR;
 		this.graphicalRaster.draw(x, y, this.graphicalDrawColor);
@@ -286,34 +708,12 @@ public class Renderer
 	 */
 	private void drawTextual(int x, int y)
 	{
+		if (!isInsideClip(x, y))
+			return;
 		raster[y][x] = drawChar;
-
-		if (terminalDrawColour != null)
-			drawColour(x, y);
-	}
-
-	/**
-	 * Draws the current drawColour to the raster
-	 * @param x the x coordinate IN THE RASTER to draw on the raster
-	 * @param y the y coordinate IN THE RASTER to draw on the raster
-	 */
-	private void drawColour(int x, int y)
-	{
-		this.isFrameUsingColour = true;
-		int next = x + 1;
-		colourRaster[y][x] = terminalDrawColour.toString();
-		if (next < colourRaster[0].length && colourRaster[y][next] == null)
-		{
-			colourRaster[y][next] = TerminalColour.RESET.toString();
-			if (this.terminalBgColour != null)
-				colourRaster[y][next] += terminalBgColour.toString();
-		}
-		else if (y + 1 < colourRaster.length && colourRaster[y + 1][0] == null)
-		{
-			colourRaster[y + 1][0] = TerminalColour.RESET.toString();
-			if (this.terminalBgColour != null)
-				colourRaster[y + 1][0] += terminalBgColour.toString();
-		}
+		foregroundRaster[y][x] = drawAttribute;
+		if (drawAttribute != NO_COLOUR)
+			this.isFrameUsingColour = true;
 	}
 
 	/**
@@ -333,7 +733,7 @@ public class Renderer
 	 */
 	private void printGraphical()
 	{
-		this.graphicalRaster.repaint();
+		this.graphicalRaster.present();
 	}
 
 	/**
@@ -341,51 +741,263 @@ public class Renderer
 	 */
 	private void printTextual()
 	{
-		if (this.isFrameUsingColour)
-			printColour();
-		else
-			printNoColor();
+		if (this.textualOutput == TextualOutput.DIFFERENTIAL)
+		{
+			printDifferential();
+			return;
+		}
+
+		this.frameSink.reserve((this.width + 1) * this.height);
+		appendFrame(this.frameSink);
+		this.frameSink.flush();
 	}
 
 	/**
-	 * Prints the raster to the terminal without color
+	 * Appends the whole raster to a sink, with colour in case there is any
+	 * @param sink the sink to append the raster to
 	 */
-	private void printNoColor()
+	private void appendFrame(FrameSink sink)
 	{
-		StringBuilder builder = new StringBuilder();
+		this.printedForeground = NO_COLOUR;
+		this.printedBackground = NO_COLOUR;
 		for (int i = 0; i < raster.length; i++) // iterate over y
 		{
-			if (this.terminalBgColour != null)
-				builder.append(this.terminalBgColour);
-			builder.append(new String(raster[i]));
-			builder.append('\n');
+			if (!this.isFrameUsingColour)
+			{
+				// overlays only change the foreground, so the row's colour is uniform
+				appendAttributes(sink, NO_COLOUR, this.backgroundRaster[i][0]);
+				sink.append(raster[i]);
+			}
+			else
+			{
+				for (int j = 0; j < raster[0].length; j++) // iterate over x
+				{
+					appendAttributes(sink, this.foregroundRaster[i][j], this.backgroundRaster[i][j]);
+					sink.append(raster[i][j]);
+				}
+			}
+			sink.append('\n');
 		}
-		if (this.terminalBgColour != null)
-			builder.append(TerminalColour.RESET);
-		System.out.print(builder.toString());
+		appendReset(sink);
 	}
 
 	/**
-	 * Prints the current raster to the terminal with colour
+	 * Appends the escape codes to print with some attributes,
+	 * in case they differ from the ones last printed
+	 * @param sink the sink to append the escape codes to
+	 * @param foreground the foreground attribute
+	 * @param background the background attribute
 	 */
-	private void printColour()
+	private void appendAttributes(FrameSink sink, int foreground, int background)
 	{
-		StringBuilder builder = new StringBuilder();
-		for (int i = 0; i < raster.length; i++) // iterate over y
+		if (foreground == this.printedForeground && background == this.printedBackground)
+			return;
+
+		if ((foreground == NO_COLOUR && this.printedForeground != NO_COLOUR) ||
+			(background == NO_COLOUR && this.printedBackground != NO_COLOUR))
+		{
+			sink.append(TerminalColour.RESET);
+			this.printedForeground = NO_COLOUR;
+			this.printedBackground = NO_COLOUR;
+		}
+
+		if (background != this.printedBackground)
+			appendAttribute(sink, background, true);
+		if (foreground != this.printedForeground)
+			appendAttribute(sink, foreground, false);
+		this.printedForeground = foreground;
+		this.printedBackground = background;
+	}
+
+	/**
+	 * Appends the escape code of an attribute
+	 * @param sink the sink to append the escape code to
+	 * @param attribute the attribute
+	 * @param isBackground if the attribute is of the background
+	 * @pre attribute != NO_COLOUR
+	 */
+	private static void appendAttribute(FrameSink sink, int attribute, boolean isBackground)
+	{
+		int colour = attribute & COLOUR_MASK;
+		switch (attribute & ~COLOUR_MASK)
 		{
-			if (this.terminalBgColour != null)
-				builder.append(this.terminalBgColour);
-			for (int j = 0; j < raster[0].length; j++) // iterate over x
+			case BASIC_COLOUR:
+				sink.append(isBackground ? BACKGROUNDS[colour].toString() : FOREGROUNDS[colour].toString());
+				break;
+			case PALETTE_COLOUR:
+				sink.append(isBackground ? "\u001B[48;5;" : "\u001B[38;5;");
+				sink.append(colour);
+				sink.append('m');
+				break;
+			case RGB_COLOUR:
+				sink.append(isBackground ? "\u001B[48;2;" : "\u001B[38;2;");
+				sink.append(colour >> 16).append(';');
+				sink.append((colour >> 8) & 0xFF).append(';');
+				sink.append(colour & 0xFF);
+				sink.append('m');
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Appends the reset escape code, in case any colour was printed
+	 * @param sink the sink to append the escape code to
+	 */
+	private void appendReset(FrameSink sink)
+	{
+		if (this.printedForeground == NO_COLOUR && this.printedBackground == NO_COLOUR)
+			return;
+
+		sink.append(TerminalColour.RESET);
+		this.printedForeground = NO_COLOUR;
+		this.printedBackground = NO_COLOUR;
+	}
+
+	/**
+	 * Prints the raster to the terminal, only printing the runs of cells that changed
+	 * since the last frame, over the last frame.
+	 * Prints the whole frame if there is no last frame or too many cells changed.
+	 * Leaves the cursor right under the frame.
+	 */
+	private void printDifferential()
+	{
+		boolean hasLastFrame = this.lastRaster != null &&
+			this.lastRaster.length == this.height && this.lastRaster[0].length == this.width;
+		int changed = hasLastFrame ? countChanged() : this.width * this.height;
+
+		FrameSink sink = this.frameSink;
+		if (!hasLastFrame || changed > this.repaintThreshold * this.width * this.height)
+		{
+			sink.append(CURSOR_HOME);
+			if (!hasLastFrame)
+				sink.append(CLEAR_SCREEN);
+			appendFrame(sink);
+		}
+		else if (changed > 0)
+		{
+			this.printedForeground = NO_COLOUR;
+			this.printedBackground = NO_COLOUR;
+			appendChangedRuns(sink);
+			appendReset(sink);
+			appendCursorPosition(sink, this.height, 0);
+		}
+
+		keepFrame();
+		if (sink.length() > 0)
+			sink.flush();
+	}
+
+	/**
+	 * Counts the cells that changed since the last frame
+	 * @return the ammount of cells that changed since the last frame
+	 * @pre there is a last frame with the same dimensions
+	 */
+	private int countChanged()
+	{
+		int changed = 0;
+		for (int i = 0; i < this.height; i++)
+			for (int j = 0; j < this.width; j++)
+				if (isChanged(i, j))
+					changed++;
+		return changed;
+	}
+
+	/**
+	 * Checks if a cell changed since the last frame
+	 * @param row the row of the cell
+	 * @param column the column of the cell
+	 * @return if the cell changed since the last frame
+	 * @pre there is a last frame with the same dimensions
+	 */
+	private boolean isChanged(int row, int column)
+	{
+		return this.raster[row][column] != this.lastRaster[row][column] ||
+			this.foregroundRaster[row][column] != this.lastForegroundRaster[row][column] ||
+			this.backgroundRaster[row][column] != this.lastBackgroundRaster[row][column];
+	}
+
+	/**
+	 * Appends the runs of cells that changed since the last frame,
+	 * each preceded by the cursor's position.
+	 * Changed cells close enough to each other are appended as a single run.
+	 * @param sink the sink to append the runs to
+	 */
+	private void appendChangedRuns(FrameSink sink)
+	{
+		for (int i = 0; i < this.height; i++)
+		{
+			int j = 0;
+			while (j < this.width)
 			{
-				if (colourRaster[i][j] != null)
-					builder.append(colourRaster[i][j]);
-				builder.append(raster[i][j]);
+				if (!isChanged(i, j))
+				{
+					j++;
+					continue;
+				}
+
+				int end = j;
+				for (int k = j + 1; k < this.width && k - end <= MAX_RUN_GAP; k++)
+					if (isChanged(i, k))
+						end = k;
+
+				appendRun(sink, i, j, end);
+				j = end + 1;
 			}
-			builder.append('\n');
 		}
-		if (this.terminalBgColour != null)
-			builder.append(TerminalColour.RESET);
-		System.out.print(builder.toString());
+	}
+
+	/**
+	 * Appends a run of cells of a row, preceded by the cursor's position
+	 * @param sink the sink to append the run to
+	 * @param row the row of the run
+	 * @param from the first column of the run
+	 * @param to the last column of the run (inclusive)
+	 */
+	private void appendRun(FrameSink sink, int row, int from, int to)
+	{
+		appendCursorPosition(sink, row, from);
+		for (int j = from; j <= to; j++)
+		{
+			appendAttributes(sink, this.foregroundRaster[row][j], this.backgroundRaster[row][j]);
+			sink.append(this.raster[row][j]);
+		}
+	}
+
+	/**
+	 * Appends the escape code to move the cursor to a cell of the frame
+	 * @param sink the sink to append the escape code to
+	 * @param row the row of the cell
+	 * @param column the column of the cell
+	 */
+	private void appendCursorPosition(FrameSink sink, int row, int column)
+	{
+		sink.append("\u001B[");
+		sink.append(row + 1);
+		sink.append(';');
+		sink.append(column + 1);
+		sink.append('H');
+	}
+
+	/**
+	 * Keeps the current frame, to compare the next one to
+	 */
+	private void keepFrame()
+	{
+		if (this.lastRaster == null || this.lastRaster.length != this.height || this.lastRaster[0].length != this.width)
+		{
+			this.lastRaster = new char[this.height][this.width];
+			this.lastForegroundRaster = new int[this.height][this.width];
+			this.lastBackgroundRaster = new int[this.height][this.width];
+		}
+
+		for (int i = 0; i < this.height; i++)
+		{
+			System.arraycopy(this.raster[i], 0, this.lastRaster[i], 0, this.width);
+			System.arraycopy(this.foregroundRaster[i], 0, this.lastForegroundRaster[i], 0, this.width);
+			System.arraycopy(this.backgroundRaster[i], 0, this.lastBackgroundRaster[i], 0, this.width);
+		}
 	}
 
 	/**
@@ -397,15 +1009,26 @@ public class Renderer
 	 */
 	public void render(Scene scene, Rectangle camera, char backgroundChar)
 	{
-		this.init(camera, backgroundChar);
-		try
-		{
-			render(scene);
-		}
-		catch (GameEngineException e)
-		{
-			throw new RuntimeException("Should never happen. Renderer was not initialized correctly by this function.");
-		}
+		boolean isFrameKept = initTrackedFrame(camera, backgroundChar);
+		rasterizeTracked(scene.renderablesArr(), isFrameKept);
+		if (scene.getOverlay() != null)
+			rasterize(scene.getOverlay());
+		print();
+	}
+
+	/**
+	 * Renders a snapshot of a scene to the screen. (doesn't need initialization)
+	 * @param snapshot the snapshot to render
+	 * @param camera the location in space to render
+	 * @param backgroundChar the background character
+	 */
+	public void render(RenderSnapshot snapshot, Rectangle camera, char backgroundChar)
+	{
+		boolean isFrameKept = initTrackedFrame(camera, backgroundChar);
+		rasterizeTracked(snapshot.renderData(), isFrameKept);
+		if (snapshot.hasOverlay())
+			rasterizeOverlay(snapshot.overlayRaster(), snapshot.overlayPanel());
+		print();
 	}
 
 	/**
@@ -548,8 +1171,7 @@ public class Renderer
 	{
 		validateRender();
 		this.drawChar = drawChar;
-		this.terminalDrawColour = terminalColour;
-		this.graphicalDrawColor = graphicalColor;
+		setDrawColour(terminalColour, graphicalColor);
 		rasterize(circle);
 		print();
 	}
@@ -579,8 +1201,7 @@ public class Renderer
 	{
 		validateRender();
 		this.drawChar = drawChar;
-		this.terminalDrawColour = terminalColour;
-		this.graphicalDrawColor = graphicalColor;
+		setDrawColour(terminalColour, graphicalColor);
 		rasterizeSides(circle);
 		print();
 	}
@@ -610,8 +1231,7 @@ public class Renderer
 	{
 		validateRender();
 		this.drawChar = drawChar;
-		this.terminalDrawColour = terminalColour;
-		this.graphicalDrawColor = graphicalColor;
+		setDrawColour(terminalColour, graphicalColor);
 		rasterize(poly);
 		print();
 	}
@@ -629,159 +1249,507 @@ public class Renderer
 	}
 
 	/**
-	 * Renders the outline of a polygon to the screen with colour.
-	 * @param poly the polygon to render
-	 * @param drawChar the character to render the polygon with
-	 * @param terminalColour the colour to render the polygon with in the terminal (can be null)
-	 * @param graphicalColor the colour to render the polygon with in the graphical interface (can be null)
-	 * @pre must initialize renderer first
-	 * @throws GameEngineException if the renderer was not initialized properly
+	 * Renders the outline of a polygon to the screen with colour.
+	 * @param poly the polygon to render
+	 * @param drawChar the character to render the polygon with
+	 * @param terminalColour the colour to render the polygon with in the terminal (can be null)
+	 * @param graphicalColor the colour to render the polygon with in the graphical interface (can be null)
+	 * @pre must initialize renderer first
+	 * @throws GameEngineException if the renderer was not initialized properly
+	 */
+	public void renderSides(Polygon poly, char drawChar, TerminalColour.Foreground terminalColour, Color graphicalColor) throws GameEngineException
+	{
+		validateRender();
+		this.drawChar = drawChar;
+		setDrawColour(terminalColour, graphicalColor);
+		rasterizeSides(poly);
+		print();
+	}
+
+	/**
+	 * Renderers a segment to the screen.
+	 * @param segment the segment to render
+	 * @param drawChar the character to render the segment with
+	 * @pre must initialize renderer first
+	 * @throws GameEngineException if the renderer was not initialized properly
+	 */
+	public void render(LineSegment segment, char drawChar) throws GameEngineException
+	{
+		render(segment, drawChar, null, null);
+	}
+
+	/**
+	 * Renders a segment to the screen with colour.
+	 * @param segment the segment to render
+	 * @param drawChar the character to render the segment with
+	 * @param terminalColour the colour to render the segment with in the terminal
+	 * @param graphicalColor the colour to render the segment with in the graphical interface
+	 * @pre must initialize renderer first
+	 * @throws GameEngineException if the renderer was not initialized properly
+	 */
+	public void render(LineSegment segment, char drawChar, TerminalColour.Foreground terminalColour, Color graphicalColor) throws GameEngineException
+	{
+		validateRender();
+		this.drawChar = drawChar;
+		setDrawColour(terminalColour, graphicalColor);
+		rasterize(segment);
+		print();
+	}
+
+	/**
+	 * Checks if the renderer was properly initialized
+	 * @throws GameEngineException if the renderer was not initialized properly
+	 */
+	private void validateRender() throws GameEngineException
+	{
+		if (this.camera == null)
+			throw new GameEngineException("Must initialize renderer or pass all arguments.");
+		this.dirtyRegions.discard(); // drawn on outside of a tracked frame
+	}
+
+	/**
+	 * Rasterizes an overlay, being overlayed on top of the raster
+	 * @param overlay the overlay to rasterize
+	 */
+	private void rasterize(IOverlay overlay)
+	{
+		if (this.isTextual)
+			rasterizeTextualOverlay(overlay.getOverlay());
+		else
+			rasterizeGraphicalOverlay(overlay.getPanel());
+	}
+
+	/**
+	 * Rasterizes an overlay from it's textual and graphical representations,
+	 * being overlayed on top of the raster
+	 * @param overlayRaster the textual representation of the overlay
+	 * @param overlayPanel the graphical representation of the overlay
+	 */
+	private void rasterizeOverlay(char[][] overlayRaster, JPanel overlayPanel)
+	{
+		if (this.isTextual)
+			rasterizeTextualOverlay(overlayRaster);
+		else
+			rasterizeGraphicalOverlay(overlayPanel);
+	}
+
+	/**
+	 * Rasterizes a textual overlay
+	 * @param overlayRaster the overlay's raster
+	 */
+	private void rasterizeTextualOverlay(char[][] overlayRaster)
+	{
+		if (overlayRaster == null)
+		{
+			Logger.log(Logger.Level.FATAL, "Tried to rasterize a graphic-only overlay as textual! raster was null.");
+			throw new RuntimeException("Tried to rasterize a graphic-only overlay as textual! raster was null.");
+		}
+
+		int left = this.width;
+		int right = -1;
+		int top = this.height;
+		int bottom = -1;
+		for (int i = 0; i < raster.length; i++)
+		{
+			for (int j = 0; j < raster[0].length; j++)
+			{
+				if (overlayRaster[i][j] == '\0')
+					continue;
+				raster[i][j] = overlayRaster[i][j];
+				foregroundRaster[i][j] = NO_COLOUR;
+				left = Math.min(left, j);
+				right = Math.max(right, j);
+				top = Math.min(top, i);
+				bottom = Math.max(bottom, i);
+			}
+		}
+		this.dirtyRegions.setOverlayRegion(left, right, top, bottom);
+	}
+
+	/**
+	 * Rasterizes a graphical overlay
+	 * @param overlayPanel the overlay's panel
+	 * @throws RuntimeException if the overlay was null
+	 */
+	private void rasterizeGraphicalOverlay(JPanel overlayPanel)
+	{
+		if (overlayPanel == null)
+		{
+			Logger.log(Logger.Level.FATAL, "Tried to rasterize a text-only overlay as graphical! panel was null.");
+			throw new RuntimeException("Tried to rasterize a text-only overlay as graphical! panel was null.");
+		}
+
+		this.graphicalRaster.setOverlay(overlayPanel);
+	}
+
+	/**
+	 * Rasterizes an array of RenderData to the raster
+	 * @param renderDataArr the array of RenderData to rasterize
+	 */
+	private void rasterize(RenderData<?>[] renderDataArr)
+	{
+		Arrays.sort(renderDataArr);
+		rasterizeSorted(renderDataArr, false);
+	}
+
+	/**
+	 * Rasterizes a sorted array of RenderData to the raster
+	 * (in bands, in parallel, if the raster is split in bands)
+	 * @param renderDataArr the sorted array of RenderData to rasterize
+	 * @param hasFootprints if the footprints of the RenderData were already computed
+	 */
+	private void rasterizeSorted(RenderData<?>[] renderDataArr, boolean hasFootprints)
+	{
+		int first = this.isCachingBackground ? rasterizeBackground(renderDataArr) : 0;
+		int bands = Math.min(this.rasterBands, this.height);
+		if (bands > 1 && first < renderDataArr.length)
+		{
+			if (!hasFootprints)
+				this.dirtyRegions.computeFootprints(renderDataArr);
+			rasterizeBands(renderDataArr, first, bands);
+			return;
+		}
+
+		for (int i = first; i < renderDataArr.length; i++)
+			rasterize(renderDataArr[i]);
+	}
+
+	/**
+	 * Rasterizes a sorted array of RenderData in {@link BandRasterizer bands}, in parallel
+	 * @param renderDataArr the sorted array of RenderData to rasterize
+	 * @param first the index of the first RenderData to rasterize
+	 * @param bands the ammount of bands to split the raster in
+	 * @pre the footprints of the RenderData were computed
+	 */
+	private void rasterizeBands(RenderData<?>[] renderDataArr, int first, int bands)
+	{
+		this.isFrameUsingColour |= this.bandRasterizer.rasterize(this, this.height, bands, renderDataArr, first, this.dirtyRegions.footprints());
+	}
+
+	/**
+	 * Shares the frame of another renderer, to rasterize a band of it
+	 * @param frame the renderer whose frame to rasterize
+	 * @param top the first row (in the raster) of the band
+	 * @param bottom the last row (in the raster) of the band
+	 */
+	void shareFrame(Renderer frame, int top, int bottom)
+	{
+		this.camera = frame.camera;
+		this.originX = frame.originX;
+		this.originY = frame.originY;
+		this.width = frame.width;
+		this.height = frame.height;
+		this.screenWidth = frame.screenWidth;
+		this.screenHeight = frame.screenHeight;
+		this.cellSize = frame.cellSize;
+		this.isTextual = frame.isTextual;
+		this.raster = frame.raster;
+		this.foregroundRaster = frame.foregroundRaster;
+		this.graphicalRaster = frame.graphicalRaster;
+		this.colourMode = frame.colourMode;
+		this.polygonFill = frame.polygonFill;
+		this.isFrameUsingColour = false;
+		this.clip[LEFT] = frame.clip[LEFT];
+		this.clip[RIGHT] = frame.clip[RIGHT];
+		this.clip[TOP] = Math.max(top, frame.clip[TOP]);
+		this.clip[BOTTOM] = Math.min(bottom, frame.clip[BOTTOM]);
+	}
+
+	/**
+	 * If the frame was drawn with colour (in textual mode)
+	 * @return if the frame was drawn with colour
+	 */
+	boolean isFrameUsingColour() { return this.isFrameUsingColour; }
+
+	/**
+	 * Rasterizes the RenderData that overlaps this renderer's band, clipped to the band
+	 * @param renderDataArr the sorted array of RenderData to rasterize
+	 * @param first the index of the first RenderData to rasterize
+	 * @param footprints the footprints of the RenderData
+	 */
+	void rasterizeBand(RenderData<?>[] renderDataArr, int first, int[] footprints)
+	{
+		for (int i = first; i < renderDataArr.length; i++)
+			if (regionsIntersect(footprints, i * REGION_SIZE, this.clip, 0))
+				rasterize(renderDataArr[i]);
+	}
+
+	/**
+	 * Initializes the renderer for a frame of a scene, keeping the last frame
+	 * if it was of a scene with the same camera
+	 * @param camera the location to render
+	 * @param backgroundChar the default character to render where there is nothing to render.
+	 * @return if the last frame was kept (and only the regions that changed must be redrawn)
+	 */
+	private boolean initTrackedFrame(Rectangle camera, char backgroundChar)
+	{
+		if (this.isTrackingDirtyRegions && this.dirtyRegions.isKept() && isSameFrame(camera, backgroundChar))
+			return true;
+		init(camera, backgroundChar);
+		return false;
+	}
+
+	/**
+	 * Checks if a frame would be rendered to the same raster as the kept frame
+	 * @param camera the location to render
+	 * @param backgroundChar the default character to render where there is nothing to render.
+	 * @return if the frame would be rendered to the same raster
+	 */
+	private boolean isSameFrame(Rectangle camera, char backgroundChar)
+	{
+		BoundingBox box = camera.getBoundingBox(); // cached by the camera, so comparing it allocates nothing
+		if (this.isTextual && this.backgroundChar != backgroundChar)
+			return false;
+		return box.minPoint().X() == this.camera.minPoint().X() && box.minPoint().Y() == this.camera.minPoint().Y() &&
+			box.maxPoint().X() == this.camera.maxPoint().X() && box.maxPoint().Y() == this.camera.maxPoint().Y();
+	}
+
+	/**
+	 * Rasterizes the RenderData of a scene to the raster.
+	 * If the last frame was kept, only the regions that changed are redrawn
+	 * (unless too much changed).
+	 * @param renderDataArr the array of RenderData to rasterize
+	 * @param isFrameKept if the raster holds the last frame
+	 */
+	private void rasterizeTracked(RenderData<?>[] renderDataArr, boolean isFrameKept)
+	{
+		Arrays.sort(renderDataArr);
+		if (!this.isTrackingDirtyRegions)
+		{
+			rasterizeSorted(renderDataArr, false);
+			return;
+		}
+
+		if (isFrameKept && this.dirtyRegions.collect(renderDataArr))
+		{
+			redrawDirtyRegions(renderDataArr);
+		}
+		else
+		{
+			if (isFrameKept)
+				clearFrame();
+			this.dirtyRegions.computeFootprints(renderDataArr);
+			rasterizeSorted(renderDataArr, true);
+		}
+		this.dirtyRegions.keep(renderDataArr);
+	}
+
+	/**
+	 * Clears the whole raster, to the background
+	 */
+	private void clearFrame()
+	{
+		this.isFrameUsingColour = false;
+		if (this.isTextual)
+			initTextual(this.backgroundChar);
+		else
+			initGraphical(this.graphicalBgColor);
+	}
+
+	/**
+	 * Redraws the regions that changed since the kept frame.
+	 * Each region is cleared (to the cached background, if there is one) and the RenderData
+	 * whose footprint intersects it is rasterized again, clipped to the region.
+	 * @param renderDataArr the sorted array of RenderData of the frame
+	 */
+	private void redrawDirtyRegions(RenderData<?>[] renderDataArr)
+	{
+		int first = 0;
+		if (this.isCachingBackground)
+		{
+			int count = 0;
+			while (count < renderDataArr.length && renderDataArr[count].isStatic())
+				count++;
+			if (count > 0 && isBackgroundCached(renderDataArr, count))
+				first = count;
+		}
+
+		int[] footprints = this.dirtyRegions.footprints();
+		for (int i = 0; i < this.dirtyRegions.count(); i++)
+		{
+			this.dirtyRegions.copyRegion(i, this.clip);
+			if (first > 0)
+				restoreBackground(this.clip);
+			else
+				clearRegion(this.clip);
+
+			for (int j = first; j < renderDataArr.length; j++)
+				if (regionsIntersect(footprints, j * REGION_SIZE, this.clip, 0))
+					rasterize(renderDataArr[j]);
+		}
+		resetClip();
+	}
+
+	/**
+	 * Clears a region of the raster, to the background
+	 * @param region the region to clear
 	 */
-	public void renderSides(Polygon poly, char drawChar, TerminalColour.Foreground terminalColour, Color graphicalColor) throws GameEngineException
+	private void clearRegion(int[] region)
 	{
-		validateRender();
-		this.drawChar = drawChar;
-		this.terminalDrawColour = terminalColour;
-		this.graphicalDrawColor = graphicalColor;
-		rasterizeSides(poly);
-		print();
+		for (int row = region[TOP]; row <= region[BOTTOM]; row++)
+		{
+			if (this.isTextual)
+			{
+				Arrays.fill(this.raster[row], region[LEFT], region[RIGHT] + 1, this.backgroundChar);
+				Arrays.fill(this.foregroundRaster[row], region[LEFT], region[RIGHT] + 1, NO_COLOUR);
+			}
+			else
+			{
+				this.graphicalRaster.clearSpan(region[LEFT], region[RIGHT], row);
+			}
+		}
 	}
 
 	/**
-	 * Renderers a segment to the screen.
-	 * @param segment the segment to render
-	 * @param drawChar the character to render the segment with
-	 * @pre must initialize renderer first
-	 * @throws GameEngineException if the renderer was not initialized properly
+	 * Checks if two regions intersect
+	 * @param a the array the first region is in
+	 * @param atA the index of the first region
+	 * @param b the array the second region is in
+	 * @param atB the index of the second region
+	 * @return if the regions intersect
 	 */
-	public void render(LineSegment segment, char drawChar) throws GameEngineException
+	static boolean regionsIntersect(int[] a, int atA, int[] b, int atB)
 	{
-		render(segment, drawChar, null, null);
+		return a[atA + LEFT] <= b[atB + RIGHT] && b[atB + LEFT] <= a[atA + RIGHT] &&
+			a[atA + TOP] <= b[atB + BOTTOM] && b[atB + TOP] <= a[atA + BOTTOM];
 	}
 
 	/**
-	 * Renders a segment to the screen with colour.
-	 * @param segment the segment to render
-	 * @param drawChar the character to render the segment with
-	 * @param terminalColour the colour to render the segment with in the terminal
-	 * @param graphicalColor the colour to render the segment with in the graphical interface
-	 * @pre must initialize renderer first
-	 * @throws GameEngineException if the renderer was not initialized properly
+	 * Checks if a cell of the raster is inside the clipping region
+	 * @param x the x coordinate IN THE RASTER of the cell
+	 * @param y the y coordinate IN THE RASTER of the cell
+	 * @return if the cell is inside the clipping region
 	 */
-	public void render(LineSegment segment, char drawChar, TerminalColour.Foreground terminalColour, Color graphicalColor) throws GameEngineException
+	private boolean isInsideClip(int x, int y)
 	{
-		validateRender();
-		this.drawChar = drawChar;
-		this.terminalDrawColour = terminalColour;
-		this.graphicalDrawColor = graphicalColor;
-		rasterize(segment);
-		print();
+		return x >= this.clip[LEFT] && x <= this.clip[RIGHT] && y >= this.clip[TOP] && y <= this.clip[BOTTOM];
 	}
 
 	/**
-	 * Checks if the renderer was properly initialized
-	 * @throws GameEngineException if the renderer was not initialized properly
+	 * Resets the clipping region to the whole raster
 	 */
-	private void validateRender() throws GameEngineException
+	private void resetClip()
 	{
-		if (this.camera == null)
-			throw new GameEngineException("Must initialize renderer or pass all arguments.");
+		this.clip[LEFT] = 0;
+		this.clip[RIGHT] = this.width - 1;
+		this.clip[TOP] = 0;
+		this.clip[BOTTOM] = this.height - 1;
 	}
 
 	/**
-	 * Rasterizes an overlay, being overlayed on top of the raster
-	 * @param overlay the overlay to rasterize
+	 * Rasterizes a RenderData to the raster
+	 * @param rData the RenderData to rasterize
 	 */
-	private void rasterize(IOverlay overlay)
+	private void rasterize(RenderData<?> rData)
 	{
-		if (this.isTextual)
-			rasterizeTextualOverlay(overlay);
+		IGeometricShape<?> shape = rData.getShape();
+		setDrawColour(rData.getTerminalColour(), rData.getGraphicalColor());
+		this.drawChar = rData.getCharacter();
+		if (shape instanceof Polygon)
+		{
+			Polygon poly = (Polygon)shape;
+			if (rData.isFilled())
+				rasterize(poly);
+			else
+				rasterizeSides(poly);
+		}
+		else if (shape instanceof PackedPolygon)
+		{
+			PackedPolygon poly = (PackedPolygon)shape;
+			if (rData.isFilled())
+				rasterize(poly);
+			else
+				rasterizeSides(poly);
+		}
+		else if (shape instanceof Circle)
+		{
+			Circle circle = (Circle)shape;
+			if (rData.isFilled())
+				rasterize(circle);
+			else
+				rasterizeSides(circle);
+		}
 		else
-			rasterizeGraphicalOverlay(overlay);
+		{
+			throw new UnsupportedOperationException("Unrecognized shape to render: " + shape.getClass());
+		}
 	}
 
 	/**
-	 * Rasterizes a textual overlay
-	 * @param overlay the overlay to rasterize
+	 * Rasterizes the background of a frame: the static RenderData that is drawn
+	 * before any other (the first ones, once sorted).
+	 * If the background is cached, it's copied to the raster, otherwise it's rasterized
+	 * and cached.
+	 * @param renderDataArr the sorted array of RenderData to rasterize
+	 * @return the ammount of RenderData rasterized (as the background)
 	 */
-	private void rasterizeTextualOverlay(IOverlay overlay)
+	private int rasterizeBackground(RenderData<?>[] renderDataArr)
 	{
-		char[][] overlayRaster = overlay.getOverlay();
-		if (overlayRaster == null)
-		{
-			Logger.log(Logger.Level.FATAL, "Tried to rasterize a graphic-only overlay as textual! raster was null.");
-			throw new RuntimeException("Tried to rasterize a graphic-only overlay as textual! raster was null.");
-		}
+		int count = 0;
+		while (count < renderDataArr.length && renderDataArr[count].isStatic())
+			count++;
+		if (count == 0)
+			return 0;
 
-		for (int i = 0; i < raster.length; i++)
+		if (isBackgroundCached(renderDataArr, count))
 		{
-			for (int j = 0; j < raster[0].length; j++)
-			{
-				if (overlayRaster[i][j] == '\0')
-					continue;
-				raster[i][j] = overlayRaster[i][j];
-				if (isFrameUsingColour)
-				{
-					colourRaster[i][j] = TerminalColour.RESET.toString();
-					if (this.terminalBgColour != null)
-						colourRaster[i][j] += this.terminalBgColour.toString();
-				}
-			}
+			restoreBackground();
+			return count;
 		}
+
+		for (int i = 0; i < count; i++)
+			rasterize(renderDataArr[i]);
+		cacheBackground(renderDataArr, count);
+		return count;
 	}
 
 	/**
-	 * Rasterizes a graphical overlay
-	 * @param overlay the overlay to rasterize
-	 * @throws RuntimeException if the overlay was null
+	 * Checks if the cached background was rasterized from the same static RenderData
+	 * (with the same camera and settings)
+	 * @param renderDataArr the sorted array of RenderData
+	 * @param count the ammount of static RenderData at the start of the array
+	 * @return if the cached background can be used
 	 */
-	private void rasterizeGraphicalOverlay(IOverlay overlay)
+	private boolean isBackgroundCached(RenderData<?>[] renderDataArr, int count)
 	{
-		JPanel overlayPanel = overlay.getPanel();
-		if (overlayPanel == null)
-		{
-			Logger.log(Logger.Level.FATAL, "Tried to rasterize a text-only overlay as graphical! panel was null.");
-			throw new RuntimeException("Tried to rasterize a text-only overlay as graphical! panel was null.");
-		}
+		return this.background.holds(renderDataArr, count);
+	}
 
-		this.graphicalRaster.setOverlay(overlayPanel);
+	/**
+	 * Keeps the current raster as the cached background
+	 * @param renderDataArr the sorted array of RenderData
+	 * @param count the ammount of static RenderData the background was rasterized from
+	 */
+	private void cacheBackground(RenderData<?>[] renderDataArr, int count)
+	{
+		if (this.isTextual)
+			this.background.keep(renderDataArr, count, this.raster, this.foregroundRaster, this.isFrameUsingColour);
+		else
+			this.background.keep(renderDataArr, count, this.graphicalRaster);
 	}
 
 	/**
-	 * Rasterizes an array of RenderData to the raster
-	 * @param renderDataArr the array of RenderData to rasterize
+	 * Copies a region of the cached background to the raster
+	 * @param region the region to copy
 	 */
-	private void rasterize(RenderData<?>[] renderDataArr)
+	private void restoreBackground(int[] region)
 	{
-		Arrays.sort(renderDataArr);
+		if (this.isTextual)
+			this.isFrameUsingColour |= this.background.restore(this.raster, this.foregroundRaster,
+				region[LEFT], region[RIGHT], region[TOP], region[BOTTOM]);
+		else
+			this.background.restore(this.graphicalRaster, region[LEFT], region[RIGHT], region[TOP], region[BOTTOM]);
+	}
 
-		for (RenderData<?> rData : renderDataArr)
-		{
-			IGeometricShape<?> shape = rData.getShape();
-			this.terminalDrawColour = rData.getTerminalColour();
-			this.graphicalDrawColor = rData.getGraphicalColor();
-			this.drawChar = rData.getCharacter();
-			if (shape instanceof Polygon)
-			{
-				Polygon poly = (Polygon)shape;
-				if (rData.isFilled())
-					rasterize(poly);
-				else
-					rasterizeSides(poly);
-			}
-			else if (shape instanceof Circle)
-			{
-				Circle circle = (Circle)shape;
-				if (rData.isFilled())
-					rasterize(circle);
-				else
-					rasterizeSides(circle);
-			}
-			else
-			{
-				throw new UnsupportedOperationException("Unrecognized shape to render: " + shape.getClass());
-			}
-		}
+	/**
+	 * Copies the cached background to the raster
+	 */
+	private void restoreBackground()
+	{
+		if (this.isTextual)
+			this.isFrameUsingColour |= this.background.restore(this.raster, this.foregroundRaster, 0, this.width - 1, 0, this.height - 1);
+		else
+			this.background.restore(this.graphicalRaster);
 	}
 
 	/**
@@ -810,6 +1778,12 @@ public class Renderer
 	 */
 	private void rasterize(Circle circle, boolean fill)
 	{
+		if (this.cellSize > 1)
+		{
+			rasterizeCells(circle, fill);
+			return;
+		}
+
 		int r = (int)Math.round(circle.radius());
 		int xCircle = (int)Math.round(circle.getCentroid().X());
 		int yCircle = (int)Math.round(circle.getCentroid().Y());
@@ -896,10 +1870,60 @@ public class Renderer
 
 	/**
 	 * Rasterizes a polygon to the raster
-	 * Uses the scanline algorithm
 	 * @param poly the polygon to raster
 	 */
 	private void rasterize(Polygon poly)
+	{
+		if (this.cellSize == 1 && this.polygonFill == PolygonFill.SCANLINE)
+		{
+			rasterizeScanline(poly);
+			return;
+		}
+
+		rasterize(poly.packed());
+	}
+
+	/**
+	 * Rasterizes a packed polygon to the raster
+	 * @param poly the polygon to raster
+	 */
+	private void rasterize(PackedPolygon poly)
+	{
+		if (this.cellSize > 1)
+		{
+			rasterizeCells(poly);
+			return;
+		}
+
+		if (this.polygonFill == PolygonFill.SCANLINE)
+		{
+			rasterizeScanline(poly.toPolygon());
+			return;
+		}
+
+		fillEdgeTable(poly);
+		rasterizeSides(poly);
+	}
+
+	/**
+	 * Fills a polygon, given by it's vertices (rounded, as the sides are drawn),
+	 * with an {@link EdgeTableFill edge table}
+	 * @param poly the polygon to fill
+	 */
+	private void fillEdgeTable(PackedPolygon poly)
+	{
+		this.edgeTable.start(poly);
+		while (this.edgeTable.nextRow())
+			for (int i = 0; i < this.edgeTable.spanCount(); i++)
+				drawHorizontalLine(this.edgeTable.spanFrom(i), this.edgeTable.spanTo(i), this.edgeTable.row());
+	}
+
+	/**
+	 * Rasterizes a polygon to the raster
+	 * Uses the scanline algorithm
+	 * @param poly the polygon to raster
+	 */
+	private void rasterizeScanline(Polygon poly)
 	{
 		// find minY and maxY
 		Point[] vertices = poly.vertices();
@@ -1051,15 +2075,67 @@ public class Renderer
 
 	/**
 	 * Draws a horizontal line to the raster from a x coordinate up to
-	 * another x coordinate, on the given y value
+	 * another x coordinate, on the given y value.
+	 * The line is clipped to the camera and drawn as a single span.
 	 * @param xFrom the x coordinate to draw the line from
 	 * @param xTo the x coordinate to draw the line to
 	 * @param y the y coordinate the line should be drawn on
 	 */
 	private void drawHorizontalLine(int xFrom, int xTo, int y)
 	{
-		for (int i = xFrom; i <= xTo; i++)
-			draw(i, y);
+		if (y < camera.minPoint().Y() || y > camera.maxPoint().Y())
+			return;
+
+		int minX = (int)Math.ceil(camera.minPoint().X());
+		xFrom = Math.max(xFrom, minX) - minX;
+		xTo = Math.min(xTo, (int)Math.floor(camera.maxPoint().X())) - minX;
+		if (xFrom > xTo)
+			return;
+		y = (this.height - 1) - (y - (int)Math.ceil(camera.minPoint().Y()));
+
+		if (this.isTextual)
+			drawTextualSpan(xFrom, xTo, y);
+		else
+			drawGraphicalSpan(xFrom, xTo, y);
+	}
+
+	/**
+	 * Draws a span of a row on the graphical raster
+	 * @param xFrom the x coordinate IN THE RASTER of the first pixel of the span
+	 * @param xTo the x coordinate IN THE RASTER of the last pixel of the span (inclusive)
+	 * @param y the y coordinate IN THE RASTER of the row
+	 */
+	private void drawGraphicalSpan(int xFrom, int xTo, int y)
+	{
+		if (y < this.clip[TOP] || y > this.clip[BOTTOM])
+			return;
+		xFrom = Math.max(xFrom, this.clip[LEFT]);
+		xTo = Math.min(xTo, this.clip[RIGHT]);
+		if (xFrom > xTo)
+			return;
+		if (this.graphicalDrawColor == null)
+			this.graphicalDrawColor = DEFAULT_GRAPHICAL_COLOR;
+		this.graphicalRaster.drawSpan(xFrom, xTo, y, this.graphicalDrawColor);
+	}
+
+	/**
+	 * Draws a span of a row on the textual raster
+	 * @param xFrom the x coordinate IN THE RASTER of the first cell of the span
+	 * @param xTo the x coordinate IN THE RASTER of the last cell of the span (inclusive)
+	 * @param y the y coordinate IN THE RASTER of the row
+	 */
+	private void drawTextualSpan(int xFrom, int xTo, int y)
+	{
+		if (y < this.clip[TOP] || y > this.clip[BOTTOM])
+			return;
+		xFrom = Math.max(xFrom, this.clip[LEFT]);
+		xTo = Math.min(xTo, this.clip[RIGHT]);
+		if (xFrom > xTo)
+			return;
+		Arrays.fill(raster[y], xFrom, xTo + 1, drawChar);
+		Arrays.fill(foregroundRaster[y], xFrom, xTo + 1, drawAttribute);
+		if (drawAttribute != NO_COLOUR)
+			this.isFrameUsingColour = true;
 	}
 
 	/**
@@ -1069,8 +2145,19 @@ public class Renderer
 	 */
 	private void rasterizeSides(Polygon poly)
 	{
-		for (LineSegment side : poly.sides())
-			rasterize(side);
+		rasterizeSides(poly.packed());
+	}
+
+	/**
+	 * Rasterizes the sides of a packed polygon to the raster
+	 * Uses Bresenham's line algorithm
+	 * @param poly the polygon to rasterize
+	 */
+	private void rasterizeSides(PackedPolygon poly)
+	{
+		int n = poly.getNumSides();
+		for (int i = 0; i < n; i++)
+			rasterizeSegment(poly.x(i), poly.y(i), poly.x((i + 1) % n), poly.y((i + 1) % n));
 	}
 
 	/**
@@ -1080,10 +2167,29 @@ public class Renderer
 	 */
 	private void rasterize(LineSegment segment)
 	{
-		int x = (int)Math.round(segment.firstPoint().X());
-		int y = (int)Math.round(segment.firstPoint().Y());
-		int x1 = (int)Math.round(segment.secondPoint().X());
-		int y1 = (int)Math.round(segment.secondPoint().Y());
+		rasterizeSegment(segment.firstPoint().X(), segment.firstPoint().Y(), segment.secondPoint().X(), segment.secondPoint().Y());
+	}
+
+	/**
+	 * Rasterizes a segment, given by the coordinates of it's ends, to the raster
+	 * Uses Bresenham's line algorithm
+	 * @param fromX the x coordinate of the first end
+	 * @param fromY the y coordinate of the first end
+	 * @param toX the x coordinate of the second end
+	 * @param toY the y coordinate of the second end
+	 */
+	private void rasterizeSegment(double fromX, double fromY, double toX, double toY)
+	{
+		if (this.cellSize > 1)
+		{
+			rasterizeCellSegment(fromX, fromY, toX, toY);
+			return;
+		}
+
+		int x = (int)Math.round(fromX);
+		int y = (int)Math.round(fromY);
+		int x1 = (int)Math.round(toX);
+		int y1 = (int)Math.round(toY);
 
 		int dx = Math.abs(x1 - x);
 		int dy = Math.abs(y1 - y);
@@ -1144,6 +2250,170 @@ public class Renderer
 		}
 	}
 
+	/**
+	 * Rasterizes a polygon to the cells whose centre is inside it (and it's sides)
+	 * Uses the scanline algorithm, with a scanline through the centre of each row of cells
+	 * @param poly the polygon to rasterize
+	 */
+	private void rasterizeCells(PackedPolygon poly)
+	{
+		int n = poly.getNumSides();
+		double minY = poly.y(0);
+		double maxY = minY;
+		for (int i = 0; i < n; i++)
+		{
+			minY = Math.min(poly.y(i), minY);
+			maxY = Math.max(poly.y(i), maxY);
+		}
+		if (this.crossings.length < n)
+			this.crossings = new double[n];
+
+		int rowTo = Math.min(this.height - 1, lastCell(maxY, this.originY));
+		for (int row = Math.max(0, firstCell(minY, this.originY)); row <= rowTo; row++)
+		{
+			double y = cellCentre(row, this.originY);
+			int count = 0;
+			for (int i = 0; i < n; i++)
+			{
+				double ax = poly.x(i);
+				double ay = poly.y(i);
+				double bx = poly.x((i + 1) % n);
+				double by = poly.y((i + 1) % n);
+				if ((ay <= y) != (by <= y))
+					this.crossings[count++] = ax + (y - ay) * (bx - ax) / (by - ay);
+			}
+
+			Arrays.sort(this.crossings, 0, count);
+			for (int i = 0; i + 1 < count; i += 2)
+				drawCellSpan(firstCell(this.crossings[i], this.originX), lastCell(this.crossings[i + 1], this.originX), row);
+		}
+
+		rasterizeSides(poly);
+	}
+
+	/**
+	 * Rasterizes a circle to the cells whose centre is inside it,
+	 * or, if it's not filled, to the cells whose centre is less than half a cell away from it's outline
+	 * @param circle the circle to rasterize
+	 * @param fill if the circle should be filled
+	 */
+	private void rasterizeCells(Circle circle, boolean fill)
+	{
+		double r = circle.radius();
+		double xCircle = circle.getCentroid().X();
+		double yCircle = circle.getCentroid().Y();
+		double outer = fill ? r : r + this.cellSize / 2.0;
+		double inner = r - this.cellSize / 2.0;
+
+		int rowTo = Math.min(this.height - 1, lastCell(yCircle + outer, this.originY));
+		for (int row = Math.max(0, firstCell(yCircle - outer, this.originY)); row <= rowTo; row++)
+		{
+			double dy = cellCentre(row, this.originY) - yCircle;
+			double outerHalf = Math.sqrt(Math.max(0, outer * outer - dy * dy));
+			int from = firstCell(xCircle - outerHalf, this.originX);
+			int to = lastCell(xCircle + outerHalf, this.originX);
+			if (fill || inner <= 0 || Math.abs(dy) >= inner)
+			{
+				drawCellSpan(from, to, row);
+				continue;
+			}
+
+			double innerHalf = Math.sqrt(inner * inner - dy * dy);
+			drawCellSpan(from, firstCell(xCircle - innerHalf, this.originX) - 1, row);
+			drawCellSpan(lastCell(xCircle + innerHalf, this.originX) + 1, to, row);
+		}
+	}
+
+	/**
+	 * Rasterizes a segment, given by the coordinates of it's ends, to the cells it passes through
+	 * Uses a digital differential analyzer
+	 * @param fromX the x coordinate of the first end
+	 * @param fromY the y coordinate of the first end
+	 * @param toX the x coordinate of the second end
+	 * @param toY the y coordinate of the second end
+	 */
+	private void rasterizeCellSegment(double fromX, double fromY, double toX, double toY)
+	{
+		int column = cellOf(Math.round(fromX), this.originX);
+		int row = cellOf(Math.round(fromY), this.originY);
+		int dColumn = cellOf(Math.round(toX), this.originX) - column;
+		int dRow = cellOf(Math.round(toY), this.originY) - row;
+		int steps = Math.max(Math.abs(dColumn), Math.abs(dRow));
+
+		drawCellSpan(column, column, row);
+		for (int i = 1; i <= steps; i++)
+		{
+			int x = column + (int)Math.round(dColumn * i / (double)steps);
+			drawCellSpan(x, x, row + (int)Math.round(dRow * i / (double)steps));
+		}
+	}
+
+	/**
+	 * The coordinate of the centre of a cell
+	 * @param cell the index of the cell (along an axis)
+	 * @param origin the coordinate of the first cell's first unit
+	 * @return the coordinate of the centre of the cell
+	 */
+	private double cellCentre(int cell, int origin)
+	{
+		return origin + cell * this.cellSize + (this.cellSize - 1) / 2.0;
+	}
+
+	/**
+	 * The first cell whose centre is at or after a coordinate
+	 * @param coord the coordinate
+	 * @param origin the coordinate of the first cell's first unit
+	 * @return the index of the cell
+	 */
+	private int firstCell(double coord, int origin)
+	{
+		return (int)Math.ceil((coord - origin - (this.cellSize - 1) / 2.0) / this.cellSize);
+	}
+
+	/**
+	 * The last cell whose centre is at or before a coordinate
+	 * @param coord the coordinate
+	 * @param origin the coordinate of the first cell's first unit
+	 * @return the index of the cell
+	 */
+	private int lastCell(double coord, int origin)
+	{
+		return (int)Math.floor((coord - origin - (this.cellSize - 1) / 2.0) / this.cellSize);
+	}
+
+	/**
+	 * The cell a unit belongs to
+	 * @param coord the coordinate of the unit
+	 * @param origin the coordinate of the first cell's first unit
+	 * @return the index of the cell
+	 */
+	private int cellOf(long coord, int origin)
+	{
+		return (int)Math.floorDiv(coord - origin, (long)this.cellSize);
+	}
+
+	/**
+	 * Draws a span of cells of a row of cells
+	 * Only the cells inside the raster are drawn
+	 * @param from the first cell of the span
+	 * @param to the last cell of the span (inclusive)
+	 * @param row the row of cells, counting from the bottom
+	 */
+	private void drawCellSpan(int from, int to, int row)
+	{
+		if (row < 0 || row >= this.height)
+			return;
+		from = Math.max(0, from);
+		to = Math.min(this.width - 1, to);
+		if (from > to)
+			return;
+
+		if (this.isTextual)
+			drawTextualSpan(from, to, (this.height - 1) - row);
+		else
+			drawGraphicalSpan(from, to, (this.height - 1) - row);
+	}
+
 	/**
 	 * closes the graphical window
 	 */
@@ -1152,6 +2422,7 @@ public class Renderer
 		if (this.graphicalRaster == null)
 			return;
 		this.graphicalRaster.close();
+		invalidateBackground();
 	}
 
 	/**
@@ -18,30 +18,49 @@ public class Scene implements Iterable<GameObject>
 	/**
 	 * Iterator that iterates through a scene
 	 */
-	public class SceneIterator implements Iterator<GameObject>
+	public class SceneIterator extends SnapshotIterator<GameObject>
 	{
-		private HashMap<Integer, GameObject> objectsMap;
-		private Iterator<Map.Entry<Integer, GameObject>> entryIterator;
-
 		/**
 		 * Initializes the iterator
 		 */
 		public SceneIterator()
 		{
-			objectsMap = new HashMap<Integer, GameObject>(Scene.this.objects);
-			entryIterator = objectsMap.entrySet().iterator();
+			super(Scene.this.objectsArr());
+		}
+	}
+
+	/**
+	 * Iterator over a membership snapshot of the scene.
+	 * Snapshots are never modified once built, so changing the scene while
+	 * iterating does not affect the iteration.
+	 */
+	private static class SnapshotIterator<T> implements Iterator<T>
+	{
+		private T[] snapshot;
+		private int index;
+
+		/**
+		 * Initializes the iterator
+		 * @param snapshot the snapshot to iterate through
+		 */
+		public SnapshotIterator(T[] snapshot)
+		{
+			this.snapshot = snapshot;
+			this.index = 0;
 		}
 
 		@Override
 		public boolean hasNext()
 		{
-			return entryIterator.hasNext();
+			return index < snapshot.length;
 		}
 
 		@Override
-		public GameObject next()
+		public T next()
 		{
-			return entryIterator.next().getValue();
+			if (!hasNext())
+				throw new NoSuchElementException();
+			return snapshot[index++];
 		}
 	}
 
@@ -49,6 +68,13 @@ public class Scene implements Iterable<GameObject>
 	private HashMap<Integer, IInputListener> inputListeners;
 	private HashMap<Integer, IRenderable> renderables;
 	private HashMap<Integer, ICollider> colliders;
+	private HashMap<Integer, ISceneListener> sceneListeners;
+	private GameObject[] objectsSnapshot;
+	private IInputListener[] inputListenersSnapshot;
+	private IRenderable[] renderablesSnapshot;
+	private ICollider[] collidersSnapshot;
+	private ISceneListener[] sceneListenersSnapshot;
+	private RenderData<?>[] renderData;
 	private IOverlay overlay;
 	private boolean isActive;
 	private int idCounter;
@@ -62,6 +88,7 @@ public class Scene implements Iterable<GameObject>
 		this.inputListeners = new HashMap<Integer, IInputListener>();
 		this.renderables = new HashMap<Integer, IRenderable>();
 		this.colliders= new HashMap<Integer, ICollider>();
+		this.sceneListeners = new HashMap<Integer, ISceneListener>();
 		this.isActive = false;
 	}
 
@@ -70,6 +97,7 @@ public class Scene implements Iterable<GameObject>
 	 *
 	 * The game object is properly categorized in the scene if it implements the
 	 * interfaces listed in {@link Scene#categorize(GameObject)}.
+	 * The {@link ISceneListener scene listeners} are notified of the object.
 	 * 
 	 * If the scene is active, the object's {@link GameObject#start() Start} method is called.
 	 * Calls the object's {@link GameObject#initialize() initialize} method.
@@ -97,8 +125,12 @@ public class Scene implements Iterable<GameObject>
 			throw new RuntimeException("Could not add GameObject to scene: " + e.getMessage());
 		}
 		this.objects.put(object.id(), object);
+		this.objectsSnapshot = null;
 
 		categorize(object);
+		for (ISceneListener listener : sceneListenersArr())
+			if (listener != object)
+				listener.onObjectAdded(object);
 
 		if (this.isActive)
 			object.start();
@@ -121,6 +153,7 @@ public class Scene implements Iterable<GameObject>
 	 * {@link IRenderable IRenderable}
 	 * {@link ICollider ICollider}
 	 * {@link IOverlay IOverlay}
+	 * {@link ISceneListener ISceneListener}
 	 * being promptly placed in the corresponding collection.
 	 *
 	 * @param object the object to categorize
@@ -128,9 +161,15 @@ public class Scene implements Iterable<GameObject>
 	private void categorize(GameObject object)
 	{
 		if (object instanceof IInputListener)
+		{
 			this.inputListeners.put(object.id(), (IInputListener) object);
+			this.inputListenersSnapshot = null;
+		}
 		if (object instanceof IRenderable)
+		{
 			this.renderables.put(object.id(), (IRenderable) object);
+			this.renderablesSnapshot = null;
+		}
 		if (object instanceof IOverlay)
 		{
 			if (this.overlay != null)
@@ -138,29 +177,47 @@ public class Scene implements Iterable<GameObject>
 			this.overlay = (IOverlay) object;
 		}
 		if (object instanceof ICollider)
+		{
 			this.colliders.put(object.id(), (ICollider) object);
+			this.collidersSnapshot = null;
+		}
+		if (object instanceof ISceneListener)
+		{
+			this.sceneListeners.put(object.id(), (ISceneListener) object);
+			this.sceneListenersSnapshot = null;
+		}
 	}
 
 	/**
 	 * Removes a {@link GameObject GameObject} from the scene,
 	 * detaching it from the scene
 	 *
+	 * The {@link ISceneListener scene listeners} are notified of the object,
+	 * if it was in the scene.
 	 * If the scene is active, the object's {@link GameObject#stop() stop} method
 	 * is called.
 	 * @param object
 	 */
 	public void remove(GameObject object)
 	{
-		this.objects.remove(object.id());
+		boolean wasInScene = this.objects.remove(object.id()) != null;
+		if (wasInScene)
+			this.objectsSnapshot = null;
 
-		if (object instanceof IInputListener)
-			this.inputListeners.remove(object.id());
-		if (object instanceof IRenderable)
-			this.renderables.remove(object.id());
+		if (object instanceof IInputListener && this.inputListeners.remove(object.id()) != null)
+			this.inputListenersSnapshot = null;
+		if (object instanceof IRenderable && this.renderables.remove(object.id()) != null)
+			this.renderablesSnapshot = null;
 		if (object instanceof IOverlay)
 			this.overlay = null;
-		if (object instanceof ICollider)
-			this.colliders.remove(object.id());
+		if (object instanceof ICollider && this.colliders.remove(object.id()) != null)
+			this.collidersSnapshot = null;
+		if (object instanceof ISceneListener && this.sceneListeners.remove(object.id()) != null)
+			this.sceneListenersSnapshot = null;
+
+		if (wasInScene)
+			for (ISceneListener listener : sceneListenersArr())
+				listener.onObjectRemoved(object);
 
 		if (this.isActive)
 			object.stop();
@@ -194,23 +251,53 @@ public class Scene implements Iterable<GameObject>
 		return new SceneIterator();
 	}
 
+	/**
+	 * An array with all of the {@link GameObject GameObjects} in the scene.
+	 * The array is a snapshot that is only rebuilt when the scene's members change,
+	 * so it must not be modified.
+	 * @return an array with all of the {@link GameObject GameObjects} in the scene
+	 */
+	public GameObject[] objectsArr()
+	{
+		if (this.objectsSnapshot == null)
+			this.objectsSnapshot = this.objects.values().toArray(new GameObject[0]);
+		return this.objectsSnapshot;
+	}
+
 	/**
 	 * An iterable of all the {@link IInputListener input listeners} in the scene
 	 * @return an iterable with all the {@link IInputListener input listeners} in the scene
 	 */
 	public Iterable<IInputListener> inputListeners()
 	{
-		return new Iterable<IInputListener>()
-		{
-			class IInputListenerIterator implements Iterator<IInputListener>
-			{
-				private HashMap<Integer, IInputListener> map = new HashMap<Integer, IInputListener>(Scene.this.inputListeners);
-				private Iterator<Map.Entry<Integer, IInputListener>> entryIterator = map.entrySet().iterator();
-				public boolean hasNext() { return entryIterator.hasNext(); }
-				public IInputListener next() { return entryIterator.next().getValue(); }
-			}
-			public Iterator<IInputListener> iterator() { return new IInputListenerIterator(); }
-		};
+		IInputListener[] snapshot = inputListenersArr();
+		return () -> new SnapshotIterator<IInputListener>(snapshot);
+	}
+
+	/**
+	 * An array with all of the {@link IInputListener input listeners} in the scene.
+	 * The array is a snapshot that is only rebuilt when the scene's members change,
+	 * so it must not be modified.
+	 * @return an array with all of the {@link IInputListener input listeners} in the scene
+	 */
+	public IInputListener[] inputListenersArr()
+	{
+		if (this.inputListenersSnapshot == null)
+			this.inputListenersSnapshot = this.inputListeners.values().toArray(new IInputListener[0]);
+		return this.inputListenersSnapshot;
+	}
+
+	/**
+	 * An array with all of the {@link ISceneListener scene listeners} in the scene.
+	 * The array is a snapshot that is only rebuilt when the scene's members change,
+	 * so it must not be modified.
+	 * @return an array with all of the {@link ISceneListener scene listeners} in the scene
+	 */
+	private ISceneListener[] sceneListenersArr()
+	{
+		if (this.sceneListenersSnapshot == null)
+			this.sceneListenersSnapshot = this.sceneListeners.values().toArray(new ISceneListener[0]);
+		return this.sceneListenersSnapshot;
 	}
 
 	/**
@@ -219,26 +306,21 @@ public class Scene implements Iterable<GameObject>
 	 */
 	public Iterable<ICollider> colliders()
 	{
-		return new Iterable<ICollider>()
-		{
-			class IColliderIterator implements Iterator<ICollider>
-			{
-				private HashMap<Integer, ICollider> map = new HashMap<Integer, ICollider>(Scene.this.colliders);
-				private Iterator<Map.Entry<Integer, ICollider>> entryIterator = map.entrySet().iterator();
-				public boolean hasNext() { return entryIterator.hasNext(); }
-				public ICollider next() { return entryIterator.next().getValue(); }
-			}
-			public Iterator<ICollider> iterator() { return new IColliderIterator(); }
-		};
+		ICollider[] snapshot = collidersArr();
+		return () -> new SnapshotIterator<ICollider>(snapshot);
 	}
 
 	/**
-	 * An array with all of the {@link ICollider colliders} in the scene
+	 * An array with all of the {@link ICollider colliders} in the scene.
+	 * The array is a snapshot that is only rebuilt when the scene's members change,
+	 * so it must not be modified.
 	 * @return an array with all of the {@link ICollider colliders} in the scene
 	 */
 	public ICollider[] collidersArr()
 	{
-		return this.colliders.values().toArray(new ICollider[0]);
+		if (this.collidersSnapshot == null)
+			this.collidersSnapshot = this.colliders.values().toArray(new ICollider[0]);
+		return this.collidersSnapshot;
 	}
 
 	/**
@@ -247,30 +329,36 @@ public class Scene implements Iterable<GameObject>
 	 */
 	public Iterable<IRenderable> renderables()
 	{
-		return new Iterable<IRenderable>()
-		{
-			class IRenderableIterator implements Iterator<IRenderable>
-			{
-				private HashMap<Integer, IRenderable> map = new HashMap<Integer, IRenderable>(Scene.this.renderables);
-				private Iterator<Map.Entry<Integer, IRenderable>> entryIterator = map.entrySet().iterator();
-				public boolean hasNext() { return entryIterator.hasNext(); }
-				public IRenderable next() { return entryIterator.next().getValue(); }
-			}
-			public Iterator<IRenderable> iterator() { return new IRenderableIterator(); }
-		};
+		IRenderable[] snapshot = renderablesSnapshot();
+		return () -> new SnapshotIterator<IRenderable>(snapshot);
+	}
+
+	/**
+	 * The snapshot of the {@link IRenderable renderables} in the scene,
+	 * rebuilt only when the scene's members change
+	 * @return the snapshot of the {@link IRenderable renderables} in the scene
+	 */
+	private IRenderable[] renderablesSnapshot()
+	{
+		if (this.renderablesSnapshot == null)
+			this.renderablesSnapshot = this.renderables.values().toArray(new IRenderable[0]);
+		return this.renderablesSnapshot;
 	}
 
 	/**
-	 * An array with all of the {@link RenderData render data} in the scene
+	 * An array with all of the {@link RenderData render data} in the scene.
+	 * The array is reused between calls while the scene's members don't change,
+	 * so it must not be kept after the next call.
 	 * @return an array with all of the {@link RenderData render data} in the scene
 	 */
 	public RenderData<?>[] renderablesArr()
 	{
-		RenderData<?>[] result = new RenderData[this.renderables.size()];
-		int i = 0;
-		for (IRenderable r : renderables())
-			result[i++] = r.getRenderData();
-		return result;
+		IRenderable[] renderables = renderablesSnapshot();
+		if (this.renderData == null || this.renderData.length != renderables.length)
+			this.renderData = new RenderData<?>[renderables.length];
+		for (int i = 0; i < renderables.length; i++)
+			this.renderData[i] = renderables[i].getRenderData();
+		return this.renderData;
 	}
 
 	/**
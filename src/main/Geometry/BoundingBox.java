@@ -36,35 +36,80 @@ public class BoundingBox
 		initialize(poly.vertices());
 	}
 
+	/**
+	 * Initializes a bounding box from a packed polygon
+	 * @param poly the polygon to bound
+	 */
+	public BoundingBox(PackedPolygon poly)
+	{
+		double minX = poly.x(0);
+		double minY = poly.y(0);
+		double maxX = minX;
+		double maxY = minY;
+
+		for (int i = 0; i < poly.getNumSides(); i++)
+		{
+			minX = Math.min(minX, poly.x(i));
+			minY = Math.min(minY, poly.y(i));
+			maxX = Math.max(maxX, poly.x(i));
+			maxY = Math.max(maxY, poly.y(i));
+		}
+
+		initialize(minX, minY, maxX, maxY);
+	}
+
+	/**
+	 * Initializes a bounding box from a circle
+	 * @param circle the circle to bound
+	 */
+	public BoundingBox(Circle circle)
+	{
+		Point center = circle.getCentroid();
+		initialize(center.X() - circle.radius(), center.Y() - circle.radius(),
+			center.X() + circle.radius(), center.Y() + circle.radius());
+	}
+
 	/**
 	 * Initializes the bounding box with an array of points
 	 * @param points
 	 */
 	private void initialize(Point[] points)
 	{
-        this.min = points[0];
-        this.max = points[0];
+		double minX = points[0].X();
+		double minY = points[0].Y();
+		double maxX = minX;
+		double maxY = minY;
+
+		for (Point p : points)
+		{
+			minX = Math.min(minX, p.X());
+			minY = Math.min(minY, p.Y());
+			maxX = Math.max(maxX, p.X());
+			maxY = Math.max(maxY, p.Y());
+		}
 
-        for (Point p : points)
-            addPoint(p);
+		initialize(minX, minY, maxX, maxY);
 	}
 
-    /**
-     * Adds a point to the box, ensuring that the box still bounds all points
-     * @param p the point to be added
-     */
-    private void addPoint(Point p)
-    {
+	/**
+	 * Initializes the bounding box with the minimum and maximum coordinates
+	 * @param minX the minimum x coordinate
+	 * @param minY the minimum y coordinate
+	 * @param maxX the maximum x coordinate
+	 * @param maxY the maximum y coordinate
+	 */
+	private void initialize(double minX, double minY, double maxX, double maxY)
+	{
 		try
 		{
-			this.min = new Point(Math.min(this.min.X(), p.X()), Math.min(this.min.Y(), p.Y()));
-			this.max = new Point(Math.max(this.max.X(), p.X()), Math.max(this.max.Y(), p.Y()));
+			this.min = new Point(minX, minY);
+			this.max = new Point(maxX, maxY);
 		}
 		catch (GeometricException e)
 		{
 			throw new IllegalStateException("Should never happen: error making a point from a point: " + e.getMessage());
 		}
-    }
+	}
 
     /**
      * Checks if two bounding boxes intercept eachother
@@ -81,6 +126,61 @@ public class BoundingBox
         return interceptsX && interceptsY;
     }
 
+	/**
+	 * Checks if two bounding boxes intersect eachother (inclusive)
+	 * Boxes that only touch are considered to intersect.
+	 * @param that the bounding box to check intersection with
+	 * @return if the two bounding boxes intersect (inclusive)
+	 */
+	public boolean intersectsInclusive(BoundingBox that)
+	{
+		return MathUtil.isLessOrEqualThan(this.min.X(), that.max.X()) &&
+			MathUtil.isLessOrEqualThan(that.min.X(), this.max.X()) &&
+			MathUtil.isLessOrEqualThan(this.min.Y(), that.max.Y()) &&
+			MathUtil.isLessOrEqualThan(that.min.Y(), this.max.Y());
+	}
+
+	/**
+	 * Checks if a segment's bounds intersect the bounding box (inclusive)
+	 * @param that the segment to check intersection with
+	 * @return if the segment's bounds intersect the bounding box (inclusive)
+	 */
+	public boolean intersectsInclusive(LineSegment that)
+	{
+		Point a = that.firstPoint();
+		Point b = that.secondPoint();
+		return MathUtil.isLessOrEqualThan(this.min.X(), Math.max(a.X(), b.X())) &&
+			MathUtil.isLessOrEqualThan(Math.min(a.X(), b.X()), this.max.X()) &&
+			MathUtil.isLessOrEqualThan(this.min.Y(), Math.max(a.Y(), b.Y())) &&
+			MathUtil.isLessOrEqualThan(Math.min(a.Y(), b.Y()), this.max.Y());
+	}
+
+	/**
+	 * Checks if the bounding box contains another bounding box (inclusive)
+	 * @param that the bounding box to check if is contained within this one
+	 * @return if the other bounding box is contained within this one
+	 */
+	public boolean contains(BoundingBox that)
+	{
+		return MathUtil.isLessOrEqualThan(this.min.X(), that.min.X()) &&
+			MathUtil.isGreaterOrEqualThan(this.max.X(), that.max.X()) &&
+			MathUtil.isLessOrEqualThan(this.min.Y(), that.min.Y()) &&
+			MathUtil.isGreaterOrEqualThan(this.max.Y(), that.max.Y());
+	}
+
+	/**
+	 * Checks if the bounding box contains a point (inclusive)
+	 * @param that the point to check if is contained within the bounding box
+	 * @return if the point is contained within the bounding box
+	 */
+	public boolean contains(VirtualPoint that)
+	{
+		return MathUtil.isLessOrEqualThan(this.min.X(), that.X()) &&
+			MathUtil.isGreaterOrEqualThan(this.max.X(), that.X()) &&
+			MathUtil.isLessOrEqualThan(this.min.Y(), that.Y()) &&
+			MathUtil.isGreaterOrEqualThan(this.max.Y(), that.Y());
+	}
+
 	/**
 	 * Returns the minimum xy coordinates
 	 * @return The point containing the minimum xy coordinates
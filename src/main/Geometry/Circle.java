@@ -13,6 +13,7 @@ public class Circle implements IGeometricShape<Circle>
 {
 	private Point center;
 	private double radius;
+	private BoundingBox boundingBox;
 
 	/**
 	 * Initializes a circle
@@ -110,6 +111,14 @@ public class Circle implements IGeometricShape<Circle>
 		return this.center;
 	}
 
+	@Override
+	public BoundingBox getBoundingBox()
+	{
+		if (this.boundingBox == null)
+			this.boundingBox = new BoundingBox(this);
+		return this.boundingBox;
+	}
+
 	/**
 	 * Radius of the circle
 	 * @return the radius of the circle
@@ -126,6 +135,8 @@ public class Circle implements IGeometricShape<Circle>
 			return intersects((Circle) that);
 		else if (that instanceof Polygon)
 			return intersects((Polygon) that);
+		else if (that instanceof PackedPolygon)
+			return intersects((PackedPolygon) that);
 		else
 			throw new UnsupportedOperationException(this.getClass() + " doesn't have intersect method for " + that.getClass());
 	}
@@ -137,6 +148,8 @@ public class Circle implements IGeometricShape<Circle>
 	 */
 	public boolean intersects(Circle that)
 	{
+		if (!getBoundingBox().intersectsInclusive(that.getBoundingBox()))
+			return false;
 		double distance = this.center.dist(that.center);
 		if (this.contains(that))
 			return false;
@@ -150,6 +163,8 @@ public class Circle implements IGeometricShape<Circle>
 	 */
 	public boolean intersects(LineSegment that)
 	{
+		if (!getBoundingBox().intersectsInclusive(that))
+			return false;
 		boolean firstOnCircle = this.containsExclusive(that.firstPoint());
 		boolean secondOnCircle = this.containsExclusive(that.secondPoint());
 		if (firstOnCircle != secondOnCircle)
@@ -171,10 +186,17 @@ public class Circle implements IGeometricShape<Circle>
 	 */
 	public boolean intersects(Polygon that)
 	{
-		for (LineSegment side : that.sides())
-			if (this.intersects(side))
-				return true;
-		return false;
+		return that.packed().intersects(this);
+	}
+
+	/**
+	 * Checks if the circle intersects with a packed polygon
+	 * @param that the polygon to check intersection with
+	 * @return if the circle is intersected by the polygon
+	 */
+	public boolean intersects(PackedPolygon that)
+	{
+		return that.intersects(this);
 	}
 
 	@Override
@@ -184,6 +206,8 @@ public class Circle implements IGeometricShape<Circle>
 			return intersectsInclusive((Circle) that);
 		else if (that instanceof Polygon)
 			return intersectsInclusive((Polygon) that);
+		else if (that instanceof PackedPolygon)
+			return intersectsInclusive((PackedPolygon) that);
 		else
 			throw new UnsupportedOperationException(this.getClass() + " doesn't have intersect method for " + that.getClass());
 	}
@@ -195,6 +219,8 @@ public class Circle implements IGeometricShape<Circle>
 	 */
 	public boolean intersectsInclusive(Circle that)
 	{
+		if (!getBoundingBox().intersectsInclusive(that.getBoundingBox()))
+			return false;
 		double distance = this.center.dist(that.center);
 		if (this.contains(that))
 			return false;
@@ -208,6 +234,8 @@ public class Circle implements IGeometricShape<Circle>
 	 */
 	public boolean intersectsInclusive(LineSegment that)
 	{
+		if (!getBoundingBox().intersectsInclusive(that))
+			return false;
 		boolean firstOnCircle = this.containsExclusive(that.firstPoint());
 		boolean secondOnCircle = this.containsExclusive(that.secondPoint());
 		if (firstOnCircle != secondOnCircle)
@@ -229,10 +257,17 @@ public class Circle implements IGeometricShape<Circle>
 	 */
 	public boolean intersectsInclusive(Polygon that)
 	{
-		for (LineSegment side : that.sides())
-			if (this.intersectsInclusive(side))
-				return true;
-		return false;
+		return that.packed().intersectsInclusive(this);
+	}
+
+	/**
+	 * Checks if the circle intersects with a packed polygon (inclusive)
+	 * @param that the polygon to check intersection with
+	 * @return if the circle is intersected by the polygon (inclusive)
+	 */
+	public boolean intersectsInclusive(PackedPolygon that)
+	{
+		return that.intersectsInclusive(this);
 	}
 
 	@Override
@@ -242,6 +277,8 @@ public class Circle implements IGeometricShape<Circle>
 			return contains((Circle) that);
 		else if (that instanceof Polygon)
 			return contains((Polygon) that);
+		else if (that instanceof PackedPolygon)
+			return contains((PackedPolygon) that);
 		else
 			throw new UnsupportedOperationException(this.getClass() + " doesn't have contain method for " + that.getClass());
 	}
@@ -253,6 +290,8 @@ public class Circle implements IGeometricShape<Circle>
 	 */
 	public boolean contains(Circle that)
 	{
+		if (!getBoundingBox().contains(that.getBoundingBox()))
+			return false;
 		double distance = this.center.dist(that.center);
 		double maxDistance = this.radius - that.radius;
 		return MathUtil.isLessOrEqualThan(distance, maxDistance);
@@ -295,12 +334,33 @@ public class Circle implements IGeometricShape<Circle>
 	 */
 	public boolean contains(Polygon that)
 	{
+		if (!getBoundingBox().contains(that.getBoundingBox()))
+			return false;
 		for (Point p : that.vertices())
 			if (!this.contains(p))
 				return false;
 		return true;
 	}
 
+	/**
+	 * Checks if the circle contains a packed polygon
+	 * @param that the polygon to check if is contained within this circle
+	 * @return if the polygon is contained by this circle
+	 */
+	public boolean contains(PackedPolygon that)
+	{
+		if (!getBoundingBox().contains(that.getBoundingBox()))
+			return false;
+		for (int i = 0; i < that.getNumSides(); i++)
+		{
+			double dx = this.center.X() - that.x(i);
+			double dy = this.center.Y() - that.y(i);
+			if (!MathUtil.isLessOrEqualThan(Math.sqrt(dx * dx + dy * dy), this.radius))
+				return false;
+		}
+		return true;
+	}
+
 	@Override
 	public final boolean equals(Object other)
 	{
@@ -96,4 +96,11 @@ public interface IGeometricShape<T>
 	 * @return the shape's centroid
 	 */
 	public Point getCentroid();
+
+	/**
+	 * The shape's bounding box.
+	 * Computed once and cached, since shapes are immutable.
+	 * @return the shape's bounding box
+	 */
+	public BoundingBox getBoundingBox();
 }
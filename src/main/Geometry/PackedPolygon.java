@@ -0,0 +1,1514 @@
+package Geometry;
+
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * Represents an immutable simple polygon, stored in primitive arrays
+ * (unless it's the destination of an in place transform, like {@link #rotateInto(double, VirtualPoint, PackedPolygon)})
+ *
+ * The coordinates of the vertices are kept in two parallel arrays, and the coefficients
+ * of the line of every side (the same ones a {@link Line} would have) are computed once,
+ * so tests only touch contiguous arrays of doubles, instead of points, segments and lines.
+ * The results are the same as the ones of the equivalent {@link Polygon}.
+ *
+ * A PackedPolygon can be used wherever a Polygon can, it's equal to the polygons with the same vertices,
+ * and every polygon has it's {@link Polygon#packed() packed} equivalent.
+ *
+ * @version 18/10/2026
+ *
+ * @inv xs and ys are the coordinates of the vertices of the polygon
+ * @inv the side i goes from the vertex i to the vertex i + 1 (or 0, for the last one)
+ * @inv sideA, sideB and sideC are the coefficients of the line of each side
+ * @inv orientation is 1 if the polygon is convex and counterclockwise, -1 if convex and clockwise, 0 if not convex
+ * @inv isAxisAligned is true if the polygon is a rectangle with sides paralel to the axes
+ * @inv a frozen polygon is never the destination of an in place transform
+ */
+public class PackedPolygon implements IGeometricShape<PackedPolygon>
+{
+	private static final String ERROR_MESSAGE = "Poligono:vi";
+	// how far apart two shapes must be for the fast paths to tell they don't intersect,
+	// closer ones are left to the general tests (as their tolerance isn't the same along every direction)
+	private static final double SEPARATION_MARGIN = MathUtil.CALC_ERROR_MARGIN * 1000;
+	private int n;
+	private double[] xs;
+	private double[] ys;
+	private double[] sideA;
+	private double[] sideB;
+	private double[] sideC;
+	private double minX, minY, maxX, maxY;
+	private int orientation;
+	private boolean isAxisAligned;
+	private BoundingBox boundingBox;
+	private boolean isFrozen;
+
+	/**
+	 * Initializes a polygon
+	 *
+	 * @param vertices the vertices of the polygon
+	 * @pre vertices must contain at least 3 points
+	 * @pre vertices must generate valid sides (that don't collide)
+	 */
+	public PackedPolygon(Point[] vertices) throws GeometricException
+	{
+		initialize(vertices);
+		validate();
+	}
+
+	/**
+	 * Initializes a polygon from the coordinates of it's vertices
+	 *
+	 * @param xs the x coordinates of the vertices of the polygon
+	 * @param ys the y coordinates of the vertices of the polygon
+	 * @pre xs and ys must have the same length
+	 * @pre the coordinates must be positive
+	 * @pre the vertices must be at least 3
+	 * @pre the vertices must generate valid sides (that don't collide)
+	 */
+	public PackedPolygon(double[] xs, double[] ys) throws GeometricException
+	{
+		if (xs.length != ys.length)
+			throw new GeometricException(ERROR_MESSAGE + " Every vertex must have both coordinates");
+		initialize(xs.clone(), ys.clone());
+		validate();
+	}
+
+	/**
+	 * Initializes a polygon
+	 * Parses a string into a polygon
+	 *
+	 * @param str the string to parse
+	 */
+	public PackedPolygon(String str) throws ParseException, GeometricException
+	{
+		this(Point.parseToArray(str));
+	}
+
+	/**
+	 * Initializes a polygon equivalent to another polygon
+	 * (which is already valid, so it's not validated again)
+	 *
+	 * @param poly the polygon to pack
+	 */
+	public PackedPolygon(Polygon poly)
+	{
+		initialize(poly.vertices());
+	}
+
+	/**
+	 * Copy constructor
+	 * (useful to take an immutable snapshot of a polygon that's being transformed in place)
+	 *
+	 * @param poly the polygon to copy
+	 */
+	public PackedPolygon(PackedPolygon poly)
+	{
+		initialize(poly.xs.clone(), poly.ys.clone());
+	}
+
+	/**
+	 * Initializes an empty polygon, to be filled by the trusted factories
+	 */
+	private PackedPolygon() {}
+
+	/**
+	 * Creates a polygon from vertices, without validating them
+	 *
+	 * @param vertices the vertices of the polygon
+	 * @return the polygon with the given vertices
+	 */
+	static PackedPolygon trusted(Point[] vertices)
+	{
+		PackedPolygon poly = new PackedPolygon();
+		poly.initialize(vertices);
+		return poly;
+	}
+
+	/**
+	 * Creates a polygon from the coordinates of a polygon that's already valid
+	 *
+	 * @param xs the x coordinates of the vertices (kept, not copied)
+	 * @param ys the y coordinates of the vertices (kept, not copied)
+	 * @return the polygon with the given coordinates
+	 */
+	private static PackedPolygon trusted(double[] xs, double[] ys)
+	{
+		PackedPolygon poly = new PackedPolygon();
+		poly.initialize(xs, ys);
+		return poly;
+	}
+
+	/**
+	 * Keeps the coordinates of the given vertices, computing the coefficients of the sides and the bounds
+	 *
+	 * @param vertices the vertices of the polygon
+	 */
+	private void initialize(Point[] vertices)
+	{
+		double[] xs = new double[vertices.length];
+		double[] ys = new double[vertices.length];
+		for (int i = 0; i < vertices.length; i++)
+		{
+			xs[i] = vertices[i].X();
+			ys[i] = vertices[i].Y();
+		}
+		initialize(xs, ys);
+	}
+
+	/**
+	 * Keeps the coordinates of the vertices, computing the coefficients of the sides and the bounds
+	 *
+	 * @param xs the x coordinates of the vertices
+	 * @param ys the y coordinates of the vertices
+	 */
+	private void initialize(double[] xs, double[] ys)
+	{
+		this.n = xs.length;
+		this.xs = xs;
+		this.ys = ys;
+		this.sideA = new double[this.n];
+		this.sideB = new double[this.n];
+		this.sideC = new double[this.n];
+		computeSides();
+		this.orientation = computeOrientation();
+	}
+
+	/**
+	 * Finds if the polygon is convex (every vertex turns to the same side, as the sides don't intersect),
+	 * and it's orientation if it is
+	 * (the in place transforms copy it from the source, as rotations and translations keep it)
+	 * @return 1 if the polygon is convex and counterclockwise, -1 if convex and clockwise, 0 if not convex
+	 */
+	private int computeOrientation()
+	{
+		if (this.n < 3)
+			return 0;
+
+		int orientation = 0;
+		for (int i = 0; i < this.n; i++)
+		{
+			int vertex = next(next(i));
+			double turn = this.sideA[i] * this.xs[vertex] + this.sideB[i] * this.ys[vertex] + this.sideC[i];
+			int sign = turn > 0 ? 1 : (turn < 0 ? -1 : 0);
+			if (sign == 0 || (orientation != 0 && sign != orientation))
+				return 0;
+			orientation = sign;
+		}
+		return orientation;
+	}
+
+	/**
+	 * Computes the coefficients of the sides and the bounds from the coordinates of the vertices
+	 */
+	private void computeSides()
+	{
+		this.boundingBox = null;
+		if (this.n == 0)
+			return;
+
+		this.minX = this.xs[0];
+		this.minY = this.ys[0];
+		this.maxX = this.minX;
+		this.maxY = this.minY;
+		for (int i = 0; i < this.n; i++)
+		{
+			int next = next(i);
+			this.sideA[i] = this.ys[i] - this.ys[next];
+			this.sideB[i] = this.xs[next] - this.xs[i];
+			this.sideC[i] = this.xs[i] * this.ys[next] - this.xs[next] * this.ys[i];
+			this.minX = Math.min(this.minX, this.xs[i]);
+			this.minY = Math.min(this.minY, this.ys[i]);
+			this.maxX = Math.max(this.maxX, this.xs[i]);
+			this.maxY = Math.max(this.maxY, this.ys[i]);
+		}
+		this.isAxisAligned = computeIsAxisAligned();
+	}
+
+	/**
+	 * Finds if the polygon is a rectangle with sides paralel to the axes
+	 * (a valid polygon with 4 sides, all of them horizontal or vertical).
+	 * Unlike the orientation, it's found every time the polygon is transformed in place, as rotations change it
+	 * @return if the polygon is an axis aligned rectangle
+	 */
+	private boolean computeIsAxisAligned()
+	{
+		if (this.n != 4)
+			return false;
+		for (int i = 0; i < this.n; i++)
+			if (this.sideA[i] != 0 && this.sideB[i] != 0)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Validates the polygon, the same way a {@link Polygon} is validated
+	 * @throws GeometricException if the vertices don't make a valid polygon
+	 */
+	private void validate() throws GeometricException
+	{
+		if (this.n < 3)
+			throw new GeometricException(ERROR_MESSAGE + " A polygon must have at least 3 vertices");
+
+		validateCoordinates();
+		for (int i = 0; i < this.n; i++)
+			if (isVertex(next(i), this.xs[i], this.ys[i]))
+				throw new GeometricException(ERROR_MESSAGE + " can't create a side with two equal points.");
+
+		if (isAnyVertexCollinear())
+			throw new GeometricException(ERROR_MESSAGE + " Polygon has collinear points");
+		if (doSidesIntersect())
+			throw new GeometricException(ERROR_MESSAGE + " Polygon sides intersection");
+	}
+
+	/**
+	 * Validates the coordinates of the vertices, which is enough for a rigid transform
+	 * (rotation or translation) of a valid polygon
+	 * @throws GeometricException if any coordinate is negative
+	 */
+	private void validateCoordinates() throws GeometricException
+	{
+		for (int i = 0; i < this.n; i++)
+			if (this.xs[i] < 0 || this.ys[i] < 0)
+				throw new GeometricException(ERROR_MESSAGE + " point coordinates should always be positive");
+	}
+
+	/**
+	 * Checks if any vertex is collinear with the side before the previous vertex
+	 * @return if there are any collinear (invalid) vertices
+	 */
+	boolean isAnyVertexCollinear()
+	{
+		for (int i = 0; i < this.n; i++)
+		{
+			int vertex = (i + 2) % this.n;
+			if (isCollinear(this, i, this.xs[vertex], this.ys[vertex]))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if any sides are colliding (intersecting eachother)
+	 * Uses a sweep line (Shamos-Hoey): the ends of the sides are swept from left to right,
+	 * keeping the sides the sweep line is crossing ordered from bottom to top.
+	 * Until two sides touch, the leftmost touch is between two sides that are next to
+	 * eachother in that order, so only those are tested, as sides are added and removed.
+	 * Sides that touch without crossing (which is rare) are resolved by testing every pair of sides.
+	 * @return if there is any collision within the sides
+	 */
+	boolean doSidesIntersect()
+	{
+		if (this.n < 4)
+			return false; // every side is next to the other ones
+
+		// an event is the left (even) or right (odd) end of a side
+		Integer[] events = new Integer[2 * this.n];
+		for (int i = 0; i < events.length; i++)
+			events[i] = i;
+		Arrays.sort(events, this::compareEvents);
+
+		SweepOrder order = new SweepOrder();
+		TreeSet<Integer> sweep = new TreeSet<Integer>(order);
+		for (int event : events)
+		{
+			int side = event / 2;
+			order.x = this.xs[endOf(event)];
+			Integer lower = sweep.lower(side);
+			Integer higher = sweep.higher(side);
+			if (event % 2 == 0)
+			{
+				if (!sweep.add(side))
+					return doAnySidesIntersect();
+				if (doSidesTouch(side, lower) || doSidesTouch(side, higher))
+					return doAnySidesIntersect();
+			}
+			else
+			{
+				if (!sweep.remove(side))
+					return doAnySidesIntersect();
+				if (doSidesTouch(lower, higher))
+					return doAnySidesIntersect();
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Orders the sides crossed by the sweep line from bottom to top, where they cross it.
+	 * Sides that cross it at the same point are ordered as they are right before it,
+	 * if they both end there, or else as they are right after it (vertical sides going up last).
+	 */
+	private class SweepOrder implements Comparator<Integer>
+	{
+		private double x;
+
+		@Override
+		public int compare(Integer side, Integer other)
+		{
+			if (side.equals(other))
+				return 0;
+			int order = Double.compare(yAt(side, this.x), yAt(other, this.x));
+			if (order == 0 && endsAt(side, this.x) && endsAt(other, this.x))
+				order = Double.compare(slopeOf(other), slopeOf(side));
+			if (order == 0)
+				order = Double.compare(slopeOf(side), slopeOf(other));
+			if (order == 0)
+				order = Integer.compare(side, other);
+			return order;
+		}
+	}
+
+	/**
+	 * Checks if a side, that isn't vertical, ends at an x coordinate
+	 * @param side the index of the side
+	 * @param x the x coordinate
+	 * @return if the side ends at x
+	 */
+	private boolean endsAt(int side, double x)
+	{
+		return this.xs[endOf(2 * side + 1)] == x && this.xs[endOf(2 * side)] != x;
+	}
+
+	/**
+	 * Checks if any sides are colliding (intersecting eachother), testing every pair of sides
+	 * @return if there is any collision within the sides
+	 */
+	private boolean doAnySidesIntersect()
+	{
+		for (int i = 2; i < this.n - 1; i++)
+			for (int j = 0; j < (i - 1); j++)
+				if (sidesIntersect(this, i, this, j))
+					return true;
+		for (int j = 1; j < this.n - 2; j++)
+			if (sidesIntersect(this, this.n - 1, this, j))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks if two sides, that aren't next to eachother in the polygon, touch (or intersect)
+	 * @param side the index of a side (can be null)
+	 * @param other the index of the other side (can be null)
+	 * @return if both sides exist, aren't next to eachother, and touch
+	 */
+	private boolean doSidesTouch(Integer side, Integer other)
+	{
+		if (side == null || other == null)
+			return false;
+		int distance = Math.abs(side - other);
+		if (distance == 1 || distance == this.n - 1)
+			return false;
+		return sidesIntersectInclusive(this, Math.max(side, other), this, Math.min(side, other));
+	}
+
+	/**
+	 * The vertex at an end of a side
+	 * @param event the end of the side (the side * 2, plus 1 for the right end)
+	 * @return the index of the vertex at that end
+	 */
+	private int endOf(int event)
+	{
+		int side = event / 2;
+		int next = next(side);
+		boolean isSideLeft = this.xs[side] < this.xs[next] || (this.xs[side] == this.xs[next] && this.ys[side] < this.ys[next]);
+		return isSideLeft == (event % 2 == 0) ? side : next;
+	}
+
+	/**
+	 * Orders the ends of the sides from left to right, then from bottom to top,
+	 * with right ends before left ends at the same point
+	 * @param event an end of a side
+	 * @param other the other end of a side
+	 * @return the order of the two ends
+	 */
+	private int compareEvents(int event, int other)
+	{
+		int vertex = endOf(event);
+		int otherVertex = endOf(other);
+		int order = Double.compare(this.xs[vertex], this.xs[otherVertex]);
+		if (order == 0)
+			order = Double.compare(this.ys[vertex], this.ys[otherVertex]);
+		if (order == 0)
+			order = Integer.compare(other % 2, event % 2);
+		if (order == 0)
+			order = Integer.compare(event, other);
+		return order;
+	}
+
+	/**
+	 * The y coordinate of a side at an x coordinate (exact at it's ends, and the bottom end for vertical sides)
+	 * @param side the index of the side
+	 * @param x the x coordinate
+	 * @return the y coordinate of the side at x
+	 */
+	private double yAt(int side, double x)
+	{
+		int left = endOf(2 * side);
+		int right = endOf(2 * side + 1);
+		if (x == this.xs[left])
+			return this.ys[left];
+		if (x == this.xs[right])
+			return this.ys[right];
+		return this.ys[left] + (x - this.xs[left]) * (this.ys[right] - this.ys[left]) / (this.xs[right] - this.xs[left]);
+	}
+
+	/**
+	 * The slope of a side, from it's left end (infinite, for vertical sides)
+	 * @param side the index of the side
+	 * @return the slope of the side
+	 */
+	private double slopeOf(int side)
+	{
+		int left = endOf(2 * side);
+		int right = endOf(2 * side + 1);
+		if (this.xs[left] == this.xs[right])
+			return Double.POSITIVE_INFINITY;
+		return (this.ys[right] - this.ys[left]) / (this.xs[right] - this.xs[left]);
+	}
+
+	/**
+	 * The index of the vertex after a vertex
+	 * @param i the index of the vertex
+	 * @return the index of the next vertex
+	 */
+	private int next(int i)
+	{
+		return i + 1 == this.n ? 0 : i + 1;
+	}
+
+	/**
+	 * Checks if a vertex is equal to a point
+	 * @param i the index of the vertex
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return if the vertex is equal to the point
+	 */
+	private boolean isVertex(int i, double x, double y)
+	{
+		return MathUtil.areEqual(this.xs[i], x) && MathUtil.areEqual(this.ys[i], y);
+	}
+
+	/**
+	 * Checks if a point is on the line of a side
+	 * @param poly the polygon of the side
+	 * @param side the index of the side
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return if the point is on the line of the side
+	 */
+	private static boolean isCollinear(PackedPolygon poly, int side, double x, double y)
+	{
+		return MathUtil.areEqual(x * poly.sideA[side] + y * poly.sideB[side] + poly.sideC[side], 0);
+	}
+
+	/**
+	 * Checks if a point is one of the ends of a side
+	 * @param poly the polygon of the side
+	 * @param side the index of the side
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return if the point is one of the ends of the side
+	 */
+	private static boolean isOnSideBounds(PackedPolygon poly, int side, double x, double y)
+	{
+		return poly.isVertex(side, x, y) || poly.isVertex(poly.next(side), x, y);
+	}
+
+	/**
+	 * Checks if a side contains a point, as {@link LineSegment#contains(VirtualPoint)}
+	 * @param poly the polygon of the side
+	 * @param side the index of the side
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return if the side contains the point
+	 */
+	private static boolean sideContains(PackedPolygon poly, int side, double x, double y)
+	{
+		if (!isCollinear(poly, side, x, y))
+			return false;
+
+		int next = poly.next(side);
+		double minX = Math.min(poly.xs[side], poly.xs[next]);
+		double maxX = Math.max(poly.xs[side], poly.xs[next]);
+		double minY = Math.min(poly.ys[side], poly.ys[next]);
+		double maxY = Math.max(poly.ys[side], poly.ys[next]);
+		boolean containsX = (x > minX && x < maxX) || MathUtil.areEqual(x, minX) || MathUtil.areEqual(x, maxX);
+		boolean containsY = (y > minY && y < maxY) || MathUtil.areEqual(y, minY) || MathUtil.areEqual(y, maxY);
+		return containsX && containsY;
+	}
+
+	/**
+	 * Checks if a side contains a point, excluding it's ends, as {@link LineSegment#containsExclusive(VirtualPoint)}
+	 * @param poly the polygon of the side
+	 * @param side the index of the side
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return if the side contains the point (exclusive)
+	 */
+	private static boolean sideContainsExclusive(PackedPolygon poly, int side, double x, double y)
+	{
+		if (!isCollinear(poly, side, x, y) || isOnSideBounds(poly, side, x, y))
+			return false;
+		return sideContains(poly, side, x, y);
+	}
+
+	/**
+	 * The determinant of the lines of two sides (0 if they're paralel)
+	 * @param a1 the x coefficient of the first line
+	 * @param b1 the y coefficient of the first line
+	 * @param a2 the x coefficient of the second line
+	 * @param b2 the y coefficient of the second line
+	 * @return the determinant of the two lines
+	 */
+	private static double determinant(double a1, double b1, double a2, double b2)
+	{
+		return a1 * b2 - a2 * b1;
+	}
+
+	/**
+	 * Checks if two sides intersect, as {@link LineSegment#intersects(LineSegment)}
+	 * @param poly the polygon of the first side
+	 * @param side the index of the first side
+	 * @param other the polygon of the second side
+	 * @param otherSide the index of the second side
+	 * @return if the two sides intersect
+	 */
+	private static boolean sidesIntersect(PackedPolygon poly, int side, PackedPolygon other, int otherSide)
+	{
+		double a1 = poly.sideA[side], b1 = poly.sideB[side], c1 = poly.sideC[side];
+		double a2 = other.sideA[otherSide], b2 = other.sideB[otherSide], c2 = other.sideC[otherSide];
+		double det = determinant(a1, b1, a2, b2);
+		if (MathUtil.areEqual(det, 0))
+			return false;
+
+		double x = (b1 * c2 - b2 * c1) / det;
+		double y = (a2 * c1 - a1 * c2) / det;
+		if (isOnSideBounds(poly, side, x, y) || isOnSideBounds(other, otherSide, x, y))
+			return false;
+		return sideContains(poly, side, x, y) && sideContains(other, otherSide, x, y);
+	}
+
+	/**
+	 * Checks if two sides intersect (inclusive), as {@link LineSegment#intersectsInclusive(LineSegment)}
+	 * @param poly the polygon of the first side
+	 * @param side the index of the first side
+	 * @param other the polygon of the second side
+	 * @param otherSide the index of the second side
+	 * @return if the two sides intersect (inclusive)
+	 */
+	private static boolean sidesIntersectInclusive(PackedPolygon poly, int side, PackedPolygon other, int otherSide)
+	{
+		double a1 = poly.sideA[side], b1 = poly.sideB[side], c1 = poly.sideC[side];
+		double a2 = other.sideA[otherSide], b2 = other.sideB[otherSide], c2 = other.sideC[otherSide];
+		double det = determinant(a1, b1, a2, b2);
+		if (MathUtil.areEqual(det, 0))
+			return doParalelSidesOverlap(poly, side, other, otherSide);
+
+		double x = (b1 * c2 - b2 * c1) / det;
+		double y = (a2 * c1 - a1 * c2) / det;
+		if (isOnSideBounds(poly, side, x, y) && isOnSideBounds(other, otherSide, x, y))
+			return true;
+		return sideContains(poly, side, x, y) && sideContains(other, otherSide, x, y);
+	}
+
+	/**
+	 * Checks if two paralel sides overlap
+	 * @param poly the polygon of the first side
+	 * @param side the index of the first side
+	 * @param other the polygon of the second side
+	 * @param otherSide the index of the second side
+	 * @return if the two sides overlap
+	 */
+	private static boolean doParalelSidesOverlap(PackedPolygon poly, int side, PackedPolygon other, int otherSide)
+	{
+		if (!isCollinear(poly, side, other.xs[otherSide], other.ys[otherSide]))
+			return false;
+		int next = poly.next(side);
+		int otherNext = other.next(otherSide);
+		return sideContains(poly, side, other.xs[otherSide], other.ys[otherSide]) ||
+			sideContains(poly, side, other.xs[otherNext], other.ys[otherNext]) ||
+			sideContains(other, otherSide, poly.xs[side], poly.ys[side]) ||
+			sideContains(other, otherSide, poly.xs[next], poly.ys[next]);
+	}
+
+	/**
+	 * Checks if the bounds of a side intersect the bounds of the polygon (inclusive)
+	 * @param poly the polygon of the side
+	 * @param side the index of the side
+	 * @return if the bounds intersect (inclusive)
+	 */
+	private boolean boundsIntersectInclusive(PackedPolygon poly, int side)
+	{
+		int next = poly.next(side);
+		return MathUtil.isLessOrEqualThan(this.minX, Math.max(poly.xs[side], poly.xs[next])) &&
+			MathUtil.isLessOrEqualThan(Math.min(poly.xs[side], poly.xs[next]), this.maxX) &&
+			MathUtil.isLessOrEqualThan(this.minY, Math.max(poly.ys[side], poly.ys[next])) &&
+			MathUtil.isLessOrEqualThan(Math.min(poly.ys[side], poly.ys[next]), this.maxY);
+	}
+
+	/**
+	 * Checks if the bounds of two polygons intersect (inclusive)
+	 * @param that the other polygon
+	 * @return if the bounds intersect (inclusive)
+	 */
+	private boolean boundsIntersectInclusive(PackedPolygon that)
+	{
+		return MathUtil.isLessOrEqualThan(this.minX, that.maxX) &&
+			MathUtil.isLessOrEqualThan(that.minX, this.maxX) &&
+			MathUtil.isLessOrEqualThan(this.minY, that.maxY) &&
+			MathUtil.isLessOrEqualThan(that.minY, this.maxY);
+	}
+
+	/**
+	 * Checks if the bounds of the polygon contain a bounding box (inclusive)
+	 * @param box the bounding box
+	 * @return if the bounds contain the box
+	 */
+	private boolean boundsContain(BoundingBox box)
+	{
+		return MathUtil.isLessOrEqualThan(this.minX, box.minPoint().X()) &&
+			MathUtil.isGreaterOrEqualThan(this.maxX, box.maxPoint().X()) &&
+			MathUtil.isLessOrEqualThan(this.minY, box.minPoint().Y()) &&
+			MathUtil.isGreaterOrEqualThan(this.maxY, box.maxPoint().Y());
+	}
+
+	/**
+	 * Checks if a value is between two others, excluding them (and anything within the error margin of them)
+	 * @param value the value
+	 * @param min the smallest of the two values
+	 * @param max the largest of the two values
+	 * @return if the value is strictly between the two values
+	 */
+	private static boolean isStrictlyBetween(double value, double min, double max)
+	{
+		return value > min && value < max && !MathUtil.areEqual(value, min) && !MathUtil.areEqual(value, max);
+	}
+
+	/**
+	 * Checks if a horizontal side of an axis aligned rectangle crosses a vertical side of another
+	 * (properly, so touching doesn't count), in the same way {@link #sidesIntersect} would
+	 * @param horizontal the rectangle of the horizontal side
+	 * @param vertical the rectangle of the vertical side
+	 * @return if the sides cross
+	 * @pre both polygons are axis aligned
+	 */
+	private static boolean doBoxSidesCross(PackedPolygon horizontal, PackedPolygon vertical)
+	{
+		return (isStrictlyBetween(vertical.minX, horizontal.minX, horizontal.maxX) ||
+				isStrictlyBetween(vertical.maxX, horizontal.minX, horizontal.maxX)) &&
+			(isStrictlyBetween(horizontal.minY, vertical.minY, vertical.maxY) ||
+				isStrictlyBetween(horizontal.maxY, vertical.minY, vertical.maxY));
+	}
+
+	/**
+	 * Checks if the polygon is inside the interior of an axis aligned rectangle,
+	 * not touching it's sides
+	 * @param box the rectangle
+	 * @return if the polygon is inside the rectangle without touching it
+	 * @pre box is axis aligned
+	 */
+	private boolean isInsideBoxInterior(PackedPolygon box)
+	{
+		return isStrictlyBetween(this.minX, box.minX, box.maxX) && isStrictlyBetween(this.maxX, box.minX, box.maxX) &&
+			isStrictlyBetween(this.minY, box.minY, box.maxY) && isStrictlyBetween(this.maxY, box.minY, box.maxY);
+	}
+
+	/**
+	 * Checks if two convex polygons are separated (with a gap larger than the separation margin)
+	 * by the line of a side of either of them (the separating axis theorem)
+	 * @param poly the first polygon
+	 * @param other the second polygon
+	 * @return if the polygons are separated
+	 * @pre both polygons are convex
+	 */
+	private static boolean areSeparated(PackedPolygon poly, PackedPolygon other)
+	{
+		return isSeparatedBySide(poly, other) || isSeparatedBySide(other, poly);
+	}
+
+	/**
+	 * Checks if a polygon is entirely on the outer side of the line of a side of a convex polygon
+	 * @param poly the convex polygon of the sides
+	 * @param other the other polygon
+	 * @return if the other polygon is outside the line of any side
+	 * @pre poly is convex
+	 */
+	private static boolean isSeparatedBySide(PackedPolygon poly, PackedPolygon other)
+	{
+		for (int i = 0; i < poly.n; i++)
+		{
+			// the line's values grow with the distance times the length of the side
+			double margin = SEPARATION_MARGIN * Math.sqrt(poly.sideA[i] * poly.sideA[i] + poly.sideB[i] * poly.sideB[i]);
+			boolean isSeparated = true;
+			for (int j = 0; j < other.n && isSeparated; j++)
+				isSeparated = poly.orientation * (poly.sideA[i] * other.xs[j] + poly.sideB[i] * other.ys[j] + poly.sideC[i]) < -margin;
+			if (isSeparated)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks if a circle can't intersect the polygon:
+	 * if the closest point of the sides to it's centre is farther than it's radius (with the separation margin),
+	 * or if every vertex is inside of it (as the sides are all inside the circle)
+	 * @param circle the circle
+	 * @return if the circle doesn't intersect the polygon (false if it's not known)
+	 */
+	private boolean isOutOfReach(Circle circle)
+	{
+		double cx = circle.getCentroid().X();
+		double cy = circle.getCentroid().Y();
+		double radius = circle.radius();
+		double reach = (radius + SEPARATION_MARGIN) * (radius + SEPARATION_MARGIN);
+		boolean isAnyInReach = false;
+		boolean areAllInside = true;
+		for (int i = 0; i < this.n; i++)
+		{
+			areAllInside = areAllInside && dist(cx, cy, this.xs[i], this.ys[i]) < radius;
+			if (!isAnyInReach)
+				isAnyInReach = closestSquaredDistance(i, cx, cy) <= reach;
+		}
+		return !isAnyInReach || areAllInside;
+	}
+
+	/**
+	 * The squared distance from a point to the closest point of a side
+	 * @param side the index of the side
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return the squared distance from the point to the side
+	 */
+	private double closestSquaredDistance(int side, double x, double y)
+	{
+		int next = next(side);
+		double dx = this.xs[next] - this.xs[side];
+		double dy = this.ys[next] - this.ys[side];
+		double t = ((x - this.xs[side]) * dx + (y - this.ys[side]) * dy) / (dx * dx + dy * dy);
+		t = Math.max(0, Math.min(1, t));
+		double distX = this.xs[side] + t * dx - x;
+		double distY = this.ys[side] + t * dy - y;
+		return distX * distX + distY * distY;
+	}
+
+	/**
+	 * The packed equivalent of a shape, if it's a polygon
+	 * @param shape the shape
+	 * @return the packed polygon, or null if the shape isn't a polygon
+	 */
+	private static PackedPolygon packedOf(IGeometricShape<?> shape)
+	{
+		if (shape instanceof PackedPolygon)
+			return (PackedPolygon) shape;
+		else if (shape instanceof Polygon)
+			return ((Polygon) shape).packed();
+		return null;
+	}
+
+	@Override
+	public boolean intersects(IGeometricShape<?> that)
+	{
+		PackedPolygon packed = packedOf(that);
+		if (packed != null)
+			return intersects(packed);
+		else if (that instanceof Circle)
+			return intersects((Circle) that);
+		else
+			throw new UnsupportedOperationException(this.getClass() + " doesn't have intersect method for " + that.getClass());
+	}
+
+	/**
+	 * Checks if the polygon is intersected by a side of another polygon
+	 * @param poly the polygon of the side
+	 * @param side the index of the side
+	 * @return if the polygon is intersected by the side
+	 */
+	private boolean intersects(PackedPolygon poly, int side)
+	{
+		if (!boundsIntersectInclusive(poly, side))
+			return false;
+		for (int i = 0; i < this.n; i++)
+			if (sidesIntersect(this, i, poly, side))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks if a polygon intersects another polygon
+	 * Axis aligned rectangles only compare their bounds, and convex polygons that are apart
+	 * are told by the separating axis theorem, without intersecting every pair of sides
+	 * @param that the polygon to test collision with
+	 * @return if the polygon intersects the other
+	 */
+	public boolean intersects(PackedPolygon that)
+	{
+		if (!boundsIntersectInclusive(that))
+			return false;
+		if (this.isAxisAligned && that.isAxisAligned)
+			return doBoxSidesCross(this, that) || doBoxSidesCross(that, this);
+		if (this.orientation != 0 && that.orientation != 0 && areSeparated(this, that))
+			return false;
+		for (int i = 0; i < this.n; i++)
+			if (that.intersects(this, i))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks for intersection with a circle
+	 * @param that the circle to check intersection with
+	 * @return if the polygon intersects with the circle
+	 */
+	public boolean intersects(Circle that)
+	{
+		if (!that.getBoundingBox().intersectsInclusive(getBoundingBox()))
+			return false;
+		if (isOutOfReach(that))
+			return false;
+		for (int i = 0; i < this.n; i++)
+			if (isSideIntersectedBy(that, i, false))
+				return true;
+		return false;
+	}
+
+	@Override
+	public boolean intersectsInclusive(IGeometricShape<?> that)
+	{
+		PackedPolygon packed = packedOf(that);
+		if (packed != null)
+			return intersectsInclusive(packed);
+		else if (that instanceof Circle)
+			return intersectsInclusive((Circle) that);
+		else
+			throw new UnsupportedOperationException(this.getClass() + " doesn't have intersect method for " + that.getClass());
+	}
+
+	/**
+	 * Checks if the polygon is intersected by a side of another polygon (inclusive)
+	 * @param poly the polygon of the side
+	 * @param side the index of the side
+	 * @return if the polygon is intersected by the side (inclusive)
+	 */
+	private boolean intersectsInclusive(PackedPolygon poly, int side)
+	{
+		if (!boundsIntersectInclusive(poly, side))
+			return false;
+		for (int i = 0; i < this.n; i++)
+			if (sidesIntersectInclusive(this, i, poly, side))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks if the polygon intersects another polygon (inclusive)
+	 * Axis aligned rectangles only compare their bounds (their sides touch if they overlap,
+	 * but neither is inside the other), and convex polygons that are apart
+	 * are told by the separating axis theorem, without intersecting every pair of sides
+	 * @param that the polygon to check intersection with
+	 * @return if the polygon intersects the other polygon (inclusive)
+	 */
+	public boolean intersectsInclusive(PackedPolygon that)
+	{
+		if (!boundsIntersectInclusive(that))
+			return false;
+		if (this.isAxisAligned && that.isAxisAligned)
+			return !this.isInsideBoxInterior(that) && !that.isInsideBoxInterior(this);
+		if (this.orientation != 0 && that.orientation != 0 && areSeparated(this, that))
+			return false;
+		for (int i = 0; i < this.n; i++)
+			if (that.intersectsInclusive(this, i))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks for intersection with a circle (inclusive)
+	 * @param that the circle to check intersection with
+	 * @return if the polygon intersects with the circle (inclusive)
+	 */
+	public boolean intersectsInclusive(Circle that)
+	{
+		if (!that.getBoundingBox().intersectsInclusive(getBoundingBox()))
+			return false;
+		if (isOutOfReach(that))
+			return false;
+		for (int i = 0; i < this.n; i++)
+			if (isSideIntersectedBy(that, i, true))
+				return true;
+		return false;
+	}
+
+	/**
+	 * Checks if a side is intersected by a circle, as {@link Circle#intersects(LineSegment)}
+	 * @param circle the circle
+	 * @param side the index of the side
+	 * @param isInclusive if touching the circle counts as intersecting it
+	 * @return if the side is intersected by the circle
+	 */
+	private boolean isSideIntersectedBy(Circle circle, int side, boolean isInclusive)
+	{
+		BoundingBox box = circle.getBoundingBox();
+		int next = next(side);
+		if (!(MathUtil.isLessOrEqualThan(box.minPoint().X(), Math.max(this.xs[side], this.xs[next])) &&
+			MathUtil.isLessOrEqualThan(Math.min(this.xs[side], this.xs[next]), box.maxPoint().X()) &&
+			MathUtil.isLessOrEqualThan(box.minPoint().Y(), Math.max(this.ys[side], this.ys[next])) &&
+			MathUtil.isLessOrEqualThan(Math.min(this.ys[side], this.ys[next]), box.maxPoint().Y())))
+			return false;
+
+		double cx = circle.getCentroid().X();
+		double cy = circle.getCentroid().Y();
+		double radius = circle.radius();
+		boolean firstOnCircle = dist(cx, cy, this.xs[side], this.ys[side]) < radius;
+		boolean secondOnCircle = dist(cx, cy, this.xs[next], this.ys[next]) < radius;
+		if (firstOnCircle != secondOnCircle)
+			return true;
+		else if (firstOnCircle && secondOnCircle)
+			return false;
+
+		// the line perpendicular to the side, through the centre (as Line#generatePerpendicular)
+		double a1 = this.sideA[side], b1 = this.sideB[side], c1 = this.sideC[side];
+		double a2 = -b1;
+		double b2 = a1;
+		double c2 = (cx - b2) * cy - cx * (a2 + cy);
+
+		double det = determinant(a1, b1, a2, b2);
+		double x = (b1 * c2 - b2 * c1) / det;
+		double y = (a2 * c1 - a1 * c2) / det;
+		if (!sideContains(this, side, x, y))
+			return false;
+		double distance = dist(cx, cy, x, y);
+		return isInclusive ? MathUtil.isLessOrEqualThan(distance, radius) : distance < radius;
+	}
+
+	/**
+	 * The distance between two points
+	 * @param x0 the x coordinate of the first point
+	 * @param y0 the y coordinate of the first point
+	 * @param x1 the x coordinate of the second point
+	 * @param y1 the y coordinate of the second point
+	 * @return the distance between the two points
+	 */
+	private static double dist(double x0, double y0, double x1, double y1)
+	{
+		double dx = x0 - x1;
+		double dy = y0 - y1;
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+
+	@Override
+	public boolean contains(IGeometricShape<?> that)
+	{
+		PackedPolygon packed = packedOf(that);
+		if (packed != null)
+			return contains(packed);
+		else if (that instanceof Circle)
+			return contains((Circle) that);
+		else
+			throw new UnsupportedOperationException(this.getClass() + " doesn't have contain method for " + that.getClass());
+	}
+
+	/**
+	 * Checks if the polygon contains a point
+	 * @param that the point to check if is inside the polygon
+	 * @return if the polygon contains the point
+	 */
+	public boolean contains(VirtualPoint that)
+	{
+		return contains(that.X(), that.Y());
+	}
+
+	/**
+	 * Checks if the polygon contains a point (including it's boundary), without allocating.
+	 * A convex polygon finds the wedge around it's first vertex the point is in, with a binary search,
+	 * and any other polygon counts the sides crossed by a horizontal ray from the point to the right
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return if the polygon contains the point
+	 */
+	public boolean contains(double x, double y)
+	{
+		if (!(MathUtil.isLessOrEqualThan(this.minX, x) && MathUtil.isGreaterOrEqualThan(this.maxX, x) &&
+			MathUtil.isLessOrEqualThan(this.minY, y) && MathUtil.isGreaterOrEqualThan(this.maxY, y)))
+			return false;
+		if (this.orientation != 0)
+			return convexContains(x, y);
+
+		boolean isInside = false;
+		for (int i = 0; i < this.n; i++)
+		{
+			if (isOnSide(i, x, y))
+				return true;
+
+			// half open on y, so a vertex at the height of the point is crossed by one side at most
+			int next = next(i);
+			if ((this.ys[i] > y) != (this.ys[next] > y) &&
+				x < this.xs[i] + (y - this.ys[i]) * (this.xs[next] - this.xs[i]) / (this.ys[next] - this.ys[i]))
+				isInside = !isInside;
+		}
+		return isInside;
+	}
+
+	/**
+	 * Checks if a convex polygon contains a point, in O(log n):
+	 * the rays from the first vertex to every other vertex split the polygon in triangles (wedges),
+	 * so the wedge of the point is found with a binary search, and the point
+	 * is contained if it's on the inner side of the side that closes the wedge.
+	 * Only the sides around the point are checked for containing it, as the rest are too far away.
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return if the polygon contains the point
+	 */
+	private boolean convexContains(double x, double y)
+	{
+		if (isOnSide(this.n - 1, x, y) || isOnSide(0, x, y))
+			return true;
+		if (rayCross(1, x, y) < 0)
+			return isOnSide(1, x, y);
+		if (rayCross(this.n - 1, x, y) > 0)
+			return isOnSide(this.n - 2, x, y);
+
+		int low = 1;
+		int high = this.n - 1;
+		while (high - low > 1)
+		{
+			int mid = (low + high) >>> 1;
+			if (rayCross(mid, x, y) >= 0)
+				low = mid;
+			else
+				high = mid;
+		}
+
+		if (this.orientation * (this.sideA[low] * x + this.sideB[low] * y + this.sideC[low]) >= 0)
+			return true;
+		return isOnSide(low - 1, x, y) || isOnSide(low, x, y) || isOnSide(low + 1, x, y);
+	}
+
+	/**
+	 * The cross product of the ray from the first vertex to another vertex and the ray from the first vertex to a point,
+	 * positive if the point is on the inner side of the ray
+	 * @param vertex the index of the vertex the ray goes to
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return the cross product of both rays, with the sign of the orientation of the polygon
+	 */
+	private double rayCross(int vertex, double x, double y)
+	{
+		return this.orientation * ((this.xs[vertex] - this.xs[0]) * (y - this.ys[0]) - (this.ys[vertex] - this.ys[0]) * (x - this.xs[0]));
+	}
+
+	/**
+	 * Checks if a side (or it's first vertex) contains a point
+	 * @param side the index of the side
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return if the side contains the point
+	 */
+	private boolean isOnSide(int side, double x, double y)
+	{
+		return isVertex(side, x, y) || sideContains(this, side, x, y);
+	}
+
+	/**
+	 * Checks if the polygon contains a circle
+	 * @param that the circle to check if is inside the polygon
+	 * @return if the polygon contains the circle
+	 */
+	public boolean contains(Circle that)
+	{
+		if (!boundsContain(that.getBoundingBox()))
+			return false;
+		if (this.intersects(that))
+			return false;
+		if (that.contains(this))
+			return false;
+		if (this.contains(that.getCentroid()))
+			return true;
+		return false;
+	}
+
+	/**
+	 * Checks if the polygon contains another polygon
+	 * @param that the polygon to check if is inside this polygon
+	 * @return if the polygon is inside this one
+	 */
+	public boolean contains(PackedPolygon that)
+	{
+		if (!(MathUtil.isLessOrEqualThan(this.minX, that.minX) && MathUtil.isGreaterOrEqualThan(this.maxX, that.maxX) &&
+			MathUtil.isLessOrEqualThan(this.minY, that.minY) && MathUtil.isGreaterOrEqualThan(this.maxY, that.maxY)))
+			return false;
+		// an axis aligned rectangle contains everything inside it's bounds
+		if (this.isAxisAligned)
+			return true;
+		// a convex polygon contains the sides between any two of the vertices it contains
+		if (this.orientation == 0 && this.intersects(that))
+			return false;
+
+		for (int i = 0; i < that.n; i++)
+			if (!this.contains(that.xs[i], that.ys[i]))
+				return false;
+		return true;
+	}
+
+	@Override
+	public double perimeter()
+	{
+		double result = 0;
+		for (int i = 0; i < this.n; i++)
+			result += dist(this.xs[i], this.ys[i], this.xs[next(i)], this.ys[next(i)]);
+		return result;
+	}
+
+	@Override
+	public PackedPolygon rotate(double angle, VirtualPoint anchor) throws GeometricException
+	{
+		double cos = Math.cos(angle);
+		double sin = Math.sin(angle);
+		double[] newXs = new double[this.n];
+		double[] newYs = new double[this.n];
+		for (int i = 0; i < this.n; i++)
+		{
+			newXs[i] = (this.xs[i] - anchor.X()) * cos - (this.ys[i] - anchor.Y()) * sin + anchor.X();
+			newYs[i] = (this.xs[i] - anchor.X()) * sin + (this.ys[i] - anchor.Y()) * cos + anchor.Y();
+		}
+		PackedPolygon rotated = trusted(newXs, newYs);
+		rotated.validateCoordinates();
+		return rotated;
+	}
+
+	@Override
+	public PackedPolygon rotateDegrees(double angle, VirtualPoint anchor) throws GeometricException
+	{
+		return this.rotate(Math.toRadians(angle), anchor);
+	}
+
+	@Override
+	public PackedPolygon rotate(double angle) throws GeometricException
+	{
+		return this.rotate(angle, getCentroid());
+	}
+
+	@Override
+	public PackedPolygon rotateDegrees(double angle) throws GeometricException
+	{
+		return this.rotate(Math.toRadians(angle));
+	}
+
+	@Override
+	public PackedPolygon translate(Vector vector) throws GeometricException
+	{
+		double[] newXs = new double[this.n];
+		double[] newYs = new double[this.n];
+		for (int i = 0; i < this.n; i++)
+		{
+			newXs[i] = this.xs[i] + vector.X();
+			newYs[i] = this.ys[i] + vector.Y();
+		}
+		PackedPolygon translated = trusted(newXs, newYs);
+		translated.validateCoordinates();
+		return translated;
+	}
+
+	@Override
+	public PackedPolygon moveCentroid(Point newCentroid) throws GeometricException
+	{
+		return this.translate(new Vector(this.getCentroid(), newCentroid));
+	}
+
+	/**
+	 * Rotates the polygon around an anchor, writing the result into a destination polygon
+	 * instead of creating a new one (the destination can be this polygon).
+	 * The result is the same as {@link #rotate(double, VirtualPoint)}.
+	 *
+	 * The destination is changed in place, so it should only be used by whoever owns it,
+	 * and never after being shared as an immutable shape
+	 * (the {@link Polygon#packed() packed} equivalent of a polygon is frozen, so it can't be a destination).
+	 * When it changes, it gets a new bounding box.
+	 * If the rotation fails, the destination is left unchanged.
+	 *
+	 * @param angle the angle to rotate the polygon by (in radians)
+	 * @param anchor the point to rotate the polygon around
+	 * @param destination the polygon to write the rotated polygon into
+	 * @throws GeometricException if the destination doesn't have the same number of vertices or is frozen,
+	 * or if the rotated polygon would have negative coordinates
+	 */
+	public void rotateInto(double angle, VirtualPoint anchor, PackedPolygon destination) throws GeometricException
+	{
+		validateDestination(destination);
+		double cos = Math.cos(angle);
+		double sin = Math.sin(angle);
+		double anchorX = anchor.X();
+		double anchorY = anchor.Y();
+		for (int i = 0; i < this.n; i++)
+		{
+			double x = (this.xs[i] - anchorX) * cos - (this.ys[i] - anchorY) * sin + anchorX;
+			double y = (this.xs[i] - anchorX) * sin + (this.ys[i] - anchorY) * cos + anchorY;
+			if (x < 0 || y < 0)
+				throw new GeometricException(ERROR_MESSAGE + " point coordinates should always be positive");
+		}
+
+		// the destination can be this polygon, so each vertex is read before it's written
+		for (int i = 0; i < this.n; i++)
+		{
+			double x = (this.xs[i] - anchorX) * cos - (this.ys[i] - anchorY) * sin + anchorX;
+			double y = (this.xs[i] - anchorX) * sin + (this.ys[i] - anchorY) * cos + anchorY;
+			destination.xs[i] = x;
+			destination.ys[i] = y;
+		}
+		destination.computeSides();
+		destination.orientation = this.orientation;
+	}
+
+	/**
+	 * Translates the polygon, writing the result into a destination polygon
+	 * instead of creating a new one (the destination can be this polygon).
+	 * The result is the same as {@link #translate(Vector)}.
+	 * The destination is changed in place, the same way as in {@link #rotateInto(double, VirtualPoint, PackedPolygon)}.
+	 *
+	 * @param vector the vector to translate the polygon by
+	 * @param destination the polygon to write the translated polygon into
+	 * @throws GeometricException if the destination doesn't have the same number of vertices or is frozen,
+	 * or if the translated polygon would have negative coordinates
+	 */
+	public void translateInto(Vector vector, PackedPolygon destination) throws GeometricException
+	{
+		translateInto(vector.X(), vector.Y(), destination);
+	}
+
+	/**
+	 * Moves the polygon's centroid to a new position, writing the result into a destination polygon
+	 * instead of creating a new one (the destination can be this polygon).
+	 * The result is the same as {@link #moveCentroid(Point)}.
+	 * The destination is changed in place, the same way as in {@link #rotateInto(double, VirtualPoint, PackedPolygon)}.
+	 *
+	 * @param newCentroid the new position of the centroid
+	 * @param destination the polygon to write the moved polygon into
+	 * @throws GeometricException if the destination doesn't have the same number of vertices or is frozen,
+	 * or if the moved polygon would have negative coordinates
+	 */
+	public void moveCentroidInto(Point newCentroid, PackedPolygon destination) throws GeometricException
+	{
+		translateInto(newCentroid.X() - centroidX(), newCentroid.Y() - centroidY(), destination);
+	}
+
+	/**
+	 * Translates the polygon into a destination polygon
+	 * @param x the x of the vector to translate the polygon by
+	 * @param y the y of the vector to translate the polygon by
+	 * @param destination the polygon to write the translated polygon into
+	 * @throws GeometricException if the destination doesn't have the same number of vertices or is frozen,
+	 * or if the translated polygon would have negative coordinates
+	 */
+	private void translateInto(double x, double y, PackedPolygon destination) throws GeometricException
+	{
+		validateDestination(destination);
+		// adding the same value keeps the order, so the smallest coordinates stay the smallest
+		if (this.minX + x < 0 || this.minY + y < 0)
+			throw new GeometricException(ERROR_MESSAGE + " point coordinates should always be positive");
+
+		for (int i = 0; i < this.n; i++)
+		{
+			destination.xs[i] = this.xs[i] + x;
+			destination.ys[i] = this.ys[i] + y;
+		}
+		destination.computeSides();
+		destination.orientation = this.orientation;
+	}
+
+	/**
+	 * Freezes the polygon, so it can't be the destination of an in place transform anymore
+	 * (a copy of it isn't frozen, and can be changed by whoever makes it)
+	 * @return the polygon itself
+	 */
+	PackedPolygon freeze()
+	{
+		this.isFrozen = true;
+		return this;
+	}
+
+	/**
+	 * Validates the destination of an in place transform
+	 * @param destination the polygon to write the transformed polygon into
+	 * @throws GeometricException if the destination doesn't have the same number of vertices or is frozen
+	 */
+	private void validateDestination(PackedPolygon destination) throws GeometricException
+	{
+		if (destination.isFrozen)
+			throw new GeometricException(ERROR_MESSAGE + " the destination is frozen (the packed equivalent of a polygon can't change)");
+		if (destination.n != this.n)
+			throw new GeometricException(ERROR_MESSAGE + " the destination must have the same number of vertices");
+	}
+
+	/**
+	 * The x coordinate of the centroid
+	 * @return the x coordinate of the centroid
+	 */
+	private double centroidX()
+	{
+		double x = 0;
+		for (int i = 0; i < this.n; i++)
+			x += this.xs[i];
+		return x / this.n;
+	}
+
+	/**
+	 * The y coordinate of the centroid
+	 * @return the y coordinate of the centroid
+	 */
+	private double centroidY()
+	{
+		double y = 0;
+		for (int i = 0; i < this.n; i++)
+			y += this.ys[i];
+		return y / this.n;
+	}
+
+	@Override
+	public Point getCentroid()
+	{
+		try
+		{
+			return new Point(centroidX(), centroidY());
+		}
+		catch (GeometricException e)
+		{
+			throw new IllegalStateException("Should not happen: centroid should always be a valid point: " + e.getMessage());
+		}
+	}
+
+	@Override
+	public BoundingBox getBoundingBox()
+	{
+		if (this.boundingBox == null)
+			this.boundingBox = new BoundingBox(this);
+		return this.boundingBox;
+	}
+
+	/**
+	 * The vertices of the polygon, as points
+	 * @return the vertices of the polygon
+	 */
+	public Point[] vertices()
+	{
+		Point[] vertices = new Point[this.n];
+		try
+		{
+			for (int i = 0; i < this.n; i++)
+				vertices[i] = new Point(this.xs[i], this.ys[i]);
+		}
+		catch (GeometricException e)
+		{
+			throw new IllegalStateException("Should be impossible: A polygon's vertices are valid points");
+		}
+		return vertices;
+	}
+
+	/**
+	 * The equivalent {@link Polygon}
+	 * @return the equivalent polygon
+	 */
+	public Polygon toPolygon()
+	{
+		try
+		{
+			return Polygon.trusted(vertices());
+		}
+		catch (GeometricException e)
+		{
+			throw new IllegalStateException("Should be impossible: A polygon is a valid polygon");
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return "Poligono de " + this.n + " vertices: " + VirtualPoint.arrayToString(vertices());
+	}
+
+	@Override
+	public int hashCode()
+	{
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public final boolean equals(Object other)
+	{
+		if (other == this)
+			return true;
+		if (other == null)
+			return false;
+		if (other instanceof Polygon)
+			return this.isPolygonEqual(((Polygon) other).packed());
+		if (getClass() != other.getClass())
+			return false;
+		return this.isPolygonEqual((PackedPolygon) other);
+	}
+
+	/**
+	 * Tests if two polygons are equal or equivalent to eachother
+	 * (the same vertices, in either direction, starting anywhere)
+	 *
+	 * @param that the polygon to test with
+	 * @return if the two polygons are equal
+	 */
+	private boolean isPolygonEqual(PackedPolygon that)
+	{
+		if (this.n != that.n)
+			return false;
+		int startInd = -1;
+		for (int i = 0; i < that.n && startInd < 0; i++)
+			if (that.isVertex(i, this.xs[0], this.ys[0]))
+				startInd = i;
+		if (startInd < 0)
+			return false;
+
+		int direction;
+		if (that.isVertex(Math.floorMod(startInd + 1, that.n), this.xs[1], this.ys[1]))
+			direction = 1;
+		else if (that.isVertex(Math.floorMod(startInd - 1, that.n), this.xs[1], this.ys[1]))
+			direction = -1;
+		else
+			return false;
+
+		for (int i = 2; i < this.n; i++)
+			if (!that.isVertex(Math.floorMod(startInd + (i * direction), that.n), this.xs[i], this.ys[i]))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Checks if the polygon is convex
+	 * (which makes checking if it contains a point O(log n))
+	 * @return if the polygon is convex
+	 */
+	public boolean isConvex() { return this.orientation != 0; }
+
+	/**
+	 * Checks if the polygon is a rectangle with sides paralel to the axes
+	 * (which makes intersecting it with another one just comparing their bounds)
+	 * @return if the polygon is axis aligned
+	 */
+	public boolean isAxisAligned() { return this.isAxisAligned; }
+
+	/**
+	 * The number of vertices (and sides) of the polygon
+	 * @return the number of vertices of the polygon
+	 */
+	public int getNumSides() { return this.n; }
+
+	/**
+	 * The x coordinate of a vertex
+	 * @param i the index of the vertex
+	 * @return the x coordinate of the vertex
+	 */
+	public double x(int i) { return this.xs[i]; }
+
+	/**
+	 * The y coordinate of a vertex
+	 * @param i the index of the vertex
+	 * @return the y coordinate of the vertex
+	 */
+	public double y(int i) { return this.ys[i]; }
+}
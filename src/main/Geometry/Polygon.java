@@ -16,6 +16,8 @@ public class Polygon implements IGeometricShape<Polygon>
 	private static final String ERROR_MESSAGE = "Poligono:vi";
 	private LineSegment[] sides;
 	private Point[] vertices;
+	private BoundingBox boundingBox;
+	private PackedPolygon packed;
 
 	/**
 	 * Initializes a polygon
@@ -43,14 +45,38 @@ public class Polygon implements IGeometricShape<Polygon>
 
 		Point[] verticesGen = Point.copyArray(vertices);
 		LineSegment[] segments = generateSegments(verticesGen);
+		PackedPolygon packedGen = PackedPolygon.trusted(verticesGen);
 
-		if (isAnyGeneratedPointCollinear(verticesGen, segments))
+		if (packedGen.isAnyVertexCollinear())
 			throw new GeometricException(ERROR_MESSAGE + " Polygon has collinear points");
-		if (doSidesIntersect(segments))
+		if (packedGen.doSidesIntersect())
 			throw new GeometricException(ERROR_MESSAGE + " Polygon sides intersection");
 
 		this.vertices = verticesGen;
 		this.sides = segments;
+		this.packed = packedGen.freeze();
+	}
+
+	/**
+	 * Initializes an empty polygon, to be filled by {@link #trusted(Point[])}
+	 */
+	private Polygon() {}
+
+	/**
+	 * Creates a polygon that's known to be valid, such as a rigid transform
+	 * (rotation or translation) of a valid polygon or an unpacked {@link PackedPolygon},
+	 * without validating it again
+	 *
+	 * @param vertices the vertices of the polygon (kept, not copied)
+	 * @return the polygon with the given vertices
+	 * @throws GeometricException if the sides can't be generated
+	 */
+	static Polygon trusted(Point[] vertices) throws GeometricException
+	{
+		Polygon poly = new Polygon();
+		poly.vertices = vertices;
+		poly.sides = generateSegments(vertices);
+		return poly;
 	}
 
 	/**
@@ -84,6 +110,7 @@ public class Polygon implements IGeometricShape<Polygon>
 	
 	/**
 	 * Copy constructor for polygon
+	 * (the polygon is already valid, so it's not validated again)
 	 *
 	 * @param poly the polygon to copy from
 	 */
@@ -91,7 +118,9 @@ public class Polygon implements IGeometricShape<Polygon>
 	{
 		try
 		{
-			initialize(poly.vertices);
+			this.vertices = Point.copyArray(poly.vertices);
+			this.sides = generateSegments(this.vertices);
+			this.packed = poly.packed;
 		}
 		catch (GeometricException e)
 		{
@@ -99,46 +128,14 @@ public class Polygon implements IGeometricShape<Polygon>
 		}
 	}
 
-	/**
-	 * Checks if there are any collinear points in the generated segments
-	 * 
-	 * @param points	 the points that contain the vertices of the polygon
-	 * @param segments the segments generated from the vertices
-	 * @return if there are any collinear (invalid) points
-	 */
-	private static boolean isAnyGeneratedPointCollinear(Point[] points, LineSegment[] segments)
-	{
-		for (int i = 0; i < points.length; i++)
-			if (segments[i].line().isCollinear(points[(i + 2) % points.length]))
-				return true;
-		return false;
-	}
-
-	/**
-	 * Checks if any segments are colliding (intersecting eachother)
-	 * 
-	 * @param segments the segments to check the intersections of
-	 * @return if there is any collision within the segments
-	 */
-	private static boolean doSidesIntersect(LineSegment[] segments)
-	{
-		for (int i = 2; i < segments.length - 1; i++)
-			for (int j = 0; j < (i - 1); j++)
-				if (segments[i].intersects(segments[j]))
-					return true;
-		for (int j = 1; j < segments.length - 2; j++)
-			if (segments[segments.length - 1].intersects(segments[j]))
-				return true;
-
-		return false;
-	}
-
 	public boolean intersects(IGeometricShape<?> that)
 	{
 		if (that instanceof Circle)
 			return intersects((Circle) that);
 		else if (that instanceof Polygon)
 			return intersects((Polygon) that);
+		else if (that instanceof PackedPolygon)
+			return packed().intersects((PackedPolygon) that);
 		else
 			throw new UnsupportedOperationException(this.getClass() + " doesn't have intersect method for " + that.getClass());
 	}
@@ -150,6 +147,8 @@ public class Polygon implements IGeometricShape<Polygon>
 	 */
 	public boolean intersects(LineSegment that)
 	{
+		if (!getBoundingBox().intersectsInclusive(that))
+			return false;
 		for (LineSegment side : sides)
 			if (side.intersects(that))
 				return true;
@@ -158,15 +157,13 @@ public class Polygon implements IGeometricShape<Polygon>
 
 	/**
 	 * Checks if a polygon intercepts another polygon
+	 * (as {@link PackedPolygon#intersects(PackedPolygon)}, which has fast paths for convex and axis aligned polygons)
 	 * @param that the polygon to test collision with
 	 * @return if the polygon intercepts the other
 	 */
 	public boolean intersects(Polygon that)
 	{
-		for (LineSegment segment : this.sides)
-			if (that.intersects(segment))
-				return true;
-		return false;
+		return packed().intersects(that.packed());
 	}
 
 	/**
@@ -176,7 +173,7 @@ public class Polygon implements IGeometricShape<Polygon>
 	 */
 	public boolean intersects(Circle that)
 	{
-		return that.intersects(this);
+		return packed().intersects(that);
 	}
 
 	@Override
@@ -186,6 +183,8 @@ public class Polygon implements IGeometricShape<Polygon>
 			return intersectsInclusive((Circle) that);
 		else if (that instanceof Polygon)
 			return intersectsInclusive((Polygon) that);
+		else if (that instanceof PackedPolygon)
+			return packed().intersectsInclusive((PackedPolygon) that);
 		else
 			throw new UnsupportedOperationException(this.getClass() + " doesn't have intersect method for " + that.getClass());
 	}
@@ -197,7 +196,7 @@ public class Polygon implements IGeometricShape<Polygon>
 	 */
 	public boolean intersectsInclusive(Circle that)
 	{
-		return that.intersectsInclusive(this);
+		return packed().intersectsInclusive(that);
 	}
 
 	/**
@@ -207,6 +206,8 @@ public class Polygon implements IGeometricShape<Polygon>
 	 */
 	public boolean intersectsInclusive(LineSegment that)
 	{
+		if (!getBoundingBox().intersectsInclusive(that))
+			return false;
 		for (LineSegment side : sides)
 			if (side.intersectsInclusive(that))
 				return true;
@@ -215,15 +216,13 @@ public class Polygon implements IGeometricShape<Polygon>
 
 	/**
 	 * Checks if the polygon intersects another polygon (inclusive)
+	 * (as {@link PackedPolygon#intersectsInclusive(PackedPolygon)}, which has fast paths for convex and axis aligned polygons)
 	 * @param that the polygon to check intersection with
 	 * @return if the polygon intersects the other polygon (inclusive)
 	 */
 	public boolean intersectsInclusive(Polygon that)
 	{
-		for (LineSegment segment : this.sides)
-			if (that.intersectsInclusive(segment))
-				return true;
-		return false;
+		return packed().intersectsInclusive(that.packed());
 	}
 
 	@Override
@@ -233,50 +232,21 @@ public class Polygon implements IGeometricShape<Polygon>
 			return contains((Circle) that);
 		else if (that instanceof Polygon)
 			return contains((Polygon) that);
+		else if (that instanceof PackedPolygon)
+			return packed().contains((PackedPolygon) that);
 		else
 			throw new UnsupportedOperationException(this.getClass() + " doesn't have contain method for " + that.getClass());
 	}
 
 	/**
 	 * Checks if the polygon contains a point
+	 * (as {@link PackedPolygon#contains(double, double)}, which doesn't allocate)
 	 * @param that the point to check if is inside the polygon
 	 * @return if the polygon contains the point
 	 */
 	public boolean contains(Point that)
 	{
-		Line scan;
-		try
-		{
-			int x = 0;
-			if (that.X() == 0)
-				x = 10;
-			scan = new Line(new Point(x, that.Y()), that);
-		}
-		catch (GeometricException e)
-		{
-			throw new RuntimeException("Should not happen, a line between 0 and a valid point should be a valid line.\n" + e.getMessage());
-		}
-
-		int intersectNum = 0;
-
-		for (Point vertice : this.vertices)
-		{
-			if (vertice.equals(that))
-				return true;
-			if (MathUtil.isLessOrEqualThan(vertice.X(), that.X()) && scan.isCollinear(vertice))
-				intersectNum++;
-		}
-
-		for (LineSegment side : this.sides)
-		{
-			if (side.contains(that))
-				return true;
-			VirtualPoint intersection = scan.intersection(side.line());
-			if (MathUtil.isLessOrEqualThan(intersection.X(), that.X()) && side.containsExclusive(intersection))
-				intersectNum++;
-		}
-
-		return !(intersectNum % 2 == 0);
+		return packed().contains(that.X(), that.Y());
 	}
 
 	/**
@@ -286,13 +256,7 @@ public class Polygon implements IGeometricShape<Polygon>
 	 */
 	public boolean contains(Circle that)
 	{
-		if (this.intersects(that))
-			return false;
-		if (that.contains(this))
-			return false;
-		if (this.contains(that.getCentroid()))
-			return true;
-		return false;
+		return packed().contains(that);
 	}
 
 	/**
@@ -302,13 +266,7 @@ public class Polygon implements IGeometricShape<Polygon>
 	 */
 	public boolean contains(Polygon that)
 	{
-		if (this.intersects(that))
-			return false;
-
-		for (Point vertice : that.vertices())
-			if (!this.contains(vertice))
-				return false;
-		return true;
+		return packed().contains(that.packed());
 	}
 
 	/**
@@ -342,6 +300,8 @@ public class Polygon implements IGeometricShape<Polygon>
 			return true;
 		if (other == null)
 			return false;
+		if (other instanceof PackedPolygon)
+			return this.packed().equals(other);
 		if (!Polygon.class.isInstance(other))
 			return false; // if not Polygon or child of Polygon
 		Polygon that = (Polygon) other;
@@ -408,7 +368,7 @@ public class Polygon implements IGeometricShape<Polygon>
 		Point[] newVertices = new Point[this.vertices.length];
 		for (int i = 0; i < this.vertices.length; i++)
 			newVertices[i] = new Point(this.vertices[i].rotate(angle, anchor));
-		return new Polygon(newVertices);
+		return Polygon.trusted(newVertices);
 	}
 
 	/**
@@ -473,6 +433,27 @@ public class Polygon implements IGeometricShape<Polygon>
 		}
 	}
 
+	@Override
+	public BoundingBox getBoundingBox()
+	{
+		if (this.boundingBox == null)
+			this.boundingBox = new BoundingBox(this);
+		return this.boundingBox;
+	}
+
+	/**
+	 * The packed equivalent of the polygon, whose vertices and sides are stored in primitive arrays.
+	 * Computed once and cached, since polygons are immutable
+	 * (it's frozen, so it's shared by the copies of the polygon without the in place transforms changing it).
+	 * @return the packed equivalent of the polygon
+	 */
+	public PackedPolygon packed()
+	{
+		if (this.packed == null)
+			this.packed = new PackedPolygon(this).freeze();
+		return this.packed;
+	}
+
 	/**
 	 * Acessor method to get the number of sides the polygon has
 	 * 
@@ -494,7 +475,7 @@ public class Polygon implements IGeometricShape<Polygon>
 		Point[] newPoints = new Point[this.vertices.length];
 		for (int i = 0; i < this.vertices.length; i++)
 			newPoints[i] = this.vertices[i].translate(vector);
-		return new Polygon(newPoints);
+		return Polygon.trusted(newPoints);
 	}
 
 	/**
@@ -1,12 +1,6 @@
 package SnakeGame;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
-import java.util.Queue;
-
 import GameEngine.*;
-import Geometry.*;
 import SnakeGame.Direction.*;
 
 /**
@@ -21,26 +15,48 @@ import SnakeGame.Direction.*;
 public class AISnakeController extends GameObject implements ISnakeController
 {
 	/**
-	 * Represents a position associated with the position it came from.
-	 * In other words a path represented as a linked list of sorts
-	*/
-	private class Node
+	 * How the controller decides where to go
+	 */
+	public static enum Strategy
 	{
-		private Node parent;
-		private Point value;
-		public Node(Point value, Node parent)
-		{
-			this.parent = parent;
-			this.value = value;
-		}
-		public Node getParent() { return this.parent; }
-		public Point getValue() { return this.value; }
+		/**
+		 * Shortest path to the food (BFS), going towards the
+		 * furthest reachable position if the food can't be reached
+		 */
+		BFS,
+		/**
+		 * Shortest path to the food (A*, manhattan distance)
+		 */
+		A_STAR,
+		/**
+		 * Shortest path to the food (A*), only taken if the snake can still reach
+		 * it's tail after eating. Otherwise follows it's tail.
+		 */
+		SAFE,
+		/**
+		 * Follows a cycle through the whole map, falling back to
+		 * {@link Strategy#SAFE SAFE} if the cycle is blocked
+		 */
+		HAMILTONIAN,
 	}
 
+	public static final Strategy DEFAULT_STRATEGY = Strategy.BFS;
+	public static final long DEFAULT_DECISION_BUDGET_MICROS = 0;
+	private static final Direction[] DIRECTIONS = Direction.values();
 	private ISnakeStats snake;
 	private int snakeSize;
 	private ISpatialComponent food;
 	private GameMap map;
+	private GridPathfinder pathfinder;
+	private HamiltonianCycle cycle;
+	private Strategy strategy;
+	private long decisionBudgetMicros;
+	private long deadline;
+	private long lastNodesExpanded;
+	private long lastDecisionMicros;
+	private long totalNodesExpanded;
+	private long totalDecisionMicros;
+	private long decisions;
 
 	/**
 	 * Instantiates an AISnakeController
@@ -50,11 +66,29 @@ public class AISnakeController extends GameObject implements ISnakeController
 	 * @param map the map the snake is in
 	 */
 	public AISnakeController(ISnakeStats snake, int snakeSize, IFoodStats food, GameMap map)
+	{
+		this(snake, snakeSize, food, map, DEFAULT_STRATEGY, DEFAULT_DECISION_BUDGET_MICROS);
+	}
+
+	/**
+	 * Instantiates an AISnakeController
+	 * @param snake a provider for the snake to control's values
+	 * @param snakeSize the size of the snake being controlled
+	 * @param food a provider for the food's values
+	 * @param map the map the snake is in
+	 * @param strategy how the controller decides where to go
+	 * @param decisionBudgetMicros the time budget for each decision in microseconds (0 for no budget)
+	 */
+	public AISnakeController(ISnakeStats snake, int snakeSize, IFoodStats food, GameMap map, Strategy strategy, long decisionBudgetMicros)
 	{
 		this.snake = snake;
 		this.snakeSize = snakeSize;
 		this.food = food;
 		this.map = map;
+		this.pathfinder = new GridPathfinder();
+		this.cycle = null;
+		this.strategy = strategy;
+		this.decisionBudgetMicros = decisionBudgetMicros;
 	}
 
 	@Override
@@ -73,287 +107,209 @@ public class AISnakeController extends GameObject implements ISnakeController
 	}
 
 	/**
-	 * Calculates the next absolute direction the snake should go to
+	 * Calculates the next absolute direction the snake should go to,
+	 * recording the decision's metrics
 	 * @return the next absolute direction the snake should turn to
 	 */
 	private Direction generateNextAbsoluteDir()
 	{
-		Direction nextAbsoluteDir = null;
-		Point nextPos = findNextPos();
-		if (nextPos == null)
-			return null;
-
-		if (nextPos.X() > snake.position().X() && MathUtil.areEqual(nextPos.Y(), snake.position().Y()))
-			nextAbsoluteDir = Direction.RIGHT;
-		else if (nextPos.X() < snake.position().X() && MathUtil.areEqual(nextPos.Y(), snake.position().Y()))
-			nextAbsoluteDir = Direction.LEFT;
-		else if (nextPos.Y() > snake.position().Y() && MathUtil.areEqual(nextPos.X(), snake.position().X()))
-			nextAbsoluteDir = Direction.UP;
-		else if (nextPos.Y() < snake.position().Y() && MathUtil.areEqual(nextPos.X(), snake.position().X()))
-			nextAbsoluteDir = Direction.DOWN;
-
-		Logger.log(Logger.Level.DEBUG, "Absolute dir: " + nextAbsoluteDir);
-		Logger.log(Logger.Level.DEBUG, "Relative dir: " + Direction.getRelativeDir(nextAbsoluteDir, snake.direction()));
-
-		return nextAbsoluteDir;
+		long startTime = System.nanoTime();
+		long startNodes = this.pathfinder.nodesExpanded();
+		this.deadline = startTime + this.decisionBudgetMicros * 1000;
+
+		Direction result = decide();
+
+		this.lastNodesExpanded = this.pathfinder.nodesExpanded() - startNodes;
+		this.lastDecisionMicros = (System.nanoTime() - startTime) / 1000;
+		this.totalNodesExpanded += this.lastNodesExpanded;
+		this.totalDecisionMicros += this.lastDecisionMicros;
+		this.decisions++;
+		return result;
 	}
 
 	/**
-	 * Calculates the next position the snake should go towards
-	 * @return the next position the snake should go towards
+	 * Decides the next absolute direction the snake should go to, according to the strategy
+	 * @return the next absolute direction the snake should turn to
 	 */
-	private Point findNextPos()
+	private Direction decide()
 	{
-		Point[] validPositions = this.map.getAllValidUnitSpawnPositions(this.snakeSize);
-		Point start = this.snake.position();
-		Point finish = this.map.getOuterPosition(this.food.position(), this.snakeSize);
+		OccupancyGrid grid = this.map.getOccupancyGrid(this.snakeSize);
+		int start = this.map.getUnitCell(this.snake.position(), this.snakeSize);
+		int finish = this.map.getUnitCell(this.food.position(), this.snakeSize);
+		if (start == -1 || finish == -1)
+			return null;
 
-		Point[] path = findShortestPath(start, finish, validPositions);
-		if (path == null || path.length == 0)
+		int back = neighbour(grid, start, Direction.opposite(this.snake.direction()));
+		int next = -1;
+		switch (this.strategy)
+		{
+			case BFS:
+				next = this.pathfinder.nextStep(grid, start, finish, back, remainingNanos());
+				break;
+			case A_STAR:
+				next = this.pathfinder.aStar(grid, start, finish, back, remainingNanos());
+				break;
+			case SAFE:
+				next = safeStep(grid, start, finish, back);
+				break;
+			case HAMILTONIAN:
+				next = cycleStep(grid, start, back);
+				if (next == -1)
+					next = safeStep(grid, start, finish, back);
+				break;
+		}
+		if (next == -1)
+			next = survivalStep(grid, start, back);
+		if (next == -1)
 			return null;
-		return path[0];
+
+		if (next == start + 1)
+			return Direction.RIGHT;
+		else if (next == start - 1)
+			return Direction.LEFT;
+		else if (next == start + grid.columns())
+			return Direction.UP;
+		else
+			return Direction.DOWN;
 	}
 
 	/**
-	 * Finds the shortest path in a grid between start and finish,
-	 * not going over invalid position
-	 * Uses Dijkstra's/BFS
-	 * @param start the starting position
-	 * @param finish the finishing position
-	 * @param validPositions all the valid positions
-	 * @return the shortest path from start to finish using the valid positions,
-	 * null if no path is found to finish
+	 * The step towards the food if the snake can still reach it's tail after eating it,
+	 * otherwise the step towards the tail
+	 * @param grid the occupancy of the map
+	 * @param start the index of the snake's head unit
+	 * @param finish the index of the food's unit
+	 * @param back the index of the unit behind the snake's head
+	 * @return the index of the unit to move to, -1 if there is no safe step
 	 */
-	private Point[] findShortestPath(Point start, Point finish, Point[] validPositions)
+	private int safeStep(OccupancyGrid grid, int start, int finish, int back)
 	{
-		Point startIndex = map.getUnitIndex(start, snakeSize);
-		Point finishIndex = map.getUnitIndex(finish, snakeSize);
-		boolean[][] relativeMap = map.asArray(validPositions, snakeSize);
-
-		set(finishIndex, relativeMap, true);
-		Point back = moveToDir(startIndex, Direction.opposite(snake.direction()), relativeMap);
-		if (back != null)
-			set(back, relativeMap, false);
-
-		ArrayList<Point> shortestRelativePath = findShortestRelativePath(startIndex, finishIndex, relativeMap);
-
-		if (shortestRelativePath == null)
-			return null;
-
-		Point[] path = new Point[shortestRelativePath.size()];
-		int i = 0;
-		for (Point point : shortestRelativePath)
-			path[i++] = map.getUnitPoint(point, snakeSize);
-
-		return path;
+		int tail = this.map.getUnitCell(this.snake.tailPosition(), this.snakeSize);
+		int next = this.pathfinder.aStar(grid, start, finish, back, remainingNanos());
+		if (next == -1 || tail == -1 || tail == start)
+			return next;
+		if (this.pathfinder.canReachAfterPath(grid, tail, remainingNanos()))
+			return next;
+		return this.pathfinder.aStar(grid, start, tail, back, remainingNanos());
 	}
 
 	/**
-	 * Moves a point on the map array coordinates in a direction
-	 * In case the point doesn't exist as the array's coordinates
-	 * null is returned instead;
-	 * @param relativePoint the point of the map array
-	 * @param dir the direction to turn towards
-	 * @param map the map array
-	 * @return the moved Point
+	 * The next unit in the map's {@link HamiltonianCycle cycle}, if it can be moved to
+	 * @param grid the occupancy of the map
+	 * @param start the index of the snake's head unit
+	 * @param back the index of the unit behind the snake's head
+	 * @return the index of the unit to move to, -1 if there is no cycle or it's blocked
 	 */
-	private Point moveToDir(Point relativePoint, Direction dir, boolean[][] map)
+	private int cycleStep(OccupancyGrid grid, int start, int back)
 	{
-		Point point = null;
-		switch (dir)
-		{
-			case UP:
-				if (!MathUtil.areEqual(relativePoint.Y(), map.length - 1))
-					point = safeTranslate(relativePoint, 0, 1);
-				break;
-			case DOWN:
-				if (!MathUtil.areEqual(relativePoint.Y(), 0))
-					point = safeTranslate(relativePoint, 0, -1);
-				break;
-			case LEFT:
-				if (!MathUtil.areEqual(relativePoint.X(), 0))
-					point = safeTranslate(relativePoint, -1, 0);
-				break;
-			case RIGHT:
-				if (!MathUtil.areEqual(relativePoint.X(), map[0].length - 1))
-					point = safeTranslate(relativePoint, 1, 0);
-				break;
-		}
-		return point;
+		if (this.cycle == null || !this.cycle.fits(grid.columns(), grid.rows()))
+			this.cycle = new HamiltonianCycle(grid.columns(), grid.rows());
+		int next = this.cycle.next(start);
+		if (next == -1 || next == back)
+			return -1;
+		if (grid.isOccupied(next) && next != this.map.getUnitCell(this.food.position(), this.snakeSize))
+			return -1;
+		return next;
 	}
 
 	/**
-	 * Finds the shortest path in points relative to the
-	 * map array's indexes
-	 * @param relativeStart the map array's indexes for the starting position
-	 * @param relativeFinish the map array's indexes for the finishing position
-	 * @param map the map array
-	 * @return the shortest path relative to the map's indexes
+	 * A step that doesn't immediately kill the snake, without searching:
+	 * the next unit in the map's cycle if it's free, otherwise the first free neighbour
+	 * @param grid the occupancy of the map
+	 * @param start the index of the snake's head unit
+	 * @param back the index of the unit behind the snake's head
+	 * @return the index of the unit to move to, -1 if every neighbour is occupied
 	 */
-	private ArrayList<Point> findShortestRelativePath(Point relativeStart, Point relativeFinish, boolean[][] map)
+	private int survivalStep(OccupancyGrid grid, int start, int back)
 	{
-		Node found = findShortestRelativePathNode(relativeStart, relativeFinish, map);
-		if (found == null)
-			return null;
+		int next = cycleStep(grid, start, back);
+		if (next != -1)
+			return next;
 
-		ArrayList<Point> path = new ArrayList<Point>();
-
-		while(found.getParent() != null)
+		for (Direction dir : DIRECTIONS)
 		{
-			path.add(found.getValue());
-			found = found.getParent();
-		} // last node is not added as it is the initial position
-
-		Collections.reverse(path); // somewhat pointless and inefficient, but the loss in performance is trivial for snake game
-
-		return path;
+			int cell = neighbour(grid, start, dir);
+			if (cell != -1 && cell != back && !grid.isOccupied(cell))
+				return cell;
+		}
+		return -1;
 	}
 
 	/**
-	 * Finds the shortest path, storing it in nodes holding the map's array indexes
-	 * Uses Dijkstra's algorithm / BFS
-	 * @param start the starting position relative to the map array's indexes
-	 * @param finish the finishing position relative to the map array's indexes
-	 * @param map the map array
-	 * @return the shortest path stored in nodes holding the map's array indexes
-	 * if it can't find a path to finish, returns the longest path found
+	 * The time left for the current decision, in nanoseconds
+	 * @return the time left for the current decision (0 if there is no budget, at least 1 otherwise)
 	 */
-	private Node findShortestRelativePathNode(Point start, Point finish, boolean[][] map)
+	private long remainingNanos()
 	{
-		Queue<Node> toVisit = new LinkedList<Node>();
-
-		toVisit.add(new Node(start, null));
-		Node found = null;
-
-		Node current = null;
-		while (toVisit.size() > 0)
-		{
-			current = toVisit.remove();
-
-			if (current.getValue().equals(finish))
-			{
-				found = current;
-				Logger.log(Logger.Level.INFO, mapToStr(map, finish));
-			}
-
-			addValidSurroundingUnits(current, toVisit, map);
-		}
-
-		// if found is null get's the furthest point
-		if (found == null)
-			found = current;
-
-		return found;
+		if (this.decisionBudgetMicros <= 0)
+			return 0;
+		return Math.max(1, this.deadline - System.nanoTime());
 	}
 
 	/**
-	 * Prints a relative map array to string, for debugging purposes
-	 * @param map the map to print
-	 * @param finish the goal point
-	 * @return the map representad as a human-readable string
+	 * The index of the unit next to another in a given direction
+	 * @param grid the grid the units are in
+	 * @param cell the index of the unit
+	 * @param dir the direction of the neighbour
+	 * @return the index of the neighbouring unit, -1 if it's outside the grid
 	 */
-	private String mapToStr(boolean[][] map, Point finish)
+	private int neighbour(OccupancyGrid grid, int cell, Direction dir)
 	{
-		StringBuilder builder = new StringBuilder();
-		for (int i = map.length - 1; i >= 0; i--)
+		int column = cell % grid.columns();
+		switch (dir)
 		{
-			for (int j = 0; j < map[0].length; j++)
-			{
-				if (map[i][j])
-					builder.append('-');
-				else
-				{
-					if (i == (int)Math.round(finish.Y()) && j == (int)Math.round(finish.X()))
-						builder.append('!');
-					else
-						builder.append('x');
-				}
-			}
-			builder.append('\n');
+			case UP:
+				return cell + grid.columns() < grid.cells() ? cell + grid.columns() : -1;
+			case DOWN:
+				return cell - grid.columns() >= 0 ? cell - grid.columns() : -1;
+			case LEFT:
+				return column > 0 ? cell - 1 : -1;
+			case RIGHT:
+				return column < grid.columns() - 1 ? cell + 1 : -1;
+			default:
+				return -1;
 		}
-		return builder.toString();
 	}
 
+	/**
+	 * The strategy the controller uses to decide where to go
+	 * @return the strategy the controller uses
+	 */
+	public Strategy strategy() { return this.strategy; }
 
 	/**
-	 * Adds all valid surrounding units to a node
-	 * @param current the current node
-	 * @param toVisit the nodes left to visit where the new nodes will be added
-	 * @param map the map
+	 * The time budget for each decision in microseconds (0 for no budget)
+	 * @return the time budget for each decision in microseconds
 	 */
-	private void addValidSurroundingUnits(Node current, Queue<Node> toVisit, boolean[][] map)
-	{
-		Point[] surroundings = new Point[4];
-		surroundings[0] = validPoint(moveToDir(current.getValue(), Direction.UP, map), map);
-		surroundings[1] = validPoint(moveToDir(current.getValue(), Direction.DOWN, map), map);
-		surroundings[2] = validPoint(moveToDir(current.getValue(), Direction.LEFT, map), map);
-		surroundings[3] = validPoint(moveToDir(current.getValue(), Direction.RIGHT, map), map);
+	public long decisionBudgetMicros() { return this.decisionBudgetMicros; }
 
-		for (Point point : surroundings)
-		{
-			if (point != null)
-			{
-				set(point, map, false);
-				toVisit.add(new Node(point, current));
-			}
-		}
-	}
+	/**
+	 * The number of units expanded by the pathfinder during the last decision
+	 * @return the number of units expanded during the last decision
+	 */
+	public long lastNodesExpanded() { return this.lastNodesExpanded; }
 
 	/**
-	 * Performs a point translation that certainle IS valid
-	 * @param point the point to translate
-	 * @param dx the x difference to translate the point by
-	 * @param dy the y difference to translate the point by
-	 * @return the translated point
+	 * The time the last decision took, in microseconds
+	 * @return the time the last decision took, in microseconds
 	 */
-	private Point safeTranslate(Point point, int dx, int dy)
-	{
-		try
-		{
-			return point.translate(dx, dy);
-		}
-		catch (GeometricException e)
-		{
-			Logger.log(Logger.Level.FATAL, "Should not be possible. x and y should always be positive.\n" + e);
-			throw new RuntimeException("Should not be possible. x and y should always be positive.");
-		}
-	}
+	public long lastDecisionMicros() { return this.lastDecisionMicros; }
 
 	/**
-	 * Checks if a point on the map is valid or not
-	 * @param point the point holding tha map's indexes
-	 * @param map the map
-	 * @return true if the point is valid
-	 * null if the provided point is null or if it's noto a valid path
+	 * The number of units expanded by the pathfinder over all decisions
+	 * @return the number of units expanded over all decisions
 	 */
-	private Point validPoint(Point point, boolean[][] map)
-	{
-		if (point == null)
-			return null;
-		if (!isValidPath(point, map))
-			return null;
-		return point;
-	}
+	public long totalNodesExpanded() { return this.totalNodesExpanded; }
 
 	/**
-	 * Checks if any point is a valid path/point to go towards
-	 * @param point the point to test
-	 * @param map the map
-	 * @return if the point can be traversed to
+	 * The time taken by all decisions, in microseconds
+	 * @return the time taken by all decisions, in microseconds
 	 */
-	private boolean isValidPath(Point point, boolean[][] map)
-	{
-		return map[(int)Math.round(point.Y())][(int)Math.round(point.X())];
-	}
+	public long totalDecisionMicros() { return this.totalDecisionMicros; }
 
 	/**
-	 * Sets a point on the map as valid/invalid
-	 * @param point the point to set
-	 * @param map the map
-	 * @param value the value to set the point as on the map
+	 * The number of decisions made
+	 * @return the number of decisions made
 	 */
-	private void set(Point point, boolean[][] map, boolean value)
-	{
-		map[(int)Math.round(point.Y())][(int)Math.round(point.X())] = value;
-	}
+	public long decisions() { return this.decisions; }
 }
@@ -20,9 +20,11 @@ public class DynamicObstacle extends GameObject implements IObstacle
 	private static final int LAYER = 1;
 	private VirtualPoint rotationPoint;
 	private float speed;
-	private RenderData<Polygon> rData;
-	private IGeometricShape<Polygon> collider;
+	private RenderData<PackedPolygon> rData;
+	private PackedPolygon collider;
+	private boolean isRenderStale;
 	private boolean isDeepCollision;
+	private GameMap map;
 	
 	/**
 	 * Initializes a DynamicObstacle
@@ -37,8 +39,9 @@ public class DynamicObstacle extends GameObject implements IObstacle
 	public DynamicObstacle(Polygon obstacle, boolean isFilled, char drawChar, VirtualPoint rotationPoint, float speed,
 		TerminalColour.Foreground terminalColour, Color graphicalColor)
 	{
-		this.rData = new RenderData<Polygon>(obstacle, isFilled, LAYER, drawChar, terminalColour, graphicalColor);
-		this.collider = obstacle;
+		this.collider = new PackedPolygon(obstacle);
+		this.rData = new RenderData<PackedPolygon>(new PackedPolygon(this.collider), isFilled, LAYER, drawChar, terminalColour, graphicalColor);
+		this.isRenderStale = false;
 		this.rotationPoint = rotationPoint;
 		if (rotationPoint == null)
 			this.rotationPoint = obstacle.getCentroid();
@@ -77,7 +80,7 @@ public class DynamicObstacle extends GameObject implements IObstacle
 	 */
 	public DynamicObstacle(DynamicObstacle obstacle)
 	{
-		this((Polygon)obstacle.collider, obstacle.rData.isFilled(), obstacle.rData.getCharacter(), obstacle.rotationPoint, obstacle.speed,
+		this(obstacle.shape(), obstacle.rData.isFilled(), obstacle.rData.getCharacter(), obstacle.rotationPoint, obstacle.speed,
 			obstacle.rData.getTerminalColour(), obstacle.rData.getGraphicalColor());
 	}
 
@@ -89,6 +92,8 @@ public class DynamicObstacle extends GameObject implements IObstacle
 
 	/**
 	 * Rotates the obstacle
+	 * The collider is rotated in place, instead of being replaced by a new polygon every frame,
+	 * and the units it leaves and enters on the map it occupies are released and occupied
 	 * @param radians the angle to rotate the obstacle by
 	 * @throws GeometricException if the obstacle was rotated to an invalid position
 	 */
@@ -96,7 +101,12 @@ public class DynamicObstacle extends GameObject implements IObstacle
 	{
 		try
 		{
-			this.collider = collider.rotate(radians, this.rotationPoint);
+			if (this.map != null)
+				this.map.releaseUnits(this);
+			this.collider.rotateInto(radians, this.rotationPoint, this.collider);
+			this.isRenderStale = true;
+			if (this.map != null)
+				this.map.occupyUnits(this);
 		}
 		catch (GeometricException e)
 		{
@@ -106,9 +116,13 @@ public class DynamicObstacle extends GameObject implements IObstacle
 	}
 
 	@Override
-	public RenderData<Polygon> getRenderData()
+	public RenderData<PackedPolygon> getRenderData()
 	{
-		this.rData = new RenderData<Polygon>((Polygon)this.collider, this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(),
+		if (!this.isRenderStale)
+			return this.rData;
+		// rendered shapes can't change, so the rotated collider is copied
+		this.isRenderStale = false;
+		this.rData = new RenderData<PackedPolygon>(new PackedPolygon(this.collider), this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(),
 			this.rData.getTerminalColour(), this.rData.getGraphicalColor());
 		return this.rData;
 	}
@@ -117,11 +131,18 @@ public class DynamicObstacle extends GameObject implements IObstacle
 	public void onCollision(GameObject other) { } // do nothing
 	
 	@Override
-	public IGeometricShape<Polygon> getCollider() { return this.collider; }
+	public IGeometricShape<PackedPolygon> getCollider() { return this.collider; }
 
 	@Override
 	public boolean isDeepCollision() { return this.isDeepCollision; }
 
+	/**
+	 * The current shape of the obstacle
+	 * (a copy, as the collider is rotated in place)
+	 * @return the current shape of the obstacle
+	 */
+	public Polygon shape() { return this.collider.toPolygon(); }
+
 	/**
 	 * The speed at which the object is rotating at
 	 * @return the speed at which the object is rotating at
@@ -133,4 +154,13 @@ public class DynamicObstacle extends GameObject implements IObstacle
 	 * @return the point the object is rotating around
 	 */
 	public VirtualPoint rotationPoint() { return this.rotationPoint; }
+
+	/**
+	 * Sets the map the obstacle occupies, which is kept up to date as the obstacle rotates
+	 * @param map the map the obstacle occupies (null if none)
+	 */
+	void setMap(GameMap map)
+	{
+		this.map = map;
+	}
 }
@@ -63,7 +63,7 @@ public class FoodSquare extends Unit implements IFood
 	public boolean wasConsumed() { return this.wasConsumed; }
 
 	@Override
-	public IGeometricShape<Polygon> getCollider() { return super.unitSquare(); }
+	public IGeometricShape<PackedPolygon> getCollider() { return super.collider(); }
 	
 	@Override
 	public void onCollision(GameObject other) { }
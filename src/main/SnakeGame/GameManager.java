@@ -93,6 +93,9 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 	private static final Color DEFAULT_GRA_COLOR_OBSTACLES = Color.gray;
 	private static final String DEFAULT_GRAPHICAL_WINDOW_TITLE = "Snake Game";
 	private static final float DEFAULT_MAX_FPS = 1;
+	private static final int DEFAULT_RENDER_INTERVAL = 1;
+	private static final RenderMethod DEFAULT_RENDER_METHOD = RenderMethod.SYNCHRONOUS;
+	private static final GameEngineFlags.CollisionDetection DEFAULT_COLLISION_DETECTION = GameEngineFlags.CollisionDetection.UNIFORM_GRID;
 
 	private static final String ASSETS_FOLDER = "assets";
 	private static final String ICON_FILENAME = "snakeICON.jpg";
@@ -134,6 +137,17 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 	private Color graphicalObstaclesColor;
 	private String windowTitle;
 	private float maxFps;
+	private AISnakeController.Strategy aiStrategy;
+	private long aiDecisionBudgetMicros;
+	private ISnakeController controller;
+	private boolean isHeadless;
+	private int renderInterval;
+	private RenderMethod renderMethod;
+	private Renderer.TextualOutput textualOutput;
+	private Renderer.ColourMode colourMode;
+	private int renderCellSize;
+	private int rasterBands;
+	private GameEngineFlags.CollisionDetection collisionDetection;
 
 	private Scene scene;
 	private Snake snake;
@@ -169,6 +183,16 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 		this.graphicalObstaclesColor = DEFAULT_GRA_COLOR_OBSTACLES;
 		this.windowTitle = DEFAULT_GRAPHICAL_WINDOW_TITLE;
 		this.maxFps = DEFAULT_MAX_FPS;
+		this.aiStrategy = AISnakeController.DEFAULT_STRATEGY;
+		this.aiDecisionBudgetMicros = AISnakeController.DEFAULT_DECISION_BUDGET_MICROS;
+		this.isHeadless = false;
+		this.renderInterval = DEFAULT_RENDER_INTERVAL;
+		this.renderMethod = DEFAULT_RENDER_METHOD;
+		this.textualOutput = Renderer.TextualOutput.FULL;
+		this.colourMode = Renderer.ColourMode.BASIC;
+		this.renderCellSize = 1;
+		this.rasterBands = 1;
+		this.collisionDetection = DEFAULT_COLLISION_DETECTION;
 		this.rng = new Random(this.seed);
 		try
 		{
@@ -190,10 +214,15 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 
 	/**
 	 * Gets the GameManager instance
+	 * (the {@link EngineContext context's} instance, if one is running on the current thread)
 	 * @return the GameManager instance
 	 */
 	public static GameManager getInstance()
 	{
+		EngineContext context = EngineContext.current();
+		if (context != null)
+			return context.getInstance(GameManager.class, GameManager::new);
+
 		if (instance == null)
 			instance = new GameManager();
 
@@ -205,6 +234,13 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 	 */
 	public static void resetInstance()
 	{
+		EngineContext context = EngineContext.current();
+		if (context != null)
+		{
+			context.setInstance(GameManager.class, new GameManager());
+			return;
+		}
+
 		if (instance != null)
 			instance = new GameManager();
 	}
@@ -504,10 +540,12 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 				controller = new InputSnakeController(this.inputPreset, new SnakeStats(this.snake));
 				break;
 			case AUTO:
-				controller = new AISnakeController(new SnakeStats(this.snake), this.snakeSize, new FoodStats(), this.map);
+				controller = new AISnakeController(new SnakeStats(this.snake), this.snakeSize, new FoodStats(), this.map,
+					this.aiStrategy, this.aiDecisionBudgetMicros);
 				break;
 		}
 
+		this.controller = controller;
 		return controller;
 	}
 
@@ -557,8 +595,11 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 		scene.add((GameObject)controller);
 		scene.add(new SnakeController(snake, controller));
 
-		IOverlay overlay = generateOverlay();
-		scene.add((GameObject)overlay);
+		if (!this.isHeadless)
+		{
+			IOverlay overlay = generateOverlay();
+			scene.add((GameObject)overlay);
+		}
 
 		scene.add(this);
 	}
@@ -653,7 +694,7 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 		}
 		for (DynamicObstacle obstacle : this.dynamicObstacles)
 		{
-			Polygon absoluteCollider = map.getAbsolute((Polygon)obstacle.getCollider());
+			Polygon absoluteCollider = map.getAbsolute(obstacle.shape());
 			VirtualPoint absoluteAnchor = map.getAbsolute(((DynamicObstacle)obstacle).rotationPoint());
 			obstacles[n++] = new DynamicObstacle(absoluteCollider, this.isFilled, this.obstacleChar, absoluteAnchor, obstacle.speed(),
 				this.terminalObstaclesColour, this.graphicalObstaclesColor);
@@ -790,11 +831,25 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 
 		GameEngineFlags flags = new GameEngineFlags();
 		flags.setTextual(this.isTextual);
-		flags.setUpdateMethod(this.updateMethod);
+		flags.setUpdateMethod(this.isHeadless ? UpdateMethod.CODE : this.updateMethod);
 		flags.setMaxUpdatesPerSecond(this.maxFps);
+		flags.setCollisionDetection(this.collisionDetection);
+		flags.setCollisionCellSize(this.snakeSize);
+		flags.setRenderInterval(this.renderInterval);
+		flags.setRenderMethod(this.renderMethod);
+		if (this.isHeadless)
+		{
+			engine.init(flags, this.scene);
+			return;
+		}
+
 		Renderer.getInstance().setTerminalBackgroundColour(this.terminalBgColour);
 		Renderer.getInstance().setGraphicalBackgroundColor(this.graphicalBgColor);
 		Renderer.getInstance().setGraphicalWindowTitle(this.windowTitle);
+		Renderer.getInstance().setTextualOutput(this.textualOutput);
+		Renderer.getInstance().setColourMode(this.colourMode);
+		Renderer.getInstance().setCellSize(this.renderCellSize);
+		Renderer.getInstance().setRasterBands(this.rasterBands);
 		engine.init(flags, this.scene, this.camera);
 
 		if (!this.isTextual)
@@ -832,6 +887,63 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 		this.isFirstSetup = true;
 	}
 
+	/**
+	 * Runs the game on the initialized scene as fast as possible, without rendering
+	 * or reading input, until the game is over or the maximum ammount of ticks is reached.
+	 * Each tick advances the game by the time a frame would take at the max fps.
+	 * @param maxTicks the maximum ammount of ticks to run the game for
+	 * @return the result of the game
+	 * @throws SnakeGameException if the game isn't headless
+	 * @pre must {@link GameManager#init() initialize} first, with {@link GameManager#setHeadless(boolean) headless} set.
+	 */
+	public SimulationResult simulate(long maxTicks) throws SnakeGameException
+	{
+		if (!this.isHeadless)
+		{
+			Logger.log(Logger.Level.FATAL, "Tried to simulate a game that isn't headless.");
+			throw new SnakeGameException("Tried to simulate a game that isn't headless.");
+		}
+
+		long deltaT = Math.max(1, Math.round(1000 / this.maxFps));
+		long startTime = System.nanoTime();
+		GameEngine engine = GameEngine.getInstance();
+		this.gameState = GameState.GAMEPLAY;
+		this.snake.awake();
+		engine.start();
+
+		long ticks = 0;
+		while (!isGameOver() && ticks < maxTicks)
+		{
+			engine.step(deltaT);
+			ticks++;
+		}
+
+		engine.stop();
+		teardown();
+		this.isFirstSetup = true;
+		long wallTime = System.nanoTime() - startTime;
+		return new SimulationResult(this.seed, score(), this.snake.length(), ticks, endCause(), wallTime);
+	}
+
+	/**
+	 * What ended the current game
+	 * @return what ended the current game
+	 */
+	private SimulationResult.Cause endCause()
+	{
+		if (this.hasWon)
+			return SimulationResult.Cause.WON;
+		if (!this.snake.isDead())
+			return SimulationResult.Cause.TICK_LIMIT;
+
+		GameObject killer = this.snake.killer();
+		if (killer instanceof SnakeUnit)
+			return SimulationResult.Cause.SELF;
+		if (this.map.isBound(killer))
+			return SimulationResult.Cause.WALL;
+		return SimulationResult.Cause.OBSTACLE;
+	}
+
 	/**
 	 * The current score
 	 * @return the current score
@@ -870,6 +982,17 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 			this.hasShowedHighscores = true;
 	}
 
+	/**
+	 * Tears down the current game, detaching the manager from it's scene,
+	 * so the next game can be initialized on a new scene.
+	 * Leaves the engine as it is, so it can be reused by the next game.
+	 * @pre game is {@link GameManager#init() initialized}.
+	 */
+	private void teardown()
+	{
+		this.scene.remove(this);
+	}
+
 	/**
 	 * Restarts the scene to the initial values set when {@link GameManager#init() init} was called.
 	 * Except for the snake's direction and position, and for the food's position. Which will be
@@ -879,7 +1002,7 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 	{
 		try
 		{
-			this.sceneHandle().remove(this);
+			teardown();
 			init(this.mapWidth, this.mapHeight, this.map.getRelative(this.startingSnakePos), this.startingSnakeDir,
 				this.snakeSize, this.isFilled, this.map.getRelative(this.startingFoodPos), this.foodSize, this.foodType,
 				this.foodScore, this.isTextual, this.updateMethod, this.controlMethod, rng.nextLong());
@@ -927,6 +1050,9 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 	private void gameover()
 	{
 		this.gameState = GameState.GAMEOVER;
+		if (this.isHeadless)
+			return;
+
 		GameObject overlay = new GameoverOverlay(new SnakeStats(this.snake), this.camera, new TextOverlayOutline());
 		this.scene.add(overlay);
 	}
@@ -1125,4 +1251,90 @@ public class GameManager extends GameObject implements IInputListener, ActionLis
 	 * @param maxFps the max fps
 	 */
 	public void setMaxFps(float maxFps) { this.maxFps = maxFps; }
+
+	/**
+	 * Sets every how many updates a frame is rendered
+	 * @param interval every how many updates a frame is rendered
+	 * @pre was not {@link GameManager#init() initialized}
+	 */
+	public void setRenderInterval(int interval) { this.renderInterval = interval; }
+
+	/**
+	 * Sets the {@link RenderMethod method} in which the game is rendered
+	 * @param method the method in which the game is rendered
+	 * @pre was not {@link GameManager#init() initialized}
+	 */
+	public void setRenderMethod(RenderMethod method) { this.renderMethod = method; }
+
+	/**
+	 * Sets how the frames are written to the terminal, in textual mode
+	 * @param output how the frames are written to the terminal
+	 * @pre was not {@link GameManager#init() initialized}
+	 */
+	public void setTextualOutput(Renderer.TextualOutput output) { this.textualOutput = output; }
+
+	/**
+	 * Sets which colours are used when rendering textually
+	 * @param mode which colours are used when rendering textually
+	 * @pre was not {@link GameManager#init() initialized}
+	 */
+	public void setTerminalColourMode(Renderer.ColourMode mode) { this.colourMode = mode; }
+
+	/**
+	 * Sets the size of the cells the game is rasterized in
+	 * @param cellSize the size of each side of the cells (1 to rasterize every unit)
+	 * @pre was not {@link GameManager#init() initialized}
+	 * @pre cellSize > 0
+	 */
+	public void setRenderCellSize(int cellSize) { this.renderCellSize = cellSize; }
+
+	/**
+	 * Sets the ammount of horizontal bands the game is rasterized in, in parallel
+	 * @param bands the ammount of bands (1 to rasterize sequentially)
+	 * @pre was not {@link GameManager#init() initialized}
+	 * @pre bands > 0
+	 */
+	public void setRasterBands(int bands) { this.rasterBands = bands; }
+
+	/**
+	 * Sets how the engine finds the colliding pairs of objects
+	 * @param method how the engine finds the colliding pairs of objects
+	 * @pre was not {@link GameManager#init() initialized}
+	 */
+	public void setCollisionDetection(GameEngineFlags.CollisionDetection method) { this.collisionDetection = method; }
+
+	/**
+	 * Sets the {@link AISnakeController.Strategy strategy} used when the snake is controlled automatically
+	 * @param strategy the strategy the AI should use
+	 * @pre was not {@link GameManager#init() initialized}
+	 */
+	public void setAIStrategy(AISnakeController.Strategy strategy) { this.aiStrategy = strategy; }
+
+	/**
+	 * Sets the time budget for each decision of the AI, in microseconds
+	 * @param micros the time budget for each decision (0 for no budget)
+	 * @pre was not {@link GameManager#init() initialized}
+	 */
+	public void setAIDecisionBudget(long micros) { this.aiDecisionBudgetMicros = micros; }
+
+	/**
+	 * Sets if the game should run headless, with no rendering, overlays or input,
+	 * being updated only through {@link GameManager#simulate(long) simulate}
+	 * @param isHeadless if the game should run headless
+	 * @pre was not {@link GameManager#init() initialized}
+	 */
+	public void setHeadless(boolean isHeadless) { this.isHeadless = isHeadless; }
+
+	/**
+	 * If the game is over (the snake died or there is no room left for food)
+	 * @return if the game is over
+	 */
+	public boolean isGameOver() { return this.gameState == GameState.GAMEOVER; }
+
+	/**
+	 * The snake's current {@link ISnakeController controller}
+	 * (an {@link AISnakeController AISnakeController} when controlled automatically)
+	 * @return the snake's current controller
+	 */
+	public ISnakeController controller() { return this.controller; }
 }
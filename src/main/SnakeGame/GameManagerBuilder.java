@@ -212,6 +212,100 @@ public class GameManagerBuilder
 		return this;
 	}
 
+	/**
+	 * (OPTIONAL)
+	 * Sets every how many updates a frame is rendered,
+	 * so the game can update faster than it is drawn.
+	 * @param interval every how many updates a frame is rendered
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setRenderInterval(int interval)
+	{
+		this.gmInstance.setRenderInterval(interval);
+		return this;
+	}
+
+	/**
+	 * (OPTIONAL)
+	 * Sets if the game is rendered on the engine's thread or on a dedicated one.
+	 * @param method the method in which the game is rendered
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setRenderMethod(RenderMethod method)
+	{
+		this.gmInstance.setRenderMethod(method);
+		return this;
+	}
+
+	/**
+	 * (OPTIONAL)
+	 * Sets if the whole frame is written to the terminal every time,
+	 * or only the cells that changed since the last one.
+	 * @param output how the frames are written to the terminal
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setTextualOutput(Renderer.TextualOutput output)
+	{
+		this.gmInstance.setTextualOutput(output);
+		return this;
+	}
+
+	/**
+	 * (OPTIONAL)
+	 * Sets if the terminal is drawn with the terminal colours only,
+	 * or with the graphical colours (in 256 colours or true colour).
+	 * @param mode which colours are used when rendering textually
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setTerminalColourMode(Renderer.ColourMode mode)
+	{
+		this.gmInstance.setTerminalColourMode(mode);
+		return this;
+	}
+
+	/**
+	 * (OPTIONAL)
+	 * Sets the size of the cells the game is rasterized in.
+	 * Each cell is drawn as a single pixel (or character), which is then upscaled.
+	 * When the map is aligned to the snake's size, using the snake's size
+	 * renders the game at it's grid's resolution.
+	 * @param cellSize the size of each side of the cells (1 to rasterize every unit)
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setRenderCellSize(int cellSize)
+	{
+		this.gmInstance.setRenderCellSize(cellSize);
+		return this;
+	}
+
+	/**
+	 * (OPTIONAL)
+	 * Sets the ammount of horizontal bands the game is rasterized in.
+	 * Each band is rasterized in parallel, which pays off on large boards.
+	 * Defaults to a single band (rasterized sequentially).
+	 * @param bands the ammount of bands (1 to rasterize sequentially)
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setRasterBands(int bands)
+	{
+		this.gmInstance.setRasterBands(bands);
+		return this;
+	}
+
+	/**
+	 * (OPTIONAL)
+	 * Sets how the engine finds the colliding pairs of objects.
+	 * Defaults to a uniform grid with cells the size of the snake,
+	 * which only tests the objects that share a cell.
+	 * @param method how the engine finds the colliding pairs of objects
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setCollisionDetection(GameEngineFlags.CollisionDetection method)
+	{
+		this.gmInstance.setCollisionDetection(method);
+		return this;
+	}
+
 	/**
 	 * Sets the control method for the snake.
 	 * (If it should be controlled automatically by an AI
@@ -225,6 +319,43 @@ public class GameManagerBuilder
 		return this;
 	}
 
+	/**
+	 * (OPTIONAL)
+	 * Sets the strategy the snake uses when controlled automatically
+	 * @param strategy the strategy for the AI to use
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setAIStrategy(AISnakeController.Strategy strategy)
+	{
+		this.gmInstance.setAIStrategy(strategy);
+		return this;
+	}
+
+	/**
+	 * (OPTIONAL)
+	 * Sets the time budget for each decision of the AI, in microseconds
+	 * @param micros the time budget for each decision (0 for no budget)
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setAIDecisionBudget(long micros)
+	{
+		this.gmInstance.setAIDecisionBudget(micros);
+		return this;
+	}
+
+	/**
+	 * (OPTIONAL)
+	 * Sets if the game should run headless, with no rendering, overlays or input.
+	 * A headless game can only be ran through {@link GameManager#simulate(long) simulate}.
+	 * @param isHeadless if the game should run headless
+	 * @return the GameManagerBuilder instance
+	 */
+	public GameManagerBuilder setHeadless(boolean isHeadless)
+	{
+		this.gmInstance.setHeadless(isHeadless);
+		return this;
+	}
+
 	/**
 	 * (OPTIONAL)
 	 * Sets a seed for random operations
@@ -474,4 +605,23 @@ public class GameManagerBuilder
 			isTextual, updateMethod, controlMethod, seed);
 		return gmInstance;
 	}
+
+	/**
+	 * Builds the game headless and runs it as fast as possible,
+	 * until the game is over or the maximum ammount of ticks is reached.
+	 * Can be called again (e.g. after {@link GameManagerBuilder#setSeed(long) setSeed})
+	 * to simulate another game with the same configuration.
+	 * The update method is not required, since the game is updated through code.
+	 * @param maxTicks the maximum ammount of ticks to run the game for
+	 * @return the result of the game
+	 * @throws SnakeGameException if there were invalid parameters or initialization failed
+	 */
+	public SimulationResult simulate(long maxTicks) throws SnakeGameException
+	{
+		if (this.updateMethod == null)
+			this.updateMethod = UpdateMethod.CODE;
+		this.gmInstance.setHeadless(true);
+		build();
+		return this.gmInstance.simulate(maxTicks);
+	}
 }
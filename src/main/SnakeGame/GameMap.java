@@ -4,6 +4,7 @@ import Geometry.*;
 
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Random;
 
 import GameEngine.*;
@@ -12,6 +13,7 @@ import GameEngine.*;
  * Represents the game map, where the game will take place and the {@link GameObject GameObjects} will be in.
  * Provides the utility necessary to instantiate and do operations on a grid-like map.
  * Holds the edge obstacles that maintain the snake from leaving the map.
+ * Keeps which of it's units are occupied by the colliders in it's scene, as they are added, removed or moved.
  * Is built such that the rendered map will have the width and height dimentions
  * 
  * @author Diogo Fonseca a79858
@@ -19,7 +21,7 @@ import GameEngine.*;
  * 
  * @see Unit
  */
-public class GameMap extends GameObject implements IRenderable
+public class GameMap extends GameObject implements IRenderable, ISceneListener
 {
 	/**
 	 * A unit meant to act as filler, just for probing
@@ -42,13 +44,183 @@ public class GameMap extends GameObject implements IRenderable
 		}
 
 		@Override
-		public IGeometricShape<Polygon> getCollider() { return super.getRenderData().getShape(); }
+		public IGeometricShape<PackedPolygon> getCollider() { return super.collider(); }
 		@Override
 		public void onCollision(GameObject other) { }
 		@Override
 		public boolean isDeepCollision() { return this.isDeepCollision; }
 	}
 
+	/**
+	 * The units occupied by the map's occupants, for a given unit size.
+	 * Kept up to date as the occupants enter, leave or move, so reading it
+	 * never scans the scene.
+	 */
+	private class UnitOccupancy
+	{
+		private int size;
+		private OccupancyGrid grid;
+		private Point[] positions;
+		private PackedPolygon probe;
+
+		/**
+		 * Instantiates the occupancy for a unit size, occupied by the map's current occupants
+		 * @param size the size of an unit
+		 * @pre size > 0
+		 */
+		public UnitOccupancy(int size)
+		{
+			this.size = size;
+			this.grid = new OccupancyGrid(width / size, height / size);
+			this.positions = getAllPossibleUnitSpawnPositions(size);
+			try
+			{
+				double unitSize = size - Unit.UNIT_OFFSET;
+				this.probe = new PackedPolygon(new Point[] {
+					new Point(Unit.UNIT_OFFSET, Unit.UNIT_OFFSET),
+					new Point(Unit.UNIT_OFFSET, unitSize),
+					new Point(unitSize, unitSize),
+					new Point(unitSize, Unit.UNIT_OFFSET),
+				});
+			}
+			catch (GeometricException e)
+			{
+				Logger.log(Logger.Level.FATAL, "Error generating occupancy probe\n" + e);
+				throw new Error("Shouldn't happen... with size > 0, the probe should always be valid");
+			}
+
+			for (ICollider occupant : occupants)
+				mark(occupant, true);
+		}
+
+		/**
+		 * Occupies or releases the units a collider occupies.
+		 * {@link Unit Units} are axis aligned squares, so their units are calculated directly,
+		 * other shapes are probed, only within their bounding box
+		 * @param collider the collider to mark the units of
+		 * @param isOccupying if the units should be occupied, or released
+		 */
+		public void mark(ICollider collider, boolean isOccupying)
+		{
+			if (collider instanceof Unit)
+			{
+				Unit unit = (Unit)collider;
+				markSquare(unit.position(), unit.size(), isOccupying);
+				return;
+			}
+
+			IGeometricShape<?> shape = collider.getCollider();
+			BoundingBox box = shape.getBoundingBox();
+			int minColumn = Math.max(0, column(box.minPoint().X() - MathUtil.CALC_ERROR_MARGIN));
+			int minRow = Math.max(0, row(box.minPoint().Y() - MathUtil.CALC_ERROR_MARGIN));
+			int maxColumn = Math.min(this.grid.columns() - 1, column(box.maxPoint().X() + MathUtil.CALC_ERROR_MARGIN));
+			int maxRow = Math.min(this.grid.rows() - 1, row(box.maxPoint().Y() + MathUtil.CALC_ERROR_MARGIN));
+			for (int row = minRow; row <= maxRow; row++)
+			{
+				for (int column = minColumn; column <= maxColumn; column++)
+				{
+					int cell = this.grid.cell(column, row);
+					if (isProbed(this.positions[cell], shape))
+						set(cell, isOccupying);
+				}
+			}
+		}
+
+		/**
+		 * Occupies or releases the units an axis aligned square (such as a {@link Unit}) occupies
+		 * @param position the center of the square
+		 * @param squareSize the size of the square
+		 * @param isOccupying if the units should be occupied, or released
+		 */
+		public void markSquare(VirtualPoint position, double squareSize, boolean isOccupying)
+		{
+			double halfSize = squareSize / 2.0 - Unit.UNIT_OFFSET;
+			int minColumn = Math.max(0, column(position.X() - halfSize));
+			int minRow = Math.max(0, row(position.Y() - halfSize));
+			int maxColumn = Math.min(this.grid.columns() - 1, column(position.X() + halfSize));
+			int maxRow = Math.min(this.grid.rows() - 1, row(position.Y() + halfSize));
+			for (int row = minRow; row <= maxRow; row++)
+				for (int column = minColumn; column <= maxColumn; column++)
+					set(this.grid.cell(column, row), isOccupying);
+		}
+
+		/**
+		 * Checks if any unit an axis aligned square overlaps is occupied
+		 * @param position the center of the square
+		 * @param squareSize the size of the square
+		 * @return if any unit the square overlaps is occupied
+		 */
+		public boolean isSquareOccupied(VirtualPoint position, double squareSize)
+		{
+			double halfSize = squareSize / 2.0 - Unit.UNIT_OFFSET;
+			int minColumn = Math.max(0, column(position.X() - halfSize));
+			int minRow = Math.max(0, row(position.Y() - halfSize));
+			int maxColumn = Math.min(this.grid.columns() - 1, column(position.X() + halfSize));
+			int maxRow = Math.min(this.grid.rows() - 1, row(position.Y() + halfSize));
+			for (int row = minRow; row <= maxRow; row++)
+				for (int column = minColumn; column <= maxColumn; column++)
+					if (this.grid.isOccupied(column, row))
+						return true;
+			return false;
+		}
+
+		/**
+		 * Occupies or releases a unit
+		 * @param cell the index of the unit
+		 * @param isOccupying if the unit should be occupied, or released
+		 */
+		private void set(int cell, boolean isOccupying)
+		{
+			if (isOccupying)
+				this.grid.occupy(cell);
+			else
+				this.grid.release(cell);
+		}
+
+		/**
+		 * Checks if a shape overlaps a unit, by moving the probe onto the unit
+		 * @param position the position of the unit
+		 * @param shape the shape to check
+		 * @return if the shape overlaps the unit
+		 */
+		private boolean isProbed(Point position, IGeometricShape<?> shape)
+		{
+			try
+			{
+				this.probe.moveCentroidInto(position, this.probe);
+			}
+			catch (GeometricException e)
+			{
+				Logger.log(Logger.Level.FATAL, "Should never happen, all unit positions on the map should be valid.\n" + e);
+				throw new RuntimeException("Should never happen, all unit positions on the map should be valid.");
+			}
+
+			if (!this.probe.getBoundingBox().intersectsInclusive(shape.getBoundingBox()))
+				return false;
+			return this.probe.intersectsInclusive(shape) || this.probe.contains(shape) || shape.contains(this.probe);
+		}
+
+		/**
+		 * The column of the units a coordinate is in (may be outside of the grid)
+		 * @param x the x coordinate
+		 * @return the column of the coordinate
+		 */
+		private int column(double x)
+		{
+			return (int)Math.floor((x - bounds.minPoint().X() + 0.5) / this.size);
+		}
+
+		/**
+		 * The row of the units a coordinate is in (may be outside of the grid)
+		 * @param y the y coordinate
+		 * @return the row of the coordinate
+		 */
+		private int row(double y)
+		{
+			return (int)Math.floor((y - bounds.minPoint().Y() + 0.5) / this.size);
+		}
+	}
+
 	private static final int LAYER = 0;
 	private Rectangle map;
 	private RenderData<Rectangle> rData;
@@ -60,6 +232,8 @@ public class GameMap extends GameObject implements IRenderable
 	private int width;
 	private int height;
 	private Random rng;
+	private HashMap<Integer, UnitOccupancy> occupancies;
+	private ArrayList<ICollider> occupants;
 
 	/**
 	 * Instantiates a GameMap
@@ -115,8 +289,10 @@ public class GameMap extends GameObject implements IRenderable
 	private void initialize(Rectangle mapRect, char drawChar, long seed) throws SnakeGameException
 	{
 		this.rng = new Random(seed);
+		this.occupancies = new HashMap<Integer, UnitOccupancy>();
+		this.occupants = new ArrayList<ICollider>();
 		this.map = mapRect;
-		this.rData = new RenderData<Rectangle>(map, true, LAYER, drawChar);
+		this.rData = new RenderData<Rectangle>(map, true, LAYER, drawChar, null, null, true);
 		this.bounds = new BoundingBox(mapRect);
 		try
 		{
@@ -181,7 +357,11 @@ public class GameMap extends GameObject implements IRenderable
 	 */
 	public Point getRandomUnitSpawnPosition(int size)
 	{
-		return getRandomPoint(getAllValidUnitSpawnPositions(size));
+		UnitOccupancy occupancy = getOccupancy(size);
+		int free = occupancy.grid.freeCount();
+		if (free == 0)
+			return null;
+		return occupancy.positions[occupancy.grid.nthFree(rng.nextInt(free))];
 	}
 
 	/**
@@ -322,14 +502,113 @@ public class GameMap extends GameObject implements IRenderable
 	 */
 	public Point[] getAllValidUnitSpawnPositions(int size)
 	{
-		ArrayList<Point> validPositions = new ArrayList<Point>();
-		Point[] allSpawnPositions = getAllPossibleUnitSpawnPositions(size);
-		if (super.sceneHandle() == null)
-			return allSpawnPositions;
-		for (Point p : allSpawnPositions)
-			if (!isUnitOccupied(p, size))
-				validPositions.add(p);
-		return validPositions.toArray(new Point[0]);
+		UnitOccupancy occupancy = getOccupancy(size);
+		Point[] validPositions = new Point[occupancy.grid.freeCount()];
+		int n = 0;
+		for (int cell = occupancy.grid.nextFree(0); cell != -1; cell = occupancy.grid.nextFree(cell + 1))
+			validPositions[n++] = occupancy.positions[cell];
+		return validPositions;
+	}
+
+	/**
+	 * The occupancy of the map for a given unit size
+	 * @param size the size of an unit
+	 * @return the occupancy of the map
+	 * @pre size > 0
+	 */
+	private UnitOccupancy getOccupancy(int size)
+	{
+		UnitOccupancy occupancy = this.occupancies.get(size);
+		if (occupancy == null)
+		{
+			occupancy = new UnitOccupancy(size);
+			this.occupancies.put(size, occupancy);
+		}
+		return occupancy;
+	}
+
+	/**
+	 * The up to date {@link OccupancyGrid occupancy grid} of the map for a given unit size.
+	 * The grid is owned by the map and must not be modified.
+	 * @param size the size of an unit
+	 * @return the occupancy grid of the map
+	 * @pre size > 0
+	 */
+	public OccupancyGrid getOccupancyGrid(int size)
+	{
+		return getOccupancy(size).grid;
+	}
+
+	/**
+	 * Makes a collider occupy the map, occupying the units it overlaps.
+	 * {@link Unit Units} and {@link DynamicObstacle dynamic obstacles} keep the map
+	 * up to date as they move, other colliders are expected not to change while in the scene.
+	 * @param collider the collider to occupy the map with
+	 */
+	private void occupy(ICollider collider)
+	{
+		this.occupants.add(collider);
+		occupyUnits(collider);
+		if (collider instanceof Unit)
+			((Unit)collider).setMap(this);
+		else if (collider instanceof DynamicObstacle)
+			((DynamicObstacle)collider).setMap(this);
+	}
+
+	/**
+	 * Releases the units a collider occupies, so it no longer occupies the map
+	 * @param collider the collider to release
+	 */
+	private void release(ICollider collider)
+	{
+		for (int i = 0; i < this.occupants.size(); i++)
+		{
+			if (this.occupants.get(i) != collider)
+				continue;
+
+			this.occupants.remove(i);
+			releaseUnits(collider);
+			if (collider instanceof Unit)
+				((Unit)collider).setMap(null);
+			else if (collider instanceof DynamicObstacle)
+				((DynamicObstacle)collider).setMap(null);
+			return;
+		}
+	}
+
+	/**
+	 * Occupies the units an occupant overlaps, in every occupancy of the map
+	 * @param occupant the occupant of the map
+	 */
+	void occupyUnits(ICollider occupant)
+	{
+		for (UnitOccupancy occupancy : this.occupancies.values())
+			occupancy.mark(occupant, true);
+	}
+
+	/**
+	 * Releases the units an occupant overlaps, in every occupancy of the map
+	 * @param occupant the occupant of the map
+	 */
+	void releaseUnits(ICollider occupant)
+	{
+		for (UnitOccupancy occupancy : this.occupancies.values())
+			occupancy.mark(occupant, false);
+	}
+
+	/**
+	 * Moves the units an occupying {@link Unit} occupies,
+	 * releasing the ones it left and occupying the ones it entered
+	 * @param unit the unit that moved
+	 * @param from the position the unit moved from
+	 */
+	void move(Unit unit, Point from)
+	{
+		for (UnitOccupancy occupancy : this.occupancies.values())
+		{
+			occupancy.markSquare(from, unit.size(), false);
+			occupancy.markSquare(unit.position(), unit.size(), true);
+		}
 	}
 
 	/**
@@ -376,6 +655,22 @@ public class GameMap extends GameObject implements IRenderable
 		return mapArray;
 	}
 
+	/**
+	 * Parses the map to a boolean map array representation, where the values
+	 * are true on the units that are not occupied
+	 * @param size the size of each unit represented in the map array
+	 * @return the map boolean array representation of the current map
+	 * @pre size > 0
+	 */
+	public boolean[][] asArray(int size)
+	{
+		OccupancyGrid grid = getOccupancy(size).grid;
+		boolean[][] mapArray = new boolean[grid.rows()][grid.columns()];
+		for (int cell = grid.nextFree(0); cell != -1; cell = grid.nextFree(cell + 1))
+			mapArray[cell / grid.columns()][cell % grid.columns()] = true;
+		return mapArray;
+	}
+
 	/**
 	 * Gets the the index of an unit on the map given it's
 	 * position and the size of units
@@ -399,6 +694,29 @@ public class GameMap extends GameObject implements IRenderable
 		}
 	}
 
+	/**
+	 * Gets the index of the unit at the given position in the map's
+	 * {@link OccupancyGrid occupancy grid} (row-major), without allocating
+	 * @param position the position to get the unit index of
+	 * @param size the size of an unit
+	 * @return the index of the unit, -1 if the position is outside the map
+	 * @pre size > 0
+	 */
+	public int getUnitCell(VirtualPoint position, int size)
+	{
+		double x = position.X() + 0.5 - this.bounds.minPoint().X();
+		double y = position.Y() + 0.5 - this.bounds.minPoint().Y();
+		int columns = this.width / size;
+		int rows = this.height / size;
+		if (x < 0 || y < 0)
+			return -1;
+		int column = (int)x / size;
+		int row = (int)y / size;
+		if (column >= columns || row >= rows)
+			return -1;
+		return row * columns + column;
+	}
+
 	/**
 	 * Gets the point of the unit at the given index
 	 * @param index the index of the unit in the map
@@ -485,22 +803,17 @@ public class GameMap extends GameObject implements IRenderable
 
 	/**
 	 * Checks if a unit is occupied at a given position
+	 * (if any unit of the map it overlaps is occupied)
 	 * @param pos the position of the unit to check if is occupied
 	 * @param unitSize the size of an unit
 	 * @return if the unit is occupied
 	 */
 	public boolean isUnitOccupied(Point pos, double unitSize)
 	{
-		FillerUnit unit;
-		try
-		{
-			unit = new FillerUnit(pos, (int)Math.round(unitSize), true);
-		}
-		catch (SnakeGameException e)
-		{
+		int size = (int)Math.round(unitSize);
+		if (size <= 0)
 			return false;
-		}
-		return CollisionManager.collidesAny(unit, super.sceneHandle());
+		return getOccupancy(size).isSquareOccupied(pos, unitSize);
 	}
 
 	/**
@@ -635,10 +948,45 @@ public class GameMap extends GameObject implements IRenderable
 	 */
 	public int height() { return this.height; }
 
+	/**
+	 * Checks if a game object is one of the obstacles surrounding the map
+	 * @param obj the game object to check
+	 * @return if the game object is one of the map's bounds
+	 */
+	public boolean isBound(GameObject obj)
+	{
+		return obj != null && (obj == this.topBound || obj == this.bottomBound || obj == this.leftBound || obj == this.rightBound);
+	}
+
 	public void setGraphicalColor(Color color)
 	{
 		this.rData = new RenderData<Rectangle>(this.rData.getShape(), this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(),
-			this.rData.getTerminalColour(), color);
+			this.rData.getTerminalColour(), color, this.rData.isStatic());
+	}
+
+	/**
+	 * Makes every collider already in the scene occupy the map
+	 * (the ones added later occupy it as they are added)
+	 */
+	@Override
+	public void initialize()
+	{
+		for (ICollider collider : super.sceneHandle().collidersArr())
+			occupy(collider);
+	}
+
+	@Override
+	public void onObjectAdded(GameObject object)
+	{
+		if (object instanceof ICollider)
+			occupy((ICollider)object);
+	}
+
+	@Override
+	public void onObjectRemoved(GameObject object)
+	{
+		if (object instanceof ICollider)
+			release((ICollider)object);
 	}
 
 	@Override
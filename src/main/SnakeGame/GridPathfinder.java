@@ -0,0 +1,479 @@
+package SnakeGame;
+
+import java.util.Arrays;
+
+/**
+ * Finds paths between units of an {@link OccupancyGrid OccupancyGrid},
+ * working only on the units' indexes.
+ * The queue, parents, scores and visited sets are reused between searches,
+ * so searching does not allocate unless the grid grows.
+ *
+ * Searches can be given a time budget, after which they give up and
+ * {@link GridPathfinder#isComplete() isComplete} returns false.
+ *
+ * @version 18/10/2026
+ *
+ * @see OccupancyGrid
+ * @see AISnakeController
+ */
+public class GridPathfinder
+{
+	private static final int WORD_BITS = 64;
+	private static final int TIME_CHECK_INTERVAL = 64;
+	private int[] queue;
+	private int[] parent;
+	private long[] visited;
+	private long[] seen;
+	private int[] cost;
+	private int[] estimate;
+	private int[] heapPos;
+	private int heapSize;
+	private int[] path;
+	private int columns;
+	private int cells;
+	private long deadline;
+	private boolean hasDeadline;
+	private boolean isComplete;
+	private long nodesExpanded;
+	private int lastStart;
+	private int lastFinish;
+
+	/**
+	 * Instantiates a GridPathfinder
+	 */
+	public GridPathfinder()
+	{
+		this.queue = new int[0];
+		this.parent = new int[0];
+		this.visited = new long[0];
+		this.isComplete = true;
+		this.nodesExpanded = 0;
+		this.lastStart = -1;
+		this.lastFinish = -1;
+	}
+
+	/**
+	 * Finds the first step of the shortest path from start to finish (BFS).
+	 * Occupied units can't be traversed, except for the finish unit.
+	 * If the finish can't be reached, the step goes towards the furthest reachable unit instead.
+	 * Neighbours are explored up, down, left then right (up being the next row).
+	 * @param grid the grid to search in
+	 * @param start the index of the starting unit
+	 * @param finish the index of the finishing unit
+	 * @param blocked the index of an extra unit that can't be traversed, -1 if none
+	 * @return the index of the unit to move to from start, -1 if there is none
+	 * @pre 0 <= start < grid.cells()
+	 * @pre 0 <= finish < grid.cells()
+	 */
+	public int nextStep(OccupancyGrid grid, int start, int finish, int blocked)
+	{
+		return nextStep(grid, start, finish, blocked, 0);
+	}
+
+	/**
+	 * Finds the first step of the shortest path from start to finish (BFS), within a time budget.
+	 * Occupied units can't be traversed, except for the finish unit.
+	 * If the finish can't be reached, the step goes towards the furthest reachable unit instead.
+	 * Neighbours are explored up, down, left then right (up being the next row).
+	 * @param grid the grid to search in
+	 * @param start the index of the starting unit
+	 * @param finish the index of the finishing unit
+	 * @param blocked the index of an extra unit that can't be traversed, -1 if none
+	 * @param budgetNanos the time budget for the search in nanoseconds, 0 or lower for no budget
+	 * @return the index of the unit to move to from start, -1 if there is none or the budget ran out
+	 * @pre 0 <= start < grid.cells()
+	 * @pre 0 <= finish < grid.cells()
+	 */
+	public int nextStep(OccupancyGrid grid, int start, int finish, int blocked, long budgetNanos)
+	{
+		begin(grid, budgetNanos);
+		if (blocked != -1)
+			visit(blocked);
+
+		int current = breadthFirst(grid, start, finish);
+		if (!this.isComplete)
+			return -1;
+		if (current == finish)
+			remember(start, finish);
+		return firstStep(start, current);
+	}
+
+	/**
+	 * Finds the first step of the shortest path from start to finish (A*, with a manhattan distance heuristic).
+	 * Occupied units can't be traversed, except for the finish unit.
+	 * @param grid the grid to search in
+	 * @param start the index of the starting unit
+	 * @param finish the index of the finishing unit
+	 * @param blocked the index of an extra unit that can't be traversed, -1 if none
+	 * @param budgetNanos the time budget for the search in nanoseconds, 0 or lower for no budget
+	 * @return the index of the unit to move to from start, -1 if the finish can't be reached or the budget ran out
+	 * @pre 0 <= start < grid.cells()
+	 * @pre 0 <= finish < grid.cells()
+	 */
+	public int aStar(OccupancyGrid grid, int start, int finish, int blocked, long budgetNanos)
+	{
+		begin(grid, budgetNanos);
+		Arrays.fill(this.seen, 0);
+		this.heapSize = 0;
+		if (blocked != -1)
+			visit(blocked);
+
+		see(start, 0, finish, -1);
+		while (this.heapSize > 0)
+		{
+			if (isOutOfTime())
+				return -1;
+
+			int current = pop();
+			visit(current);
+			this.nodesExpanded++;
+			if (current == finish)
+			{
+				remember(start, finish);
+				return firstStep(start, finish);
+			}
+
+			int column = current % this.columns;
+			if (current + this.columns < this.cells)
+				relax(grid, current, current + this.columns, finish);
+			if (current - this.columns >= 0)
+				relax(grid, current, current - this.columns, finish);
+			if (column > 0)
+				relax(grid, current, current - 1, finish);
+			if (column < this.columns - 1)
+				relax(grid, current, current + 1, finish);
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks if a target can still be reached from the end of the last path found,
+	 * once the units along that path have been occupied (e.g. by the snake's body).
+	 * The target unit can be traversed even if it's occupied.
+	 * @param grid the grid the last path was found in
+	 * @param target the index of the unit to reach
+	 * @param budgetNanos the time budget for the search in nanoseconds, 0 or lower for no budget
+	 * @return if the target can be reached, false if there is no last path or the budget ran out
+	 * @pre 0 <= target < grid.cells()
+	 */
+	public boolean canReachAfterPath(OccupancyGrid grid, int target, long budgetNanos)
+	{
+		if (this.lastFinish == -1)
+			return false;
+
+		int length = 0;
+		for (int cell = this.lastFinish; cell != this.lastStart; cell = this.parent[cell])
+			this.path[length++] = cell;
+		this.path[length++] = this.lastStart;
+
+		int start = this.lastFinish;
+		begin(grid, budgetNanos);
+		for (int i = 1; i < length; i++)
+			if (this.path[i] != target)
+				visit(this.path[i]);
+
+		int reached = breadthFirst(grid, start, target);
+		return this.isComplete && reached == target;
+	}
+
+	/**
+	 * Runs a breadth first search from start until finish is dequeued
+	 * @param grid the grid to search in
+	 * @param start the index of the starting unit
+	 * @param finish the index of the finishing unit
+	 * @return the last unit dequeued (finish if it was reached)
+	 */
+	private int breadthFirst(OccupancyGrid grid, int start, int finish)
+	{
+		visit(start);
+
+		int head = 0;
+		int tail = 0;
+		this.queue[tail++] = start;
+		int current = start;
+		while (head != tail)
+		{
+			if (isOutOfTime())
+				return current;
+
+			current = this.queue[head++];
+			this.nodesExpanded++;
+			if (current == finish)
+				break;
+
+			int column = current % this.columns;
+			if (current + this.columns < this.cells)
+				tail = enqueue(grid, current, current + this.columns, finish, tail);
+			if (current - this.columns >= 0)
+				tail = enqueue(grid, current, current - this.columns, finish, tail);
+			if (column > 0)
+				tail = enqueue(grid, current, current - 1, finish, tail);
+			if (column < this.columns - 1)
+				tail = enqueue(grid, current, current + 1, finish, tail);
+		}
+		return current;
+	}
+
+	/**
+	 * Resets the search state, growing it if the grid is bigger than previous ones
+	 * @param grid the grid that is going to be searched
+	 * @param budgetNanos the time budget for the search in nanoseconds, 0 or lower for no budget
+	 */
+	private void begin(OccupancyGrid grid, long budgetNanos)
+	{
+		this.columns = grid.columns();
+		this.cells = grid.cells();
+		if (this.queue.length < this.cells)
+		{
+			this.queue = new int[this.cells];
+			this.parent = new int[this.cells];
+			this.visited = new long[(this.cells + WORD_BITS - 1) / WORD_BITS];
+			this.seen = new long[this.visited.length];
+			this.cost = new int[this.cells];
+			this.estimate = new int[this.cells];
+			this.heapPos = new int[this.cells];
+			this.path = new int[this.cells];
+		}
+		else
+			Arrays.fill(this.visited, 0);
+
+		this.hasDeadline = budgetNanos > 0;
+		if (this.hasDeadline)
+			this.deadline = System.nanoTime() + budgetNanos;
+		this.isComplete = true;
+		this.lastStart = -1;
+		this.lastFinish = -1;
+	}
+
+	/**
+	 * Checks (every few expansions) if the search ran out of time,
+	 * marking it as incomplete if so
+	 * @return if the search ran out of time
+	 */
+	private boolean isOutOfTime()
+	{
+		if (!this.hasDeadline || this.nodesExpanded % TIME_CHECK_INTERVAL != 0)
+			return false;
+		if (System.nanoTime() - this.deadline < 0)
+			return false;
+		this.isComplete = false;
+		return true;
+	}
+
+	/**
+	 * Remembers the path found, so it can be checked by
+	 * {@link GridPathfinder#canReachAfterPath(OccupancyGrid, int, long) canReachAfterPath}
+	 * @param start the index of the starting unit
+	 * @param finish the index of the finishing unit
+	 */
+	private void remember(int start, int finish)
+	{
+		this.lastStart = start;
+		this.lastFinish = finish;
+	}
+
+	/**
+	 * Enqueues a neighbouring unit if it can be traversed and hasn't been visited
+	 * @param grid the grid being searched
+	 * @param from the index of the unit being expanded
+	 * @param cell the index of the neighbouring unit
+	 * @param finish the index of the finishing unit
+	 * @param tail the current end of the queue
+	 * @return the new end of the queue
+	 */
+	private int enqueue(OccupancyGrid grid, int from, int cell, int finish, int tail)
+	{
+		if (isVisited(cell) || (cell != finish && grid.isOccupied(cell)))
+			return tail;
+		visit(cell);
+		this.parent[cell] = from;
+		this.queue[tail] = cell;
+		return tail + 1;
+	}
+
+	/**
+	 * Updates the cost of reaching a neighbouring unit if it can be traversed
+	 * and hasn't been expanded
+	 * @param grid the grid being searched
+	 * @param from the index of the unit being expanded
+	 * @param cell the index of the neighbouring unit
+	 * @param finish the index of the finishing unit
+	 */
+	private void relax(OccupancyGrid grid, int from, int cell, int finish)
+	{
+		if (isVisited(cell) || (cell != finish && grid.isOccupied(cell)))
+			return;
+
+		int newCost = this.cost[from] + 1;
+		if (!isSeen(cell))
+			see(cell, newCost, finish, from);
+		else if (newCost < this.cost[cell])
+		{
+			this.estimate[cell] -= this.cost[cell] - newCost;
+			this.cost[cell] = newCost;
+			this.parent[cell] = from;
+			siftUp(this.heapPos[cell]);
+		}
+	}
+
+	/**
+	 * Adds a unit to the open set of the A* search
+	 * @param cell the index of the unit
+	 * @param cost the cost of reaching the unit
+	 * @param finish the index of the finishing unit
+	 * @param from the index of the unit it was reached from
+	 */
+	private void see(int cell, int cost, int finish, int from)
+	{
+		this.seen[cell / WORD_BITS] |= 1L << cell;
+		this.cost[cell] = cost;
+		this.estimate[cell] = cost + manhattan(cell, finish);
+		this.parent[cell] = from;
+		this.queue[this.heapSize] = cell;
+		this.heapPos[cell] = this.heapSize;
+		siftUp(this.heapSize++);
+	}
+
+	/**
+	 * The manhattan distance between two units
+	 * @param cell the index of the first unit
+	 * @param other the index of the second unit
+	 * @return the manhattan distance between the units
+	 */
+	private int manhattan(int cell, int other)
+	{
+		return Math.abs(cell % this.columns - other % this.columns) + Math.abs(cell / this.columns - other / this.columns);
+	}
+
+	/**
+	 * Removes the unit with the lowest estimate from the open set (heap stored in the queue)
+	 * @return the index of the removed unit
+	 */
+	private int pop()
+	{
+		int top = this.queue[0];
+		this.heapSize--;
+		if (this.heapSize > 0)
+		{
+			this.queue[0] = this.queue[this.heapSize];
+			this.heapPos[this.queue[0]] = 0;
+			siftDown(0);
+		}
+		return top;
+	}
+
+	/**
+	 * Moves a heap entry up until the heap is ordered
+	 * @param index the index of the entry in the heap
+	 */
+	private void siftUp(int index)
+	{
+		int cell = this.queue[index];
+		while (index > 0)
+		{
+			int parentIndex = (index - 1) / 2;
+			int parentCell = this.queue[parentIndex];
+			if (!isBefore(cell, parentCell))
+				break;
+			this.queue[index] = parentCell;
+			this.heapPos[parentCell] = index;
+			index = parentIndex;
+		}
+		this.queue[index] = cell;
+		this.heapPos[cell] = index;
+	}
+
+	/**
+	 * Moves a heap entry down until the heap is ordered
+	 * @param index the index of the entry in the heap
+	 */
+	private void siftDown(int index)
+	{
+		int cell = this.queue[index];
+		while (true)
+		{
+			int child = index * 2 + 1;
+			if (child >= this.heapSize)
+				break;
+			if (child + 1 < this.heapSize && isBefore(this.queue[child + 1], this.queue[child]))
+				child++;
+			if (!isBefore(this.queue[child], cell))
+				break;
+			this.queue[index] = this.queue[child];
+			this.heapPos[this.queue[index]] = index;
+			index = child;
+		}
+		this.queue[index] = cell;
+		this.heapPos[cell] = index;
+	}
+
+	/**
+	 * If a unit should be expanded before another
+	 * (lower estimate, and on ties the one further along it's path)
+	 * @param cell the index of the first unit
+	 * @param other the index of the second unit
+	 * @return if the first unit should be expanded before the second
+	 */
+	private boolean isBefore(int cell, int other)
+	{
+		if (this.estimate[cell] != this.estimate[other])
+			return this.estimate[cell] < this.estimate[other];
+		return this.cost[cell] > this.cost[other];
+	}
+
+	/**
+	 * Walks back from the end of a path until the unit right after the start
+	 * @param start the index of the starting unit
+	 * @param end the index of the last unit of the path
+	 * @return the index of the unit right after start, -1 if the path is empty
+	 */
+	private int firstStep(int start, int end)
+	{
+		if (end == start)
+			return -1;
+		while (this.parent[end] != start)
+			end = this.parent[end];
+		return end;
+	}
+
+	/**
+	 * Checks if a unit has been visited (expanded, for A*)
+	 * @param cell the index of the unit
+	 * @return if the unit has been visited
+	 */
+	private boolean isVisited(int cell)
+	{
+		return (this.visited[cell / WORD_BITS] & (1L << cell)) != 0;
+	}
+
+	/**
+	 * Marks a unit as visited
+	 * @param cell the index of the unit
+	 */
+	private void visit(int cell)
+	{
+		this.visited[cell / WORD_BITS] |= 1L << cell;
+	}
+
+	/**
+	 * Checks if a unit has been added to the A* open set
+	 * @param cell the index of the unit
+	 * @return if the unit has been added to the open set
+	 */
+	private boolean isSeen(int cell)
+	{
+		return (this.seen[cell / WORD_BITS] & (1L << cell)) != 0;
+	}
+
+	/**
+	 * If the last search finished within it's time budget
+	 * @return if the last search finished within it's time budget
+	 */
+	public boolean isComplete() { return this.isComplete; }
+
+	/**
+	 * The total number of units expanded by all searches
+	 * @return the total number of units expanded
+	 */
+	public long nodesExpanded() { return this.nodesExpanded; }
+}
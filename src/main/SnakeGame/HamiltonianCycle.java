@@ -0,0 +1,121 @@
+package SnakeGame;
+
+/**
+ * Represents a cycle that goes through every unit of a grid exactly once,
+ * moving only between neighbouring units.
+ *
+ * The cycle zig-zags through every column but the first (or every row but
+ * the first) and comes back through the one left out, which is only possible
+ * if the grid has an even number of rows (or columns).
+ *
+ * @version 18/10/2026
+ *
+ * @see AISnakeController
+ */
+public class HamiltonianCycle
+{
+	private int columns;
+	private int rows;
+	private int[] next;
+
+	/**
+	 * Instantiates the cycle for a grid
+	 * @param columns the number of columns in the grid
+	 * @param rows the number of rows in the grid
+	 */
+	public HamiltonianCycle(int columns, int rows)
+	{
+		this.columns = columns;
+		this.rows = rows;
+		this.next = null;
+		if (columns >= 2 && rows >= 2 && rows % 2 == 0)
+			buildByRows();
+		else if (columns >= 2 && rows >= 2 && columns % 2 == 0)
+			buildByColumns();
+	}
+
+	/**
+	 * Builds the cycle zig-zagging through the rows,
+	 * returning through the first column
+	 */
+	private void buildByRows()
+	{
+		int[] order = new int[this.columns * this.rows];
+		int n = 0;
+		for (int row = 0; row < this.rows; row++)
+		{
+			if (row % 2 == 0)
+				for (int column = 1; column < this.columns; column++)
+					order[n++] = row * this.columns + column;
+			else
+				for (int column = this.columns - 1; column >= 1; column--)
+					order[n++] = row * this.columns + column;
+		}
+		for (int row = this.rows - 1; row >= 0; row--)
+			order[n++] = row * this.columns;
+		link(order);
+	}
+
+	/**
+	 * Builds the cycle zig-zagging through the columns,
+	 * returning through the first row
+	 */
+	private void buildByColumns()
+	{
+		int[] order = new int[this.columns * this.rows];
+		int n = 0;
+		for (int column = 0; column < this.columns; column++)
+		{
+			if (column % 2 == 0)
+				for (int row = 1; row < this.rows; row++)
+					order[n++] = row * this.columns + column;
+			else
+				for (int row = this.rows - 1; row >= 1; row--)
+					order[n++] = row * this.columns + column;
+		}
+		for (int column = this.columns - 1; column >= 0; column--)
+			order[n++] = column;
+		link(order);
+	}
+
+	/**
+	 * Links every unit to the one after it in the order (the last linking to the first)
+	 * @param order the units' indexes, in the order of the cycle
+	 */
+	private void link(int[] order)
+	{
+		this.next = new int[order.length];
+		for (int i = 0; i < order.length; i++)
+			this.next[order[i]] = order[(i + 1) % order.length];
+	}
+
+	/**
+	 * If the grid has a cycle
+	 * @return if the grid has a cycle
+	 */
+	public boolean exists() { return this.next != null; }
+
+	/**
+	 * The unit that comes after another in the cycle
+	 * @param cell the index of the unit
+	 * @return the index of the next unit in the cycle, -1 if there is no cycle
+	 * @pre 0 <= cell < columns * rows
+	 */
+	public int next(int cell)
+	{
+		if (this.next == null)
+			return -1;
+		return this.next[cell];
+	}
+
+	/**
+	 * Checks if the cycle was built for a grid with the given dimensions
+	 * @param columns the number of columns in the grid
+	 * @param rows the number of rows in the grid
+	 * @return if the cycle was built for the given dimensions
+	 */
+	public boolean fits(int columns, int rows)
+	{
+		return this.columns == columns && this.rows == rows;
+	}
+}
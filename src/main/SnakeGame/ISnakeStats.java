@@ -1,5 +1,7 @@
 package SnakeGame;
 
+import Geometry.*;
+
 /**
  * An interface to get a snake's properties
  * 
@@ -22,4 +24,11 @@ public interface ISnakeStats extends ISpatialComponent
 	 * @return the snake's current direction
 	 */
 	public Direction direction();
+
+	/**
+	 * The position of the snake's last tail unit
+	 * (the head's position if the snake has no tail)
+	 * @return the position of the snake's last tail unit
+	 */
+	public Point tailPosition();
 }
@@ -0,0 +1,177 @@
+package SnakeGame;
+
+/**
+ * Represents which units of a grid are occupied, as a bitmap
+ * with one bit per unit (row-major order).
+ * Each unit keeps a count of it's occupants, so that overlapping occupants
+ * can be released independently.
+ *
+ * @version 18/10/2026
+ *
+ * @inv a unit is occupied if it has at least one occupant
+ * @see GameMap
+ */
+public class OccupancyGrid
+{
+	private static final int WORD_BITS = 64;
+	private int columns;
+	private int rows;
+	private int cells;
+	private long[] bits;
+	private int[] counts;
+
+	/**
+	 * Instantiates an empty OccupancyGrid
+	 * @param columns the number of columns in the grid
+	 * @param rows the number of rows in the grid
+	 * @pre columns >= 0
+	 * @pre rows >= 0
+	 */
+	public OccupancyGrid(int columns, int rows)
+	{
+		this.columns = columns;
+		this.rows = rows;
+		this.cells = columns * rows;
+		this.bits = new long[(this.cells + WORD_BITS - 1) / WORD_BITS];
+		this.counts = new int[this.cells];
+
+		// padding bits past the last unit are always occupied
+		if (this.cells % WORD_BITS != 0)
+			this.bits[this.bits.length - 1] = -1L << (this.cells % WORD_BITS);
+	}
+
+	/**
+	 * Adds an occupant to a unit
+	 * @param cell the index of the unit
+	 * @pre 0 <= cell < cells()
+	 */
+	public void occupy(int cell)
+	{
+		if (this.counts[cell]++ == 0)
+			this.bits[cell / WORD_BITS] |= 1L << cell;
+	}
+
+	/**
+	 * Removes an occupant from a unit
+	 * @param cell the index of the unit
+	 * @pre 0 <= cell < cells()
+	 * @pre the unit is occupied
+	 */
+	public void release(int cell)
+	{
+		if (--this.counts[cell] == 0)
+			this.bits[cell / WORD_BITS] &= ~(1L << cell);
+	}
+
+	/**
+	 * Checks if a unit is occupied
+	 * @param cell the index of the unit
+	 * @return if the unit is occupied
+	 * @pre 0 <= cell < cells()
+	 */
+	public boolean isOccupied(int cell)
+	{
+		return (this.bits[cell / WORD_BITS] & (1L << cell)) != 0;
+	}
+
+	/**
+	 * Checks if a unit is occupied
+	 * @param column the column of the unit
+	 * @param row the row of the unit
+	 * @return if the unit is occupied
+	 * @pre 0 <= column < columns()
+	 * @pre 0 <= row < rows()
+	 */
+	public boolean isOccupied(int column, int row)
+	{
+		return isOccupied(cell(column, row));
+	}
+
+	/**
+	 * The index of a unit in the grid
+	 * @param column the column of the unit
+	 * @param row the row of the unit
+	 * @return the index of the unit
+	 */
+	public int cell(int column, int row)
+	{
+		return row * this.columns + column;
+	}
+
+	/**
+	 * The ammount of units that are not occupied
+	 * @return the ammount of units that are not occupied
+	 */
+	public int freeCount()
+	{
+		int free = 0;
+		for (long word : this.bits)
+			free += Long.bitCount(~word);
+		return free;
+	}
+
+	/**
+	 * The index of the first unit that is not occupied, starting from a given unit
+	 * @param from the index of the unit to start from (inclusive)
+	 * @return the index of the first free unit, -1 if there is none
+	 * @pre from >= 0
+	 */
+	public int nextFree(int from)
+	{
+		if (from >= this.cells)
+			return -1;
+
+		int word = from / WORD_BITS;
+		long free = ~this.bits[word] & (-1L << from);
+		while (free == 0)
+		{
+			if (++word == this.bits.length)
+				return -1;
+			free = ~this.bits[word];
+		}
+		return word * WORD_BITS + Long.numberOfTrailingZeros(free);
+	}
+
+	/**
+	 * The index of the nth unit that is not occupied
+	 * @param n the order of the free unit to find (starting at 0)
+	 * @return the index of the nth free unit, -1 if there aren't that many free units
+	 * @pre n >= 0
+	 */
+	public int nthFree(int n)
+	{
+		for (int word = 0; word < this.bits.length; word++)
+		{
+			long free = ~this.bits[word];
+			int count = Long.bitCount(free);
+			if (n >= count)
+			{
+				n -= count;
+				continue;
+			}
+
+			for (int i = 0; i < n; i++)
+				free &= free - 1;
+			return word * WORD_BITS + Long.numberOfTrailingZeros(free);
+		}
+		return -1;
+	}
+
+	/**
+	 * The number of columns in the grid
+	 * @return the number of columns in the grid
+	 */
+	public int columns() { return this.columns; }
+
+	/**
+	 * The number of rows in the grid
+	 * @return the number of rows in the grid
+	 */
+	public int rows() { return this.rows; }
+
+	/**
+	 * The number of units in the grid
+	 * @return the number of units in the grid
+	 */
+	public int cells() { return this.cells; }
+}
@@ -33,10 +33,15 @@ public class Scoreboard implements IHighscoresReader
 
 	/**
 	 * Gets the scoreboard instance.
+	 * (the {@link EngineContext context's} instance, if one is running on the current thread)
 	 * @return the scoreboard instance
 	 */
 	public static Scoreboard getInstance()
 	{
+		EngineContext context = EngineContext.current();
+		if (context != null)
+			return context.getInstance(Scoreboard.class, Scoreboard::new);
+
 		if (instance == null)
 			instance = new Scoreboard();
 
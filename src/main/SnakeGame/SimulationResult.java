@@ -0,0 +1,112 @@
+package SnakeGame;
+
+/**
+ * The outcome of a headless game, ran through {@link GameManager#simulate(long) simulate}.
+ *
+ * @version 18/10/2026
+ *
+ * @see GameManager
+ * @see GameManagerBuilder
+ */
+public class SimulationResult
+{
+	/**
+	 * What ended the simulated game
+	*/
+	public static enum Cause
+	{
+		/**
+		 * The snake collided with itself.
+		 */
+		SELF,
+
+		/**
+		 * The snake collided with the map's bounds.
+		 */
+		WALL,
+
+		/**
+		 * The snake collided with an obstacle.
+		 */
+		OBSTACLE,
+
+		/**
+		 * There was no room left to spawn food.
+		 */
+		WON,
+
+		/**
+		 * The game reached the maximum ammount of ticks with the snake still alive.
+		 */
+		TICK_LIMIT,
+	}
+
+	private long seed;
+	private int score;
+	private int length;
+	private long ticks;
+	private Cause cause;
+	private long wallTimeNanos;
+
+	/**
+	 * Instantiates a SimulationResult
+	 * @param seed the seed the game was ran with
+	 * @param score the final score
+	 * @param length the final length of the snake
+	 * @param ticks the ammount of updates the game ran for
+	 * @param cause what ended the game
+	 * @param wallTimeNanos the real time the game took to run, in nanoseconds
+	 */
+	public SimulationResult(long seed, int score, int length, long ticks, Cause cause, long wallTimeNanos)
+	{
+		this.seed = seed;
+		this.score = score;
+		this.length = length;
+		this.ticks = ticks;
+		this.cause = cause;
+		this.wallTimeNanos = wallTimeNanos;
+	}
+
+	/**
+	 * The seed the game was ran with
+	 * @return the seed the game was ran with
+	 */
+	public long seed() { return this.seed; }
+
+	/**
+	 * The final score
+	 * @return the final score
+	 */
+	public int score() { return this.score; }
+
+	/**
+	 * The final length of the snake
+	 * @return the final length of the snake
+	 */
+	public int length() { return this.length; }
+
+	/**
+	 * The ammount of updates the game ran for
+	 * @return the ammount of updates the game ran for
+	 */
+	public long ticks() { return this.ticks; }
+
+	/**
+	 * What ended the game
+	 * @return what ended the game
+	 */
+	public Cause cause() { return this.cause; }
+
+	/**
+	 * The real time the game took to run, in nanoseconds
+	 * @return the real time the game took to run, in nanoseconds
+	 */
+	public long wallTimeNanos() { return this.wallTimeNanos; }
+
+	@Override
+	public String toString()
+	{
+		return "Seed: " + this.seed + " | Score: " + this.score + " | Length: " + this.length +
+			" | Ticks: " + this.ticks + " | Cause: " + this.cause + " | Time: " + (this.wallTimeNanos / 1000) + "us";
+	}
+}
@@ -0,0 +1,135 @@
+package SnakeGame;
+
+import Geometry.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import GameEngine.*;
+
+/**
+ * Runs several headless games in parallel, one for each seed,
+ * each in it's own {@link EngineContext engine context}.
+ *
+ * Every game is built from the same configuration, only changing the seed,
+ * so the results of a seed are the same as the ones of
+ * {@link GameManagerBuilder#simulate(long) simulating} it on it's own.
+ *
+ * @version 18/10/2026
+ *
+ * @see SimulationResult
+ * @see EngineContext
+ */
+public class SimulationRunner
+{
+	/**
+	 * Creates the configuration of a game to simulate.
+	 * Called once per game, inside the game's own context.
+	*/
+	@FunctionalInterface
+	public static interface IGameConfiguration
+	{
+		/**
+		 * Creates a configured (but not built) game
+		 * @return the builder of the game, with everything but the seed configured
+		 * @throws SnakeGameException if the configuration is invalid
+		 * @throws GeometricException if a shape of the configuration is invalid
+		 */
+		GameManagerBuilder create() throws SnakeGameException, GeometricException;
+	}
+
+	private IGameConfiguration configuration;
+	private long maxTicks;
+	private int parallelism;
+
+	/**
+	 * Instantiates a SimulationRunner that uses all available processors
+	 * same as {@link SimulationRunner#SimulationRunner(IGameConfiguration,long,int)}
+	 */
+	public SimulationRunner(IGameConfiguration configuration, long maxTicks)
+	{
+		this(configuration, maxTicks, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Instantiates a SimulationRunner
+	 * @param configuration the configuration of the games to simulate
+	 * @param maxTicks the maximum ammount of ticks to run each game for
+	 * @param parallelism the maximum ammount of games to run at the same time
+	 * @pre parallelism > 0
+	 */
+	public SimulationRunner(IGameConfiguration configuration, long maxTicks, int parallelism)
+	{
+		this.configuration = configuration;
+		this.maxTicks = maxTicks;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Simulates a game for each seed, in parallel
+	 * @param seeds the seeds of the games to simulate
+	 * @return the results of the games, by seed
+	 * @throws SnakeGameException if a seed is repeated (as it's results would be the same),
+	 * or if a game could not be simulated
+	 */
+	public SortedMap<Long, SimulationResult> run(long[] seeds) throws SnakeGameException
+	{
+		HashSet<Long> uniqueSeeds = new HashSet<Long>();
+		for (long seed : seeds)
+		{
+			if (!uniqueSeeds.add(seed))
+			{
+				Logger.log(Logger.Level.ERROR, "Repeated seed: " + seed);
+				throw new SnakeGameException("Every seed must be unique, " + seed + " is repeated.");
+			}
+		}
+
+		ArrayList<Callable<SimulationResult>> games = new ArrayList<Callable<SimulationResult>>(seeds.length);
+		for (long seed : seeds)
+			games.add(() -> simulate(seed));
+
+		ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+		try
+		{
+			TreeMap<Long, SimulationResult> results = new TreeMap<Long, SimulationResult>();
+			for (Future<SimulationResult> game : pool.invokeAll(games))
+			{
+				SimulationResult result = game.get();
+				results.put(result.seed(), result);
+			}
+			return results;
+		}
+		catch (ExecutionException e)
+		{
+			Logger.log(Logger.Level.FATAL, "Error simulating game.\n" + e.getCause());
+			throw new SnakeGameException("Error simulating game: " + e.getCause().getMessage());
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			Logger.log(Logger.Level.ERROR, "Simulation was interrupted.");
+			throw new SnakeGameException("Simulation was interrupted.");
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Simulates a single game, in a new context, on the current thread
+	 * @param seed the seed of the game to simulate
+	 * @return the result of the game
+	 * @throws Exception if the game could not be simulated
+	 */
+	public SimulationResult simulate(long seed) throws Exception
+	{
+		return new EngineContext().run(() -> this.configuration.create().setSeed(seed).simulate(this.maxTicks));
+	}
+}
@@ -28,6 +28,7 @@ public class Snake extends GameObject implements ISpatialComponent
 	private char headChar;
 	private int unitSize;
 	private boolean isDead;
+	private GameObject killer;
 	private SnakeUnit head;
 	private Direction currDir;
 	private int length;
@@ -70,6 +71,7 @@ public class Snake extends GameObject implements ISpatialComponent
 		this.headChar = headChar;
 		createHead(initialPos);
 		this.isDead = false;
+		this.killer = null;
 		this.length = 1;
 		this.toGrow = 0;
 		this.isAwake = false;
@@ -107,11 +109,22 @@ public class Snake extends GameObject implements ISpatialComponent
 	 * Kills the snake, setting it's state to dead.
 	 */
 	public void die()
+	{
+		die(null);
+	}
+
+	/**
+	 * Kills the snake, setting it's state to dead.
+	 * Only the first cause of death is kept.
+	 * @param killer the game object that killed the snake (can be null)
+	 */
+	public void die(GameObject killer)
 	{
 		if (isDead)
 			return;
 
 		this.isDead = true;
+		this.killer = killer;
 	}
 
 	/**
@@ -357,6 +370,12 @@ public class Snake extends GameObject implements ISpatialComponent
 	 */
 	public boolean isDead() { return this.isDead; }
 
+	/**
+	 * The game object that killed the snake
+	 * @return the game object that killed the snake, null if alive or killed by no game object
+	 */
+	public GameObject killer() { return this.killer; }
+
 	/**
 	 * The snake's direction
 	 * @return the snake's direction
@@ -383,4 +402,11 @@ public class Snake extends GameObject implements ISpatialComponent
 	
 	@Override
 	public Point position() { return this.head.position(); }
+
+	/**
+	 * The position of the snake's last tail unit
+	 * (the head's position if the snake has no tail)
+	 * @return the position of the snake's last tail unit
+	 */
+	public Point tailPosition() { return this.units.peek().position(); }
 }
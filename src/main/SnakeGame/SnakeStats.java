@@ -37,6 +37,12 @@ public class SnakeStats implements ISnakeStats
 		return this.snake.position();
 	}
 
+	@Override
+	public Point tailPosition()
+	{
+		return this.snake.tailPosition();
+	}
+
 	@Override
 	public int score()
 	{
@@ -44,13 +44,13 @@ public class SnakeUnit extends Unit implements ICollider
 	}
 
 	@Override
-	public IGeometricShape<Polygon> getCollider() { return super.unitSquare(); }
+	public IGeometricShape<PackedPolygon> getCollider() { return super.collider(); }
 	
 	@Override
 	public void onCollision(GameObject other)
 	{
 		if (other instanceof SnakeUnit || other instanceof IObstacle)
-			snakeHandle.die();
+			snakeHandle.die(other);
 		else if (this.isHead && other instanceof IFood && (this.getCollider().contains(((IFood)other).getCollider())))
 			snakeHandle.eat((IFood)other);
 	}
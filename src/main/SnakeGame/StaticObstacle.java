@@ -43,7 +43,7 @@ public class StaticObstacle extends GameObject implements IObstacle
 	 */
 	public StaticObstacle(Polygon obstacle, boolean isFilled, char drawChar, TerminalColour.Foreground terminalColour, Color graphicalColor)
 	{
-		this.rData = new RenderData<Polygon>(obstacle, isFilled, LAYER, drawChar, terminalColour, graphicalColor);
+		this.rData = new RenderData<Polygon>(obstacle, isFilled, LAYER, drawChar, terminalColour, graphicalColor, true);
 		this.shape = obstacle;
 		this.isDeepCollision = false;
 	}
@@ -29,10 +29,13 @@ import java.awt.Color;
 public class Unit extends GameObject implements IRenderable, ISpatialComponent
 {
 	public static final double UNIT_OFFSET = 0.001;
+	private PackedPolygon collider;
 	private Square unit;
 	private double size;
-	private RenderData<Square> rData;
+	private RenderData<PackedPolygon> rData;
+	private boolean isRenderStale;
 	private Point position;
+	private GameMap map;
 
 	/**
 	 * Instantiates a unit.
@@ -61,7 +64,8 @@ public class Unit extends GameObject implements IRenderable, ISpatialComponent
 		this.position = position;
 		this.size = size;
 		generateUnit();
-		this.rData = new RenderData<Square>(this.unit, isFilled, layer, drawChar, terminalColour, graphicalColor);
+		this.rData = new RenderData<PackedPolygon>(new PackedPolygon(this.collider), isFilled, layer, drawChar, terminalColour, graphicalColor);
+		this.isRenderStale = false;
 	}
 
 	/**
@@ -79,12 +83,13 @@ public class Unit extends GameObject implements IRenderable, ISpatialComponent
 		try
 		{
 			double unitSize = this.size - UNIT_OFFSET;
-			unit = new Square(new Point[] {
+			Square square = new Square(new Point[] {
 				new Point(UNIT_OFFSET, UNIT_OFFSET),
 				new Point(UNIT_OFFSET, unitSize),
 				new Point(unitSize, unitSize),
 				new Point(unitSize, UNIT_OFFSET),
 			});
+			this.collider = new PackedPolygon(square);
 		}
 		catch (GeometricException e)
 		{
@@ -97,6 +102,9 @@ public class Unit extends GameObject implements IRenderable, ISpatialComponent
 
 	/**
 	 * Moves the unit to a new position
+	 * The unit's collider is moved in place, instead of being replaced by a new square,
+	 * so a unit can move every frame without allocating or validating a new shape.
+	 * If the unit occupies a {@link GameMap map}, the map's occupancy is moved along with it.
 	 * @param newPos the position to move the unit to
 	 * @throws SnakeGameException if the unit is moved to an invalid position
 	 */
@@ -104,8 +112,13 @@ public class Unit extends GameObject implements IRenderable, ISpatialComponent
 	{
 		try
 		{
-			this.unit = unit.moveCentroid(newPos);
+			this.collider.moveCentroidInto(newPos, this.collider);
+			this.unit = null;
+			this.isRenderStale = true;
+			Point from = this.position;
 			this.position = newPos;
+			if (this.map != null)
+				this.map.move(this, from);
 		}
 		catch (GeometricException e)
 		{
@@ -120,7 +133,7 @@ public class Unit extends GameObject implements IRenderable, ISpatialComponent
 	 */
 	public void setDrawChar(char newChar)
 	{
-		this.rData = new RenderData<Square>(this.rData.getShape(), this.rData.isFilled(), this.rData.getLayer(), newChar,
+		this.rData = new RenderData<PackedPolygon>(this.rData.getShape(), this.rData.isFilled(), this.rData.getLayer(), newChar,
 			this.rData.getTerminalColour(), this.rData.getGraphicalColor());
 	}
 
@@ -130,33 +143,67 @@ public class Unit extends GameObject implements IRenderable, ISpatialComponent
 	 */
 	public void setTerminalDrawColour(TerminalColour.Foreground newColour)
 	{
-		this.rData = new RenderData<Square>(this.rData.getShape(), this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(), newColour, this.rData.getGraphicalColor());
+		this.rData = new RenderData<PackedPolygon>(this.rData.getShape(), this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(), newColour, this.rData.getGraphicalColor());
 	}
 
 	public void setGraphicalDrawColor(Color newColor)
 	{
-		this.rData = new RenderData<Square>(this.rData.getShape(), this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(), this.rData.getTerminalColour(), newColor);
+		this.rData = new RenderData<PackedPolygon>(this.rData.getShape(), this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(), this.rData.getTerminalColour(), newColor);
 	}
 
 	@Override
 	public Point position() { return this.position; }
 
 	@Override
-	public RenderData<Square> getRenderData()
+	public RenderData<PackedPolygon> getRenderData()
 	{
-		return this.rData = new RenderData<Square>(this.unit, this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(),
+		if (!this.isRenderStale)
+			return this.rData;
+		// rendered shapes can't change, so the moved collider is copied
+		this.isRenderStale = false;
+		return this.rData = new RenderData<PackedPolygon>(new PackedPolygon(this.collider), this.rData.isFilled(), this.rData.getLayer(), this.rData.getCharacter(),
 			this.rData.getTerminalColour(), this.rData.getGraphicalColor());
 	}
 
+	/**
+	 * The shape of the unit, which is moved in place when the unit moves
+	 * (and so shouldn't be kept, or it should be copied)
+	 * @return the shape of the unit
+	 */
+	public PackedPolygon collider() { return this.collider; }
+
 	/**
 	 * The square that represents this unit
 	 * @return the square that represents this unit
 	 */
-	public Square unitSquare() { return this.unit; }
+	public Square unitSquare()
+	{
+		if (this.unit != null)
+			return this.unit;
+
+		try
+		{
+			return this.unit = new Square(this.collider.toPolygon());
+		}
+		catch (GeometricException e)
+		{
+			Logger.log(Logger.Level.FATAL, "Error generating Unit square\n" + e);
+			throw new Error("Shouldn't happen... a unit's collider is always a valid square");
+		}
+	}
 
 	/**
 	 * The size of the unit
 	 * @return the size of the unit
 	 */
 	public double size() { return this.size; }
+
+	/**
+	 * Sets the map the unit occupies, which is kept up to date as the unit moves
+	 * @param map the map the unit occupies (null if none)
+	 */
+	void setMap(GameMap map)
+	{
+		this.map = map;
+	}
 }
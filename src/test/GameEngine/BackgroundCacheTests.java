@@ -0,0 +1,100 @@
+package GameEngine;
+
+import Geometry.*;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class BackgroundCacheTests
+{
+	/**
+	 * Generates a textual raster filled with a character
+	 * @param c the character to fill the raster with
+	 * @return the raster
+	 */
+	private char[][] rasterOf(char c)
+	{
+		char[][] raster = new char[2][3];
+		for (char[] row : raster)
+			Arrays.fill(row, c);
+		return raster;
+	}
+
+	/**
+	 * Generates static render data
+	 * @return the render data
+	 */
+	private RenderData<?>[] staticData() throws GeometricException
+	{
+		Rectangle rect = new Rectangle(new Point(0, 0), new Point(2, 1));
+		return new RenderData<?>[] { new RenderData<Rectangle>(rect, true, 0, '#', null, null, true) };
+	}
+
+	@Test
+	public void ShouldHoldKeptRenderData() throws GeometricException
+	{
+		// Arrange
+		BackgroundCache cache = new BackgroundCache();
+		RenderData<?>[] data = staticData();
+		RenderData<?>[] otherData = staticData();
+		cache.setLayout(true, '-', 1, 0, 0, 3, 2);
+
+		// Act
+		boolean beforeKept = cache.holds(data, 1);
+		cache.keep(data, 1, rasterOf('#'), new int[2][3], false);
+		boolean kept = cache.holds(data, 1);
+		boolean other = cache.holds(otherData, 1);
+		boolean otherCount = cache.holds(data, 0);
+
+		// Assert
+		assertFalse(beforeKept);
+		assertTrue(kept);
+		assertFalse(other);
+		assertFalse(otherCount);
+	}
+
+	@Test
+	public void ShouldDiscardWhenLayoutChanges() throws GeometricException
+	{
+		// Arrange
+		BackgroundCache cache = new BackgroundCache();
+		RenderData<?>[] data = staticData();
+		cache.setLayout(true, '-', 1, 0, 0, 3, 2);
+		cache.keep(data, 1, rasterOf('#'), new int[2][3], false);
+
+		// Act
+		cache.setLayout(true, '-', 1, 0, 0, 3, 2);
+		boolean sameLayout = cache.holds(data, 1);
+		cache.setLayout(true, '.', 1, 0, 0, 3, 2);
+		boolean otherLayout = cache.holds(data, 1);
+
+		// Assert
+		assertTrue(sameLayout);
+		assertFalse(otherLayout);
+	}
+
+	@Test
+	public void ShouldRestoreRegion() throws GeometricException
+	{
+		// Arrange
+		BackgroundCache cache = new BackgroundCache();
+		int[][] foreground = new int[2][3];
+		foreground[1][1] = 7;
+		cache.setLayout(true, '-', 1, 0, 0, 3, 2);
+		cache.keep(staticData(), 1, rasterOf('#'), foreground, true);
+		char[][] raster = rasterOf('x');
+		int[][] rasterForeground = new int[2][3];
+
+		// Act
+		boolean isUsingColour = cache.restore(raster, rasterForeground, 1, 2, 1, 1);
+
+		// Assert
+		assertTrue(isUsingColour);
+		assertArrayEquals(new char[] { 'x', 'x', 'x' }, raster[0]);
+		assertArrayEquals(new char[] { 'x', '#', '#' }, raster[1]);
+		assertArrayEquals(new int[] { 0, 7, 0 }, rasterForeground[1]);
+	}
+}
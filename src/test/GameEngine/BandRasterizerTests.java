@@ -0,0 +1,44 @@
+package GameEngine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class BandRasterizerTests
+{
+	@Test
+	public void ShouldSplitRowsInContiguousBands()
+	{
+		// Arrange
+		int height = 17;
+		int bandCount = 5;
+		int rows = 0;
+
+		// Act
+		int firstTop = BandRasterizer.bandTop(0, bandCount, height);
+		int lastBottom = BandRasterizer.bandTop(bandCount, bandCount, height) - 1;
+		for (int i = 0; i < bandCount; i++)
+			rows += BandRasterizer.bandTop(i + 1, bandCount, height) - BandRasterizer.bandTop(i, bandCount, height);
+
+		// Assert
+		assertEquals(0, firstTop);
+		assertEquals(height - 1, lastBottom);
+		assertEquals(height, rows);
+	}
+
+	@Test
+	public void ShouldSplitRowsInEvenBands()
+	{
+		// Arrange
+		int height = 17;
+		int bandCount = 5;
+
+		// Act
+		// Assert
+		for (int i = 0; i < bandCount; i++)
+		{
+			int rows = BandRasterizer.bandTop(i + 1, bandCount, height) - BandRasterizer.bandTop(i, bandCount, height);
+			assertTrue(rows == height / bandCount || rows == height / bandCount + 1);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package GameEngine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class ClockTests
+{
+	/**
+	 * Records the deltas of every tick, stopping the clock after a number of ticks
+	 */
+	private static class MockClockListener implements IClockListener
+	{
+		private Clock clock;
+		private int maxTicks;
+		private ArrayList<Long> deltas;
+
+		public MockClockListener(Clock clock, int maxTicks)
+		{
+			this.clock = clock;
+			this.maxTicks = maxTicks;
+			this.deltas = new ArrayList<Long>();
+		}
+
+		@Override
+		public void tick(long timeElapsedNanos)
+		{
+			this.deltas.add(timeElapsedNanos);
+			if (this.deltas.size() == this.maxTicks)
+				this.clock.stop();
+		}
+
+		public ArrayList<Long> deltas() { return this.deltas; }
+	}
+
+	@Test
+	public void ShouldTickFixedPeriods()
+	{
+		// Arrange
+		Clock clock = new Clock(100);
+		MockClockListener listener = new MockClockListener(clock, Integer.MAX_VALUE);
+		clock.addListener(listener);
+		long period = clock.periodNanos();
+
+		// Act
+		int first = clock.advance(period * 2 + period / 2);
+		int second = clock.advance(period / 2);
+		int third = clock.advance(period / 4);
+
+		// Assert
+		assertEquals(10000000, period);
+		assertEquals(2, first);
+		assertEquals(1, second);
+		assertEquals(0, third);
+		assertEquals(3, listener.deltas().size());
+		for (long delta : listener.deltas())
+			assertEquals(period, delta);
+	}
+
+	@Test
+	public void ShouldLimitCatchUp()
+	{
+		// Arrange
+		Clock clock = new Clock(100);
+		clock.addListener(new MockClockListener(clock, Integer.MAX_VALUE));
+		clock.setMaxCatchUpTicks(3);
+		long period = clock.periodNanos();
+
+		// Act
+		int behind = clock.advance(period * 10 + period / 2);
+		int after = clock.advance(period / 2);
+
+		// Assert
+		assertEquals(3, behind);
+		assertEquals(1, after);
+	}
+
+	@Test
+	public void ShouldKeepFixedTickRate()
+	{
+		// Arrange
+		Clock clock = new Clock(200);
+		MockClockListener listener = new MockClockListener(clock, 41);
+		clock.addListener(listener);
+		clock.setFixedTimestep(true);
+
+		// Act
+		long start = System.nanoTime();
+		clock.start();
+		long elapsedMs = (System.nanoTime() - start) / 1000000;
+
+		// Assert
+		assertEquals(41, listener.deltas().size());
+		assertTrue(elapsedMs >= 195, "took " + elapsedMs + "ms");
+		assertTrue(elapsedMs < 400, "took " + elapsedMs + "ms");
+	}
+
+	@Test
+	public void ShouldKeepVariableTickRate()
+	{
+		// Arrange
+		Clock clock = new Clock(240);
+		MockClockListener listener = new MockClockListener(clock, 49);
+		clock.addListener(listener);
+
+		// Act
+		long start = System.nanoTime();
+		clock.start();
+		long elapsedMs = (System.nanoTime() - start) / 1000000;
+		long total = 0;
+		for (long delta : listener.deltas())
+			total += delta;
+
+		// Assert
+		assertTrue(elapsedMs >= 195, "took " + elapsedMs + "ms");
+		assertTrue(elapsedMs < 400, "took " + elapsedMs + "ms");
+		assertTrue(total / 1000000 <= elapsedMs);
+	}
+}
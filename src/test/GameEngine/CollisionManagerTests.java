@@ -7,6 +7,7 @@ import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -76,6 +77,26 @@ public class CollisionManagerTests
 		assertEquals(mockCollider3.getOther().id(), mockCollider1.id());
 	}
 
+	@Test
+	public void ShouldDetectCollisionsBetweenAxisAlignedAndRotatedShapes() throws GeometricException
+	{
+		// Arrange
+		Rectangle unit = new Rectangle(new Point(1.001, 1.001), new Point(1.999, 1.999));
+		Rectangle neighbour = new Rectangle(new Point(2.001, 1.001), new Point(2.999, 1.999));
+		Rectangle touching = new Rectangle(new Point(1.999, 1.5), new Point(3, 3));
+		Rectangle outer = new Rectangle(new Point(0.5, 0.5), new Point(3, 3));
+		Polygon rotated = new Rectangle(new Point(3.1, 2.1), new Point(4.1, 3.1)).rotateDegrees(45);
+
+		// Act
+		// Assert
+		assertFalse(CollisionManager.collides(new MockCollider(unit, false), new MockCollider(neighbour, false)));
+		assertTrue(CollisionManager.collides(new MockCollider(unit, false), new MockCollider(touching, false)));
+		assertFalse(CollisionManager.collides(new MockCollider(unit, false), new MockCollider(outer, false)));
+		assertTrue(CollisionManager.collides(new MockCollider(unit, true), new MockCollider(outer, false)));
+		assertFalse(CollisionManager.collides(new MockCollider(neighbour, false), new MockCollider(rotated, false)));
+		assertTrue(CollisionManager.collides(new MockCollider(touching, false), new MockCollider(rotated, false)));
+	}
+
 	@Test
 	public void ShouldDetectDeepCollisionWhenPolygonContainsPolygon() throws GeometricException, GameEngineException
 	{
@@ -243,4 +264,114 @@ public class CollisionManagerTests
 		assertTrue(Arrays.stream(colliders).anyMatch(mockCollider2::equals));
 		assertFalse(Arrays.stream(colliders).anyMatch(mockCollider3::equals));
 	}
+
+	@Test
+	public void ShouldDetectCollisionsWithUniformGrid() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Polygon collider0 = new Polygon(new Point[] { new Point(1, 1), new Point(1, 3), new Point(3, 3), new Point(3, 1) });
+		Polygon collider1 = new Polygon(new Point[] { new Point(3, 3), new Point(3, 5), new Point(5, 5), new Point(5, 3) });
+		Polygon collider2 = new Polygon(new Point[] { new Point(10, 10), new Point(10, 11), new Point(11, 11), new Point(11, 10) });
+		Circle collider3 = new Circle(new Point(10.5, 10.5), 0.25);
+		MockCollider mockCollider0 = new MockCollider(collider0, false);
+		MockCollider mockCollider1 = new MockCollider(collider1, false);
+		MockCollider mockCollider2 = new MockCollider(collider2, true);
+		MockCollider mockCollider3 = new MockCollider(collider3, true);
+
+		Scene sc = new Scene();
+		sc.add(mockCollider0);
+		sc.add(mockCollider1);
+		sc.add(mockCollider2);
+		sc.add(mockCollider3);
+
+		// Act
+		CollisionManager.detectCollisions(sc, GameEngineFlags.CollisionDetection.UNIFORM_GRID, 2);
+
+		// Assert
+		assertTrue(mockCollider0.hasCollided());
+		assertEquals(mockCollider0.getOther().id(), mockCollider1.id());
+
+		assertTrue(mockCollider1.hasCollided());
+		assertEquals(mockCollider1.getOther().id(), mockCollider0.id());
+
+		assertTrue(mockCollider2.hasCollided());
+		assertEquals(mockCollider2.getOther().id(), mockCollider3.id());
+
+		assertTrue(mockCollider3.hasCollided());
+		assertEquals(mockCollider3.getOther().id(), mockCollider2.id());
+	}
+
+	@Test
+	public void ShouldDetectSameCollisionsWithUniformGridAsBruteForce() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Random rng = new Random(137);
+		Scene bruteForceScene = new Scene();
+		Scene gridScene = new Scene();
+		MockCollider[] bruteForceColliders = new MockCollider[200];
+		MockCollider[] gridColliders = new MockCollider[200];
+		for (int i = 0; i < bruteForceColliders.length; i++)
+		{
+			double x = 1 + rng.nextInt(60);
+			double y = 1 + rng.nextInt(60);
+			double size = 1 + rng.nextInt(3);
+			Polygon square = new Polygon(new Point[] { new Point(x, y), new Point(x, y + size), new Point(x + size, y + size), new Point(x + size, y) });
+			bruteForceColliders[i] = new MockCollider(square, true);
+			gridColliders[i] = new MockCollider(square, true);
+			bruteForceScene.add(bruteForceColliders[i]);
+			gridScene.add(gridColliders[i]);
+		}
+		Polygon wall = new Polygon(new Point[] { new Point(0, 30), new Point(0, 31), new Point(70, 31), new Point(70, 30) });
+		MockCollider bruteForceWall = new MockCollider(wall, false);
+		MockCollider gridWall = new MockCollider(wall, false);
+		bruteForceScene.add(bruteForceWall);
+		gridScene.add(gridWall);
+
+		// Act
+		CollisionManager.detectCollisions(bruteForceScene, GameEngineFlags.CollisionDetection.BRUTE_FORCE, 2);
+		CollisionManager.detectCollisions(gridScene, GameEngineFlags.CollisionDetection.UNIFORM_GRID, 2);
+
+		// Assert
+		for (int i = 0; i < bruteForceColliders.length; i++)
+		{
+			assertEquals(bruteForceColliders[i].hasCollided(), gridColliders[i].hasCollided());
+			if (bruteForceColliders[i].hasCollided())
+				assertEquals(bruteForceColliders[i].getOther().id(), gridColliders[i].getOther().id());
+		}
+		assertEquals(bruteForceWall.hasCollided(), gridWall.hasCollided());
+		assertEquals(bruteForceWall.getOther().id(), gridWall.getOther().id());
+	}
+
+	@Test
+	public void ShouldReuseUniformGridBetweenTicks() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Random rng = new Random(42);
+		Scene crowdedScene = new Scene();
+		for (int i = 0; i < 300; i++)
+		{
+			double x = 1 + rng.nextInt(80);
+			double y = 1 + rng.nextInt(80);
+			crowdedScene.add(new MockCollider(new Polygon(new Point[] { new Point(x, y), new Point(x, y + 1), new Point(x + 1, y + 1), new Point(x + 1, y) }), false));
+		}
+		MockCollider mockCollider0 = new MockCollider(new Polygon(new Point[] { new Point(1, 1), new Point(1, 3), new Point(3, 3), new Point(3, 1) }), false);
+		MockCollider mockCollider1 = new MockCollider(new Polygon(new Point[] { new Point(2, 2), new Point(2, 4), new Point(4, 4), new Point(4, 2) }), false);
+		MockCollider mockCollider2 = new MockCollider(new Polygon(new Point[] { new Point(10, 10), new Point(10, 11), new Point(11, 11), new Point(11, 10) }), false);
+		Scene sc = new Scene();
+		sc.add(mockCollider0);
+		sc.add(mockCollider1);
+		sc.add(mockCollider2);
+
+		// Act
+		CollisionManager.detectCollisions(crowdedScene, GameEngineFlags.CollisionDetection.UNIFORM_GRID, 1);
+		CollisionManager.detectCollisions(new Scene(), GameEngineFlags.CollisionDetection.UNIFORM_GRID, 1);
+		CollisionManager.detectCollisions(sc, GameEngineFlags.CollisionDetection.UNIFORM_GRID, 3);
+
+		// Assert
+		assertTrue(mockCollider0.hasCollided());
+		assertEquals(mockCollider0.getOther().id(), mockCollider1.id());
+		assertTrue(mockCollider1.hasCollided());
+		assertEquals(mockCollider1.getOther().id(), mockCollider0.id());
+		assertFalse(mockCollider2.hasCollided());
+	}
 }
@@ -0,0 +1,141 @@
+package GameEngine;
+
+import Geometry.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class DirtyRegionsTests
+{
+	/**
+	 * Generates render data of a square
+	 * @param x the x coordinate of the square's lower left corner
+	 * @param y the y coordinate of the square's lower left corner
+	 * @return the render data
+	 */
+	private RenderData<?> squareAt(int x, int y) throws GeometricException
+	{
+		return new RenderData<Rectangle>(new Rectangle(new Point(x, y), new Point(x + 1, y + 1)), true, 0, '#');
+	}
+
+	/**
+	 * Generates tracking of a 30 by 10 raster, with a frame kept
+	 * @param kept the render data of the kept frame
+	 * @return the tracking
+	 */
+	private DirtyRegions keptFrame(RenderData<?>[] kept)
+	{
+		DirtyRegions dirty = new DirtyRegions();
+		dirty.setLayout(1, 0, 0, 30, 10);
+		dirty.computeFootprints(kept);
+		dirty.keep(kept);
+		return dirty;
+	}
+
+	@Test
+	public void ShouldCollectAddedAndRemovedFootprints() throws GeometricException
+	{
+		// Arrange
+		RenderData<?> still = squareAt(1, 1);
+		RenderData<?> removed = squareAt(20, 5);
+		RenderData<?> added = squareAt(10, 5);
+		DirtyRegions dirty = keptFrame(new RenderData<?>[] { still, removed });
+		int[] addedRegion = new int[Renderer.REGION_SIZE];
+		int[] removedRegion = new int[Renderer.REGION_SIZE];
+
+		// Act
+		boolean isPartial = dirty.collect(new RenderData<?>[] { still, added });
+		int count = dirty.count();
+		dirty.copyRegion(0, addedRegion);
+		dirty.copyRegion(1, removedRegion);
+
+		// Assert
+		assertTrue(isPartial);
+		assertEquals(2, count);
+		assertArrayEquals(new int[] { 8, 13, 1, 6 }, addedRegion);
+		assertArrayEquals(new int[] { 18, 23, 1, 6 }, removedRegion);
+	}
+
+	@Test
+	public void ShouldNotCollectUnchangedFrame() throws GeometricException
+	{
+		// Arrange
+		RenderData<?>[] frame = new RenderData<?>[] { squareAt(1, 1), squareAt(20, 5) };
+		DirtyRegions dirty = keptFrame(frame);
+
+		// Act
+		boolean isPartial = dirty.collect(frame);
+
+		// Assert
+		assertTrue(isPartial);
+		assertEquals(0, dirty.count());
+	}
+
+	@Test
+	public void ShouldRedrawWholeFrameWhenReordered() throws GeometricException
+	{
+		// Arrange
+		RenderData<?> first = squareAt(1, 1);
+		RenderData<?> second = squareAt(20, 5);
+		DirtyRegions dirty = keptFrame(new RenderData<?>[] { first, second });
+
+		// Act
+		boolean isPartial = dirty.collect(new RenderData<?>[] { second, first });
+
+		// Assert
+		assertFalse(isPartial);
+	}
+
+	@Test
+	public void ShouldRedrawWholeFrameWhenMostChanged() throws GeometricException
+	{
+		// Arrange
+		DirtyRegions dirty = keptFrame(new RenderData<?>[] { squareAt(1, 1) });
+		RenderData<?> big = new RenderData<Rectangle>(new Rectangle(new Point(0, 0), new Point(25, 9)), true, 0, '#');
+
+		// Act
+		boolean isPartial = dirty.collect(new RenderData<?>[] { big });
+
+		// Assert
+		assertFalse(isPartial);
+	}
+
+	@Test
+	public void ShouldCollectOverlayRegionOnce() throws GeometricException
+	{
+		// Arrange
+		RenderData<?>[] frame = new RenderData<?>[] { squareAt(20, 5) };
+		DirtyRegions dirty = keptFrame(frame);
+		int[] overlayRegion = new int[Renderer.REGION_SIZE];
+
+		// Act
+		dirty.setOverlayRegion(0, 2, 0, 0);
+		dirty.collect(frame);
+		int overlayCount = dirty.count();
+		dirty.copyRegion(0, overlayRegion);
+		dirty.keep(frame);
+		dirty.collect(frame);
+		int nextCount = dirty.count();
+
+		// Assert
+		assertEquals(1, overlayCount);
+		assertArrayEquals(new int[] { 0, 2, 0, 0 }, overlayRegion);
+		assertEquals(0, nextCount);
+	}
+
+	@Test
+	public void ShouldDiscardKeptFrameOnNewLayout() throws GeometricException
+	{
+		// Arrange
+		DirtyRegions dirty = keptFrame(new RenderData<?>[] { squareAt(1, 1) });
+
+		// Act
+		boolean wasKept = dirty.isKept();
+		dirty.setLayout(1, 5, 0, 30, 10);
+
+		// Assert
+		assertTrue(wasKept);
+		assertFalse(dirty.isKept());
+	}
+}
@@ -0,0 +1,92 @@
+package GameEngine;
+
+import Geometry.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class EdgeTableFillTests
+{
+	@Test
+	public void ShouldFillSquareRows() throws GeometricException
+	{
+		// Arrange
+		PackedPolygon square = new PackedPolygon(new double[] { 0, 4, 4, 0 }, new double[] { 0, 0, 4, 4 });
+		EdgeTableFill fill = new EdgeTableFill();
+		int rows = 0;
+
+		// Act
+		fill.start(square);
+		while (fill.nextRow())
+		{
+			// Assert
+			assertEquals(rows, fill.row());
+			assertEquals(1, fill.spanCount());
+			assertEquals(0, fill.spanFrom(0));
+			assertEquals(4, fill.spanTo(0));
+			rows++;
+		}
+
+		// Assert
+		assertEquals(4, rows);
+	}
+
+	@Test
+	public void ShouldSplitConcaveRowsInSpans() throws GeometricException
+	{
+		// Arrange
+		PackedPolygon u = new PackedPolygon(new double[] { 0, 6, 6, 4, 4, 2, 2, 0 }, new double[] { 0, 0, 4, 4, 2, 2, 4, 4 });
+		EdgeTableFill fill = new EdgeTableFill();
+
+		// Act
+		fill.start(u);
+		fill.nextRow();
+		fill.nextRow();
+		int bottomSpans = fill.spanCount();
+		int bottomFrom = fill.spanFrom(0);
+		int bottomTo = fill.spanTo(0);
+		fill.nextRow();
+		int topRow = fill.row();
+		int topSpans = fill.spanCount();
+		int leftTo = fill.spanTo(0);
+		int rightFrom = fill.spanFrom(1);
+
+		// Assert
+		assertEquals(1, bottomSpans);
+		assertEquals(0, bottomFrom);
+		assertEquals(6, bottomTo);
+		assertEquals(2, topRow);
+		assertEquals(2, topSpans);
+		assertEquals(2, leftTo);
+		assertEquals(4, rightFrom);
+	}
+
+	@Test
+	public void ShouldRestartOnAnotherPolygon() throws GeometricException
+	{
+		// Arrange
+		PackedPolygon triangle = new PackedPolygon(new double[] { 1, 5, 1 }, new double[] { 1, 1, 5 });
+		PackedPolygon square = new PackedPolygon(new double[] { 10, 12, 12, 10 }, new double[] { 10, 10, 12, 12 });
+		EdgeTableFill fill = new EdgeTableFill();
+
+		// Act
+		fill.start(triangle);
+		fill.nextRow();
+		fill.start(square);
+		int rows = 0;
+		int firstRow = -1;
+		while (fill.nextRow())
+		{
+			if (rows == 0)
+				firstRow = fill.row();
+			rows++;
+		}
+
+		// Assert
+		assertEquals(10, firstRow);
+		assertEquals(2, rows);
+		assertFalse(fill.nextRow());
+		assertEquals(0, fill.spanCount());
+	}
+}
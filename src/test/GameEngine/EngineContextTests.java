@@ -0,0 +1,137 @@
+package GameEngine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import TestUtil.*;
+
+public class EngineContextTests
+{
+	@Test
+	public void ShouldHaveOwnInstances() throws Exception
+	{
+		// Arrange
+		EngineContext context = new EngineContext();
+		GameEngine global = GameEngine.getInstance();
+
+		// Act
+		GameEngine first = context.run(() -> GameEngine.getInstance());
+		GameEngine second = context.run(() -> GameEngine.getInstance());
+		GameEngine other = new EngineContext().run(() -> GameEngine.getInstance());
+
+		// Assert
+		assertSame(first, second);
+		assertNotSame(global, first);
+		assertNotSame(first, other);
+		assertSame(global, GameEngine.getInstance());
+	}
+
+	@Test
+	public void ShouldRestorePreviousContext() throws Exception
+	{
+		// Arrange
+		EngineContext outer = new EngineContext();
+		EngineContext inner = new EngineContext();
+
+		// Act
+		EngineContext restored = outer.run(() -> {
+			inner.run(() -> EngineContext.current());
+			return EngineContext.current();
+		});
+
+		// Assert
+		assertSame(outer, restored);
+		assertNull(EngineContext.current());
+	}
+
+	@Test
+	public void ShouldRunEnginesInParallel() throws Exception
+	{
+		// Arrange
+		Thread[] threads = new Thread[4];
+		MockGameObject[] objects = new MockGameObject[threads.length];
+		for (int i = 0; i < threads.length; i++)
+		{
+			MockGameObject obj = new MockGameObject(0);
+			objects[i] = obj;
+			threads[i] = new Thread(() -> {
+				try
+				{
+					new EngineContext().run(() -> {
+						GameEngineFlags flags = new GameEngineFlags();
+						flags.setUpdateMethod(GameEngineFlags.UpdateMethod.CODE);
+						Scene scene = new Scene();
+						scene.add(obj);
+						GameEngine.getInstance().init(flags, scene);
+						GameEngine.getInstance().start();
+						for (int j = 0; j < 1000; j++)
+							GameEngine.getInstance().step(1);
+						GameEngine.getInstance().stop();
+						return null;
+					});
+				}
+				catch (Exception e)
+				{
+					throw new RuntimeException(e);
+				}
+			});
+		}
+
+		// Act
+		for (Thread thread : threads)
+			thread.start();
+		for (Thread thread : threads)
+			thread.join();
+
+		// Assert
+		for (MockGameObject obj : objects)
+		{
+			assertEquals(1000, obj.updateCount());
+			assertEquals(MockGameObject.Operation.STOPPED, obj.lastOperation());
+		}
+	}
+
+	@Test
+	public void ShouldRunThreadsInTheContextTheyWereStartedFrom() throws Exception
+	{
+		// Arrange
+		EngineContext context = new EngineContext();
+		Renderer[] seen = new Renderer[1];
+
+		// Act
+		Renderer expected = context.run(() -> {
+			EngineContext current = EngineContext.current();
+			Thread thread = new Thread(() -> EngineContext.run(current, () -> seen[0] = Renderer.getInstance()));
+			thread.start();
+			thread.join();
+			return Renderer.getInstance();
+		});
+
+		// Assert
+		assertSame(expected, seen[0]);
+		assertNotSame(Renderer.getInstance(), seen[0]);
+	}
+
+	@Test
+	public void ShouldHaveOwnLogLevel() throws Exception
+	{
+		// Arrange
+		EngineContext context = new EngineContext();
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+		Logger.stopLogging();
+
+		// Act
+		context.run(() -> {
+			Logger.startLogging(Logger.Level.INFO);
+			Logger.log(Logger.Level.INFO, "inside");
+			return null;
+		});
+		Logger.log(Logger.Level.INFO, "outside");
+
+		// Assert
+		assertEquals("[INFO] inside" + System.lineSeparator(), out.toString());
+	}
+}
@@ -0,0 +1,125 @@
+package GameEngine;
+
+import Geometry.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class FrameSinkTests
+{
+	/**
+	 * Channel that keeps everything written to it, counting the writes
+	 */
+	private static class CaptureChannel implements WritableByteChannel
+	{
+		private ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		private int writes = 0;
+
+		@Override
+		public int write(ByteBuffer src)
+		{
+			int length = src.remaining();
+			byte[] data = new byte[length];
+			src.get(data);
+			this.bytes.write(data, 0, length);
+			this.writes++;
+			return length;
+		}
+
+		@Override
+		public boolean isOpen() { return true; }
+
+		@Override
+		public void close() {}
+
+		public String text() { return new String(this.bytes.toByteArray(), StandardCharsets.UTF_8); }
+
+		public int writes() { return this.writes; }
+	}
+
+	@Test
+	public void ShouldEncodeAsUTF8()
+	{
+		// Arrange
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		FrameSink sink = new FrameSink(Channels.newChannel(out));
+		String expected = "aé█\u001B[12;3H";
+
+		// Act
+		sink.append('a').append('é').append(new char[] { '█' }).append("\u001B[").append(12).append(';').append(3).append('H');
+		sink.flush();
+
+		// Assert
+		assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void ShouldWriteOnceAndClearOnFlush()
+	{
+		// Arrange
+		CaptureChannel channel = new CaptureChannel();
+		FrameSink sink = new FrameSink(channel);
+
+		// Act
+		sink.append("first\n");
+		sink.flush();
+		int lengthAfterFlush = sink.length();
+		sink.append("second\n");
+		sink.flush();
+
+		// Assert
+		assertEquals(0, lengthAfterFlush);
+		assertEquals(2, channel.writes());
+		assertEquals("first\nsecond\n", channel.text());
+	}
+
+	@Test
+	public void ShouldGrowWhenFrameDoesntFit()
+	{
+		// Arrange
+		CaptureChannel channel = new CaptureChannel();
+		FrameSink sink = new FrameSink(channel);
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 20000; i++)
+			expected.append((char)('a' + i % 26));
+
+		// Act
+		sink.append(expected.toString());
+		sink.flush();
+
+		// Assert
+		assertEquals(1, channel.writes());
+		assertEquals(expected.toString(), channel.text());
+	}
+
+	@Test
+	public void ShouldRenderToSink() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		CaptureChannel channel = new CaptureChannel();
+		Renderer.getInstance().setFrameSink(new FrameSink(channel));
+		LineSegment s = new LineSegment(new Point(10, 10), new Point(20, 10));
+		Rectangle camera = new Rectangle(new Point(9, 9), new Point(21, 11));
+
+		String expected =	"0000000000000\n" +
+							"0111111111110\n" +
+							"0000000000000\n";
+
+		// Act
+		Renderer.getInstance().init(camera, '0');
+		Renderer.getInstance().render(s, '1');
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(1, channel.writes());
+		assertEquals(expected, channel.text());
+	}
+}
@@ -35,4 +35,21 @@ public class GameEngineFlagsTests
 		// Assert
 		assertEquals(true, opts0.isTextual());
 	}
+
+	@Test
+	public void ShouldCopyCollisionDetection()
+	{
+		// Arrange
+		GameEngineFlags opts0 = new GameEngineFlags();
+		opts0.setCollisionDetection(GameEngineFlags.CollisionDetection.UNIFORM_GRID);
+		opts0.setCollisionCellSize(5);
+
+		// Act
+		GameEngineFlags opts1 = new GameEngineFlags(opts0);
+
+		// Assert
+		assertEquals(GameEngineFlags.CollisionDetection.BRUTE_FORCE, new GameEngineFlags().collisionDetection());
+		assertEquals(GameEngineFlags.CollisionDetection.UNIFORM_GRID, opts1.collisionDetection());
+		assertEquals(5, opts1.collisionCellSize(), 0);
+	}
 }
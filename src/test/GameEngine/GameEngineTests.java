@@ -542,4 +542,136 @@ public class GameEngineTests
 		assertEquals(1, obj.earlyUpdateCount());
 		assertEquals(0, obj.updateCount());
 	}
+
+	@Test
+	public void ShouldCarrySubMillisecondTicks() throws GameEngineException
+	{
+		// Arrange
+		GameEngineFlags flags = new GameEngineFlags();
+		flags.setUpdateMethod(GameEngineFlags.UpdateMethod.CODE);
+		MockGameObject obj = new MockGameObject();
+		Scene scene = new Scene();
+		scene.add(obj);
+		GameEngine engine = GameEngine.getInstance();
+		engine.init(flags, scene);
+		engine.start();
+
+		// Act
+		engine.tick(1600000);
+		int first = obj.getLastDelta();
+		engine.tick(1600000);
+		int second = obj.getLastDelta();
+
+		// Assert
+		assertEquals(1, first);
+		assertEquals(2, second);
+	}
+
+	@Test
+	public void ShouldCarrySubMillisecondSteps() throws GameEngineException
+	{
+		// Arrange
+		GameEngineFlags flags = new GameEngineFlags();
+		flags.setUpdateMethod(GameEngineFlags.UpdateMethod.CODE);
+		MockGameObject obj = new MockGameObject();
+		Scene scene = new Scene();
+		scene.add(obj);
+		GameEngine engine = GameEngine.getInstance();
+		engine.init(flags, scene);
+		engine.start();
+		long elapsed = 0;
+
+		// Act
+		engine.step();
+		long start = System.nanoTime();
+		for (int i = 0; i < 100; i++)
+		{
+			long stepStart = System.nanoTime();
+			while (System.nanoTime() - stepStart < 300000)
+				Thread.onSpinWait();
+			engine.step();
+			elapsed += obj.getLastDelta();
+		}
+		long wallTime = (System.nanoTime() - start) / 1000000;
+
+		// Assert
+		assertTrue(elapsed >= wallTime - 1);
+		assertTrue(elapsed <= wallTime + 1);
+	}
+
+	/**
+	 * Builds a scene with a square, to be rendered by a 10x10 camera
+	 * @return the scene
+	 */
+	private static Scene squareScene() throws GeometricException
+	{
+		Polygon square = new Rectangle(new Point(2, 2), new Point(4, 4));
+		Scene scene = new Scene();
+		scene.add(new MockRenderable(new RenderData<Polygon>(square, true, 0, 'x')));
+		return scene;
+	}
+
+	@Test
+	public void ShouldRenderEveryNthUpdate() throws GeometricException
+	{
+		// Arrange
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(9, 9));
+		GameEngineFlags flags = new GameEngineFlags();
+		flags.setUpdateMethod(GameEngineFlags.UpdateMethod.CODE);
+		flags.setTextual(true);
+		flags.setRenderInterval(3);
+		GameEngine engine = GameEngine.getInstance();
+		engine.init(flags, squareScene(), camera);
+		engine.start();
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		// Act
+		engine.step(1);
+		engine.step(1);
+		int afterTwo = out.toString().split("\n", -1).length - 1;
+		for (int i = 0; i < 4; i++)
+			engine.step(1);
+		int afterSix = out.toString().split("\n", -1).length - 1;
+
+		// Assert
+		assertEquals(0, afterTwo);
+		assertEquals(20, afterSix);
+	}
+
+	@Test
+	public void ShouldRenderLatestFrameOnRenderThread() throws GeometricException
+	{
+		// Arrange
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(9, 9));
+		GameEngineFlags flags = new GameEngineFlags();
+		flags.setUpdateMethod(GameEngineFlags.UpdateMethod.CODE);
+		flags.setTextual(true);
+		flags.setRenderMethod(GameEngineFlags.RenderMethod.THREADED);
+		GameEngine engine = GameEngine.getInstance();
+		engine.init(flags, squareScene(), camera);
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+		String expected =	"          \n" +
+							"          \n" +
+							"          \n" +
+							"          \n" +
+							"          \n" +
+							"  xxx     \n" +
+							"  xxx     \n" +
+							"  xxx     \n" +
+							"          \n" +
+							"          \n" +
+							"Stopping...\n";
+
+		// Act
+		engine.start();
+		for (int i = 0; i < 100; i++)
+			engine.step(1);
+		engine.stop();
+		String render = out.toString();
+		int lines = render.split("\n", -1).length - 1;
+
+		// Assert
+		assertTrue(render, render.endsWith(expected));
+		assertTrue(lines >= 11 && lines <= 10 * 101 + 1);
+	}
 }
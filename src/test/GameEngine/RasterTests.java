@@ -0,0 +1,63 @@
+package GameEngine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.Color;
+
+import org.junit.jupiter.api.Test;
+
+public class RasterTests
+{
+	@Test
+	public void ShouldResetToBackgroundColor()
+	{
+		// Arrange
+		Raster raster = new Raster(4, 3, Color.blue);
+		raster.draw(1, 1, Color.red);
+
+		// Act
+		raster.reset();
+
+		// Assert
+		for (int y = 0; y < 3; y++)
+			for (int x = 0; x < 4; x++)
+				assertEquals(Color.blue.getRGB() & 0xFFFFFF, raster.getPixel(x, y));
+	}
+
+	@Test
+	public void ShouldDrawPixel()
+	{
+		// Arrange
+		Raster raster = new Raster(4, 3, Color.black);
+
+		// Act
+		raster.draw(2, 1, Color.red);
+		raster.draw(4, 1, Color.red);
+		raster.draw(-1, 0, Color.red);
+
+		// Assert
+		assertEquals(Color.red.getRGB() & 0xFFFFFF, raster.getPixel(2, 1));
+		assertEquals(0, raster.getPixel(3, 1));
+		assertEquals(0, raster.getPixel(0, 0));
+	}
+
+	@Test
+	public void ShouldDrawClippedSpan()
+	{
+		// Arrange
+		Raster raster = new Raster(4, 3, Color.black);
+		int red = Color.red.getRGB() & 0xFFFFFF;
+
+		// Act
+		raster.drawSpan(-2, 2, 1, Color.red);
+		raster.drawSpan(0, 3, 5, Color.red);
+
+		// Assert
+		assertEquals(red, raster.getPixel(0, 1));
+		assertEquals(red, raster.getPixel(1, 1));
+		assertEquals(red, raster.getPixel(2, 1));
+		assertEquals(0, raster.getPixel(3, 1));
+		assertEquals(0, raster.getPixel(0, 0));
+		assertEquals(0, raster.getPixel(0, 2));
+	}
+}
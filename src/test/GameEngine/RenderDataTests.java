@@ -231,4 +231,27 @@ public class RenderDataTests
 		assertEquals(tri, triData.getShape());
 		assertEquals(cir, cirData.getShape());
 	}
+
+	@Test
+	public void ShouldOnlyGetKeptIndexOfLastKeptFrame() throws GeometricException
+	{
+		// Arrange
+		Polygon shape = new Rectangle(new Point(1, 1), new Point(2, 2));
+		RenderData<Polygon> rData = new RenderData<Polygon>(shape, true, 0, 'x');
+		DirtyRegions tracker = new DirtyRegions();
+		DirtyRegions otherTracker = new DirtyRegions();
+
+		// Act
+		int beforeKept = rData.keptIndex(tracker, 1);
+		rData.keep(tracker, 1, 3);
+		int kept = rData.keptIndex(tracker, 1);
+		int nextFrame = rData.keptIndex(tracker, 2);
+		int otherKept = rData.keptIndex(otherTracker, 1);
+
+		// Assert
+		assertEquals(-1, beforeKept);
+		assertEquals(3, kept);
+		assertEquals(-1, nextFrame);
+		assertEquals(-1, otherKept);
+	}
 }
@@ -6,6 +6,7 @@ import TestUtil.*;
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.awt.Color;
 import java.io.ByteArrayOutputStream;
 
 import org.junit.jupiter.api.Test;
@@ -1167,4 +1168,531 @@ public class RendererTests
 		// Assert
 		assertEquals(expected, render);
 	}
+
+	@Test
+	public void ShouldOnlyPrintChangedCellsInDifferentialOutput() throws GeometricException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setTextualOutput(Renderer.TextualOutput.DIFFERENTIAL);
+		Rectangle camera = new Rectangle(new Point(9, 9), new Point(21, 11));
+		LineSegment s0 = new LineSegment(new Point(10, 10), new Point(20, 10));
+		LineSegment s1 = new LineSegment(new Point(10, 10), new Point(19, 10));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected0 =	"\u001B[H\u001B[2J" +
+							"-------------\n" +
+							"-xxxxxxxxxxx-\n" +
+							"-------------\n";
+		String expected2 =	"\u001B[2;12H-\u001B[4;1H";
+
+		// Act
+		Renderer.getInstance().render(s0, camera, '-', 'x');
+		String render0 = out.toString();
+		out.reset();
+
+		Renderer.getInstance().render(s0, camera, '-', 'x');
+		String render1 = out.toString();
+		out.reset();
+
+		Renderer.getInstance().render(s1, camera, '-', 'x');
+		String render2 = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected0, render0);
+		assertEquals("", render1);
+		assertEquals(expected2, render2);
+	}
+
+	@Test
+	public void ShouldRepaintWhenManyCellsChangeInDifferentialOutput() throws GeometricException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setTextualOutput(Renderer.TextualOutput.DIFFERENTIAL);
+		Renderer.getInstance().setRepaintThreshold(0.1);
+		Rectangle camera = new Rectangle(new Point(9, 9), new Point(21, 11));
+		LineSegment s = new LineSegment(new Point(10, 10), new Point(20, 10));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"\u001B[H" +
+							"-------------\n" +
+							"-yyyyyyyyyyy-\n" +
+							"-------------\n";
+
+		// Act
+		Renderer.getInstance().render(s, camera, '-', 'x');
+		out.reset();
+		Renderer.getInstance().render(s, camera, '-', 'y');
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldKeepColoursInDifferentialOutput() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setTextualOutput(Renderer.TextualOutput.DIFFERENTIAL);
+		Rectangle camera = new Rectangle(new Point(9, 9), new Point(21, 11));
+		LineSegment s = new LineSegment(new Point(10, 10), new Point(20, 10));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"\u001B[2;2H" + TerminalColour.Foreground.RED + "xxxxxxxxxxx" +
+							TerminalColour.RESET + "\u001B[4;1H";
+
+		// Act
+		Renderer.getInstance().init(camera, '-');
+		Renderer.getInstance().render(s, 'x', TerminalColour.Foreground.GREEN, null);
+		out.reset();
+		Renderer.getInstance().init(camera, '-');
+		Renderer.getInstance().render(s, 'x', TerminalColour.Foreground.RED, null);
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldOnlyPrintColourWhenItChanges() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Rectangle camera = new Rectangle(new Point(9, 9), new Point(21, 11));
+		LineSegment s = new LineSegment(new Point(10, 10), new Point(20, 10));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"-------------\n" +
+							"-" + TerminalColour.Foreground.RED + "xxxxxxxxxxx" + TerminalColour.RESET + "-\n" +
+							"-------------\n";
+
+		// Act
+		Renderer.getInstance().init(camera, '-');
+		Renderer.getInstance().render(s, 'x', TerminalColour.Foreground.RED, null);
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldPrintBackgroundColourOnce() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setTerminalBackgroundColour(TerminalColour.Background.BLUE);
+		Rectangle camera = new Rectangle(new Point(9, 9), new Point(21, 11));
+		LineSegment s = new LineSegment(new Point(10, 10), new Point(20, 10));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	TerminalColour.Background.BLUE +
+							"-------------\n" +
+							"-" + TerminalColour.Foreground.RED + "xxxxxxxxxxx" + TerminalColour.RESET +
+							TerminalColour.Background.BLUE + "-\n" +
+							"-------------\n" +
+							TerminalColour.RESET;
+
+		// Act
+		Renderer.getInstance().init(camera, '-');
+		Renderer.getInstance().render(s, 'x', TerminalColour.Foreground.RED, null);
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldPrintTruecolourFromGraphicalColour() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setColourMode(Renderer.ColourMode.TRUECOLOUR);
+		Rectangle camera = new Rectangle(new Point(9, 9), new Point(21, 11));
+		LineSegment s = new LineSegment(new Point(10, 10), new Point(20, 10));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"-------------\n" +
+							"-\u001B[38;2;255;128;0mxxxxxxxxxxx" + TerminalColour.RESET + "-\n" +
+							"-------------\n";
+
+		// Act
+		Renderer.getInstance().init(camera, '-');
+		Renderer.getInstance().render(s, 'x', TerminalColour.Foreground.RED, new Color(255, 128, 0));
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldPrintClosestPaletteColourFromGraphicalColour() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setColourMode(Renderer.ColourMode.PALETTE_256);
+		Rectangle camera = new Rectangle(new Point(9, 9), new Point(21, 11));
+		LineSegment s0 = new LineSegment(new Point(10, 10), new Point(14, 10));
+		LineSegment s1 = new LineSegment(new Point(16, 10), new Point(20, 10));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"-------------\n" +
+							"-\u001B[38;5;196mxxxxx" + TerminalColour.RESET + "-\u001B[38;5;244myyyyy" + TerminalColour.RESET + "-\n" +
+							"-------------\n";
+
+		// Act
+		Renderer.getInstance().init(camera, '-');
+		Renderer.getInstance().render(s0, 'x', null, new Color(250, 10, 5));
+		out.reset();
+		Renderer.getInstance().render(s1, 'y', null, new Color(128, 128, 128));
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldRasterizePolygonInCells() throws GeometricException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setCellSize(5);
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(19, 9));
+		Rectangle rect = new Rectangle(new Point(0, 0), new Point(9, 4));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"----\n" +
+							"xx--\n";
+
+		// Act
+		Renderer.getInstance().render(rect, camera, '-', 'x');
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldRasterizeCircleInCells() throws GeometricException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setCellSize(5);
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(19, 9));
+		Circle circle = new Circle(new Point(10, 5), 5);
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"-xx-\n" +
+							"-xx-\n";
+
+		// Act
+		Renderer.getInstance().render(circle, camera, '-', 'x');
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldRasterizeSegmentInCells() throws GeometricException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setCellSize(5);
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(19, 9));
+		LineSegment segment = new LineSegment(new Point(0, 0), new Point(19, 9));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"--xx\n" +
+							"xx--\n";
+
+		// Act
+		Renderer.getInstance().render(segment, camera, '-', 'x');
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldNotLeaveGapBetweenFillAndSides() throws GeometricException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(15, 12));
+		Polygon poly = new Polygon(new Point[] { new Point(3, 10), new Point(4, 13), new Point(8, 6), new Point(7, 5) });
+		Point anchor = new Point(6, 7);
+		poly = poly.rotate(0.1, anchor).rotate(0.1, anchor);
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"...#............\n" +
+							"...##...........\n" +
+							"..####..........\n" +
+							"..####..........\n" +
+							"...####.........\n" +
+							"....####........\n" +
+							"......###.......\n" +
+							".......#........\n" +
+							"................\n" +
+							"................\n" +
+							"................\n" +
+							"................\n" +
+							"................\n";
+
+		// Act
+		Renderer.getInstance().render(poly, camera, '.', '#');
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldFillPolygonTheSameWithScanline() throws GeometricException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(9, 6));
+		Polygon poly = new Polygon(new Point[] { new Point(1, 1), new Point(8, 1), new Point(8, 5), new Point(5, 2), new Point(1, 5) });
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		// Act
+		Renderer.getInstance().render(poly, camera, '.', '#');
+		String edgeTable = out.toString();
+		out.reset();
+		Renderer.getInstance().setPolygonFill(Renderer.PolygonFill.SCANLINE);
+		Renderer.getInstance().render(poly, camera, '.', '#');
+		String scanline = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(scanline, edgeTable);
+	}
+
+	@Test
+	public void ShouldDrawOverCachedBackground() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(5, 2));
+		Rectangle map = new Rectangle(new Point(0, 0), new Point(5, 1));
+		RenderData<Rectangle> background = new RenderData<Rectangle>(map, true, 0, '#', null, null, true);
+		Scene first = new Scene();
+		first.add(new MockRenderable(background));
+		first.add(new MockRenderable(new RenderData<Polygon>(new Rectangle(new Point(0, 0), new Point(1, 2)), true, 1, 'x')));
+		Scene second = new Scene();
+		second.add(new MockRenderable(background));
+		second.add(new MockRenderable(new RenderData<Polygon>(new Rectangle(new Point(3, 0), new Point(4, 2)), true, 1, 'x')));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"---xx-\n" +
+							"###xx#\n" +
+							"###xx#\n";
+
+		// Act
+		Renderer.getInstance().render(first, camera, '-');
+		out.reset();
+		Renderer.getInstance().render(second, camera, '-');
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldRasterizeBackgroundAgainWhenStaticObjectsChange() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(5, 1));
+		MockRenderable map = new MockRenderable(new RenderData<Rectangle>(new Rectangle(new Point(0, 0), new Point(5, 1)), true, 0, '#', null, null, true));
+		MockRenderable obstacle = new MockRenderable(new RenderData<Polygon>(new Rectangle(new Point(2, 0), new Point(3, 1)), true, 1, 'o', null, null, true));
+		Scene sc = new Scene();
+		sc.add(map);
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expectedAdded =		"##oo##\n" +
+									"##oo##\n";
+		String expectedRemoved =	"######\n" +
+									"######\n";
+
+		// Act
+		Renderer.getInstance().render(sc, camera, '-');
+		out.reset();
+		sc.add(obstacle);
+		Renderer.getInstance().render(sc, camera, '-');
+		String renderAdded = out.toString();
+		out.reset();
+		sc.remove(obstacle);
+		Renderer.getInstance().render(sc, camera, '-');
+		String renderRemoved = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expectedAdded, renderAdded);
+		assertEquals(expectedRemoved, renderRemoved);
+	}
+
+	@Test
+	public void ShouldRedrawWhereObjectsMoved() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(29, 2));
+		MockRenderable map = new MockRenderable(new RenderData<Rectangle>(new Rectangle(new Point(0, 0), new Point(29, 1)), true, 0, '#', null, null, true));
+		MockRenderable still = new MockRenderable(new RenderData<Polygon>(new Rectangle(new Point(1, 1), new Point(3, 2)), true, 2, 's'));
+		MockRenderable moving = new MockRenderable(new RenderData<Polygon>(new Rectangle(new Point(0, 0), new Point(2, 2)), true, 1, 'm'));
+		MockRenderable moved = new MockRenderable(new RenderData<Polygon>(new Rectangle(new Point(6, 0), new Point(8, 2)), true, 1, 'm'));
+		Scene sc = new Scene();
+		sc.add(map);
+		sc.add(still);
+		sc.add(moving);
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		String expected =	"-sss--mmm---------------------\n" +
+							"#sss##mmm#####################\n" +
+							"######mmm#####################\n";
+
+		// Act
+		Renderer.getInstance().render(sc, camera, '-');
+		out.reset();
+		sc.remove(moving);
+		sc.add(moved);
+		Renderer.getInstance().render(sc, camera, '-');
+		String render = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(expected, render);
+	}
+
+	@Test
+	public void ShouldRasterizeTheSameInBands() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Renderer.getInstance().setDirtyTracking(false);
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(19, 14));
+		Scene sc = new Scene();
+		sc.add(new MockRenderable(new RenderData<Rectangle>(new Rectangle(new Point(0, 0), new Point(19, 11)), true, 0, '#', null, null, true)));
+		sc.add(new MockRenderable(new RenderData<Circle>(new Circle(new Point(7, 7), 5), true, 1, 'c')));
+		sc.add(new MockRenderable(new RenderData<Polygon>(new Polygon(new Point[] { new Point(4, 1), new Point(17, 3), new Point(12, 13) }), false, 2, 'p')));
+		sc.add(new MockRenderable(new RenderData<Circle>(new Circle(new Point(14, 9), 3), false, 1, 'o')));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		// Act
+		Renderer.getInstance().render(sc, camera, '-');
+		String sequential = out.toString();
+		out.reset();
+		Renderer.getInstance().setRasterBands(4);
+		Renderer.getInstance().render(sc, camera, '-');
+		String banded = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(sequential, banded);
+	}
+
+	@Test
+	public void ShouldRenderMovingFramesTheSameInBands() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		// Act
+		String sequential = renderMovingFrames(1, out);
+		String banded = renderMovingFrames(4, out);
+		String unevenlyBanded = renderMovingFrames(7, out);
+
+		// Assert
+		assertEquals(sequential, banded);
+		assertEquals(sequential, unevenlyBanded);
+	}
+
+	/**
+	 * Renders the same frames of a coloured scene with moving objects,
+	 * tracking dirty regions and caching the background
+	 * @param bands the ammount of bands to rasterize in
+	 * @param out the stream the frames are written to
+	 * @return every frame rendered
+	 */
+	private String renderMovingFrames(int bands, ByteArrayOutputStream out) throws GeometricException, GameEngineException
+	{
+		Renderer.resetInstance();
+		Renderer.getInstance().setColourMode(Renderer.ColourMode.TRUECOLOUR);
+		Renderer.getInstance().setRasterBands(bands);
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(24, 17));
+		Scene sc = new Scene();
+		sc.add(new MockRenderable(new RenderData<Rectangle>(new Rectangle(new Point(0, 0), new Point(24, 13)), true, 0, '#', TerminalColour.Foreground.GREEN, new Color(0, 128, 0), true)));
+		sc.add(new MockRenderable(new RenderData<Polygon>(new Polygon(new Point[] { new Point(4, 1), new Point(21, 3), new Point(12, 16) }), false, 2, 'p', TerminalColour.Foreground.BLUE, new Color(0, 0, 255))));
+		MockRenderable moving = null;
+		out.reset();
+		for (int frame = 0; frame < 5; frame++)
+		{
+			if (moving != null)
+				sc.remove(moving);
+			moving = new MockRenderable(new RenderData<Circle>(new Circle(new Point(4 + frame * 4, 8), 3), true, 1, 'c', TerminalColour.Foreground.RED, new Color(255, 0, 0)));
+			sc.add(moving);
+			Renderer.getInstance().render(sc, camera, '-');
+		}
+		String frames = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+		return frames;
+	}
+
+	@Test
+	public void ShouldRenderPackedPolygonTheSameAsPolygon() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Renderer.resetInstance();
+		Rectangle camera = new Rectangle(new Point(0, 0), new Point(9, 6));
+		Polygon poly = new Polygon(new Point[] { new Point(1, 1), new Point(8, 1), new Point(8, 5), new Point(5, 2), new Point(1, 5) });
+		Scene polygonScene = new Scene();
+		polygonScene.add(new MockRenderable(new RenderData<Polygon>(poly, true, 0, '#')));
+		Scene packedScene = new Scene();
+		packedScene.add(new MockRenderable(new RenderData<PackedPolygon>(poly.packed(), true, 0, '#')));
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		// Act
+		Renderer.getInstance().render(polygonScene, camera, '.');
+		String polygon = out.toString();
+		out.reset();
+		Renderer.getInstance().render(packedScene, camera, '.');
+		String packed = out.toString();
+		out.reset();
+		Renderer.resetInstance();
+
+		// Assert
+		assertEquals(polygon, packed);
+	}
 }
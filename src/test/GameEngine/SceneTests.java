@@ -520,4 +520,98 @@ public class SceneTests
 		assertFalse(hasInitializedBefore);
 		assertTrue(hasInitializedAfter);
 	}
+
+	@Test
+	public void ShouldReuseSnapshotWhileMembershipIsUnchanged() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Scene sc = new Scene();
+		sc.add(new MockCollider(new Polygon(new Point[] { new Point(0, 0), new Point(0, 1), new Point(1, 0), }), false));
+		sc.add(new MockGameObject());
+
+		// Act
+		ICollider[] firstColliders = sc.collidersArr();
+		GameObject[] firstObjects = sc.objectsArr();
+		ICollider[] secondColliders = sc.collidersArr();
+		GameObject[] secondObjects = sc.objectsArr();
+
+		// Assert
+		assertSame(firstColliders, secondColliders);
+		assertSame(firstObjects, secondObjects);
+	}
+
+	@Test
+	public void ShouldRebuildSnapshotWhenMembershipChanges() throws GeometricException, GameEngineException
+	{
+		// Arrange
+		Scene sc = new Scene();
+		MockCollider collider = new MockCollider(new Polygon(new Point[] { new Point(0, 0), new Point(0, 1), new Point(1, 0), }), false);
+		sc.add(collider);
+		ICollider[] before = sc.collidersArr();
+
+		// Act
+		sc.remove(collider);
+		ICollider[] after = sc.collidersArr();
+
+		// Assert
+		assertEquals(1, before.length);
+		assertEquals(0, after.length);
+	}
+
+	@Test
+	public void ShouldNotBeAffectedByChangesWhileIterating() throws GameEngineException
+	{
+		// Arrange
+		Scene sc = new Scene();
+		GameObject obj0 = new MockGameObject();
+		GameObject obj1 = new MockGameObject();
+		sc.add(obj0);
+		sc.add(obj1);
+
+		// Act
+		int count = 0;
+		for (GameObject obj : sc)
+		{
+			if (obj == obj0)
+			{
+				sc.remove(obj1);
+				sc.add(new MockGameObject());
+			}
+			count++;
+		}
+
+		// Assert
+		assertEquals(2, count);
+		assertEquals(2, sc.size());
+	}
+
+	@Test
+	public void ShouldNotifySceneListenersOfOtherObjects() throws GameEngineException
+	{
+		// Arrange
+		class MockSceneListener extends GameObject implements ISceneListener
+		{
+			public int added = 0;
+			public int removed = 0;
+			@Override
+			public void onObjectAdded(GameObject object) { this.added++; }
+			@Override
+			public void onObjectRemoved(GameObject object) { this.removed++; }
+		}
+		Scene s = new Scene();
+		MockSceneListener listener = new MockSceneListener();
+		GameObject obj0 = new MockGameObject();
+		GameObject obj1 = new MockGameObject();
+		s.add(obj0);
+
+		// Act
+		s.add(listener);
+		s.add(obj1);
+		s.remove(obj0);
+		s.remove(obj0);
+
+		// Assert
+		assertEquals(1, listener.added);
+		assertEquals(1, listener.removed);
+	}
 }
@@ -142,4 +142,63 @@ public class BoundingBoxTests
 		// Assert
 		assertThrows(GeometricException.class, () -> new BoundingBox(points));
 	}
+
+	@Test
+	public void ShouldWorkWithCircles() throws GeometricException
+	{
+		// Arrange
+		Circle circle = new Circle(new Point(3, 4), 2);
+		Point expectedMin = new Point(1, 2);
+		Point expectedMax = new Point(5, 6);
+
+		// Act
+		BoundingBox box = new BoundingBox(circle);
+
+		// Assert
+		assertEquals(expectedMin, box.minPoint());
+		assertEquals(expectedMax, box.maxPoint());
+	}
+
+	@Test
+	public void ShouldIntersectInclusiveWhenTouching() throws GeometricException
+	{
+		// Arrange
+		BoundingBox box0 = new BoundingBox(new Point[] { new Point(1, 1), new Point(2, 2) });
+		BoundingBox box1 = new BoundingBox(new Point[] { new Point(2, 2), new Point(3, 3) });
+
+		// Act
+		boolean intersects = box0.intersectsInclusive(box1);
+
+		// Assert
+		assertTrue(intersects);
+	}
+
+	@Test
+	public void ShouldNotIntersectInclusiveWhenApart() throws GeometricException
+	{
+		// Arrange
+		BoundingBox box0 = new BoundingBox(new Point[] { new Point(1, 1), new Point(2, 2) });
+		BoundingBox box1 = new BoundingBox(new Point[] { new Point(2.1, 1), new Point(3, 2) });
+
+		// Act
+		boolean intersects = box0.intersectsInclusive(box1);
+
+		// Assert
+		assertFalse(intersects);
+	}
+
+	@Test
+	public void ShouldContainBoundingBox() throws GeometricException
+	{
+		// Arrange
+		BoundingBox outer = new BoundingBox(new Point[] { new Point(1, 1), new Point(4, 4) });
+		BoundingBox inner = new BoundingBox(new Point[] { new Point(1, 2), new Point(3, 4) });
+
+		// Act
+		boolean contains = outer.contains(inner);
+
+		// Assert
+		assertTrue(contains);
+		assertFalse(inner.contains(outer));
+	}
 }
@@ -634,4 +634,36 @@ public class CircleTests
 		// Assert
 		assertTrue(intersects);
 	}
+
+	@Test
+	public void ShouldCacheBoundingBox() throws GeometricException
+	{
+		// Arrange
+		Circle circle = new Circle(new Point(3, 3), 2);
+
+		// Act
+		BoundingBox first = circle.getBoundingBox();
+		BoundingBox second = circle.getBoundingBox();
+
+		// Assert
+		assertSame(first, second);
+		assertEquals(new Point(1, 1), first.minPoint());
+		assertEquals(new Point(5, 5), first.maxPoint());
+	}
+
+	@Test
+	public void ShouldIntersectInclusiveWhenBoundingBoxesOnlyTouch() throws GeometricException
+	{
+		// Arrange
+		Circle circle = new Circle(new Point(2, 2), 1);
+		Polygon poly = new Polygon(new Point[] { new Point(3, 1), new Point(4, 1), new Point(4, 3), new Point(3, 3) });
+
+		// Act
+		boolean intersectsInclusive = circle.intersectsInclusive(poly);
+		boolean intersects = circle.intersects(poly);
+
+		// Assert
+		assertTrue(intersectsInclusive);
+		assertFalse(intersects);
+	}
 }
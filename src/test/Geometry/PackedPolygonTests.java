@@ -0,0 +1,357 @@
+package Geometry;
+
+import static org.junit.jupiter.api.Assertions.*;
+import java.text.ParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class PackedPolygonTests
+{
+    @Test
+    public void ShouldNotAllowLessThanThreeVertices() throws GeometricException
+    {
+        // Arrange
+        double[] xs = new double[] { 1, 2 };
+        double[] ys = new double[] { 1, 2 };
+
+        // Act
+        // Assert
+        assertThrows(GeometricException.class, () -> new PackedPolygon(xs, ys));
+    }
+
+    @Test
+    public void ShouldNotAllowNegativeCoordinates() throws GeometricException
+    {
+        // Arrange
+        double[] xs = new double[] { 1, 3, -1 };
+        double[] ys = new double[] { 1, 1, 3 };
+
+        // Act
+        // Assert
+        assertThrows(GeometricException.class, () -> new PackedPolygon(xs, ys));
+    }
+
+    @Test
+    public void ShouldNotAllowCollinearVertices() throws GeometricException
+    {
+        // Arrange
+        double[] xs = new double[] { 1, 2, 3, 2 };
+        double[] ys = new double[] { 1, 1, 1, 3 };
+
+        // Act
+        // Assert
+        assertThrows(GeometricException.class, () -> new PackedPolygon(xs, ys));
+    }
+
+    @Test
+    public void ShouldNotAllowSidesToIntersect() throws GeometricException
+    {
+        // Arrange
+        double[] xs = new double[] { 1, 3, 1, 3 };
+        double[] ys = new double[] { 1, 3, 3, 1 };
+
+        // Act
+        // Assert
+        assertThrows(GeometricException.class, () -> new PackedPolygon(xs, ys));
+    }
+
+    @Test
+    public void ShouldBeEquivalentToPolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        Polygon poly = new Polygon("5 1 1 8 1 8 5 5 2 1 5");
+
+        // Act
+        PackedPolygon packed = new PackedPolygon(poly.vertices());
+
+        // Assert
+        assertEquals(poly, packed.toPolygon());
+        assertEquals(poly.packed(), packed);
+        assertEquals(poly.getCentroid(), packed.getCentroid());
+        assertEquals(poly.perimeter(), packed.perimeter(), MathUtil.CALC_ERROR_MARGIN);
+    }
+
+    @Test
+    public void ShouldIntersectPolygonsLikePolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon poly1 = new PackedPolygon("4 1 1 3 1 3 3 1 3");
+        Polygon poly2 = new Polygon("4 2 2 4 2 4 4 2 4");
+        Polygon touching = new Polygon("4 3 1 5 1 5 3 3 3");
+
+        // Act
+        // Assert
+        assertTrue(poly1.intersects(poly2));
+        assertTrue(poly2.intersects(poly1));
+        assertFalse(poly1.intersects(touching));
+        assertTrue(poly1.intersectsInclusive(touching));
+        assertTrue(touching.intersectsInclusive(poly1));
+    }
+
+    @Test
+    public void ShouldIntersectCirclesLikePolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon poly = new PackedPolygon("4 1 1 3 1 3 3 1 3");
+        Circle crossing = new Circle(new Point(4, 2), 1.5);
+        Circle touching = new Circle(new Point(4, 2), 1);
+        Circle separated = new Circle(new Point(6, 2), 1);
+
+        // Act
+        // Assert
+        assertTrue(poly.intersects(crossing));
+        assertTrue(crossing.intersects(poly));
+        assertFalse(poly.intersects(touching));
+        assertTrue(poly.intersectsInclusive(touching));
+        assertFalse(poly.intersectsInclusive(separated));
+    }
+
+    @Test
+    public void ShouldContainPointsLikePolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        Polygon poly = new Polygon("5 1 1 8 1 8 5 5 2 1 5");
+        PackedPolygon packed = poly.packed();
+
+        // Act
+        // Assert
+        for (int x = 0; x <= 9; x++)
+            for (int y = 0; y <= 6; y++)
+                assertEquals(poly.contains(new Point(x, y)), packed.contains(x, y));
+    }
+
+    @Test
+    public void ShouldContainShapesLikePolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon outer = new PackedPolygon("4 1 1 9 1 9 9 1 9");
+        Polygon inner = new Polygon("4 3 3 5 3 5 5 3 5");
+        Circle circle = new Circle(new Point(5, 5), 2);
+        Circle innerCircle = new Circle(new Point(4, 4), 2);
+
+        // Act
+        // Assert
+        assertTrue(outer.contains(inner));
+        assertFalse(inner.contains(outer));
+        assertTrue(outer.contains(circle));
+        assertTrue(innerCircle.contains(inner.packed()));
+        assertFalse(innerCircle.contains(outer));
+    }
+
+    @Test
+    public void ShouldTransformLikePolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        Polygon poly = new Polygon("4 2 2 6 2 6 4 2 4");
+        PackedPolygon packed = poly.packed();
+
+        // Act
+        PackedPolygon rotated = packed.rotateDegrees(90);
+        PackedPolygon translated = packed.translate(new Vector(1, 2));
+        PackedPolygon moved = packed.moveCentroid(new Point(10, 10));
+
+        // Assert
+        assertEquals(poly.rotateDegrees(90), rotated.toPolygon());
+        assertEquals(poly.translate(new Vector(1, 2)), translated.toPolygon());
+        assertEquals(poly.moveCentroid(new Point(10, 10)), moved.toPolygon());
+        assertThrows(GeometricException.class, () -> packed.translate(new Vector(-5, 0)));
+    }
+
+    @Test
+    public void ShouldTransformInPlaceLikePolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        Polygon poly = new Polygon("4 2 2 6 2 6 4 2 4");
+        PackedPolygon rotated = new PackedPolygon(poly);
+        PackedPolygon translated = new PackedPolygon(poly);
+        PackedPolygon moved = new PackedPolygon(poly);
+        PackedPolygon destination = new PackedPolygon("4 1 1 2 1 2 2 1 2");
+        Point anchor = new Point(4, 3);
+
+        // Act
+        rotated.rotateInto(Math.toRadians(90), anchor, rotated);
+        translated.translateInto(new Vector(1, 2), translated);
+        moved.moveCentroidInto(new Point(10, 10), moved);
+        poly.packed().translateInto(new Vector(3, 3), destination);
+
+        // Assert
+        assertEquals(poly.rotateDegrees(90, anchor), rotated);
+        assertEquals(poly.translate(new Vector(1, 2)), translated);
+        assertEquals(poly.moveCentroid(new Point(10, 10)), moved);
+        assertEquals(poly.translate(new Vector(3, 3)), destination);
+        assertEquals(new Polygon("4 2 2 6 2 6 4 2 4"), poly);
+    }
+
+    @Test
+    public void ShouldTakeSourceOrientationWhenTransformingIntoOppositeWinding() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon ccwDiamond = new PackedPolygon("4 10 5 15 10 10 15 5 10");
+        PackedPolygon cwDiamond = new PackedPolygon("4 5 10 10 15 15 10 10 5");
+        PackedPolygon concave = new PackedPolygon("6 2 2 6 2 6 6 4 4 2 6 1 4");
+        PackedPolygon convex = new PackedPolygon("6 2 2 6 2 7 4 6 6 2 6 1 4");
+        PackedPolygon rotatedConcave = new PackedPolygon("6 2 2 6 2 7 4 6 6 2 6 1 4");
+        Point anchor = new Point(10, 10);
+
+        // Act
+        ccwDiamond.translateInto(new Vector(3, 3), cwDiamond);
+        concave.moveCentroidInto(new Point(20, 20), convex);
+        concave.rotateInto(Math.toRadians(90), anchor, rotatedConcave);
+
+        // Assert
+        assertTrue(cwDiamond.contains(new Point(13, 13)));
+        assertEquals(ccwDiamond.translate(new Vector(3, 3)).contains(new Point(16, 16)), cwDiamond.contains(new Point(16, 16)));
+        assertFalse(convex.isConvex());
+        assertFalse(rotatedConcave.isConvex());
+        assertEquals(concave.rotate(Math.toRadians(90), anchor), rotatedConcave);
+    }
+
+    @Test
+    public void ShouldNotChangeDestinationWhenTransformInPlaceFails() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon poly = new PackedPolygon("4 2 2 6 2 6 4 2 4");
+        PackedPolygon triangle = new PackedPolygon("3 1 1 3 1 2 3");
+        BoundingBox box = poly.getBoundingBox();
+
+        // Act
+        // Assert
+        assertThrows(GeometricException.class, () -> poly.translateInto(new Vector(-5, 0), poly));
+        assertThrows(GeometricException.class, () -> poly.rotateInto(Math.PI, new Point(1, 1), poly));
+        assertThrows(GeometricException.class, () -> poly.translateInto(new Vector(1, 1), triangle));
+        assertEquals(new PackedPolygon("4 2 2 6 2 6 4 2 4"), poly);
+        assertSame(box, poly.getBoundingBox());
+    }
+
+    @Test
+    public void ShouldBeEqualToPolygonWithTheSameVertices() throws GeometricException, ParseException
+    {
+        // Arrange
+        Polygon poly = new Polygon("4 2 2 6 2 6 4 2 4");
+        PackedPolygon packed = new PackedPolygon("4 6 4 6 2 2 2 2 4");
+        PackedPolygon other = new PackedPolygon("4 2 2 7 2 7 4 2 4");
+
+        // Act
+        // Assert
+        assertEquals(poly, packed);
+        assertEquals(packed, poly);
+        assertNotEquals(poly, other);
+        assertNotEquals(other, poly);
+    }
+
+    @Test
+    public void ShouldDetectConvexPolygons() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon counterclockwise = new PackedPolygon("5 2 1 6 1 8 4 4 7 1 4");
+        PackedPolygon clockwise = new PackedPolygon("5 1 4 4 7 8 4 6 1 2 1");
+        PackedPolygon concave = new PackedPolygon("5 1 1 8 1 8 5 5 2 1 5");
+
+        // Act
+        // Assert
+        assertTrue(counterclockwise.isConvex());
+        assertTrue(clockwise.isConvex());
+        assertFalse(concave.isConvex());
+    }
+
+    @Test
+    public void ShouldContainPointsOfConvexPolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon counterclockwise = new PackedPolygon("5 2 1 6 1 8 4 4 7 1 4");
+        PackedPolygon clockwise = new PackedPolygon("5 1 4 4 7 8 4 6 1 2 1");
+
+        // Act
+        // Assert
+        for (PackedPolygon poly : new PackedPolygon[] { counterclockwise, clockwise })
+        {
+            assertTrue(poly.contains(4, 4));
+            assertTrue(poly.contains(2, 1));
+            assertTrue(poly.contains(4, 1));
+            assertTrue(poly.contains(6, 5.5));
+            assertTrue(poly.contains(1.5, 2.5));
+            assertFalse(poly.contains(1, 1));
+            assertFalse(poly.contains(7, 6));
+            assertFalse(poly.contains(8, 1));
+            assertFalse(poly.contains(0, 4));
+        }
+    }
+
+    @Test
+    public void ShouldContainPolygonsInConvexPolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon outer = new PackedPolygon("5 2 1 6 1 8 4 4 7 1 4");
+        PackedPolygon inner = new PackedPolygon("4 2 1 6 1 6 4 3 4");
+        PackedPolygon crossing = new PackedPolygon("3 4 3 9 4 4 5");
+
+        // Act
+        // Assert
+        assertTrue(outer.contains(inner));
+        assertTrue(outer.contains(outer));
+        assertFalse(outer.contains(crossing));
+    }
+
+    @Test
+    public void ShouldDetectAxisAlignedRectangles() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon rectangle = new PackedPolygon("4 1 1 5 1 5 3 1 3");
+        PackedPolygon rotated = new PackedPolygon(rectangle);
+        PackedPolygon translated = new PackedPolygon(rectangle);
+        PackedPolygon diamond = new PackedPolygon("4 3 1 5 3 3 5 1 3");
+
+        // Act
+        rotated.rotateInto(Math.toRadians(30), new Point(3, 2), rotated);
+        translated.translateInto(new Vector(2.5, 0.001), translated);
+
+        // Assert
+        assertTrue(rectangle.isAxisAligned());
+        assertFalse(rotated.isAxisAligned());
+        assertTrue(translated.isAxisAligned());
+        assertFalse(diamond.isAxisAligned());
+    }
+
+    @Test
+    public void ShouldIntersectAxisAlignedRectanglesLikeAnyPolygon() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon rectangle = new PackedPolygon("4 2 2 6 2 6 5 2 5");
+        PackedPolygon crossing = new PackedPolygon("4 4 1 5 1 5 7 4 7");
+        PackedPolygon touching = new PackedPolygon("4 6 3 8 3 8 4 6 4");
+        PackedPolygon inside = new PackedPolygon("4 3 3 4 3 4 4 3 4");
+        PackedPolygon separated = new PackedPolygon("4 7 2 8 2 8 5 7 5");
+
+        // Act
+        // Assert
+        assertTrue(rectangle.intersects(crossing));
+        assertTrue(crossing.intersectsInclusive(rectangle));
+        assertFalse(rectangle.intersects(touching));
+        assertTrue(rectangle.intersectsInclusive(touching));
+        assertFalse(rectangle.intersects(inside));
+        assertFalse(rectangle.intersectsInclusive(inside));
+        assertTrue(rectangle.contains(inside));
+        assertFalse(rectangle.intersectsInclusive(separated));
+    }
+
+    @Test
+    public void ShouldNotIntersectSeparatedConvexPolygons() throws GeometricException, ParseException
+    {
+        // Arrange
+        PackedPolygon diamond = new PackedPolygon("4 3 1 5 3 3 5 1 3");
+        PackedPolygon apart = new PackedPolygon("3 4.5 4.5 6 4 6 6");
+        PackedPolygon touching = new PackedPolygon("3 4 4 6 4 6 6");
+        PackedPolygon square = new PackedPolygon("4 1 1 5 1 5 5 1 5");
+        Circle circle = new Circle(new Point(5, 5), 0.7);
+        Circle touchingCircle = new Circle(new Point(3, 7), 2);
+
+        // Act
+        // Assert
+        assertFalse(diamond.intersectsInclusive(apart));
+        assertFalse(apart.intersects(diamond));
+        assertTrue(diamond.intersectsInclusive(touching));
+        assertFalse(diamond.intersectsInclusive(circle));
+        assertTrue(square.intersectsInclusive(touchingCircle));
+        assertFalse(square.intersects(touchingCircle));
+    }
+}
@@ -922,6 +922,23 @@ public class PolygonTests
 		assertTrue(contains);
 	}
 
+	@Test
+	public void ShouldContainPointLevelWithReflexVertex() throws GeometricException
+	{
+		// Arrange
+		Polygon poly = new Polygon(new Point[] { new Point(0, 0), new Point(10, 0), new Point(10, 4), new Point(5, 2), new Point(0, 4) });
+		Point inside = new Point(7, 2);
+		Point outside = new Point(5, 3);
+
+		// Act
+		boolean containsInside = poly.contains(inside);
+		boolean containsOutside = poly.contains(outside);
+
+		// Assert
+		assertTrue(containsInside);
+		assertFalse(containsOutside);
+	}
+
 	@Test
 	public void ShouldContainPolygon() throws GeometricException
 	{
@@ -1191,4 +1208,138 @@ public class PolygonTests
 		// Assert
 		assertFalse(intercepts);
 	}
+
+	@Test
+	public void ShouldCacheBoundingBox() throws GeometricException
+	{
+		// Arrange
+		Polygon poly = new Polygon(new Point[] { new Point(1, 1), new Point(4, 2), new Point(2, 5) });
+		Point expectedMin = new Point(1, 1);
+		Point expectedMax = new Point(4, 5);
+
+		// Act
+		BoundingBox first = poly.getBoundingBox();
+		BoundingBox second = poly.getBoundingBox();
+
+		// Assert
+		assertSame(first, second);
+		assertEquals(expectedMin, first.minPoint());
+		assertEquals(expectedMax, first.maxPoint());
+	}
+
+	@Test
+	public void ShouldIntersectInclusiveWhenBoundingBoxesOnlyTouch() throws GeometricException
+	{
+		// Arrange
+		Polygon p0 = new Polygon(new Point[] { new Point(1, 1), new Point(2, 1), new Point(2, 2), new Point(1, 2) });
+		Polygon p1 = new Polygon(new Point[] { new Point(2, 2), new Point(3, 2), new Point(3, 3), new Point(2, 3) });
+
+		// Act
+		boolean intersectsInclusive = p0.intersectsInclusive(p1);
+		boolean intersects = p0.intersects(p1);
+
+		// Assert
+		assertTrue(intersectsInclusive);
+		assertFalse(intersects);
+	}
+
+	@Test
+	public void ShouldNotContainPointOutsideBoundingBox() throws GeometricException
+	{
+		// Arrange
+		Polygon poly = new Polygon(new Point[] { new Point(1, 1), new Point(4, 1), new Point(4, 4), new Point(1, 4) });
+		Point outside = new Point(4.5, 2);
+		Point onEdge = new Point(4, 2);
+
+		// Act
+		boolean containsOutside = poly.contains(outside);
+		boolean containsOnEdge = poly.contains(onEdge);
+
+		// Assert
+		assertFalse(containsOutside);
+		assertTrue(containsOnEdge);
+	}
+
+	/**
+	 * The vertices of a star shaped polygon, around (1000, 1000)
+	 * @param numVertices the ammount of vertices
+	 * @return the vertices of the polygon
+	 */
+	private static Point[] starVertices(int numVertices) throws GeometricException
+	{
+		Point[] points = new Point[numVertices];
+		for (int i = 0; i < numVertices; i++)
+		{
+			double angle = 2 * Math.PI * i / numVertices;
+			double radius = i % 2 == 0 ? 900 : 600;
+			points[i] = new Point(1000 + radius * Math.cos(angle), 1000 + radius * Math.sin(angle));
+		}
+		return points;
+	}
+
+	@Test
+	public void ShouldAcceptLargeSimplePolygon() throws GeometricException
+	{
+		// Arrange
+		Point[] points = starVertices(2000);
+
+		// Act
+		Polygon poly = new Polygon(points);
+
+		// Assert
+		assertEquals(2000, poly.getNumSides());
+	}
+
+	@Test
+	public void ShouldThrowExceptionWhenTwoSidesOfLargePolygonIntersect() throws GeometricException
+	{
+		// Arrange
+		Point[] points = starVertices(2000);
+		Point swap = points[700];
+		points[700] = points[1300];
+		points[1300] = swap;
+
+		// Act
+		// Assert
+		assertThrows(GeometricException.class, () -> new Polygon(points));
+	}
+
+	@Test
+	public void ShouldKeepRigidTransformsValid() throws GeometricException
+	{
+		// Arrange
+		Polygon poly = new Polygon(starVertices(200));
+
+		// Act
+		Polygon rotated = poly.rotateDegrees(33);
+		Polygon translated = rotated.translate(new Vector(-50, 20));
+
+		// Assert
+		assertEquals(poly, new Polygon(poly.vertices()));
+		assertEquals(rotated, new Polygon(rotated.vertices()));
+		assertEquals(translated, new Polygon(translated.vertices()));
+		assertEquals(poly.getCentroid().X() - 50, translated.getCentroid().X(), MathUtil.CALC_ERROR_MARGIN * 1000);
+	}
+
+	@Test
+	public void ShouldNotChangeWhenPackedIsTransformedInPlace() throws GeometricException, ParseException
+	{
+		// Arrange
+		Polygon poly = new Polygon("4 2 2 6 2 6 4 2 4");
+		Polygon copy = new Polygon(poly);
+		Polygon lazy = poly.translate(new Vector(1, 1));
+		PackedPolygon unfrozen = new PackedPolygon(poly.packed());
+
+		// Act
+		unfrozen.translateInto(new Vector(3, 3), unfrozen);
+
+		// Assert
+		assertThrows(GeometricException.class, () -> poly.packed().translateInto(new Vector(3, 3), poly.packed()));
+		assertThrows(GeometricException.class, () -> lazy.packed().moveCentroidInto(new Point(20, 20), copy.packed()));
+		assertThrows(GeometricException.class, () -> unfrozen.rotateInto(Math.PI, new Point(10, 10), lazy.packed()));
+		assertEquals(new Polygon("4 2 2 6 2 6 4 2 4"), poly);
+		assertEquals(new Polygon("4 2 2 6 2 6 4 2 4").packed(), copy.packed());
+		assertEquals(new Polygon("4 3 3 7 3 7 5 3 5").packed(), lazy.packed());
+		assertEquals(new Polygon("4 5 5 9 5 9 7 5 7").packed(), unfrozen);
+	}
 }
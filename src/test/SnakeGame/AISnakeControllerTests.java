@@ -2,6 +2,8 @@ package SnakeGame;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
 
 import org.junit.Test;
 
@@ -12,6 +14,41 @@ public class AISnakeControllerTests
 {
 	public static final long SEED = 137;
 
+	/**
+	 * Builds a game with an obstacle between the snake and the food
+	 * @param strategy the strategy for the AI to use
+	 */
+	private static void buildGame(AISnakeController.Strategy strategy) throws SnakeGameException, GeometricException
+	{
+		GameEngine.getInstance().stop();
+		Polygon obstacle = new Rectangle(new Point(59.7, 0), new Point(60.3, 14));
+
+		new GameManagerBuilder()
+			.addObstacle(obstacle)
+			.setSeed(SEED)
+			.setMapWidth(120)
+			.setMapHeight(30)
+			.setSnakePos(new Point(117, 2))
+			.setSnakeSize(5)
+			.setTextual(true)
+			.setFoodSize(4)
+			.setMaxScoresDisplay(10)
+			.setSnakeDir(Direction.UP)
+			.setFoodPos(new Point(1.5, 1.5))
+			.setFoodScore(5)
+			.setFoodType(GameManager.FoodType.CIRCLE)
+			.setFilled(true)
+			.setUpdateMethod(GameEngineFlags.UpdateMethod.CODE)
+			.setControlMethod(GameManager.ControlMethod.AUTO)
+			.setAIStrategy(strategy)
+			.setMapChar(' ')
+			.setSnakeHeadChar('H')
+			.setSnakeTailChar('T')
+			.setObstacleChar('O')
+			.setFoodChar('F')
+			.build();
+	}
+
 	@Test
 	public void ShouldGetShortestPath() throws SnakeGameException, GeometricException, GameEngineException
 	{
@@ -62,4 +99,90 @@ public class AISnakeControllerTests
 		assertEquals(initialFoodPos, before);
 		assertNotEquals(initialFoodPos, after);
 	}
+
+	@Test
+	public void ShouldGetShortestPathWithAStar() throws SnakeGameException, GeometricException, GameEngineException
+	{
+		for (AISnakeController.Strategy strategy : new AISnakeController.Strategy[] { AISnakeController.Strategy.A_STAR, AISnakeController.Strategy.SAFE })
+		{
+			// Arrange
+			buildGame(strategy);
+			GameManager.getInstance().play();
+			GameEngine engine = GameEngine.getInstance();
+			Point initialFoodPos = GameManager.getInstance().foodPos();
+
+			TestUtil.TestUtil.setIOstreams("");
+
+			int expectedMoves = 28;
+
+			// Act
+			for (int i = 0; i < expectedMoves; i++)
+				engine.step();
+			Point before = GameManager.getInstance().foodPos();
+			engine.step();
+			Point after = GameManager.getInstance().foodPos();
+
+			// Assert
+			assertEquals(initialFoodPos, before);
+			assertNotEquals(initialFoodPos, after);
+		}
+	}
+
+	@Test
+	public void ShouldRecordDecisionMetrics() throws SnakeGameException, GeometricException, GameEngineException
+	{
+		// Arrange
+		buildGame(AISnakeController.Strategy.SAFE);
+		GameManager.getInstance().play();
+		GameEngine engine = GameEngine.getInstance();
+		TestUtil.TestUtil.setIOstreams("");
+
+		// Act
+		for (int i = 0; i < 5; i++)
+			engine.step();
+		AISnakeController controller = (AISnakeController)GameManager.getInstance().controller();
+
+		// Assert
+		assertEquals(5, controller.decisions());
+		assertTrue(controller.lastNodesExpanded() > 0);
+		assertTrue(controller.totalNodesExpanded() >= controller.lastNodesExpanded());
+		assertTrue(controller.totalDecisionMicros() >= controller.lastDecisionMicros());
+	}
+
+	@Test
+	public void ShouldSurviveOnHamiltonianCycle() throws SnakeGameException, GeometricException, GameEngineException
+	{
+		// Arrange
+		GameEngine.getInstance().stop();
+		new GameManagerBuilder()
+			.setSeed(SEED)
+			.setMapWidth(20)
+			.setMapHeight(20)
+			.setSnakePos(new Point(0.5, 0.5))
+			.setSnakeSize(2)
+			.setTextual(true)
+			.setFoodSize(2)
+			.setMaxScoresDisplay(10)
+			.setSnakeDir(Direction.UP)
+			.setFoodPos(new Point(16.5, 16.5))
+			.setFoodScore(1)
+			.setFoodType(GameManager.FoodType.SQUARE)
+			.setFilled(true)
+			.setUpdateMethod(GameEngineFlags.UpdateMethod.CODE)
+			.setControlMethod(GameManager.ControlMethod.AUTO)
+			.setAIStrategy(AISnakeController.Strategy.HAMILTONIAN)
+			.setAIDecisionBudget(1000)
+			.build();
+		GameManager.getInstance().play();
+		GameEngine engine = GameEngine.getInstance();
+		TestUtil.TestUtil.setIOstreams("");
+
+		// Act
+		for (int i = 0; i < 400; i++)
+			engine.step();
+
+		// Assert
+		assertTrue(GameManager.getInstance().score() > 0);
+		assertFalse(GameManager.getInstance().isGameOver());
+	}
 }
@@ -1028,4 +1028,131 @@ public class GameManagerTests
 		assertTrue(render.startsWith(start), "expected:\n" + start + "but got:\n" + render);
 		assertTrue(render.endsWith(end), "expected:\n" + end + "but got:\n" + render);
 	}
+
+	/**
+	 * Builds a game with the snake going left, towards the wall
+	 * @return the builder of the game
+	 */
+	private static GameManagerBuilder manualGame() throws GeometricException
+	{
+		return new GameManagerBuilder()
+			.setSeed(SEED)
+			.setMapWidth(39)
+			.setMapHeight(9)
+			.setSnakePos(new Point(13, 4))
+			.setSnakeDir(Direction.LEFT)
+			.setSnakeSize(3)
+			.setFoodPos(new Point(25, 4))
+			.setFoodSize(3)
+			.setFoodType(FoodType.SQUARE)
+			.setFoodScore(1)
+			.setTextual(true)
+			.setControlMethod(ControlMethod.MANUAL);
+	}
+
+	@Test
+	public void ShouldSimulateIntoWallWithoutOutput() throws SnakeGameException, GeometricException
+	{
+		// Arrange
+		if (GameEngine.getInstance().isRunning())
+			GameEngine.getInstance().stop();
+		ByteArrayOutputStream out = TestUtil.setIOstreams("");
+
+		// Act
+		SimulationResult result = manualGame().simulate(1000);
+
+		// Assert
+		assertEquals(SimulationResult.Cause.WALL, result.cause());
+		assertEquals(5, result.ticks());
+		assertEquals(0, result.score());
+		assertEquals(SEED, result.seed());
+		assertFalse(GameEngine.getInstance().isRunning());
+		assertEquals("", out.toString());
+	}
+
+	@Test
+	public void ShouldSimulateIntoObstacle() throws SnakeGameException, GeometricException
+	{
+		// Arrange
+		if (GameEngine.getInstance().isRunning())
+			GameEngine.getInstance().stop();
+		TestUtil.setIOstreams("");
+		Polygon obstacle = new Rectangle(new Point(6, 3), new Point(8, 5));
+
+		// Act
+		SimulationResult result = manualGame().addObstacle(obstacle).simulate(1000);
+
+		// Assert
+		assertEquals(SimulationResult.Cause.OBSTACLE, result.cause());
+		assertEquals(2, result.ticks());
+	}
+
+	@Test
+	public void ShouldStopSimulationAtTickLimit() throws SnakeGameException, GeometricException
+	{
+		// Arrange
+		if (GameEngine.getInstance().isRunning())
+			GameEngine.getInstance().stop();
+		TestUtil.setIOstreams("");
+
+		// Act
+		SimulationResult result = manualGame().simulate(3);
+
+		// Assert
+		assertEquals(SimulationResult.Cause.TICK_LIMIT, result.cause());
+		assertEquals(3, result.ticks());
+		assertEquals(1, result.length());
+	}
+
+	@Test
+	public void ShouldSimulateAIUntilWinning() throws SnakeGameException
+	{
+		// Arrange
+		if (GameEngine.getInstance().isRunning())
+			GameEngine.getInstance().stop();
+		TestUtil.setIOstreams("");
+		GameManagerBuilder builder = new GameManagerBuilder()
+			.setSeed(SEED)
+			.setMapWidth(6)
+			.setMapHeight(6)
+			.setSnakeSize(1)
+			.setFoodSize(1)
+			.setFoodType(FoodType.SQUARE)
+			.setFoodScore(1)
+			.setTextual(true)
+			.setControlMethod(ControlMethod.AUTO)
+			.setAIStrategy(AISnakeController.Strategy.HAMILTONIAN);
+
+		// Act
+		SimulationResult first = builder.simulate(100000);
+		SimulationResult second = builder.simulate(100000);
+
+		// Assert
+		assertEquals(SimulationResult.Cause.WON, first.cause());
+		assertEquals(Integer.MAX_VALUE, first.score());
+		assertTrue(first.length() >= 36);
+		assertEquals(first.ticks(), second.ticks());
+		assertTrue(first.wallTimeNanos() > 0);
+	}
+
+	@Test
+	public void ShouldSimulateTheSameWithAnyCollisionDetection() throws SnakeGameException, GeometricException
+	{
+		// Arrange
+		if (GameEngine.getInstance().isRunning())
+			GameEngine.getInstance().stop();
+		TestUtil.setIOstreams("");
+		Polygon obstacle = new Rectangle(new Point(6, 3), new Point(8, 5));
+
+		// Act
+		SimulationResult grid = manualGame().addObstacle(obstacle).simulate(1000);
+		SimulationResult bruteForce = manualGame().addObstacle(obstacle)
+			.setCollisionDetection(GameEngineFlags.CollisionDetection.BRUTE_FORCE)
+			.simulate(1000);
+
+		// Assert
+		assertEquals(grid.cause(), bruteForce.cause());
+		assertEquals(grid.ticks(), bruteForce.ticks());
+		assertEquals(SimulationResult.Cause.OBSTACLE, bruteForce.cause());
+	}
 }
@@ -517,4 +517,70 @@ public class GameMapTests
 			for (int j = 0; j < expected[0].length; j++)
 				assertEquals(expected[i][j], gotten[i][j], new Point(i, j).toString());
 	}
+
+	@Test
+	public void ShouldKeepOccupancyInSyncWithMovingColliders() throws GeometricException, SnakeGameException
+	{
+		// Arrange
+		Scene scene = new Scene();
+		int size = 2;
+		Polygon obstaclePoly = new Polygon(new Point[] {
+			new Point(12, 12),
+			new Point(12, 14),
+			new Point(20, 14),
+			new Point(20, 12),
+		});
+		DynamicObstacle obstacle = new DynamicObstacle(obstaclePoly, true, 'O', 0.1f);
+		FoodSquare food = new FoodSquare(new Point(22.5, 18.5), 2, true, 'F');
+		GameMap map = new GameMap(16, 12, new Point(10, 10), ' ', SEED);
+
+		scene.add(obstacle);
+		scene.add(food);
+		scene.add(map);
+
+		for (int step = 0; step < 5; step++)
+		{
+			// Act
+			boolean[][] gotten = map.asArray(size);
+
+			// Assert
+			for (Point p : map.getAllPossibleUnitSpawnPositions(size))
+			{
+				boolean expected = map.getObjectsOccupyingUnit(p, size).length > 0;
+				Point index = map.getUnitIndex(p, size);
+				assertEquals(expected, map.isUnitOccupied(p, size), p.toString());
+				assertEquals(!expected, gotten[(int)index.Y()][(int)index.X()], p.toString());
+			}
+
+			obstacle.update(3);
+		}
+
+		scene.remove(food);
+		assertFalse(map.isUnitOccupied(new Point(22.5, 18.5), size));
+	}
+
+	@Test
+	public void ShouldKeepOccupancyInSyncWithMovingSnake() throws GeometricException, SnakeGameException
+	{
+		// Arrange
+		Scene scene = new Scene();
+		int size = 2;
+		GameMap map = new GameMap(16, 12, new Point(10, 10), ' ', SEED);
+		Snake snake = new Snake(new Point(14.5, 12.5), Direction.RIGHT, size, true, 'T', 'H');
+		scene.add(map);
+		int free = map.getAllValidUnitSpawnPositions(size).length;
+		scene.add(snake);
+		snake.awake();
+
+		// Act
+		snake.grow();
+		snake.update(0);
+		snake.update(0);
+
+		// Assert
+		assertEquals(free - 2, map.getAllValidUnitSpawnPositions(size).length);
+		assertFalse(map.isUnitOccupied(new Point(14.5, 12.5), size));
+		assertTrue(map.isUnitOccupied(new Point(16.5, 12.5), size));
+		assertTrue(map.isUnitOccupied(new Point(18.5, 12.5), size));
+	}
 }
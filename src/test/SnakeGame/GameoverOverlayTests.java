@@ -19,6 +19,7 @@ public class GameoverOverlayTests
 		public MockScore(Snake snake) { this.snake = snake; }
 		public Point position() { return this.snake.position(); }
 		public Direction direction() { return this.snake.direction(); }
+		public Point tailPosition() { return this.snake.tailPosition(); }
 		public int score() { return this.snake.length() - 1; }
 	}
 
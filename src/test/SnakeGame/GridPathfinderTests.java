@@ -0,0 +1,219 @@
+package SnakeGame;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GridPathfinderTests
+{
+	@Test
+	public void ShouldStepTowardsFinish()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(5, 5);
+		GridPathfinder pathfinder = new GridPathfinder();
+		int start = grid.cell(0, 0);
+		int finish = grid.cell(4, 0);
+
+		// Act
+		int next = pathfinder.nextStep(grid, start, finish, -1);
+
+		// Assert
+		assertEquals(grid.cell(1, 0), next);
+	}
+
+	@Test
+	public void ShouldGoAroundOccupiedUnits()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(5, 5);
+		GridPathfinder pathfinder = new GridPathfinder();
+		for (int row = 0; row < 4; row++)
+			grid.occupy(grid.cell(1, row));
+		int start = grid.cell(0, 0);
+		int finish = grid.cell(2, 0);
+
+		// Act
+		int next = pathfinder.nextStep(grid, start, finish, -1);
+
+		// Assert
+		assertEquals(grid.cell(0, 1), next);
+	}
+
+	@Test
+	public void ShouldReachOccupiedFinish()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(3, 1);
+		GridPathfinder pathfinder = new GridPathfinder();
+		grid.occupy(2);
+
+		// Act
+		int next = pathfinder.nextStep(grid, 0, 2, -1);
+		int last = pathfinder.nextStep(grid, 1, 2, -1);
+
+		// Assert
+		assertEquals(1, next);
+		assertEquals(2, last);
+	}
+
+	@Test
+	public void ShouldNotGoThroughBlockedUnit()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(3, 3);
+		GridPathfinder pathfinder = new GridPathfinder();
+		int start = grid.cell(1, 1);
+		int finish = grid.cell(1, 2);
+
+		// Act
+		int next = pathfinder.nextStep(grid, start, finish, finish);
+
+		// Assert
+		assertNotEquals(finish, next);
+		assertNotEquals(-1, next);
+	}
+
+	@Test
+	public void ShouldGoTowardsFurthestUnitWhenFinishIsUnreachable()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(4, 2);
+		GridPathfinder pathfinder = new GridPathfinder();
+		grid.occupy(grid.cell(2, 0));
+		grid.occupy(grid.cell(2, 1));
+		grid.occupy(grid.cell(0, 1));
+
+		// Act
+		int next = pathfinder.nextStep(grid, grid.cell(0, 0), grid.cell(3, 0), -1);
+
+		// Assert
+		assertEquals(grid.cell(1, 0), next);
+	}
+
+	@Test
+	public void ShouldReturnNoStepWhenEnclosed()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(3, 3);
+		GridPathfinder pathfinder = new GridPathfinder();
+		grid.occupy(grid.cell(1, 0));
+		grid.occupy(grid.cell(0, 1));
+		grid.occupy(grid.cell(2, 1));
+		grid.occupy(grid.cell(1, 2));
+
+		// Act
+		int next = pathfinder.nextStep(grid, grid.cell(1, 1), grid.cell(0, 0), -1);
+
+		// Assert
+		assertEquals(-1, next);
+	}
+
+	@Test
+	public void ShouldHandleLargeGrids()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(2000, 1000);
+		GridPathfinder pathfinder = new GridPathfinder();
+		for (int row = 0; row < 999; row++)
+			grid.occupy(grid.cell(1000, row));
+
+		// Act
+		int next = pathfinder.nextStep(grid, grid.cell(999, 0), grid.cell(1001, 0), -1);
+
+		// Assert
+		assertEquals(grid.cell(999, 1), next);
+	}
+
+	@Test
+	public void ShouldFindShortestPathWithAStar()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(5, 5);
+		GridPathfinder pathfinder = new GridPathfinder();
+		for (int row = 0; row < 4; row++)
+			grid.occupy(grid.cell(1, row));
+		int start = grid.cell(0, 0);
+		int finish = grid.cell(2, 0);
+
+		// Act
+		int next = pathfinder.aStar(grid, start, finish, -1, 0);
+
+		// Assert
+		assertEquals(grid.cell(0, 1), next);
+		assertTrue(pathfinder.isComplete());
+	}
+
+	@Test
+	public void ShouldExpandLessNodesWithAStarThanBFS()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(50, 50);
+		GridPathfinder bfs = new GridPathfinder();
+		GridPathfinder aStar = new GridPathfinder();
+		int start = grid.cell(25, 25);
+		int finish = grid.cell(40, 25);
+
+		// Act
+		int bfsNext = bfs.nextStep(grid, start, finish, -1);
+		int aStarNext = aStar.aStar(grid, start, finish, -1, 0);
+
+		// Assert
+		assertEquals(start + 1, bfsNext);
+		assertEquals(start + 1, aStarNext);
+		assertTrue(aStar.nodesExpanded() < bfs.nodesExpanded());
+	}
+
+	@Test
+	public void ShouldNotFindUnreachableFinishWithAStar()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(4, 2);
+		GridPathfinder pathfinder = new GridPathfinder();
+		grid.occupy(grid.cell(2, 0));
+		grid.occupy(grid.cell(2, 1));
+
+		// Act
+		int next = pathfinder.aStar(grid, grid.cell(0, 0), grid.cell(3, 0), -1, 0);
+
+		// Assert
+		assertEquals(-1, next);
+		assertTrue(pathfinder.isComplete());
+	}
+
+	@Test
+	public void ShouldGiveUpWhenOutOfBudget()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(1000, 1000);
+		GridPathfinder pathfinder = new GridPathfinder();
+		for (int row = 0; row < 999; row++)
+			grid.occupy(grid.cell(500, row));
+
+		// Act
+		int next = pathfinder.nextStep(grid, grid.cell(0, 0), grid.cell(999, 0), -1, 1);
+
+		// Assert
+		assertEquals(-1, next);
+		assertFalse(pathfinder.isComplete());
+	}
+
+	@Test
+	public void ShouldCheckIfTargetIsReachableAfterPath()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(3, 3);
+		GridPathfinder pathfinder = new GridPathfinder();
+		grid.occupy(grid.cell(1, 1));
+		grid.occupy(grid.cell(0, 1));
+
+		// Act
+		pathfinder.aStar(grid, grid.cell(0, 0), grid.cell(2, 0), -1, 0);
+		boolean canReachCorner = pathfinder.canReachAfterPath(grid, grid.cell(0, 2), 0);
+		pathfinder.aStar(grid, grid.cell(0, 2), grid.cell(2, 2), -1, 0);
+		boolean canReachStart = pathfinder.canReachAfterPath(grid, grid.cell(0, 2), 0);
+
+		// Assert
+		assertTrue(canReachCorner);
+		assertFalse(canReachStart);
+	}
+}
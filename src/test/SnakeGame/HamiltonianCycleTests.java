@@ -0,0 +1,68 @@
+package SnakeGame;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HamiltonianCycleTests
+{
+	private static void assertValidCycle(HamiltonianCycle cycle, int columns, int rows)
+	{
+		boolean[] visited = new boolean[columns * rows];
+		int cell = 0;
+		for (int i = 0; i < columns * rows; i++)
+		{
+			assertFalse(visited[cell]);
+			visited[cell] = true;
+			int next = cycle.next(cell);
+			int distance = Math.abs(cell % columns - next % columns) + Math.abs(cell / columns - next / columns);
+			assertEquals(1, distance);
+			cell = next;
+		}
+		assertEquals(0, cell);
+	}
+
+	@Test
+	public void ShouldBuildCycleWithEvenRows()
+	{
+		// Arrange
+		int columns = 5;
+		int rows = 4;
+
+		// Act
+		HamiltonianCycle cycle = new HamiltonianCycle(columns, rows);
+
+		// Assert
+		assertTrue(cycle.exists());
+		assertValidCycle(cycle, columns, rows);
+	}
+
+	@Test
+	public void ShouldBuildCycleWithEvenColumns()
+	{
+		// Arrange
+		int columns = 6;
+		int rows = 3;
+
+		// Act
+		HamiltonianCycle cycle = new HamiltonianCycle(columns, rows);
+
+		// Assert
+		assertTrue(cycle.exists());
+		assertValidCycle(cycle, columns, rows);
+	}
+
+	@Test
+	public void ShouldNotBuildCycleWithOddDimensions()
+	{
+		// Arrange
+		int columns = 5;
+		int rows = 3;
+
+		// Act
+		HamiltonianCycle cycle = new HamiltonianCycle(columns, rows);
+
+		// Assert
+		assertFalse(cycle.exists());
+		assertEquals(-1, cycle.next(0));
+	}
+}
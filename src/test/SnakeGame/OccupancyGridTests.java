@@ -0,0 +1,89 @@
+package SnakeGame;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OccupancyGridTests
+{
+	@Test
+	public void ShouldStartEmpty()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(10, 7);
+
+		// Act
+		int free = grid.freeCount();
+
+		// Assert
+		assertEquals(70, free);
+		assertEquals(70, grid.cells());
+		assertFalse(grid.isOccupied(69));
+	}
+
+	@Test
+	public void ShouldOccupyAndRelease()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(10, 7);
+
+		// Act
+		grid.occupy(grid.cell(3, 2));
+		grid.occupy(grid.cell(3, 2));
+		grid.release(grid.cell(3, 2));
+		boolean stillOccupied = grid.isOccupied(3, 2);
+		grid.release(grid.cell(3, 2));
+		boolean released = !grid.isOccupied(3, 2);
+
+		// Assert
+		assertTrue(stillOccupied);
+		assertTrue(released);
+		assertEquals(70, grid.freeCount());
+	}
+
+	@Test
+	public void ShouldFindNextFree()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(10, 7);
+		for (int i = 0; i < 66; i++)
+			grid.occupy(i);
+		grid.occupy(67);
+
+		// Act
+		int first = grid.nextFree(0);
+		int second = grid.nextFree(first + 1);
+		int third = grid.nextFree(second + 1);
+		int none = grid.nextFree(third + 1);
+
+		// Assert
+		assertEquals(66, first);
+		assertEquals(68, second);
+		assertEquals(69, third);
+		assertEquals(-1, none);
+		assertEquals(3, grid.freeCount());
+	}
+
+	@Test
+	public void ShouldFindNthFree()
+	{
+		// Arrange
+		OccupancyGrid grid = new OccupancyGrid(10, 7);
+		grid.occupy(0);
+		grid.occupy(2);
+		grid.occupy(64);
+
+		// Act
+		int first = grid.nthFree(0);
+		int second = grid.nthFree(1);
+		int acrossWords = grid.nthFree(62);
+		int last = grid.nthFree(66);
+		int none = grid.nthFree(67);
+
+		// Assert
+		assertEquals(1, first);
+		assertEquals(3, second);
+		assertEquals(65, acrossWords);
+		assertEquals(69, last);
+		assertEquals(-1, none);
+	}
+}
@@ -0,0 +1,96 @@
+package SnakeGame;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import GameEngine.*;
+import GameEngine.GameEngineFlags.*;
+import SnakeGame.GameManager.*;
+import TestUtil.*;
+
+public class SimulationRunnerTests
+{
+	private static final long[] SEEDS = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 };
+
+	/**
+	 * Configures an automatically controlled game with random positions
+	 * @return the builder of the game
+	 */
+	private static GameManagerBuilder configuration()
+	{
+		return new GameManagerBuilder()
+			.setMapWidth(20)
+			.setMapHeight(20)
+			.setSnakeSize(2)
+			.setFoodSize(2)
+			.setFoodType(FoodType.SQUARE)
+			.setFoodScore(1)
+			.setTextual(true)
+			.setUpdateMethod(UpdateMethod.CODE)
+			.setControlMethod(ControlMethod.AUTO);
+	}
+
+	@Test
+	public void ShouldSimulateEverySeed() throws SnakeGameException
+	{
+		// Arrange
+		SimulationRunner runner = new SimulationRunner(SimulationRunnerTests::configuration, 10000, 4);
+
+		// Act
+		SortedMap<Long, SimulationResult> results = runner.run(SEEDS);
+
+		// Assert
+		assertEquals(SEEDS.length, results.size());
+		for (long seed : SEEDS)
+			assertEquals(seed, results.get(seed).seed());
+	}
+
+	@Test
+	public void ShouldGetSameResultsAsSequentialGames() throws Exception
+	{
+		// Arrange
+		if (GameEngine.getInstance().isRunning())
+			GameEngine.getInstance().stop();
+		TestUtil.setIOstreams("");
+		SimulationRunner runner = new SimulationRunner(SimulationRunnerTests::configuration, 10000, 4);
+
+		// Act
+		SortedMap<Long, SimulationResult> results = runner.run(SEEDS);
+
+		// Assert
+		for (long seed : SEEDS)
+		{
+			SimulationResult expected = configuration().setSeed(seed).simulate(10000);
+			SimulationResult actual = results.get(seed);
+			assertEquals(expected.score(), actual.score());
+			assertEquals(expected.ticks(), actual.ticks());
+			assertEquals(expected.cause(), actual.cause());
+		}
+	}
+
+	@Test
+	public void ShouldReportInvalidConfiguration()
+	{
+		// Arrange
+		SimulationRunner runner = new SimulationRunner(() -> configuration().setMapWidth(19), 10000, 4);
+
+		// Act & Assert
+		assertThrows(SnakeGameException.class, () -> runner.run(SEEDS));
+	}
+
+	@Test
+	public void ShouldRejectRepeatedSeeds()
+	{
+		// Arrange
+		AtomicInteger created = new AtomicInteger();
+		SimulationRunner runner = new SimulationRunner(() -> { created.incrementAndGet(); return configuration(); }, 10000, 4);
+
+		// Act & Assert
+		assertThrows(SnakeGameException.class, () -> runner.run(new long[] { 1, 2, 1 }));
+		assertEquals(0, created.get());
+	}
+}
@@ -84,6 +84,26 @@ public class UnitTests
 		assertEquals(expected, unit.position());
 	}
 
+	@Test
+	public void ShouldNotChangeRenderedShapeWhenMoved() throws GeometricException, SnakeGameException
+	{
+		// Arrange
+		Unit unit = new Unit(new Point(2, 2), 3, true, 'x', 1);
+		RenderData<?> before = unit.getRenderData();
+		PackedPolygon expectedBefore = new PackedPolygon(unit.collider());
+
+		// Act
+		unit.move(new Point(6, 10));
+		RenderData<?> after = unit.getRenderData();
+
+		// Assert
+		assertEquals(expectedBefore, before.getShape());
+		assertEquals(new Point(6, 10), unit.collider().getCentroid());
+		assertEquals(unit.collider(), after.getShape());
+		assertNotSame(unit.collider(), after.getShape());
+		assertSame(after, unit.getRenderData());
+	}
+
 	@Test
 	public void ShouldSetDrawChar() throws GeometricException, GameEngineException, SnakeGameException
 	{